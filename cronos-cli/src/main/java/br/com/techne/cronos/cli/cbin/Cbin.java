@@ -0,0 +1,164 @@
+package br.com.techne.cronos.cli.cbin;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.sql.Types;
+import java.util.TimeZone;
+
+/**
+ * Formato binário compacto de registros Cronos ({@literal cbin}), para exportações
+ * destinadas a serem reimportadas em outro banco Cronos sem o custo de codificar e
+ * decodificar texto XML.
+ *
+ * <pre>
+ * arquivo   := segmento+
+ * segmento  := "CBIN" versão:u8 SCHEMA (DICIONARIO | REGISTRO)* FIM
+ * SCHEMA    := 'S' tabela:str colunas:varint (nome:str tipoJdbc:zigzag)*
+ * DICIONARIO:= 'D' coluna:varint valor:str           (recebe o próximo id da coluna)
+ * REGISTRO  := 'R' tamanho:int32 nulos:bitmap valor*  (somente colunas não nulas)
+ * FIM       := 'E' registros:int64
+ * str       := tamanho:varint bytes UTF-8
+ * </pre>
+ *
+ * Os valores são gravados conforme o tipo JDBC da coluna (veja {@link #kindOf(int)}):
+ * inteiros em "varint" "zigzag", {@code DOUBLE} em 8 bytes, {@code DECIMAL} como escala e
+ * valor não escalado, datas e horas como valores locais (independentes do fuso horário),
+ * binários com tamanho e textos como referência ao dicionário da coluna ({@code id + 1})
+ * ou {@code 0} seguido do texto.
+ *
+ * <p>
+ * Como cada registro é prefixado pelo seu tamanho, registros podem ser ignorados sem
+ * decodificação; segmentos podem ser concatenados (p.ex. shards de uma exportação
+ * particionada), cada um com o seu próprio dicionário.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public final class Cbin {
+
+  public static final byte[] MAGIC   = { 'C', 'B', 'I', 'N' };
+  public static final byte   VERSION = 1;
+
+  static final byte SCHEMA     = 'S';
+  static final byte DICTIONARY = 'D';
+  static final byte RECORD     = 'R';
+  static final byte END        = 'E';
+
+  static final int BOOLEAN   = 0;
+  static final int LONG      = 1;
+  static final int DOUBLE    = 2;
+  static final int DECIMAL   = 3;
+  static final int DATE      = 4;
+  static final int TIME      = 5;
+  static final int TIMESTAMP = 6;
+  static final int BYTES     = 7;
+  static final int STRING    = 8;
+
+  static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+
+  private Cbin() {
+  }
+
+  /**
+   * Verifica se <code>head</code> inicia com o "magic number" do formato.
+   */
+  public static boolean isCbin(byte[] head, int length) {
+    if(length < MAGIC.length) {
+      return false;
+    }
+    for(int i = 0; i < MAGIC.length; i++) {
+      if(head[i] != MAGIC[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Codificação utilizada para o tipo JDBC <code>sqlType</code>.
+   */
+  static int kindOf(int sqlType) {
+    switch(sqlType) {
+      case Types.BIT:
+      case Types.BOOLEAN:
+        return BOOLEAN;
+      case Types.TINYINT:
+      case Types.SMALLINT:
+      case Types.INTEGER:
+      case Types.BIGINT:
+        return LONG;
+      case Types.REAL:
+      case Types.FLOAT:
+      case Types.DOUBLE:
+        return DOUBLE;
+      case Types.DECIMAL:
+      case Types.NUMERIC:
+        return DECIMAL;
+      case Types.DATE:
+        return DATE;
+      case Types.TIME:
+        return TIME;
+      case Types.TIMESTAMP:
+        return TIMESTAMP;
+      case Types.BINARY:
+      case Types.VARBINARY:
+      case Types.LONGVARBINARY:
+      case Types.BLOB:
+        return BYTES;
+      default:
+        return STRING;
+    }
+  }
+
+  static void putVarLong(ByteBuffer buffer, long value) {
+    while((value & ~0x7FL) != 0) {
+      buffer.put((byte)((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    buffer.put((byte)value);
+  }
+
+  static long getVarLong(ByteBuffer buffer) {
+    long value = 0;
+    for(int shift = 0; shift < 64; shift += 7) {
+      byte b = buffer.get();
+      value |= (long)(b & 0x7F) << shift;
+      if(b >= 0) {
+        return value;
+      }
+    }
+    throw new IllegalStateException("varint");
+  }
+
+  static long zigzag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  static long unzigzag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  /**
+   * Instante (UTC) para o mesmo horário "de parede" tomado como UTC.
+   */
+  static long toLocal(TimeZone zone, long millis) {
+    return millis + zone.getOffset(millis);
+  }
+
+  static long fromLocal(TimeZone zone, long local) {
+    return local - zone.getOffset(local - zone.getOffset(local));
+  }
+
+  static long floorDiv(long x, long y) {
+    long q = x / y;
+    return (x % y != 0 && (x ^ y) < 0) ? q - 1 : q;
+  }
+
+  static long floorMod(long x, long y) {
+    return x - floorDiv(x, y) * y;
+  }
+}
@@ -0,0 +1,106 @@
+package br.com.techne.cronos.cli.cbin;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import br.com.techne.cronos.cli.db.TableInfo;
+import br.com.techne.cronos.cli.io.InputSources;
+import br.com.techne.cronos.cli.io.Record;
+import br.com.techne.cronos.cli.io.RecordFormat;
+import br.com.techne.cronos.cli.io.RecordReader;
+import br.com.techne.cronos.cli.io.RecordWriter;
+
+/**
+ * Converte entradas entre XML Cronos e {@link Cbin}, sem acesso ao banco de dados.
+ *
+ * <p>
+ * O XML não declara colunas nem tipos: as colunas são levantadas em uma primeira leitura
+ * da entrada e, sem {@link #table(TableInfo)}, gravadas como texto ({@code VARCHAR}), que
+ * a importação converte para o tipo da coluna de destino.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class CbinConverter {
+
+  private TableInfo tableInfo;
+
+  /**
+   * Tabela cujos tipos são utilizados para as colunas do XML.
+   */
+  public CbinConverter table(TableInfo tableInfo) {
+    this.tableInfo = tableInfo;
+    return this;
+  }
+
+  /**
+   * Converte a entrada <code>input</code> (veja {@link InputSources}) para o formato
+   * <code>target</code> em <code>out</code>, que não é fechado.
+   *
+   * @return quantidade de registros convertidos.
+   */
+  public long convert(String input, RecordFormat target, OutputStream out) throws IOException {
+    List<String> columns;
+    int[] types;
+
+    try (InputStream in = InputSources.open(input); RecordReader reader = RecordFormat.open(input, in)) {
+      if(reader instanceof CbinRecordReader) {
+        columns = ((CbinRecordReader)reader).getColumns();
+        types = ((CbinRecordReader)reader).getTypes();
+      }
+      else {
+        columns = scanColumns(reader);
+        types = typesOf(columns);
+      }
+    }
+
+    try (InputStream in = InputSources.open(input); RecordReader reader = RecordFormat.open(input, in)) {
+      RecordWriter writer = target.newWriter(out);
+      writer.begin(reader.getTable(), columns, types);
+
+      long converted = 0;
+      Object[] values = new Object[columns.size()];
+      Record record;
+      while((record = reader.next()) != null) {
+        for(int i = 0; i < values.length; i++) {
+          values[i] = record.get(columns.get(i));
+        }
+        writer.write(values);
+        converted++;
+      }
+
+      writer.end();
+      return converted;
+    }
+  }
+
+  private static List<String> scanColumns(RecordReader reader) {
+    Set<String> columns = new LinkedHashSet<>();
+
+    Record record;
+    while((record = reader.next()) != null) {
+      columns.addAll(record.getValues().keySet());
+    }
+
+    return new ArrayList<>(columns);
+  }
+
+  private int[] typesOf(List<String> columns) {
+    int[] types = new int[columns.size()];
+
+    for(int i = 0; i < types.length; i++) {
+      int index = tableInfo != null ? tableInfo.indexOf(columns.get(i)) : -1;
+      types[i] = index >= 0 ? tableInfo.getType(index) : Types.VARCHAR;
+    }
+
+    return types;
+  }
+}
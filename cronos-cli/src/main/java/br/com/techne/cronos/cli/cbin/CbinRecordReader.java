@@ -0,0 +1,346 @@
+package br.com.techne.cronos.cli.cbin;
+
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.TimeZone;
+
+import br.com.techne.cronos.cli.i18n.CliMessage;
+import br.com.techne.cronos.cli.io.Record;
+import br.com.techne.cronos.cli.io.RecordReader;
+import br.com.techne.cronos.i18n.MessageUtil;
+
+/**
+ * {@link RecordReader} do formato {@link Cbin}, lido do {@link ReadableByteChannel} em um
+ * {@link ByteBuffer} de {@link #BUFFER_SIZE} bytes.
+ *
+ * <p>
+ * Os valores dos registros já são objetos tipados ({@link Long}, {@link BigDecimal},
+ * {@link Timestamp}, ...); colunas nulas não aparecem no {@link Record}, como no XML.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class CbinRecordReader implements RecordReader {
+
+  public static final int BUFFER_SIZE = 64 * 1024;
+
+  private final String source;
+  private final InputStream in;
+  private final ReadableByteChannel channel;
+  private final TimeZone zone = TimeZone.getDefault();
+  private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+  private String table;
+  private String[] columns;
+  private int[] types;
+  private int[] kinds;
+  private List<List<String>> dictionaries;
+  private long ordinal;
+  private boolean eof;
+
+  public CbinRecordReader(String source, InputStream in) {
+    this.source = source;
+    this.in = in;
+    this.channel = in instanceof FileInputStream ? ((FileInputStream)in).getChannel() : Channels.newChannel(in);
+    buffer.flip();
+
+    try {
+      readSegmentHeader();
+    }
+    catch(IOException | RuntimeException e) {
+      throw malformed(e);
+    }
+  }
+
+  @Override
+  public String getTable() {
+    return table;
+  }
+
+  public List<String> getColumns() {
+    return Collections.unmodifiableList(java.util.Arrays.asList(columns));
+  }
+
+  public int[] getTypes() {
+    return types.clone();
+  }
+
+  /**
+   * Quantidade de registros lidos ou ignorados até o momento.
+   */
+  public long getOrdinal() {
+    return ordinal;
+  }
+
+  @Override
+  public Record next() {
+    try {
+      if(!nextRecord()) {
+        return null;
+      }
+
+      int length = buffer.getInt();
+      ensure(length);
+      int end = buffer.position() + length;
+
+      /*
+       * O registro inteiro está no buffer: a decodificação não lê mais do canal.
+       */
+
+      Record record = new Record(++ordinal);
+      int bitmap = buffer.position();
+      buffer.position(bitmap + (columns.length + 7) / 8);
+
+      for(int i = 0; i < columns.length; i++) {
+        if((buffer.get(bitmap + (i >> 3)) & (1 << (i & 7))) == 0) {
+          record.put(columns[i], getValue(i));
+        }
+      }
+
+      if(buffer.position() != end) {
+        throw new IOException("record " + ordinal);
+      }
+
+      return record;
+    }
+    catch(IOException | RuntimeException e) {
+      throw malformed(e);
+    }
+  }
+
+  /**
+   * Ignora registros pelo seu tamanho, sem decodificá-los; somente os blocos de
+   * dicionário são lidos.
+   */
+  @Override
+  public long skip(long count) {
+    long skipped = 0;
+
+    try {
+      while(skipped < count && nextRecord()) {
+        int length = buffer.getInt();
+        while(length > 0) {
+          if(!buffer.hasRemaining() && !fill(1)) {
+            throw new EOFException();
+          }
+          int n = Math.min(length, buffer.remaining());
+          buffer.position(buffer.position() + n);
+          length -= n;
+        }
+
+        ordinal++;
+        skipped++;
+      }
+    }
+    catch(IOException | RuntimeException e) {
+      throw malformed(e);
+    }
+
+    return skipped;
+  }
+
+  /**
+   * Processa blocos de dicionário e de fim de segmento até o próximo registro.
+   *
+   * @return {@code false} ao final da fonte.
+   */
+  private boolean nextRecord() throws IOException {
+    while(!eof) {
+      ensure(1);
+      byte tag = buffer.get();
+
+      switch(tag) {
+        case Cbin.RECORD:
+          ensure(4);
+          return true;
+        case Cbin.DICTIONARY:
+          prefetch(10);
+          int column = (int)Cbin.getVarLong(buffer);
+          dictionaries.get(column).add(getString());
+          break;
+        case Cbin.END:
+          ensure(8);
+          buffer.getLong();
+          if(fill(1)) {
+            readSegmentHeader();
+          }
+          else {
+            eof = true;
+          }
+          break;
+        default:
+          throw new IOException("tag " + tag);
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Lê o "magic number", a versão e o schema de um segmento, reiniciando os dicionários.
+   */
+  private void readSegmentHeader() throws IOException {
+    ensure(Cbin.MAGIC.length + 2);
+    byte[] magic = new byte[Cbin.MAGIC.length];
+    buffer.get(magic);
+    if(!Cbin.isCbin(magic, magic.length) || buffer.get() != Cbin.VERSION || buffer.get() != Cbin.SCHEMA) {
+      throw new IOException(source);
+    }
+
+    table = getString();
+    if(table.isEmpty()) {
+      table = null;
+    }
+
+    prefetch(10);
+    int count = (int)Cbin.getVarLong(buffer);
+    columns = new String[count];
+    types = new int[count];
+    kinds = new int[count];
+    dictionaries = new ArrayList<>(count);
+
+    for(int i = 0; i < count; i++) {
+      columns[i] = getString();
+      prefetch(10);
+      types[i] = (int)Cbin.unzigzag(Cbin.getVarLong(buffer));
+      kinds[i] = Cbin.kindOf(types[i]);
+      dictionaries.add(new ArrayList<String>());
+    }
+  }
+
+  private Object getValue(int column) throws IOException {
+    switch(kinds[column]) {
+      case Cbin.BOOLEAN:
+        return buffer.get() != 0;
+      case Cbin.LONG:
+        long value = Cbin.unzigzag(Cbin.getVarLong(buffer));
+        return types[column] == Types.BIGINT ? (Object)Long.valueOf(value) : (Object)Integer.valueOf((int)value);
+      case Cbin.DOUBLE:
+        return buffer.getDouble();
+      case Cbin.DECIMAL:
+        return getDecimal();
+      case Cbin.DATE:
+        return new Date(Cbin.fromLocal(zone, Cbin.unzigzag(Cbin.getVarLong(buffer)) * Cbin.MILLIS_PER_DAY));
+      case Cbin.TIME:
+        return new Time(Cbin.fromLocal(zone, Cbin.getVarLong(buffer)));
+      case Cbin.TIMESTAMP:
+        Timestamp timestamp = new Timestamp(Cbin.fromLocal(zone, Cbin.unzigzag(Cbin.getVarLong(buffer)) * 1000));
+        timestamp.setNanos((int)Cbin.getVarLong(buffer));
+        return timestamp;
+      case Cbin.BYTES:
+        byte[] bytes = new byte[(int)Cbin.getVarLong(buffer)];
+        buffer.get(bytes);
+        return bytes;
+      default:
+        long ref = Cbin.getVarLong(buffer);
+        return ref == 0 ? decodeString((int)Cbin.getVarLong(buffer)) : dictionaries.get(column).get((int)ref - 1);
+    }
+  }
+
+  private BigDecimal getDecimal() {
+    int scale = (int)Cbin.unzigzag(Cbin.getVarLong(buffer));
+    int length = (int)Cbin.getVarLong(buffer);
+
+    if(length == 0) {
+      return BigDecimal.valueOf(Cbin.unzigzag(Cbin.getVarLong(buffer)), scale);
+    }
+
+    byte[] bytes = new byte[length];
+    buffer.get(bytes);
+    return new BigDecimal(new BigInteger(bytes), scale);
+  }
+
+  /**
+   * Lê um texto fora de registros, garantindo antes que ele esteja todo no buffer.
+   */
+  private String getString() throws IOException {
+    prefetch(5);
+    int position = buffer.position();
+    int length = (int)Cbin.getVarLong(buffer);
+    if(buffer.remaining() < length) {
+      buffer.position(position);
+      ensure(5 + length);
+      length = (int)Cbin.getVarLong(buffer);
+    }
+
+    return decodeString(length);
+  }
+
+  private String decodeString(int length) {
+    String text = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, Cbin.UTF_8);
+    buffer.position(buffer.position() + length);
+    return text;
+  }
+
+  /**
+   * Tenta ter <code>n</code> bytes no buffer, p.ex. para um "varint"; perto do fim da
+   * fonte podem existir menos.
+   */
+  private void prefetch(int n) throws IOException {
+    fill(n);
+  }
+
+  /**
+   * Garante <code>n</code> bytes disponíveis no buffer.
+   */
+  private void ensure(int n) throws IOException {
+    if(buffer.remaining() < n && !fill(n)) {
+      throw new EOFException();
+    }
+  }
+
+  /**
+   * Lê do canal até haver <code>n</code> bytes disponíveis, ampliando o buffer se necessário.
+   *
+   * @return {@code false} caso o canal termine antes; os bytes lidos permanecem no buffer.
+   */
+  private boolean fill(int n) throws IOException {
+    if(buffer.remaining() >= n) {
+      return true;
+    }
+
+    if(buffer.capacity() < n) {
+      ByteBuffer larger = ByteBuffer.allocate(Math.max(n, buffer.capacity() * 2));
+      larger.put(buffer);
+      buffer = larger;
+    }
+    else {
+      buffer.compact();
+    }
+
+    while(buffer.position() < n) {
+      if(channel.read(buffer) < 0) {
+        break;
+      }
+    }
+
+    buffer.flip();
+    return buffer.remaining() >= n;
+  }
+
+  private RuntimeException malformed(Exception cause) {
+    return new RuntimeException(MessageUtil.format(CliMessage.get().CBIN_MALFORMED, source, String.valueOf(cause.getMessage())), cause);
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+    in.close();
+  }
+}
@@ -0,0 +1,292 @@
+package br.com.techne.cronos.cli.cbin;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+
+import br.com.techne.cronos.cli.db.SqlValues;
+import br.com.techne.cronos.cli.io.RecordWriter;
+
+/**
+ * {@link RecordWriter} do formato {@link Cbin}.
+ *
+ * <p>
+ * Cada registro é codificado em um {@link ByteBuffer} próprio, para que o seu tamanho
+ * seja conhecido, e então copiado para o buffer de saída, descarregado no
+ * {@link WritableByteChannel} a cada {@link #BUFFER_SIZE} bytes.
+ * </p>
+ *
+ * <p>
+ * Textos curtos de cada coluna entram no dicionário até {@link #DICTIONARY_SIZE} valores;
+ * colunas cujos valores raramente se repetem deixam de usar o dicionário.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class CbinRecordWriter implements RecordWriter {
+
+  public static final int BUFFER_SIZE = 64 * 1024;
+
+  static final int DICTIONARY_SIZE       = 4096;
+  static final int DICTIONARY_MAX_LENGTH = 64;
+  static final int DICTIONARY_PROBATION  = 1024;
+
+  private final OutputStream out;
+  private final WritableByteChannel channel;
+  private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+  private final TimeZone zone = TimeZone.getDefault();
+  private ByteBuffer record = ByteBuffer.allocate(1024);
+
+  private int[] types;
+  private int[] kinds;
+  private Dictionary[] dictionaries;
+  private long records;
+
+  public CbinRecordWriter(OutputStream out) {
+    this.out = out;
+    this.channel = out instanceof FileOutputStream ? ((FileOutputStream)out).getChannel() : Channels.newChannel(out);
+  }
+
+  @Override
+  public void begin(String table, List<String> columns, int[] types) throws IOException {
+    this.types = types.clone();
+    this.kinds = new int[types.length];
+    this.dictionaries = new Dictionary[types.length];
+    this.records = 0;
+
+    buffer.put(Cbin.MAGIC).put(Cbin.VERSION);
+
+    record.clear();
+    putString(record, table != null ? table : "");
+    Cbin.putVarLong(record, columns.size());
+    for(int i = 0; i < columns.size(); i++) {
+      kinds[i] = Cbin.kindOf(types[i]);
+      if(kinds[i] == Cbin.STRING) {
+        dictionaries[i] = new Dictionary();
+      }
+      putString(record, columns.get(i));
+      Cbin.putVarLong(record, Cbin.zigzag(types[i]));
+    }
+    record.flip();
+
+    ensure(1 + record.remaining());
+    buffer.put(Cbin.SCHEMA).put(record);
+  }
+
+  @Override
+  public void write(Object[] values) throws IOException {
+    int count = kinds.length;
+    int bitmap = (count + 7) / 8;
+
+    record.clear();
+    for(int i = 0; i < bitmap; i++) {
+      record.put((byte)0);
+    }
+
+    try {
+      for(int i = 0; i < count; i++) {
+        if(values[i] == null) {
+          record.put(i >> 3, (byte)(record.get(i >> 3) | (1 << (i & 7))));
+        }
+        else {
+          putValue(i, values[i]);
+        }
+      }
+    }
+    catch(SQLException e) {
+      throw new IOException(e);
+    }
+
+    record.flip();
+    int length = record.remaining();
+    ensure(5);
+    buffer.put(Cbin.RECORD).putInt(length);
+
+    if(length > buffer.remaining()) {
+      drain();
+      while(record.hasRemaining()) {
+        channel.write(record);
+      }
+    }
+    else {
+      buffer.put(record);
+    }
+
+    records++;
+  }
+
+  @Override
+  public void end() throws IOException {
+    ensure(9);
+    buffer.put(Cbin.END).putLong(records);
+    drain();
+    out.flush();
+  }
+
+  private void putValue(int column, Object value) throws IOException, SQLException {
+    int kind = kinds[column];
+
+    if(value instanceof String && kind != Cbin.STRING) {
+      value = SqlValues.toJdbc((String)value, types[column]);
+    }
+
+    reserve(16);
+
+    switch(kind) {
+      case Cbin.BOOLEAN:
+        record.put((byte)(Boolean.TRUE.equals(value) ? 1 : 0));
+        break;
+      case Cbin.LONG:
+        Cbin.putVarLong(record, Cbin.zigzag(((Number)value).longValue()));
+        break;
+      case Cbin.DOUBLE:
+        record.putDouble(((Number)value).doubleValue());
+        break;
+      case Cbin.DECIMAL:
+        putDecimal(value instanceof BigDecimal ? (BigDecimal)value : new BigDecimal(value.toString()));
+        break;
+      case Cbin.DATE:
+        Cbin.putVarLong(record, Cbin.zigzag(Cbin.floorDiv(Cbin.toLocal(zone, ((java.util.Date)value).getTime()), Cbin.MILLIS_PER_DAY)));
+        break;
+      case Cbin.TIME:
+        Cbin.putVarLong(record, Cbin.floorMod(Cbin.toLocal(zone, ((java.util.Date)value).getTime()), Cbin.MILLIS_PER_DAY));
+        break;
+      case Cbin.TIMESTAMP:
+        putTimestamp(value instanceof Timestamp ? (Timestamp)value : new Timestamp(((java.util.Date)value).getTime()));
+        break;
+      case Cbin.BYTES:
+        byte[] bytes = value instanceof Blob ? ((Blob)value).getBytes(1, (int)((Blob)value).length()) : (byte[])value;
+        Cbin.putVarLong(record, bytes.length);
+        reserve(bytes.length);
+        record.put(bytes);
+        break;
+      default:
+        putText(column, value instanceof String ? (String)value : SqlValues.toText(value));
+        break;
+    }
+  }
+
+  private void putDecimal(BigDecimal value) {
+    Cbin.putVarLong(record, Cbin.zigzag(value.scale()));
+
+    BigInteger unscaled = value.unscaledValue();
+    if(unscaled.bitLength() < 64) {
+      record.put((byte)0);
+      Cbin.putVarLong(record, Cbin.zigzag(unscaled.longValue()));
+    }
+    else {
+      byte[] bytes = unscaled.toByteArray();
+      Cbin.putVarLong(record, bytes.length);
+      reserve(bytes.length);
+      record.put(bytes);
+    }
+  }
+
+  private void putTimestamp(Timestamp value) {
+    long local = Cbin.toLocal(zone, value.getTime());
+    Cbin.putVarLong(record, Cbin.zigzag(Cbin.floorDiv(local, 1000)));
+    Cbin.putVarLong(record, value.getNanos());
+  }
+
+  private void putText(int column, String text) throws IOException {
+    Dictionary dictionary = dictionaries[column];
+    Integer id = dictionary.ids.get(text);
+
+    if(id != null) {
+      dictionary.hits++;
+      Cbin.putVarLong(record, id + 1L);
+      return;
+    }
+
+    if(dictionary.accepts(text)) {
+      id = dictionary.ids.size();
+      dictionary.ids.put(text, id);
+
+      byte[] bytes = text.getBytes(Cbin.UTF_8);
+      ensure(1 + 10 + 5 + bytes.length);
+      buffer.put(Cbin.DICTIONARY);
+      Cbin.putVarLong(buffer, column);
+      Cbin.putVarLong(buffer, bytes.length);
+      buffer.put(bytes);
+
+      Cbin.putVarLong(record, id + 1L);
+      return;
+    }
+
+    record.put((byte)0);
+    putString(record, text);
+  }
+
+  private void putString(ByteBuffer target, String text) {
+    byte[] bytes = text.getBytes(Cbin.UTF_8);
+    if(target == record) {
+      reserve(5 + bytes.length);
+      target = record;
+    }
+    Cbin.putVarLong(target, bytes.length);
+    target.put(bytes);
+  }
+
+  /**
+   * Garante <code>n</code> bytes livres no buffer do registro corrente.
+   */
+  private void reserve(int n) {
+    if(record.remaining() < n) {
+      ByteBuffer larger = ByteBuffer.allocate(Math.max(record.capacity() * 2, record.position() + n));
+      record.flip();
+      larger.put(record);
+      record = larger;
+    }
+  }
+
+  /**
+   * Garante <code>n</code> bytes livres no buffer de saída.
+   */
+  private void ensure(int n) throws IOException {
+    if(buffer.remaining() < n) {
+      drain();
+    }
+  }
+
+  private void drain() throws IOException {
+    buffer.flip();
+    while(buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+
+  /**
+   * Dicionário de textos de uma coluna.
+   */
+  static class Dictionary {
+    final Map<String, Integer> ids = new HashMap<>();
+    long hits;
+
+    boolean accepts(String text) {
+      if(text.length() > DICTIONARY_MAX_LENGTH || ids.size() >= DICTIONARY_SIZE) {
+        return false;
+      }
+
+      /*
+       * Valores praticamente únicos (p.ex. descrições) não compensam o dicionário.
+       */
+
+      return ids.size() < DICTIONARY_PROBATION || hits >= ids.size();
+    }
+  }
+}
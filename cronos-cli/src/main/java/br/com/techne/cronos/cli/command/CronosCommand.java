@@ -19,7 +19,7 @@ public class CronosCommand {
   /**
    * Define se exibe ou não a versão.
    */
-  @CliParameter( options = { "--version" }, description = CliMessage.CRONOS_PARAMETER_VERSION_DESCRIPTIONS_KEY, required = true )
+  @CliParameter( options = { "--version" }, description = CliMessage.CRONOS_PARAMETER_VERSION_DESCRIPTIONS_KEY )
   boolean version;
 
   private static CliParser parser;
@@ -30,18 +30,27 @@ public class CronosCommand {
      * FIXME: Aqui o ponto para fazer a leitura de commands > usar o component scan do spring?
      */
 
-    parser = new CliParser(CronosCommand.class)
-              .register(CronosImportCommand.class)
-              .register(CronosExportCommand.class);
-
+    parser = parser();
     parser.parse(args);
   }
 
+  /**
+   * Novo {@link CliParser} com o "cronos" e todos os seus subcomandos registrados. Os
+   * parâmetros são gravados nas instâncias dos comandos: cada execução, p.ex. pelo
+   * {@link CliParser#execute(String[])} de quem executa comandos na mesma JVM, usa um novo parser.
+   */
+  public static CliParser parser() {
+    return new CliParser(CronosCommand.class)
+            .register(CronosImportCommand.class)
+            .register(CronosExportCommand.class)
+            .register(CronosConvertCommand.class);
+  }
+
   void run() {
 
     if(version) {
       System.out.println(getBanner());
-      System.exit(0);
+      CliParser.exit(0);
     }
 
   }
@@ -0,0 +1,72 @@
+package br.com.techne.cronos.cli.command;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import br.com.techne.cronos.cli.cbin.CbinConverter;
+import br.com.techne.cronos.cli.core.CliParser;
+import br.com.techne.cronos.cli.core.annotation.CliCommand;
+import br.com.techne.cronos.cli.core.annotation.CliParameter;
+import br.com.techne.cronos.cli.db.CronosDataSource;
+import br.com.techne.cronos.cli.db.TableInfo;
+import br.com.techne.cronos.cli.i18n.CliMessage;
+import br.com.techne.cronos.cli.io.RecordFormat;
+import br.com.techne.cronos.i18n.MessageUtil;
+
+@CliCommand(name = "convert", descriptions = {
+  CliMessage.CONVERT_COMMAND_DESCRIPTIONS_KEY,
+  CliMessage.CONVERT_COMMAND_TYPES_KEY
+})
+public class CronosConvertCommand {
+
+  @CliParameter(options = { "--to" }, description = CliMessage.CONVERT_PARAMETER_TO_DESCRIPTIONS_KEY, required = true)
+  String to;
+
+  @CliParameter(options = { "-o", "--output" }, description = CliMessage.CONVERT_PARAMETER_OUTPUT_DESCRIPTIONS_KEY)
+  File output;
+
+  @CliParameter(options = { "--url" }, description = CliMessage.CONVERT_PARAMETER_URL_DESCRIPTIONS_KEY)
+  String url;
+
+  @CliParameter(options = { "-u", "--user" }, description = CliMessage.CONVERT_PARAMETER_USER_DESCRIPTIONS_KEY)
+  String user;
+
+  @CliParameter(options = { "-p", "--password" }, description = CliMessage.CONVERT_PARAMETER_PASSWORD_DESCRIPTIONS_KEY, secret = true)
+  char[] password;
+
+  @CliParameter(options = { "-t", "--table" }, description = CliMessage.CONVERT_PARAMETER_TABLE_DESCRIPTIONS_KEY)
+  String table;
+
+  void run(String[] params) {
+    boolean toStdout = output == null || "-".equals(output.getPath());
+    PrintStream console = toStdout ? System.err : System.out;
+
+    if(params.length != 1) {
+      System.err.println(CliMessage.get().CONVERT_INPUT_REQUIRED);
+      CliParser.exit(-1);
+    }
+
+    long converted = 0;
+    try (OutputStream out = toStdout ? new CronosExportCommand.UncloseableOutputStream(System.out) : new FileOutputStream(output)) {
+      CbinConverter converter = new CbinConverter();
+      if(url != null && table != null) {
+        try (Connection connection = new CronosDataSource(url, user, password).getConnection()) {
+          converter.table(TableInfo.load(connection, table));
+        }
+      }
+
+      converted = converter.convert(params[0], RecordFormat.of(to), out);
+    }
+    catch(IOException | SQLException | RuntimeException e) {
+      System.err.println(MessageUtil.format(CliMessage.get().CONVERT_FAILED, e.getMessage()));
+      CliParser.exit(-1);
+    }
+
+    console.println(MessageUtil.format(CliMessage.get().CONVERT_SUMMARY, converted));
+  }
+}
@@ -1,8 +1,275 @@
 package br.com.techne.cronos.cli.command;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import br.com.techne.cronos.cli.core.CliParser;
 import br.com.techne.cronos.cli.core.annotation.CliCommand;
+import br.com.techne.cronos.cli.core.annotation.CliParameter;
+import br.com.techne.cronos.cli.db.CronosDataSource;
+import br.com.techne.cronos.cli.exporter.ExportTarget;
+import br.com.techne.cronos.cli.exporter.Exporter;
+import br.com.techne.cronos.cli.exporter.Watermarks;
+import br.com.techne.cronos.cli.i18n.CliMessage;
+import br.com.techne.cronos.cli.io.RecordFormat;
+import br.com.techne.cronos.i18n.MessageUtil;
 
-@CliCommand(name = "export", descriptions = "exporta as transações do banco de dados para XML")
+@CliCommand(name = "export", descriptions = CliMessage.EXPORT_COMMAND_DESCRIPTIONS_KEY)
 public class CronosExportCommand {
 
+  @CliParameter(options = { "--url" }, description = CliMessage.EXPORT_PARAMETER_URL_DESCRIPTIONS_KEY, required = true)
+  String url;
+
+  @CliParameter(options = { "-u", "--user" }, description = CliMessage.EXPORT_PARAMETER_USER_DESCRIPTIONS_KEY)
+  String user;
+
+  @CliParameter(options = { "-p", "--password" }, description = CliMessage.EXPORT_PARAMETER_PASSWORD_DESCRIPTIONS_KEY, secret = true)
+  char[] password;
+
+  @CliParameter(options = { "-t", "--table" }, description = CliMessage.EXPORT_PARAMETER_TABLE_DESCRIPTIONS_KEY, required = true)
+  String table;
+
+  @CliParameter(options = { "-o", "--output" }, description = CliMessage.EXPORT_PARAMETER_OUTPUT_DESCRIPTIONS_KEY)
+  List<String> output;
+
+  @CliParameter(options = { "--format" }, description = CliMessage.EXPORT_PARAMETER_FORMAT_DESCRIPTIONS_KEY)
+  String format = "xml";
+
+  @CliParameter(options = { "--fetch-size" }, description = CliMessage.EXPORT_PARAMETER_FETCH_SIZE_DESCRIPTIONS_KEY)
+  int fetchSize = Exporter.DEFAULT_FETCH_SIZE;
+
+  @CliParameter(options = { "--partitions" }, description = CliMessage.EXPORT_PARAMETER_PARTITIONS_DESCRIPTIONS_KEY)
+  int partitions = 1;
+
+  @CliParameter(options = { "--partition-by" }, description = CliMessage.EXPORT_PARAMETER_PARTITION_BY_DESCRIPTIONS_KEY)
+  String partitionBy;
+
+  @CliParameter(options = { "--temp-dir" }, description = CliMessage.EXPORT_PARAMETER_TEMP_DIR_DESCRIPTIONS_KEY)
+  File tempDir;
+
+  @CliParameter(options = { "--shards" }, description = CliMessage.EXPORT_PARAMETER_SHARDS_DESCRIPTIONS_KEY)
+  boolean shards;
+
+  @CliParameter(options = { "--compress" }, description = CliMessage.EXPORT_PARAMETER_COMPRESS_DESCRIPTIONS_KEY)
+  String compress;
+
+  @CliParameter(options = { "--since-last" }, description = CliMessage.EXPORT_PARAMETER_SINCE_LAST_DESCRIPTIONS_KEY)
+  boolean sinceLast;
+
+  @CliParameter(options = { "--since" }, description = CliMessage.EXPORT_PARAMETER_SINCE_DESCRIPTIONS_KEY)
+  String since;
+
+  @CliParameter(options = { "--watermark-column" }, description = CliMessage.EXPORT_PARAMETER_WATERMARK_COLUMN_DESCRIPTIONS_KEY)
+  String watermarkColumn;
+
+  @CliParameter(options = { "--watermark-file" }, description = CliMessage.EXPORT_PARAMETER_WATERMARK_FILE_DESCRIPTIONS_KEY)
+  File watermarkFile = new File(Watermarks.DEFAULT_FILE);
+
+  @CliParameter(options = { "--columns" }, description = CliMessage.EXPORT_PARAMETER_COLUMNS_DESCRIPTIONS_KEY)
+  String columns;
+
+  @CliParameter(options = { "--account" }, description = CliMessage.EXPORT_PARAMETER_ACCOUNT_DESCRIPTIONS_KEY)
+  String account;
+
+  @CliParameter(options = { "--account-column" }, description = CliMessage.EXPORT_PARAMETER_ACCOUNT_COLUMN_DESCRIPTIONS_KEY)
+  String accountColumn;
+
+  @CliParameter(options = { "--from-date" }, description = CliMessage.EXPORT_PARAMETER_FROM_DATE_DESCRIPTIONS_KEY)
+  String fromDate;
+
+  @CliParameter(options = { "--to-date" }, description = CliMessage.EXPORT_PARAMETER_TO_DATE_DESCRIPTIONS_KEY)
+  String toDate;
+
+  @CliParameter(options = { "--date-column" }, description = CliMessage.EXPORT_PARAMETER_DATE_COLUMN_DESCRIPTIONS_KEY)
+  String dateColumn;
+
+  @CliParameter(options = { "--stats" }, description = CliMessage.EXPORT_PARAMETER_STATS_DESCRIPTIONS_KEY)
+  boolean stats;
+
+  @CliParameter(options = { "--stats-json" }, description = CliMessage.EXPORT_PARAMETER_STATS_JSON_DESCRIPTIONS_KEY)
+  File statsJson;
+
+  @CliParameter(options = { "--progress" }, description = CliMessage.EXPORT_PARAMETER_PROGRESS_DESCRIPTIONS_KEY)
+  boolean progress;
+
+  void run() {
+    if(compress != null && !"gzip".equalsIgnoreCase(compress)) {
+      System.err.println(MessageUtil.format(CliMessage.get().EXPORT_COMPRESSION_UNSUPPORTED, compress));
+      CliParser.exit(-1);
+    }
+
+    List<ExportTarget> targets = new ArrayList<>();
+    try {
+      for(String spec : output != null ? output : Collections.singletonList(ExportTarget.STDOUT)) {
+        targets.add(ExportTarget.parse(spec, RecordFormat.of(format), compress != null));
+      }
+    }
+    catch(RuntimeException e) {
+      System.err.println(e.getMessage());
+      CliParser.exit(-1);
+    }
+
+    boolean toStdout = false;
+    for(ExportTarget target : targets) {
+      toStdout |= target.isStdout();
+    }
+
+    /*
+     * Com a saída padrão ocupada pelo XML as mensagens vão para a saída de erro.
+     */
+
+    PrintStream console = toStdout ? System.err : System.out;
+    ExportTarget target = targets.get(0);
+
+    /*
+     * As validações precedem o StatsReport, cuja linha de andamento é uma thread: encerrado
+     * pelo CliParser.exit dentro do shell, o comando não pode deixá-la ativa.
+     */
+
+    if(shards && targets.size() > 1) {
+      System.err.println(CliMessage.get().EXPORT_TARGETS_UNSUPPORTED);
+      CliParser.exit(-1);
+    }
+    if(shards && toStdout) {
+      System.err.println(CliMessage.get().EXPORT_SHARDS_REQUIRE_OUTPUT);
+      CliParser.exit(-1);
+    }
+
+    Watermarks watermarks = null;
+    if(sinceLast) {
+      try {
+        watermarks = Watermarks.load(watermarkFile);
+      }
+      catch(RuntimeException e) {
+        System.err.println(MessageUtil.format(CliMessage.get().EXPORT_FAILED, e.getMessage()));
+        CliParser.exit(-1);
+      }
+    }
+
+    Exporter exporter = new Exporter(new CronosDataSource(url, user, password))
+      .table(table)
+      .fetchSize(fetchSize)
+      .partitions(partitions)
+      .partitionBy(partitionBy)
+      .watermarkColumn(watermarkColumn)
+      .since(since)
+      .columns(split(columns))
+      .account(account)
+      .accountColumn(accountColumn)
+      .fromDate(fromDate)
+      .toDate(toDate)
+      .dateColumn(dateColumn)
+      .compress(target.isCompress())
+      .tempDir(tempDir != null || toStdout ? tempDir : target.getFile().getAbsoluteFile().getParentFile())
+      .format(target.getFormat());
+
+    StatsReport report = new StatsReport(exporter.getMetrics(), "export", stats, statsJson, progress);
+
+    if(watermarks != null) {
+      exporter.watermarks(watermarks);
+    }
+
+    if(targets.size() > 1) {
+      try {
+        long exported = exporter.run(targets);
+        report.finish(console);
+        console.println(MessageUtil.format(CliMessage.get().EXPORT_SUMMARY, exported));
+        saveWatermark(exporter, watermarks, console);
+      }
+      catch(RuntimeException e) {
+        report.finish(console);
+        System.err.println(MessageUtil.format(CliMessage.get().EXPORT_FAILED, e.getMessage()));
+        CliParser.exit(-1);
+      }
+      return;
+    }
+
+    if(shards) {
+      try {
+        long exported = exporter.runShards(target.getFile());
+        report.finish(console);
+        console.println(MessageUtil.format(CliMessage.get().EXPORT_SUMMARY, exported));
+        saveWatermark(exporter, watermarks, console);
+      }
+      catch(RuntimeException e) {
+        report.finish(console);
+        System.err.println(MessageUtil.format(CliMessage.get().EXPORT_FAILED, e.getMessage()));
+        CliParser.exit(-1);
+      }
+      return;
+    }
+
+    long exported = 0;
+    try (OutputStream out = toStdout ? new UncloseableOutputStream(System.out) : new FileOutputStream(target.getFile())) {
+      exported = exporter.run(out);
+    }
+    catch(IOException | RuntimeException e) {
+      report.finish(console);
+      System.err.println(MessageUtil.format(CliMessage.get().EXPORT_FAILED, e.getMessage()));
+      CliParser.exit(-1);
+    }
+
+    /*
+     * O watermark só avança depois da saída fechada com sucesso.
+     */
+
+    report.finish(console);
+
+    try {
+      console.println(MessageUtil.format(CliMessage.get().EXPORT_SUMMARY, exported));
+      saveWatermark(exporter, watermarks, console);
+    }
+    catch(RuntimeException e) {
+      System.err.println(MessageUtil.format(CliMessage.get().EXPORT_FAILED, e.getMessage()));
+      CliParser.exit(-1);
+    }
+  }
+
+  private void saveWatermark(Exporter exporter, Watermarks watermarks, PrintStream console) {
+    if(watermarks != null && exporter.getWatermark() != null) {
+      watermarks.save();
+      console.println(MessageUtil.format(CliMessage.get().EXPORT_WATERMARK_SAVED, table, exporter.getWatermarkColumn(), exporter.getWatermark()));
+    }
+  }
+
+  private static List<String> split(String list) {
+    if(list == null) {
+      return null;
+    }
+
+    List<String> values = new ArrayList<>();
+    for(String value : list.split(",")) {
+      if(!value.trim().isEmpty()) {
+        values.add(value.trim());
+      }
+    }
+    return values.isEmpty() ? null : values;
+  }
+
+  /**
+   * Evita o fechamento do {@code System.out} ao final da exportação.
+   */
+  static class UncloseableOutputStream extends FilterOutputStream {
+
+    UncloseableOutputStream(OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      out.write(b, off, len);
+    }
+
+    @Override
+    public void close() throws IOException {
+      flush();
+    }
+  }
 }
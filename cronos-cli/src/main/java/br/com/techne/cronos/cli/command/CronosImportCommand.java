@@ -1,8 +1,166 @@
 package br.com.techne.cronos.cli.command;
 
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+
+import br.com.techne.cronos.cli.core.CliParser;
 import br.com.techne.cronos.cli.core.annotation.CliCommand;
+import br.com.techne.cronos.cli.core.annotation.CliParameter;
+import br.com.techne.cronos.cli.db.CronosDataSource;
+import br.com.techne.cronos.cli.i18n.CliMessage;
+import br.com.techne.cronos.cli.importer.ConflictMode;
+import br.com.techne.cronos.cli.importer.ImportValidator;
+import br.com.techne.cronos.cli.importer.Importer;
+import br.com.techne.cronos.cli.io.InputSources;
+import br.com.techne.cronos.i18n.MessageUtil;
 
-@CliCommand(name = "import", descriptions = "importa XMLs informados no classpath para o banco de dados Cronos")
+@CliCommand(name = "import", descriptions = {
+  CliMessage.IMPORT_COMMAND_DESCRIPTIONS_KEY,
+  CliMessage.IMPORT_COMMAND_INPUTS_KEY,
+  CliMessage.IMPORT_COMMAND_VALIDATE_KEY
+})
 public class CronosImportCommand {
 
+  @CliParameter(options = { "--url" }, description = CliMessage.IMPORT_PARAMETER_URL_DESCRIPTIONS_KEY)
+  String url;
+
+  @CliParameter(options = { "-u", "--user" }, description = CliMessage.IMPORT_PARAMETER_USER_DESCRIPTIONS_KEY)
+  String user;
+
+  @CliParameter(options = { "-p", "--password" }, description = CliMessage.IMPORT_PARAMETER_PASSWORD_DESCRIPTIONS_KEY, secret = true)
+  char[] password;
+
+  @CliParameter(options = { "-t", "--table" }, description = CliMessage.IMPORT_PARAMETER_TABLE_DESCRIPTIONS_KEY)
+  String table;
+
+  @CliParameter(options = { "--batch-size" }, description = CliMessage.IMPORT_PARAMETER_BATCH_SIZE_DESCRIPTIONS_KEY)
+  int batchSize;
+
+  @CliParameter(options = { "--read-ahead" }, description = CliMessage.IMPORT_PARAMETER_READ_AHEAD_DESCRIPTIONS_KEY)
+  int readAhead = InputSources.DEFAULT_READ_AHEAD >> 20;
+
+  @CliParameter(options = { "--checkpoint" }, description = CliMessage.IMPORT_PARAMETER_CHECKPOINT_DESCRIPTIONS_KEY)
+  File checkpoint = new File(Importer.DEFAULT_CHECKPOINT_FILE);
+
+  @CliParameter(options = { "--resume" }, description = CliMessage.IMPORT_PARAMETER_RESUME_DESCRIPTIONS_KEY)
+  boolean resume;
+
+  @CliParameter(options = { "--on-conflict" }, description = CliMessage.IMPORT_PARAMETER_ON_CONFLICT_DESCRIPTIONS_KEY)
+  String onConflict;
+
+  @CliParameter(options = { "--key-index-memory" }, description = CliMessage.IMPORT_PARAMETER_KEY_INDEX_MEMORY_DESCRIPTIONS_KEY)
+  int keyIndexMemory = (int)(Importer.DEFAULT_KEY_INDEX_MEMORY >> 20);
+
+  @CliParameter(options = { "--bulk" }, description = CliMessage.IMPORT_PARAMETER_BULK_DESCRIPTIONS_KEY)
+  boolean bulk;
+
+  @CliParameter(options = { "--bulk-state" }, description = CliMessage.IMPORT_PARAMETER_BULK_STATE_DESCRIPTIONS_KEY)
+  File bulkState = new File(Importer.DEFAULT_BULK_STATE_FILE);
+
+  @CliParameter(options = { "--reject-file" }, description = CliMessage.IMPORT_PARAMETER_REJECT_FILE_DESCRIPTIONS_KEY)
+  File rejectFile;
+
+  @CliParameter(options = { "--max-rejects" }, description = CliMessage.IMPORT_PARAMETER_MAX_REJECTS_DESCRIPTIONS_KEY)
+  long maxRejects = Importer.DEFAULT_MAX_REJECTS;
+
+  @CliParameter(options = { "--stats" }, description = CliMessage.IMPORT_PARAMETER_STATS_DESCRIPTIONS_KEY)
+  boolean stats;
+
+  @CliParameter(options = { "--stats-json" }, description = CliMessage.IMPORT_PARAMETER_STATS_JSON_DESCRIPTIONS_KEY)
+  File statsJson;
+
+  @CliParameter(options = { "--progress" }, description = CliMessage.IMPORT_PARAMETER_PROGRESS_DESCRIPTIONS_KEY)
+  boolean progress;
+
+  @CliParameter(options = { "--validate-only" }, description = CliMessage.IMPORT_PARAMETER_VALIDATE_ONLY_DESCRIPTIONS_KEY)
+  boolean validateOnly;
+
+  @CliParameter(options = { "--max-errors" }, description = CliMessage.IMPORT_PARAMETER_MAX_ERRORS_DESCRIPTIONS_KEY)
+  int maxErrors = ImportValidator.DEFAULT_MAX_ERRORS;
+
+  @CliParameter(options = { "--threads" }, description = CliMessage.IMPORT_PARAMETER_THREADS_DESCRIPTIONS_KEY)
+  int threads = Runtime.getRuntime().availableProcessors();
+
+  void run(String[] params) {
+    if(validateOnly) {
+      validate(params);
+      return;
+    }
+
+    if(url == null) {
+      System.err.println(MessageUtil.format(CliMessage.get().CLI_PARAMETER_REQUIRED_MISSING, "url"));
+      CliParser.exit(-1);
+    }
+
+    StatsReport report = null;
+    try {
+      Importer importer = new Importer(new CronosDataSource(url, user, password))
+        .table(table)
+        .batchSize(batchSize)
+        .checkpoint(checkpoint)
+        .resume(resume)
+        .readAhead(readAhead << 20)
+        .onConflict(onConflict != null ? ConflictMode.of(onConflict) : null)
+        .keyIndexMemory((long)keyIndexMemory << 20)
+        .bulk(bulk)
+        .bulkState(bulkState)
+        .rejectFile(rejectFile)
+        .maxRejects(maxRejects);
+
+      report = new StatsReport(importer.getMetrics(), "import", stats, statsJson, progress);
+      long imported = importer.run(Arrays.asList(params));
+      report.finish(System.out);
+
+      System.out.println(MessageUtil.format(CliMessage.get().IMPORT_SUMMARY, imported));
+      if(onConflict != null) {
+        System.out.println(MessageUtil.format(CliMessage.get().IMPORT_UPSERT_SUMMARY, importer.getInserted(), importer.getUpdated(), importer.getSkipped()));
+      }
+      if(importer.getRejected() > 0) {
+        System.out.println(MessageUtil.format(CliMessage.get().IMPORT_REJECT_SUMMARY, importer.getRejected(), importer.getRejectFiles()));
+      }
+    }
+    catch(RuntimeException e) {
+      if(report != null) {
+        report.finish(System.out);
+      }
+      System.err.println(MessageUtil.format(CliMessage.get().IMPORT_FAILED, e.getMessage()));
+      CliParser.exit(-1);
+    }
+  }
+
+  private void validate(String[] params) {
+    List<ImportValidator.Result> results;
+    try {
+      results = new ImportValidator()
+        .maxErrors(maxErrors)
+        .threads(threads)
+        .readAhead(readAhead << 20)
+        .run(Arrays.asList(params));
+    }
+    catch(RuntimeException e) {
+      System.err.println(MessageUtil.format(CliMessage.get().IMPORT_FAILED, e.getMessage()));
+      CliParser.exit(-1);
+      return;
+    }
+
+    int valid = 0;
+    for(ImportValidator.Result result : results) {
+      if(result.isValid()) {
+        System.out.println(MessageUtil.format(CliMessage.get().VALIDATE_VALID, result.getInput(), result.getRecords()));
+        valid++;
+      }
+      else {
+        System.err.println(MessageUtil.format(CliMessage.get().VALIDATE_INVALID, result.getInput(), result.getRecords()));
+        for(String error : result.getErrors()) {
+          System.err.println("  " + error);
+        }
+      }
+    }
+
+    System.out.println(MessageUtil.format(CliMessage.get().VALIDATE_SUMMARY, valid, results.size()));
+    if(valid < results.size()) {
+      CliParser.exit(-1);
+    }
+  }
 }
@@ -0,0 +1,71 @@
+package br.com.techne.cronos.cli.command;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+
+import br.com.techne.cronos.cli.i18n.CliMessage;
+import br.com.techne.cronos.cli.metrics.Metrics;
+import br.com.techne.cronos.cli.metrics.ProgressDisplay;
+import br.com.techne.cronos.i18n.MessageUtil;
+
+/**
+ * Opções {@literal --stats}, {@literal --stats-json} e {@literal --progress} comuns ao
+ * {@literal import} e ao {@literal export}.
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+final class StatsReport {
+
+  private final Metrics metrics;
+  private final String command;
+  private final boolean stats;
+  private final File json;
+  private ProgressDisplay progress;
+  private boolean finished;
+
+  /**
+   * @param progress
+   *          inicia a linha de andamento na saída de erro.
+   */
+  StatsReport(Metrics metrics, String command, boolean stats, File json, boolean progress) {
+    this.metrics = metrics;
+    this.command = command;
+    this.stats = stats;
+    this.json = json;
+    this.progress = progress ? new ProgressDisplay(metrics, System.err) : null;
+  }
+
+  /**
+   * Encerra a medição e emite os relatórios solicitados; chamadas seguintes são ignoradas.
+   */
+  void finish(PrintStream console) {
+    if(finished) {
+      return;
+    }
+    finished = true;
+
+    metrics.finish();
+    if(progress != null) {
+      progress.close();
+      progress = null;
+    }
+
+    if(stats) {
+      for(String line : metrics.summary()) {
+        console.println(line);
+      }
+    }
+
+    if(json != null) {
+      try {
+        metrics.writeJson(json, command);
+      }
+      catch(IOException e) {
+        System.err.println(MessageUtil.format(CliMessage.get().STATS_JSON_IO_ERROR, json, e.getMessage()));
+      }
+    }
+  }
+}
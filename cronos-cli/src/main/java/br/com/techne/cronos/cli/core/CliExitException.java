@@ -0,0 +1,26 @@
+package br.com.techne.cronos.cli.core;
+
+/**
+ * Encerramento de um {@link br.com.techne.cronos.cli.core.annotation.CliCommand} executado
+ * por {@link CliParser#execute(String[])}: substitui o {@code System.exit}, de forma que a JVM
+ * que executa o comando (p.ex. a do {@literal cronos-shell}) continua em execução.
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class CliExitException extends RuntimeException {
+
+  private static final long serialVersionUID = 1L;
+
+  private final int status;
+
+  public CliExitException(int status) {
+    super("exit " + status);
+    this.status = status;
+  }
+
+  public int getStatus() {
+    return status;
+  }
+}
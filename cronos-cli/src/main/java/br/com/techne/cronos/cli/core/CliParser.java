@@ -35,6 +35,8 @@ import br.com.techne.cronos.i18n.MessageUtil;
  */
 public class CliParser {
 
+  private static final ThreadLocal<Boolean> EMBEDDED = new ThreadLocal<>();
+
   private final Map<Class<?>, Object> _cliInstances;
   private final Map<String, CliCommandInfo> _cliCommandInfoMap;
   private CliCommandInfo _mainCli;
@@ -153,7 +155,7 @@ public class CliParser {
    * <p>
    * If the built-in option {@literal "--help"} is found, the parser will
    * generate and display the help information, then call
-   * {@code System.exit(0)}.
+   * {@link #exit(int)}.
    * </p>
    *
    * <p>
@@ -189,7 +191,7 @@ public class CliParser {
 
       if(arg.equals("--help")) {
         showHelp();
-        System.exit(0);
+        exit(0);
       }
 
       CliCommandInfo ci = _cliCommandInfoMap.get(arg);
@@ -241,12 +243,51 @@ public class CliParser {
     return cpm;
   }
 
+  /**
+   * Como {@link #parse(String[])}, sem encerrar a JVM: {@link #exit(int)}, inclusive o do
+   * {@literal --help} e o dos erros de parâmetros, termina somente a execução do comando.
+   *
+   * <p>
+   * Os parâmetros são gravados nas instâncias dos comandos registrados; cada execução deve
+   * usar um novo {@link CliParser}.
+   * </p>
+   *
+   * @return o status de {@link #exit(int)} ou 0 se o comando terminou normalmente.
+   */
+  public int execute(String[] args) {
+    Boolean embedded = EMBEDDED.get();
+    EMBEDDED.set(Boolean.TRUE);
+    try {
+      parse(args);
+      return 0;
+    }
+    catch(CliExitException e) {
+      return e.getStatus();
+    }
+    finally {
+      if(embedded == null) {
+        EMBEDDED.remove();
+      }
+    }
+  }
+
+  /**
+   * Encerra a linha de comando com <code>status</code>: {@code System.exit} ou, durante
+   * {@link #execute(String[])} na mesma thread, {@link CliExitException}.
+   */
+  public static void exit(int status) {
+    if(Boolean.TRUE.equals(EMBEDDED.get())) {
+      throw new CliExitException(status);
+    }
+    System.exit(status);
+  }
+
   private static void stage(Map<Object, String[]> cpm, CliCommandInfo cliCommandInfo, List<String> params) {
     cpm.put(cliCommandInfo.command, params.toArray(new String[params.size()]));
     for(CliParameterInfo cliPI : new HashSet<>(cliCommandInfo.map.values())) {
       if(cliPI.annotation.required() && !cliPI.set) {
         System.err.println(MessageUtil.format(CliMessage.get().CLI_PARAMETER_REQUIRED_MISSING, cliPI.field.getName()));
-        System.exit(-1);
+        exit(-1);
       }
     }
   }
@@ -262,7 +303,7 @@ public class CliParser {
 
     if(parameterInfo == null) {
       System.err.println(MessageUtil.format(CliMessage.get().CLI_PARAMETER_UNKNOWN, pOption));
-      System.exit(-1);
+      exit(-1);
     }
 
     Field field = parameterInfo.field;
@@ -280,10 +321,10 @@ public class CliParser {
 
       if(!liter.hasNext()) {
         System.err.println(MessageUtil.format(CliMessage.get().CLI_PARAMETER_ARGUMENT_MISSING, pOptionType.prefix, pOption));
-        System.exit(-1);
+        exit(-1);
       }
 
-      value = parseValue(fieldType, liter.next());
+      value = fieldType == List.class ? append(parameterInfo, liter.next()) : parseValue(fieldType, liter.next());
     }
 
     try {
@@ -295,6 +336,29 @@ public class CliParser {
     }
   }
 
+  /**
+   * A {@link List} parameter may be repeated: each occurrence appends its argument,
+   * and the first one replaces the field's default value.
+   */
+  @SuppressWarnings("unchecked")
+  private List<String> append(CliParameterInfo parameterInfo, String value) {
+    List<String> values = null;
+    if(parameterInfo.set) {
+      try {
+        values = (List<String>)parameterInfo.field.get(_cli.command);
+      }
+      catch(IllegalArgumentException | IllegalAccessException e) {
+        throw new RuntimeException(e);
+      }
+    }
+
+    if(values == null) {
+      values = new ArrayList<>();
+    }
+    values.add(value);
+    return values;
+  }
+
   private static Object parseValue(Class<?> type, String value) {
     if(type == String.class) {
       return value;
@@ -374,7 +438,13 @@ public class CliParser {
         }
       }
     }
-    catch(SecurityException | IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+    catch(InvocationTargetException e) {
+      if(e.getCause() instanceof CliExitException) {
+        throw (CliExitException)e.getCause();
+      }
+      throw new RuntimeException(e);
+    }
+    catch(SecurityException | IllegalAccessException | IllegalArgumentException e) {
       throw new RuntimeException(e);
     }
   }
@@ -401,6 +471,25 @@ public class CliParser {
     System.out.print(sb.toString());
   }
 
+  /**
+   * Opções visíveis no help de cada comando registrado, pelo nome do comando, p.ex. para o
+   * "completion" de quem executa os comandos com {@link #execute(String[])}.
+   */
+  public Map<String, List<String>> getOptions() {
+    Map<String, List<String>> options = new LinkedHashMap<>();
+    for(Map.Entry<String, CliCommandInfo> entry : _cliCommandInfoMap.entrySet()) {
+      List<String> list = new ArrayList<>();
+      for(CliParameterInfo cliPI : new HashSet<>(entry.getValue().map.values())) {
+        if(!cliPI.annotation.hidden()) {
+          list.addAll(Arrays.asList(cliPI.annotation.options()));
+        }
+      }
+      Collections.sort(list);
+      options.put(entry.getKey(), list);
+    }
+    return options;
+  }
+
   /**
    * Get the instance of the provided CliCommand class if it's registered.
    *
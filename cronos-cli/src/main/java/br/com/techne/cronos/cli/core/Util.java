@@ -1,9 +1,12 @@
 package br.com.techne.cronos.cli.core;
 
+import java.io.ByteArrayOutputStream;
 import java.io.Console;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.Scanner;
 import java.util.regex.Pattern;
 
 import br.com.techne.cronos.cli.i18n.CliMessage;
@@ -133,6 +136,12 @@ class Util {
     return WORD_SPLITTER.split(sentence);
   }
 
+  /**
+   * Lê um segredo do console, sem eco. Sem console (IDE, entrada redirecionada ou o
+   * {@literal cronos-shell}) lê uma linha de {@link System#in} byte a byte: a entrada não é
+   * fechada nem lida além da linha, e continua disponível para quem a compartilha, como o
+   * shell que executa o comando.
+   */
   static char[] readSecret(String prompt) {
     Console console = System.console();
 
@@ -147,17 +156,40 @@ class Util {
       return password;
     }
 
-    try (Scanner s = new Scanner(System.in)) {
+    String line = null;
 
-      String line = null;
+    while(line == null || line.length() == 0) {
+      System.out.print(prompt);
+      line = readLine(System.in);
+    }
 
-      while(line == null || line.length() == 0) {
-        System.out.print(prompt);
-        line = s.nextLine();
-      }
+    return line.toCharArray();
+  }
 
-      return line.toCharArray();
+  /**
+   * Lê de <code>in</code> uma linha, sem o terminador.
+   *
+   * @throws IllegalStateException
+   *           no fim da entrada, sem linha a ler.
+   */
+  static String readLine(InputStream in) {
+    ByteArrayOutputStream line = new ByteArrayOutputStream();
+
+    try {
+      int b;
+      while((b = in.read()) >= 0 && b != '\n') {
+        line.write(b);
+      }
+      if(b < 0 && line.size() == 0) {
+        throw new IllegalStateException(CliMessage.get().CLI_INPUT_CLOSED);
+      }
+    }
+    catch(IOException e) {
+      throw new IllegalStateException(e.getMessage(), e);
     }
+
+    String text = new String(line.toByteArray(), Charset.defaultCharset());
+    return text.endsWith("\r") ? text.substring(0, text.length() - 1) : text;
   }
 
   /**
@@ -0,0 +1,56 @@
+package br.com.techne.cronos.cli.db;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Properties;
+
+/**
+ * Fonte de conexões JDBC utilizada pelos comandos do cronos-cli.
+ *
+ * <p>
+ * O driver JDBC do banco de dados Cronos deve estar presente no classpath.
+ * Cada chamada a {@link #getConnection()} abre uma nova conexão, que deve ser
+ * fechada por quem a obteve.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class CronosDataSource {
+
+  private final String url;
+  private final String user;
+  private final char[] password;
+
+  public CronosDataSource(String url, String user, char[] password) {
+    this.url = url;
+    this.user = user;
+    this.password = password;
+  }
+
+  public String getUrl() {
+    return url;
+  }
+
+  /**
+   * Abre uma nova conexão com o banco de dados.
+   *
+   * @return conexão com "auto-commit" no estado padrão do driver.
+   * @throws SQLException
+   */
+  public Connection getConnection() throws SQLException {
+    Properties info = new Properties();
+
+    if(user != null) {
+      info.setProperty("user", user);
+    }
+
+    if(password != null) {
+      info.setProperty("password", new String(password));
+    }
+
+    return DriverManager.getConnection(url, info);
+  }
+}
@@ -0,0 +1,127 @@
+package br.com.techne.cronos.cli.db;
+
+import java.math.BigDecimal;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+/**
+ * Conversões entre a representação textual dos valores nos XMLs Cronos e os tipos JDBC.
+ *
+ * <p>
+ * Datas seguem o formato JDBC ({@literal yyyy-mm-dd}, {@literal hh:mm:ss} e
+ * {@literal yyyy-mm-dd hh:mm:ss.fffffffff}), números decimais são escritos sem
+ * notação científica e binários em hexadecimal.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public final class SqlValues {
+
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  private SqlValues() {
+  }
+
+  /**
+   * Converte o texto <code>text</code> no objeto Java correspondente ao tipo JDBC <code>sqlType</code>.
+   */
+  public static Object toJdbc(String text, int sqlType) {
+    if(text == null) {
+      return null;
+    }
+
+    switch(sqlType) {
+      case Types.TINYINT:
+      case Types.SMALLINT:
+      case Types.INTEGER:
+        return Integer.valueOf(text.trim());
+      case Types.BIGINT:
+        return Long.valueOf(text.trim());
+      case Types.DECIMAL:
+      case Types.NUMERIC:
+        return new BigDecimal(text.trim());
+      case Types.REAL:
+        return Float.valueOf(text.trim());
+      case Types.FLOAT:
+      case Types.DOUBLE:
+        return Double.valueOf(text.trim());
+      case Types.BIT:
+      case Types.BOOLEAN:
+        return Boolean.valueOf(text.trim());
+      case Types.DATE:
+        return Date.valueOf(text.trim());
+      case Types.TIME:
+        return Time.valueOf(text.trim());
+      case Types.TIMESTAMP:
+        return Timestamp.valueOf(text.trim());
+      case Types.BINARY:
+      case Types.VARBINARY:
+      case Types.LONGVARBINARY:
+      case Types.BLOB:
+        return fromHex(text.trim());
+      default:
+        return text;
+    }
+  }
+
+  /**
+   * Associa <code>value</code> ao parâmetro <code>index</code>, convertendo textos
+   * conforme <code>sqlType</code>.
+   */
+  public static void bind(PreparedStatement ps, int index, Object value, int sqlType) throws SQLException {
+    if(value == null) {
+      ps.setNull(index, sqlType);
+    }
+    else if(value instanceof String) {
+      ps.setObject(index, toJdbc((String)value, sqlType));
+    }
+    else {
+      ps.setObject(index, value);
+    }
+  }
+
+  /**
+   * Converte um valor lido via JDBC em sua representação textual.
+   */
+  public static String toText(Object value) throws SQLException {
+    if(value == null) {
+      return null;
+    }
+    else if(value instanceof BigDecimal) {
+      return ((BigDecimal)value).toPlainString();
+    }
+    else if(value instanceof byte[]) {
+      return toHex((byte[])value);
+    }
+    else if(value instanceof Clob) {
+      Clob clob = (Clob)value;
+      return clob.getSubString(1, (int)clob.length());
+    }
+
+    return value.toString();
+  }
+
+  static String toHex(byte[] bytes) {
+    char[] chars = new char[bytes.length * 2];
+    for(int i = 0; i < bytes.length; i++) {
+      chars[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+      chars[i * 2 + 1] = HEX[bytes[i] & 0xF];
+    }
+    return new String(chars);
+  }
+
+  static byte[] fromHex(String text) {
+    byte[] bytes = new byte[text.length() / 2];
+    for(int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte)Integer.parseInt(text.substring(i * 2, i * 2 + 2), 16);
+    }
+    return bytes;
+  }
+}
@@ -0,0 +1,218 @@
+package br.com.techne.cronos.cli.db;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import br.com.techne.cronos.cli.i18n.CliMessage;
+import br.com.techne.cronos.i18n.MessageUtil;
+
+/**
+ * Metadados de uma tabela do banco de dados Cronos, obtidos via {@link DatabaseMetaData}.
+ *
+ * <p>
+ * Os nomes de tabela e colunas mantidos aqui são os retornados pelo próprio banco,
+ * portanto podem ser utilizados na montagem de SQL (sempre com {@link #quote(String)})
+ * sem risco de injeção a partir do conteúdo dos XMLs.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class TableInfo {
+
+  private final String schema;
+  private final String name;
+  private final String quoteString;
+  private final List<String> columns;
+  private final int[] types;
+  private final List<String> primaryKey;
+
+  private TableInfo(String schema, String name, String quoteString, List<String> columns, int[] types, List<String> primaryKey) {
+    this.schema = schema;
+    this.name = name;
+    this.quoteString = quoteString;
+    this.columns = Collections.unmodifiableList(columns);
+    this.types = types;
+    this.primaryKey = Collections.unmodifiableList(primaryKey);
+  }
+
+  /**
+   * Carrega os metadados da tabela <code>table</code>, que pode estar qualificada
+   * pelo schema ({@literal SCHEMA.TABELA}).
+   *
+   * <p>
+   * O nome é procurado como informado, em maiúsculas e em minúsculas, nesta ordem. Os
+   * curingas {@literal _} e {@literal %} do nome valem literalmente (são escapados com o
+   * {@link DatabaseMetaData#getSearchStringEscape()} do banco).
+   * </p>
+   *
+   * @throws SQLException
+   * @throws RuntimeException caso a tabela não exista ou, sem o schema, exista em mais de um.
+   */
+  public static TableInfo load(Connection connection, String table) throws SQLException {
+    String schema = null;
+    String name = table;
+
+    int dot = table.indexOf('.');
+    if(dot > 0) {
+      schema = table.substring(0, dot);
+      name = table.substring(dot + 1);
+    }
+
+    DatabaseMetaData meta = connection.getMetaData();
+    String escape = meta.getSearchStringEscape();
+    String quote = meta.getIdentifierQuoteString();
+    quote = quote == null || " ".equals(quote) ? "" : quote.trim();
+
+    String[][] candidates = {
+      { schema, name },
+      { schema == null ? null : schema.toUpperCase(Locale.ROOT), name.toUpperCase(Locale.ROOT) },
+      { schema == null ? null : schema.toLowerCase(Locale.ROOT), name.toLowerCase(Locale.ROOT) }
+    };
+
+    for(String[] pair : candidates) {
+      String candidateSchema = pair[0];
+      String candidate = pair[1];
+
+      List<String> columns = new ArrayList<>();
+      List<Integer> types = new ArrayList<>();
+      Set<String> schemas = new LinkedHashSet<>();
+      String foundSchema = candidateSchema;
+
+      try (ResultSet rs = meta.getColumns(null, escape(candidateSchema, escape), escape(candidate, escape), null)) {
+        while(rs.next()) {
+          foundSchema = rs.getString("TABLE_SCHEM");
+          schemas.add(String.valueOf(foundSchema));
+          columns.add(rs.getString("COLUMN_NAME"));
+          types.add(rs.getInt("DATA_TYPE"));
+        }
+      }
+
+      if(schemas.size() > 1) {
+        throw new RuntimeException(MessageUtil.format(CliMessage.get().DB_TABLE_AMBIGUOUS, table, schemas));
+      }
+
+      if(!columns.isEmpty()) {
+        int[] typeArray = new int[types.size()];
+        for(int i = 0; i < typeArray.length; i++) {
+          typeArray[i] = types.get(i);
+        }
+
+        return new TableInfo(foundSchema, candidate, quote, columns, typeArray, loadPrimaryKey(meta, foundSchema, candidate));
+      }
+    }
+
+    throw new RuntimeException(MessageUtil.format(CliMessage.get().DB_TABLE_NOT_FOUND, table));
+  }
+
+  /**
+   * Escapa os curingas de <code>name</code> para uso como padrão de busca do
+   * {@link DatabaseMetaData}.
+   */
+  static String escape(String name, String escape) {
+    if(name == null || escape == null || escape.isEmpty()) {
+      return name;
+    }
+
+    StringBuilder pattern = new StringBuilder(name.length() + 8);
+    for(int i = 0; i < name.length(); i++) {
+      if(name.startsWith(escape, i)) {
+        pattern.append(escape).append(escape);
+        i += escape.length() - 1;
+        continue;
+      }
+
+      char c = name.charAt(i);
+      if(c == '_' || c == '%') {
+        pattern.append(escape);
+      }
+      pattern.append(c);
+    }
+    return pattern.toString();
+  }
+
+  /*
+   * getPrimaryKeys recebe o nome, não um padrão; alguns drivers o tratam como padrão e as
+   * linhas de outra tabela ou schema são descartadas.
+   */
+
+  private static List<String> loadPrimaryKey(DatabaseMetaData meta, String schema, String table) throws SQLException {
+    List<String> keys = new ArrayList<>();
+    List<Short> sequences = new ArrayList<>();
+
+    try (ResultSet rs = meta.getPrimaryKeys(null, schema, table)) {
+      while(rs.next()) {
+        if(!table.equalsIgnoreCase(rs.getString("TABLE_NAME")) || (schema != null && !schema.equalsIgnoreCase(rs.getString("TABLE_SCHEM")))) {
+          continue;
+        }
+
+        short seq = rs.getShort("KEY_SEQ");
+        int pos = 0;
+        while(pos < sequences.size() && sequences.get(pos) < seq) {
+          pos++;
+        }
+        sequences.add(pos, seq);
+        keys.add(pos, rs.getString("COLUMN_NAME"));
+      }
+    }
+
+    return keys;
+  }
+
+  public String getSchema() {
+    return schema;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public List<String> getColumns() {
+    return columns;
+  }
+
+  public int getType(int index) {
+    return types[index];
+  }
+
+  public List<String> getPrimaryKey() {
+    return primaryKey;
+  }
+
+  /**
+   * Retorna a posição da coluna <code>column</code> (comparação sem distinção de
+   * maiúsculas/minúsculas) ou -1 caso não exista.
+   */
+  public int indexOf(String column) {
+    for(int i = 0; i < columns.size(); i++) {
+      if(columns.get(i).equalsIgnoreCase(column)) {
+        return i;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * Nome da tabela, qualificado pelo schema e delimitado, pronto para uso em SQL.
+   */
+  public String getQualifiedName() {
+    return schema == null ? quote(name) : quote(schema) + "." + quote(name);
+  }
+
+  /**
+   * Delimita o identificador com o "quote string" do banco.
+   */
+  public String quote(String identifier) {
+    return quoteString + identifier + quoteString;
+  }
+}
@@ -0,0 +1,137 @@
+package br.com.techne.cronos.cli.exporter;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import br.com.techne.cronos.cli.i18n.CliMessage;
+import br.com.techne.cronos.cli.io.MeteredOutputStream;
+import br.com.techne.cronos.cli.io.ParallelGzipOutputStream;
+import br.com.techne.cronos.cli.io.RecordFormat;
+import br.com.techne.cronos.cli.io.RecordWriter;
+import br.com.techne.cronos.cli.metrics.Metrics;
+import br.com.techne.cronos.i18n.MessageUtil;
+
+/**
+ * Uma saída de {@link Exporter#run(List)}: arquivo, formato e compressão, informados na
+ * linha de comando como {@literal formato[+gzip]:arquivo} (p.ex. {@literal xml:transacoes.xml},
+ * {@literal xml+gzip:arquivo.xml.gz}, {@literal cbin:copia.cbin}). O arquivo {@literal -}
+ * representa a saída padrão.
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class ExportTarget implements Closeable {
+
+  public static final String STDOUT = "-";
+
+  private static final String GZIP = "gzip";
+
+  private final File file;
+  private final RecordFormat format;
+  private final boolean compress;
+
+  private OutputStream out;
+
+  public ExportTarget(File file, RecordFormat format, boolean compress) {
+    this.file = file;
+    this.format = format;
+    this.compress = compress;
+  }
+
+  /**
+   * Interpreta <code>spec</code>; sem o prefixo de um formato conhecido vale como caminho
+   * (p.ex. {@literal C:\saida.xml} ou {@literal saida:2026.xml}), com <code>format</code>
+   * e <code>compress</code>.
+   */
+  public static ExportTarget parse(String spec, RecordFormat format, boolean compress) {
+    int colon = spec.indexOf(':');
+    String[] prefix = colon > 0 ? spec.substring(0, colon).split("\\+", -1) : null;
+    if(prefix == null || !isFormat(prefix[0])) {
+      return new ExportTarget(new File(spec), format, compress);
+    }
+
+    if(prefix.length > 2 || (prefix.length == 2 && !GZIP.equalsIgnoreCase(prefix[1]))) {
+      throw new RuntimeException(MessageUtil.format(CliMessage.get().EXPORT_COMPRESSION_UNSUPPORTED, spec.substring(0, colon)));
+    }
+
+    return new ExportTarget(new File(spec.substring(colon + 1)), RecordFormat.of(prefix[0]), prefix.length == 2);
+  }
+
+  private static boolean isFormat(String name) {
+    for(RecordFormat format : RecordFormat.values()) {
+      if(format.name().equalsIgnoreCase(name)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public File getFile() {
+    return file;
+  }
+
+  public RecordFormat getFormat() {
+    return format;
+  }
+
+  public boolean isCompress() {
+    return compress;
+  }
+
+  public boolean isStdout() {
+    return STDOUT.equals(file.getPath());
+  }
+
+  /**
+   * Abre o arquivo e o escritor do formato, medindo os bytes escritos em <code>metrics</code>.
+   */
+  RecordWriter open(Metrics metrics) throws IOException {
+    out = new MeteredOutputStream(isStdout() ? System.out : new FileOutputStream(file), metrics.getBytesWritten());
+    if(!compress) {
+      return format.newWriter(out);
+    }
+
+    final ParallelGzipOutputStream gzip = new ParallelGzipOutputStream(out).queueWait(metrics.getQueueWait());
+    final RecordWriter writer = format.newWriter(gzip);
+    return new RecordWriter() {
+      @Override
+      public void begin(String table, List<String> columns, int[] types) throws IOException {
+        writer.begin(table, columns, types);
+      }
+
+      @Override
+      public void write(Object[] values) throws IOException {
+        writer.write(values);
+      }
+
+      @Override
+      public void end() throws IOException {
+        writer.end();
+        gzip.finish();
+      }
+    };
+  }
+
+  /**
+   * Fecha o arquivo; a saída padrão é somente descarregada.
+   */
+  @Override
+  public void close() throws IOException {
+    if(out == null) {
+      return;
+    }
+
+    if(isStdout()) {
+      out.flush();
+    }
+    else {
+      out.close();
+    }
+    out = null;
+  }
+}
@@ -0,0 +1,687 @@
+package br.com.techne.cronos.cli.exporter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import br.com.techne.cronos.cli.db.CronosDataSource;
+import br.com.techne.cronos.cli.db.SqlValues;
+import br.com.techne.cronos.cli.db.TableInfo;
+import br.com.techne.cronos.cli.i18n.CliMessage;
+import br.com.techne.cronos.cli.io.FanOutRecordWriter;
+import br.com.techne.cronos.cli.io.MeteredOutputStream;
+import br.com.techne.cronos.cli.io.ParallelGzipOutputStream;
+import br.com.techne.cronos.cli.io.RecordFormat;
+import br.com.techne.cronos.cli.io.RecordWriter;
+import br.com.techne.cronos.cli.metrics.Metrics;
+import br.com.techne.cronos.i18n.MessageUtil;
+
+/**
+ * Exporta uma tabela do banco de dados Cronos para XML ou, com {@link #format(RecordFormat)},
+ * para o formato binário {@link RecordFormat#CBIN}.
+ *
+ * <p>
+ * A leitura é feita por um cursor "forward-only" e "read-only", trazendo
+ * {@link #fetchSize(int)} linhas por ida ao banco, e cada linha é escrita assim que lida.
+ * O consumo de memória é portanto constante, independente da quantidade de linhas.
+ * </p>
+ *
+ * <p>
+ * A conexão é utilizada com "auto-commit" desligado, condição exigida por alguns drivers
+ * (p.ex. PostgreSQL) para respeitar o {@code fetchSize} em vez de materializar o resultado.
+ * </p>
+ *
+ * <p>
+ * Filtros ({@link #account(String)}, {@link #fromDate(String)}, {@link #toDate(String)}) e
+ * a lista de colunas ({@link #columns(List)}) são aplicados no próprio {@code SELECT}, com
+ * os valores validados e associados como parâmetros, de forma que o banco filtra pelos
+ * seus índices e somente as colunas selecionadas são lidas e serializadas.
+ * </p>
+ *
+ * <p>
+ * Com {@link #partitions(int)} maior que 1 a exportação é dividida em faixas da coluna
+ * {@link #partitionBy(String)}, exportadas em paralelo (veja {@link PartitionedExport}).
+ * </p>
+ *
+ * <p>
+ * Na exportação incremental ({@link #since(String)} ou {@link #watermarks(Watermarks)})
+ * somente as linhas com a coluna {@link #watermarkColumn(String)} maior que a última
+ * marca exportada são lidas, com o filtro aplicado no próprio {@code SELECT}. O limite
+ * superior é fixado no {@code MAX} da coluna no início da exportação e passa a ser a nova
+ * marca; linhas com a coluna nula não são exportadas.
+ * </p>
+ *
+ * <p>
+ * Com {@link #run(List)} uma única leitura é escrita em várias saídas, cada uma com seu
+ * formato e compressão (veja {@link ExportTarget}).
+ * </p>
+ *
+ * <p>
+ * Com {@link #compress(boolean)} a saída é comprimida durante a exportação em gzip
+ * "multi-member", em paralelo (veja {@link ParallelGzipOutputStream}).
+ * </p>
+ *
+ * <p>
+ * Bytes e registros escritos, idas ao banco (a execução do {@code SELECT} e cada bloco de
+ * {@link #fetchSize(int)} linhas) e esperas entre estágios são medidos em {@link #getMetrics()}.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class Exporter {
+
+  public static final int    DEFAULT_FETCH_SIZE     = 1000;
+  public static final String DEFAULT_ACCOUNT_COLUMN = "CONTA";
+  public static final String DEFAULT_DATE_COLUMN    = "DATA_TRANSACAO";
+
+  private static final Pattern DATE_ONLY = Pattern.compile("\\d{4}-\\d{2}-\\d{2}");
+
+  private final CronosDataSource dataSource;
+  private String table;
+  private int fetchSize = DEFAULT_FETCH_SIZE;
+  private int partitions = 1;
+  private String partitionBy;
+  private String watermarkColumn;
+  private String since;
+  private Watermarks watermarks;
+  private boolean compress;
+  private File tempDir;
+  private RecordFormat format = RecordFormat.XML;
+  private List<String> columns;
+  private String account;
+  private String accountColumn = DEFAULT_ACCOUNT_COLUMN;
+  private String fromDate;
+  private String toDate;
+  private String dateColumn = DEFAULT_DATE_COLUMN;
+  private Metrics metrics = new Metrics();
+
+  private String exportedTable;
+  private String exportedColumn;
+  private String exportedWatermark;
+
+  public Exporter(CronosDataSource dataSource) {
+    this.dataSource = dataSource;
+  }
+
+  public Exporter table(String table) {
+    this.table = table;
+    return this;
+  }
+
+  /**
+   * Quantidade de linhas trazidas do banco a cada ida do cursor.
+   */
+  public Exporter fetchSize(int fetchSize) {
+    this.fetchSize = fetchSize > 0 ? fetchSize : DEFAULT_FETCH_SIZE;
+    return this;
+  }
+
+  /**
+   * Quantidade de faixas exportadas em paralelo, cada uma com sua conexão e thread.
+   */
+  public Exporter partitions(int partitions) {
+    this.partitions = partitions > 0 ? partitions : 1;
+    return this;
+  }
+
+  /**
+   * Coluna numérica ou de data que define as faixas; por padrão a chave primária,
+   * quando composta por uma única coluna.
+   */
+  public Exporter partitionBy(String partitionBy) {
+    this.partitionBy = partitionBy;
+    return this;
+  }
+
+  /**
+   * Coluna crescente (p.ex. chave sequencial ou data de alteração) que controla a
+   * exportação incremental; por padrão a chave primária, quando composta por uma única coluna.
+   */
+  public Exporter watermarkColumn(String watermarkColumn) {
+    this.watermarkColumn = watermarkColumn;
+    return this;
+  }
+
+  /**
+   * Exporta somente as linhas com a coluna de controle maior que <code>since</code>,
+   * ignorando a marca registrada em {@link #watermarks(Watermarks)}.
+   */
+  public Exporter since(String since) {
+    this.since = since;
+    return this;
+  }
+
+  /**
+   * Exporta a partir da marca registrada em <code>watermarks</code> e, ao final da
+   * exportação, registra a nova marca (gravada somente em {@link Watermarks#save()}).
+   */
+  public Exporter watermarks(Watermarks watermarks) {
+    this.watermarks = watermarks;
+    return this;
+  }
+
+  /**
+   * Exporta somente as colunas informadas, nesta ordem; {@code null} exporta todas.
+   */
+  public Exporter columns(List<String> columns) {
+    this.columns = columns;
+    return this;
+  }
+
+  /**
+   * Exporta somente as linhas da conta <code>account</code> (coluna {@link #accountColumn(String)}).
+   */
+  public Exporter account(String account) {
+    this.account = account;
+    return this;
+  }
+
+  public Exporter accountColumn(String accountColumn) {
+    this.accountColumn = accountColumn != null ? accountColumn : DEFAULT_ACCOUNT_COLUMN;
+    return this;
+  }
+
+  /**
+   * Exporta somente as linhas com a coluna {@link #dateColumn(String)} a partir de
+   * <code>fromDate</code>, inclusive.
+   */
+  public Exporter fromDate(String fromDate) {
+    this.fromDate = fromDate;
+    return this;
+  }
+
+  /**
+   * Exporta somente as linhas com a coluna {@link #dateColumn(String)} até
+   * <code>toDate</code>, inclusive; uma data sem hora inclui o dia inteiro.
+   */
+  public Exporter toDate(String toDate) {
+    this.toDate = toDate;
+    return this;
+  }
+
+  public Exporter dateColumn(String dateColumn) {
+    this.dateColumn = dateColumn != null ? dateColumn : DEFAULT_DATE_COLUMN;
+    return this;
+  }
+
+  public Exporter format(RecordFormat format) {
+    this.format = format;
+    return this;
+  }
+
+  /**
+   * Comprime a saída (e cada shard em {@link #runShards(File)}) em gzip.
+   */
+  public Exporter compress(boolean compress) {
+    this.compress = compress;
+    return this;
+  }
+
+  /**
+   * Diretório dos shards temporários concatenados em {@link #run(OutputStream)} com
+   * {@link #partitions(int)}, que ocupam o tamanho da exportação; {@code null} usa o
+   * diretório temporário do sistema.
+   */
+  public Exporter tempDir(File tempDir) {
+    this.tempDir = tempDir;
+    return this;
+  }
+
+  /**
+   * @return a marca da última exportação incremental ou {@code null} caso nenhuma linha
+   *         nova tenha sido encontrada.
+   */
+  public String getWatermark() {
+    return exportedWatermark;
+  }
+
+  public String getWatermarkColumn() {
+    return exportedColumn;
+  }
+
+  public Exporter metrics(Metrics metrics) {
+    this.metrics = metrics;
+    return this;
+  }
+
+  public Metrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Exporta a tabela no formato {@link #format(RecordFormat)} para <code>out</code>, que não é fechado.
+   *
+   * @return quantidade de registros exportados.
+   */
+  public long run(OutputStream out) {
+    try {
+      if(!compress) {
+        return write(out, true);
+      }
+
+      ParallelGzipOutputStream gzip = new ParallelGzipOutputStream(new MeteredOutputStream(out, metrics.getBytesWritten())).queueWait(metrics.getQueueWait());
+      long exported = write(gzip, false);
+      gzip.finish();
+      return exported;
+    }
+    catch(IOException e) {
+      throw new RuntimeException(MessageUtil.format(CliMessage.get().EXPORT_IO_ERROR, e.getMessage()), e);
+    }
+  }
+
+  /**
+   * @param meter
+   *          mede os bytes escritos em <code>out</code>; a concatenação dos shards mede o que
+   *          transfere, preservando a cópia direta entre arquivos.
+   */
+  private long write(OutputStream out, boolean meter) throws IOException {
+    if(partitions > 1) {
+      return completed(new PartitionedExport(this).merge(out, meter ? metrics.getBytesWritten() : null));
+    }
+
+    return run(format.newWriter(meter ? new MeteredOutputStream(out, metrics.getBytesWritten()) : out));
+  }
+
+  /**
+   * Exporta cada faixa para um documento próprio, nomeado a partir de
+   * <code>output</code> ({@literal transacoes.xml} gera {@literal transacoes.001.xml},
+   * {@literal transacoes.002.xml}, ...), para consumidores que processam em paralelo.
+   *
+   * @return quantidade de registros exportados.
+   */
+  public long runShards(File output) {
+    try {
+      return completed(new PartitionedExport(this).shards(output));
+    }
+    catch(IOException e) {
+      throw new RuntimeException(MessageUtil.format(CliMessage.get().EXPORT_IO_ERROR, e.getMessage()), e);
+    }
+  }
+
+  /**
+   * Exporta a tabela para várias saídas lendo o cursor uma única vez: os registros são
+   * distribuídos por {@link FanOutRecordWriter}, uma thread por saída, e a saída mais lenta
+   * limita o ritmo da leitura. Não é combinável com {@link #partitions(int)}; duas saídas
+   * não podem ser o mesmo arquivo nem ambas a saída padrão.
+   *
+   * @return quantidade de registros exportados (em cada saída).
+   */
+  public long run(List<ExportTarget> targets) {
+    if(partitions > 1) {
+      throw new RuntimeException(CliMessage.get().EXPORT_TARGETS_UNSUPPORTED);
+    }
+
+    Set<File> files = new HashSet<>();
+    for(ExportTarget target : targets) {
+      if(!files.add(target.isStdout() ? target.getFile() : canonical(target.getFile()))) {
+        throw new RuntimeException(MessageUtil.format(CliMessage.get().EXPORT_TARGET_DUPLICATE, target.getFile()));
+      }
+    }
+
+    RuntimeException failure = null;
+    long exported = 0;
+    try {
+      List<RecordWriter> writers = new ArrayList<>(targets.size());
+      for(ExportTarget target : targets) {
+        writers.add(target.open(metrics));
+      }
+
+      try (FanOutRecordWriter writer = new FanOutRecordWriter(writers).queueWait(metrics.getQueueWait())) {
+        exported = run(writer);
+      }
+    }
+    catch(IOException e) {
+      failure = new RuntimeException(MessageUtil.format(CliMessage.get().EXPORT_IO_ERROR, e.getMessage()), e);
+    }
+    catch(RuntimeException e) {
+      failure = e;
+    }
+
+    /*
+     * Cada saída é fechada uma única vez; após uma falha, ela prevalece sobre as do fechamento.
+     */
+
+    for(ExportTarget target : targets) {
+      try {
+        target.close();
+      }
+      catch(IOException e) {
+        if(failure == null) {
+          failure = new RuntimeException(MessageUtil.format(CliMessage.get().EXPORT_IO_ERROR, e.getMessage()), e);
+        }
+      }
+    }
+
+    if(failure != null) {
+      throw failure;
+    }
+    return exported;
+  }
+
+  /**
+   * Caminho canônico de <code>file</code>, que identifica o mesmo arquivo informado de formas
+   * diferentes (relativo, com {@literal ..} ou por um link).
+   */
+  private static File canonical(File file) {
+    try {
+      return file.getCanonicalFile();
+    }
+    catch(IOException e) {
+      return file.getAbsoluteFile();
+    }
+  }
+
+  public long run(RecordWriter writer) {
+    try (Connection connection = openConnection()) {
+      try {
+        TableInfo tableInfo = TableInfo.load(connection, table);
+        SqlFilter filter = filter(connection, tableInfo);
+        return completed(export(connection, tableInfo, selectSql(tableInfo, filter.where()), filter.params(), writer));
+      }
+      finally {
+        connection.rollback();
+      }
+    }
+    catch(SQLException e) {
+      throw new RuntimeException(MessageUtil.format(CliMessage.get().EXPORT_DB_ERROR, e.getMessage()), e);
+    }
+    catch(IOException e) {
+      throw new RuntimeException(MessageUtil.format(CliMessage.get().EXPORT_IO_ERROR, e.getMessage()), e);
+    }
+  }
+
+  /**
+   * Monta o filtro da exportação: os predicados {@link #account(String)},
+   * {@link #fromDate(String)} e {@link #toDate(String)} e, na exportação incremental, a
+   * faixa da coluna de controle com o limite superior fixado no {@code MAX} corrente.
+   */
+  SqlFilter filter(Connection connection, TableInfo tableInfo) throws SQLException {
+    SqlFilter filter = new SqlFilter();
+    exportedTable = tableInfo.getName();
+    exportedColumn = null;
+    exportedWatermark = null;
+
+    addPredicates(filter, tableInfo);
+
+    if(since == null && watermarks == null) {
+      return filter;
+    }
+
+    if(watermarks != null && filter.where() != null) {
+      throw new RuntimeException(CliMessage.get().EXPORT_FILTER_WITH_SINCE_LAST);
+    }
+
+    String column = resolveWatermarkColumn(tableInfo);
+    int type = tableInfo.getType(tableInfo.indexOf(column));
+    String quoted = tableInfo.quote(column);
+
+    String lower = since != null ? since : watermarks.get(tableInfo.getName(), column);
+    if(lower != null) {
+      try {
+        filter.add(quoted + " > ?", SqlValues.toJdbc(lower, type));
+      }
+      catch(IllegalArgumentException e) {
+        throw new RuntimeException(MessageUtil.format(CliMessage.get().EXPORT_WATERMARK_INVALID, lower, column), e);
+      }
+    }
+
+    Object upper;
+    String sql = "SELECT MAX(" + quoted + ") FROM " + tableInfo.getQualifiedName() + (filter.where() != null ? " WHERE " + filter.where() : "");
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      Object[] params = filter.params();
+      for(int i = 0; i < params.length; i++) {
+        statement.setObject(i + 1, params[i]);
+      }
+
+      try (ResultSet rs = statement.executeQuery()) {
+        rs.next();
+        upper = rs.getObject(1);
+      }
+    }
+
+    if(upper == null) {
+      return filter.add("1 = 0");
+    }
+
+    exportedColumn = column;
+    exportedWatermark = SqlValues.toText(upper);
+    return filter.add(quoted + " <= ?", upper);
+  }
+
+  private void addPredicates(SqlFilter filter, TableInfo tableInfo) {
+    if(account != null) {
+      String column = resolveColumn(tableInfo, accountColumn);
+      filter.add(tableInfo.quote(column) + " = ?", toJdbc(tableInfo, column, account, "--account"));
+    }
+
+    if(fromDate != null) {
+      String column = resolveColumn(tableInfo, dateColumn);
+      filter.add(tableInfo.quote(column) + " >= ?", toJdbc(tableInfo, column, dateTime(tableInfo, column, fromDate), "--from-date"));
+    }
+
+    if(toDate != null) {
+      String column = resolveColumn(tableInfo, dateColumn);
+
+      /*
+       * Uma data sem hora em coluna TIMESTAMP inclui o dia inteiro.
+       */
+
+      if(isDateOnly(tableInfo, column, toDate)) {
+        Calendar next = Calendar.getInstance();
+        next.setTime(Date.valueOf(toDate.trim()));
+        next.add(Calendar.DAY_OF_MONTH, 1);
+        filter.add(tableInfo.quote(column) + " < ?", new Timestamp(next.getTimeInMillis()));
+      }
+      else {
+        filter.add(tableInfo.quote(column) + " <= ?", toJdbc(tableInfo, column, toDate, "--to-date"));
+      }
+    }
+  }
+
+  private static String dateTime(TableInfo tableInfo, String column, String value) {
+    return isDateOnly(tableInfo, column, value) ? value.trim() + " 00:00:00" : value;
+  }
+
+  private static boolean isDateOnly(TableInfo tableInfo, String column, String value) {
+    return tableInfo.getType(tableInfo.indexOf(column)) == Types.TIMESTAMP && DATE_ONLY.matcher(value.trim()).matches();
+  }
+
+  private static Object toJdbc(TableInfo tableInfo, String column, String value, String option) {
+    try {
+      return SqlValues.toJdbc(value, tableInfo.getType(tableInfo.indexOf(column)));
+    }
+    catch(IllegalArgumentException e) {
+      throw new RuntimeException(MessageUtil.format(CliMessage.get().EXPORT_FILTER_INVALID, value, option, column), e);
+    }
+  }
+
+  private static String resolveColumn(TableInfo tableInfo, String column) {
+    int index = tableInfo.indexOf(column);
+    if(index < 0) {
+      throw new RuntimeException(MessageUtil.format(CliMessage.get().EXPORT_COLUMN_NOT_FOUND, column, tableInfo.getName()));
+    }
+    return tableInfo.getColumns().get(index);
+  }
+
+  /**
+   * Colunas exportadas, com os nomes como no banco, na ordem de {@link #columns(List)}.
+   */
+  List<String> selectedColumns(TableInfo tableInfo) {
+    if(columns == null || columns.isEmpty()) {
+      return tableInfo.getColumns();
+    }
+
+    Set<String> selected = new LinkedHashSet<>();
+    for(String column : columns) {
+      selected.add(resolveColumn(tableInfo, column.trim()));
+    }
+    return new ArrayList<>(selected);
+  }
+
+  private String resolveWatermarkColumn(TableInfo tableInfo) {
+    String column = watermarkColumn;
+
+    if(column == null) {
+      if(tableInfo.getPrimaryKey().size() != 1) {
+        throw new RuntimeException(MessageUtil.format(CliMessage.get().EXPORT_WATERMARK_COLUMN_REQUIRED, tableInfo.getName()));
+      }
+      column = tableInfo.getPrimaryKey().get(0);
+    }
+
+    return resolveColumn(tableInfo, column);
+  }
+
+  /**
+   * Registra a nova marca após uma exportação concluída.
+   */
+  private long completed(long exported) {
+    if(watermarks != null && exportedWatermark != null) {
+      watermarks.put(exportedTable, exportedColumn, exportedWatermark);
+    }
+    return exported;
+  }
+
+  CronosDataSource getDataSource() {
+    return dataSource;
+  }
+
+  String getTable() {
+    return table;
+  }
+
+  RecordFormat getFormat() {
+    return format;
+  }
+
+  boolean isCompress() {
+    return compress;
+  }
+
+  File getTempDir() {
+    return tempDir;
+  }
+
+  int getPartitions() {
+    return partitions;
+  }
+
+  String getPartitionBy() {
+    return partitionBy;
+  }
+
+  /**
+   * Conexão somente leitura, com "auto-commit" desligado.
+   */
+  Connection openConnection() throws SQLException {
+    Connection connection = dataSource.getConnection();
+    connection.setAutoCommit(false);
+    connection.setReadOnly(true);
+    return connection;
+  }
+
+  /**
+   * Executa <code>sql</code> com os parâmetros <code>params</code> em um cursor
+   * "forward-only" e escreve cada linha em <code>writer</code>.
+   */
+  long export(Connection connection, TableInfo tableInfo, String sql, Object[] params, RecordWriter writer) throws SQLException, IOException {
+    try (PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+      statement.setFetchSize(fetchSize);
+      for(int i = 0; i < params.length; i++) {
+        statement.setObject(i + 1, params[i]);
+      }
+
+      try (ResultSet rs = executeQuery(statement)) {
+        ResultSetMetaData meta = rs.getMetaData();
+        int count = meta.getColumnCount();
+
+        List<String> columns = new ArrayList<>(count);
+        int[] types = new int[count];
+        for(int i = 0; i < count; i++) {
+          columns.add(meta.getColumnLabel(i + 1));
+          types[i] = meta.getColumnType(i + 1);
+        }
+
+        writer.begin(tableInfo.getName(), columns, types);
+
+        long exported = 0;
+        Object[] values = new Object[count];
+        while(next(rs, exported)) {
+          for(int i = 0; i < count; i++) {
+            values[i] = rs.getObject(i + 1);
+          }
+          metrics.getRecordsRead().increment();
+          writer.write(values);
+          metrics.getRecordsWritten().increment();
+          exported++;
+        }
+
+        writer.end();
+        return exported;
+      }
+    }
+  }
+
+  private ResultSet executeQuery(PreparedStatement statement) throws SQLException {
+    long start = System.nanoTime();
+    ResultSet rs = statement.executeQuery();
+    metrics.getBatchLatency().recordSince(start);
+    metrics.getBatches().increment();
+    return rs;
+  }
+
+  /**
+   * {@link ResultSet#next()}, medindo como ida ao banco a leitura que inicia cada bloco de
+   * {@link #fetchSize(int)} linhas.
+   */
+  private boolean next(ResultSet rs, long read) throws SQLException {
+    if(read == 0 || read % fetchSize != 0) {
+      return rs.next();
+    }
+
+    long start = System.nanoTime();
+    boolean next = rs.next();
+    if(next) {
+      metrics.getBatchLatency().recordSince(start);
+      metrics.getBatches().increment();
+    }
+    return next;
+  }
+
+  /**
+   * Monta o {@code SELECT} das colunas {@link #columns(List)} (todas, por padrão), com o
+   * filtro <code>where</code> (parametrizado) quando informado.
+   */
+  String selectSql(TableInfo tableInfo, String where) {
+    StringBuilder sql = new StringBuilder("SELECT ");
+
+    List<String> columns = selectedColumns(tableInfo);
+    for(int i = 0; i < columns.size(); i++) {
+      sql.append(i > 0 ? ", " : "").append(tableInfo.quote(columns.get(i)));
+    }
+
+    sql.append(" FROM ").append(tableInfo.getQualifiedName());
+
+    if(where != null) {
+      sql.append(" WHERE ").append(where);
+    }
+
+    return sql.toString();
+  }
+}
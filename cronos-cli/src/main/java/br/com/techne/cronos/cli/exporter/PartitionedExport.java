@@ -0,0 +1,437 @@
+package br.com.techne.cronos.cli.exporter;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import br.com.techne.cronos.cli.db.TableInfo;
+import br.com.techne.cronos.cli.i18n.CliMessage;
+import br.com.techne.cronos.cli.io.ParallelGzipOutputStream;
+import br.com.techne.cronos.cli.io.RecordFormat;
+import br.com.techne.cronos.cli.io.RecordWriter;
+import br.com.techne.cronos.cli.metrics.Counter;
+import br.com.techne.cronos.cli.xml.XmlRecordWriter;
+import br.com.techne.cronos.i18n.MessageUtil;
+
+/**
+ * Exportação particionada: a tabela é dividida em faixas de mesma largura da coluna de
+ * partição (entre o seu {@code MIN} e {@code MAX}) e cada faixa é exportada, ordenada por
+ * essa coluna, em sua própria conexão e thread para um "shard".
+ *
+ * <p>
+ * Cada shard é um documento XML Cronos completo. Na concatenação o cabeçalho do primeiro,
+ * o corpo de todos, em ordem de faixa, e o rodapé do último são copiados para a saída via
+ * {@link FileChannel#transferTo}, sem passar os bytes pela JVM. Shards
+ * {@link RecordFormat#CBIN} são segmentos independentes e são concatenados inteiros.
+ * </p>
+ *
+ * <p>
+ * Note que cada conexão enxerga o seu próprio "snapshot" do banco; alterações concorrentes
+ * à exportação podem aparecer em uma faixa e não em outra.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+class PartitionedExport {
+
+  private final Exporter exporter;
+
+  PartitionedExport(Exporter exporter) {
+    this.exporter = exporter;
+  }
+
+  /**
+   * Exporta as faixas para shards temporários, em {@link Exporter#getTempDir()}, e os
+   * concatena em <code>out</code>.
+   *
+   * @param written
+   *          contador dos bytes transferidos para <code>out</code>, ou {@code null}.
+   */
+  long merge(OutputStream out, Counter written) throws IOException {
+    File tempDir = exporter.getTempDir();
+    File dir = (tempDir != null ? Files.createTempDirectory(tempDir.toPath(), "cronos-export") : Files.createTempDirectory("cronos-export")).toFile();
+    List<Shard> shards = new ArrayList<>();
+
+    try {
+      long exported = export(new File(dir, "shard.xml"), shards, false);
+
+      out.flush();
+      WritableByteChannel target = out instanceof FileOutputStream ? ((FileOutputStream)out).getChannel() : Channels.newChannel(out);
+
+      for(int i = 0; i < shards.size(); i++) {
+        Shard shard = shards.get(i);
+        long start = i == 0 ? 0 : shard.bodyStart;
+        long end = i == shards.size() - 1 ? shard.file.length() : shard.bodyEnd;
+        transfer(shard.file, start, end - start, target);
+        if(written != null) {
+          written.add(end - start);
+        }
+      }
+
+      out.flush();
+      return exported;
+    }
+    finally {
+      for(File file : dir.listFiles()) {
+        file.delete();
+      }
+      dir.delete();
+    }
+  }
+
+  /**
+   * Exporta as faixas para documentos independentes nomeados a partir de <code>output</code>.
+   */
+  long shards(File output) throws IOException {
+    List<Shard> shards = new ArrayList<>();
+    long exported = export(output, shards, exporter.isCompress());
+
+    for(Shard shard : shards) {
+      exporter.getMetrics().getBytesWritten().add(shard.file.length());
+    }
+    return exported;
+  }
+
+  /**
+   * @param compress
+   *          comprime cada shard em gzip; os shards concatenados por {@link #merge} não são
+   *          comprimidos, a compressão é aplicada à saída final.
+   */
+  private long export(File template, List<Shard> shards, final boolean compress) throws IOException {
+    final TableInfo tableInfo;
+    final String column;
+    final SqlFilter filter;
+    final List<Object[]> ranges;
+
+    try (Connection connection = exporter.openConnection()) {
+      try {
+        tableInfo = TableInfo.load(connection, exporter.getTable());
+        column = resolveColumn(tableInfo);
+        filter = exporter.filter(connection, tableInfo);
+        ranges = plan(connection, tableInfo, column, filter);
+      }
+      finally {
+        connection.rollback();
+      }
+    }
+    catch(SQLException e) {
+      throw new RuntimeException(MessageUtil.format(CliMessage.get().EXPORT_DB_ERROR, e.getMessage()), e);
+    }
+
+    List<File> files = new ArrayList<>();
+    boolean completed = false;
+
+    ExecutorService pool = Executors.newFixedThreadPool(ranges.size());
+    try {
+      List<Future<Shard>> futures = new ArrayList<>();
+
+      for(int i = 0; i < ranges.size(); i++) {
+        final int index = i;
+        final File file = shardFile(template, i + 1);
+        files.add(file);
+
+        futures.add(pool.submit(new Callable<Shard>() {
+          @Override
+          public Shard call() throws Exception {
+            return exportRange(tableInfo, column, filter, ranges.get(index), index, ranges.size(), file, compress);
+          }
+        }));
+      }
+
+      long exported = 0;
+      for(Future<Shard> future : futures) {
+        long start = System.nanoTime();
+        Shard shard = future.get();
+        exporter.getMetrics().getQueueWait().recordSince(start);
+        shards.add(shard);
+        exported += shard.records;
+      }
+
+      completed = true;
+      return exported;
+    }
+    catch(InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    }
+    catch(ExecutionException e) {
+      Throwable cause = e.getCause();
+      if(cause instanceof SQLException) {
+        throw new RuntimeException(MessageUtil.format(CliMessage.get().EXPORT_DB_ERROR, cause.getMessage()), cause);
+      }
+      if(cause instanceof IOException) {
+        throw (IOException)cause;
+      }
+      throw cause instanceof RuntimeException ? (RuntimeException)cause : new RuntimeException(cause);
+    }
+    finally {
+      pool.shutdownNow();
+
+      if(!completed) {
+        for(File file : files) {
+          file.delete();
+        }
+      }
+    }
+  }
+
+  private Shard exportRange(TableInfo tableInfo, String column, SqlFilter base, Object[] bounds, int index, int count, File file, boolean compress)
+    throws SQLException, IOException {
+    String quoted = tableInfo.quote(column);
+    SqlFilter filter = new SqlFilter(base);
+
+    if(index > 0) {
+      filter.add(quoted + " >= ?", bounds[0]);
+    }
+
+    if(index < count - 1) {
+      filter.add(index == 0 ? "(" + quoted + " IS NULL OR " + quoted + " < ?)" : quoted + " < ?", bounds[1]);
+    }
+
+    String sql = exporter.selectSql(tableInfo, filter.where()) + " ORDER BY " + quoted;
+
+    Shard shard = new Shard(file);
+    OutputStream target = new FileOutputStream(file);
+    if(compress) {
+      target = new ParallelGzipOutputStream(target, Math.max(1, Runtime.getRuntime().availableProcessors() / count), ParallelGzipOutputStream.DEFAULT_BLOCK_SIZE)
+        .queueWait(exporter.getMetrics().getQueueWait());
+    }
+
+    try (Connection connection = exporter.openConnection(); CountingOutputStream out = new CountingOutputStream(target)) {
+      try {
+        shard.records = exporter.export(connection, tableInfo, sql, filter.params(), new ShardWriter(out, shard, exporter.getFormat().newWriter(out)));
+      }
+      finally {
+        connection.rollback();
+      }
+    }
+
+    return shard;
+  }
+
+  private String resolveColumn(TableInfo tableInfo) {
+    String column = exporter.getPartitionBy();
+
+    if(column == null) {
+      if(tableInfo.getPrimaryKey().size() != 1) {
+        throw new RuntimeException(MessageUtil.format(CliMessage.get().EXPORT_PARTITION_COLUMN_REQUIRED, tableInfo.getName()));
+      }
+      column = tableInfo.getPrimaryKey().get(0);
+    }
+
+    int index = tableInfo.indexOf(column);
+    if(index < 0) {
+      throw new RuntimeException(MessageUtil.format(CliMessage.get().EXPORT_COLUMN_NOT_FOUND, column, tableInfo.getName()));
+    }
+
+    if(!isNumeric(tableInfo.getType(index)) && !isTemporal(tableInfo.getType(index))) {
+      throw new RuntimeException(MessageUtil.format(CliMessage.get().EXPORT_PARTITION_COLUMN_TYPE, column));
+    }
+
+    return tableInfo.getColumns().get(index);
+  }
+
+  /**
+   * Divide o intervalo {@code [MIN, MAX]} da coluna em até {@link Exporter#getPartitions()}
+   * faixas {@code [inferior, superior)} de mesma largura, considerando somente as linhas
+   * selecionadas por <code>filter</code>.
+   */
+  private List<Object[]> plan(Connection connection, TableInfo tableInfo, String column, SqlFilter filter) throws SQLException {
+    boolean temporal = isTemporal(tableInfo.getType(tableInfo.indexOf(column)));
+    String quoted = tableInfo.quote(column);
+    Object min;
+    Object max;
+
+    String where = filter.where();
+    String sql = "SELECT MIN(" + quoted + "), MAX(" + quoted + ") FROM " + tableInfo.getQualifiedName() + (where != null ? " WHERE " + where : "");
+
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      Object[] params = filter.params();
+      for(int i = 0; i < params.length; i++) {
+        statement.setObject(i + 1, params[i]);
+      }
+
+      try (ResultSet rs = statement.executeQuery()) {
+        rs.next();
+        min = rs.getObject(1);
+        max = rs.getObject(2);
+      }
+    }
+
+    List<Object[]> ranges = new ArrayList<>();
+    if(min == null) {
+      ranges.add(new Object[2]);
+      return ranges;
+    }
+
+    long lo = toLong(min);
+    long hi = toLong(max);
+    long span = hi - lo + 1;
+    int count = (int)Math.max(1, Math.min(exporter.getPartitions(), span));
+    long step = (span + count - 1) / count;
+
+    for(int i = 0; i < count; i++) {
+      long lower = lo + i * step;
+      long upper = lower + step;
+      ranges.add(new Object[] { fromLong(lower, temporal), fromLong(upper, temporal) });
+    }
+
+    return ranges;
+  }
+
+  private static long toLong(Object value) {
+    if(value instanceof java.util.Date) {
+      return ((java.util.Date)value).getTime();
+    }
+    if(value instanceof BigDecimal) {
+      return ((BigDecimal)value).setScale(0, RoundingMode.FLOOR).longValue();
+    }
+    return ((Number)value).longValue();
+  }
+
+  private static Object fromLong(long value, boolean temporal) {
+    return temporal ? new Timestamp(value) : (Object)Long.valueOf(value);
+  }
+
+  private static boolean isNumeric(int type) {
+    return type == Types.TINYINT || type == Types.SMALLINT || type == Types.INTEGER || type == Types.BIGINT
+      || type == Types.DECIMAL || type == Types.NUMERIC;
+  }
+
+  private static boolean isTemporal(int type) {
+    return type == Types.DATE || type == Types.TIMESTAMP;
+  }
+
+  /**
+   * {@literal transacoes.xml} na posição 1 gera {@literal transacoes.001.xml} e
+   * {@literal transacoes.xml.gz} gera {@literal transacoes.001.xml.gz}.
+   */
+  static File shardFile(File template, int index) {
+    String name = template.getName();
+    String suffix = "";
+    if(name.endsWith(".gz")) {
+      suffix = ".gz";
+      name = name.substring(0, name.length() - suffix.length());
+    }
+
+    int dot = name.lastIndexOf('.');
+    String base = dot > 0 ? name.substring(0, dot) : name;
+    String extension = (dot > 0 ? name.substring(dot) : "") + suffix;
+    return new File(template.getAbsoluteFile().getParentFile(), String.format("%s.%03d%s", base, index, extension));
+  }
+
+  private static void transfer(File file, long position, long count, WritableByteChannel target) throws IOException {
+    try (FileInputStream in = new FileInputStream(file); FileChannel source = in.getChannel()) {
+      while(count > 0) {
+        long n = source.transferTo(position, count, target);
+        position += n;
+        count -= n;
+      }
+    }
+  }
+
+  /**
+   * Shard gravado: o corpo (os registros) fica entre <code>bodyStart</code> e <code>bodyEnd</code>.
+   */
+  static class Shard {
+    final File file;
+    long bodyStart;
+    long bodyEnd;
+    long records;
+
+    Shard(File file) {
+      this.file = file;
+    }
+  }
+
+  /**
+   * Registra as posições de início e fim do corpo do documento no {@link Shard}; fora do
+   * XML o corpo é o shard inteiro.
+   */
+  static class ShardWriter implements RecordWriter {
+
+    private final CountingOutputStream out;
+    private final Shard shard;
+    private final RecordWriter writer;
+    private final XmlRecordWriter xml;
+
+    ShardWriter(CountingOutputStream out, Shard shard, RecordWriter writer) {
+      this.out = out;
+      this.shard = shard;
+      this.writer = writer;
+      this.xml = writer instanceof XmlRecordWriter ? (XmlRecordWriter)writer : null;
+    }
+
+    @Override
+    public void begin(String table, List<String> columns, int[] types) throws IOException {
+      writer.begin(table, columns, types);
+      if(xml != null) {
+        xml.flush();
+        shard.bodyStart = out.count;
+      }
+    }
+
+    @Override
+    public void write(Object[] values) throws IOException {
+      writer.write(values);
+    }
+
+    @Override
+    public void end() throws IOException {
+      if(xml != null) {
+        xml.flush();
+        shard.bodyEnd = out.count;
+        xml.end();
+      }
+      else {
+        writer.end();
+        shard.bodyEnd = out.count;
+      }
+    }
+  }
+
+  static class CountingOutputStream extends FilterOutputStream {
+
+    long count;
+
+    CountingOutputStream(OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      out.write(b);
+      count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      out.write(b, off, len);
+      count += len;
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package br.com.techne.cronos.cli.exporter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Condições parametrizadas de um {@code WHERE}, combinadas por {@code AND}.
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+class SqlFilter {
+
+  private final List<String> conditions = new ArrayList<>();
+  private final List<Object> params = new ArrayList<>();
+
+  SqlFilter() {
+  }
+
+  SqlFilter(SqlFilter base) {
+    conditions.addAll(base.conditions);
+    params.addAll(base.params);
+  }
+
+  /**
+   * Acrescenta <code>condition</code>, cujos {@code ?} são associados a <code>values</code>.
+   */
+  SqlFilter add(String condition, Object... values) {
+    conditions.add(condition);
+    Collections.addAll(params, values);
+    return this;
+  }
+
+  /**
+   * @return o conteúdo do {@code WHERE} ou {@code null} caso não haja condições.
+   */
+  String where() {
+    if(conditions.isEmpty()) {
+      return null;
+    }
+
+    StringBuilder where = new StringBuilder();
+    for(String condition : conditions) {
+      where.append(where.length() > 0 ? " AND " : "").append(condition);
+    }
+    return where.toString();
+  }
+
+  Object[] params() {
+    return params.toArray();
+  }
+}
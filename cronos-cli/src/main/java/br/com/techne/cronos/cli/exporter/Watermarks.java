@@ -0,0 +1,79 @@
+package br.com.techne.cronos.cli.exporter;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Properties;
+
+import br.com.techne.cronos.cli.i18n.CliMessage;
+import br.com.techne.cronos.cli.io.StateFiles;
+import br.com.techne.cronos.i18n.MessageUtil;
+
+/**
+ * Arquivo local com a marca d'água ("watermark") de cada exportação incremental: o maior
+ * valor da coluna de controle já exportado, por tabela e coluna.
+ *
+ * <p>
+ * Os valores atualizados por {@link #put(String, String, String)} ficam em memória até o
+ * {@link #save()}, que deve ser chamado somente após a saída da exportação ter sido
+ * gravada com sucesso. Exportações com destinos independentes devem usar arquivos de
+ * watermark distintos.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class Watermarks {
+
+  public static final String DEFAULT_FILE = ".cronos-export.watermarks";
+
+  private final File file;
+  private final Properties state;
+
+  private Watermarks(File file, Properties state) {
+    this.file = file;
+    this.state = state;
+  }
+
+  public static Watermarks load(File file) {
+    try {
+      Properties state = StateFiles.load(file);
+      return new Watermarks(file, state != null ? state : new Properties());
+    }
+    catch(IOException e) {
+      throw new RuntimeException(MessageUtil.format(CliMessage.get().EXPORT_WATERMARK_IO_ERROR, file), e);
+    }
+  }
+
+  public File getFile() {
+    return file;
+  }
+
+  /**
+   * @return o último valor exportado de <code>column</code> ou {@code null} na primeira exportação.
+   */
+  public String get(String table, String column) {
+    return state.getProperty(key(table, column));
+  }
+
+  public void put(String table, String column, String value) {
+    state.setProperty(key(table, column), value);
+  }
+
+  /**
+   * Grava atomicamente o arquivo de watermarks.
+   */
+  public void save() {
+    try {
+      StateFiles.store(state, file, "cronos export watermarks");
+    }
+    catch(IOException e) {
+      throw new RuntimeException(MessageUtil.format(CliMessage.get().EXPORT_WATERMARK_IO_ERROR, file), e);
+    }
+  }
+
+  private static String key(String table, String column) {
+    return (table + "." + column).toUpperCase(Locale.ROOT);
+  }
+}
@@ -57,6 +57,78 @@ public final class CliMessage {
   public String CLI_PARAMETER_OPTIONS_CONFLICT;
   public String CLI_PARAMETER_UNKNOWN;
   public String CLI_PARAMETER_ARGUMENT_MISSING;
+  public String CLI_INPUT_CLOSED;
+
+  /*
+   * Lista de constantes para os message bundles de banco de dados, XML e import/export.
+   */
+
+  public String DB_TABLE_NOT_FOUND;
+  public String DB_TABLE_AMBIGUOUS;
+  public String XML_MALFORMED;
+
+  public String IMPORT_SUMMARY;
+  public String IMPORT_FAILED;
+  public String IMPORT_DB_ERROR;
+  public String IMPORT_NO_INPUT;
+  public String IMPORT_INPUT_NOT_FOUND;
+  public String IMPORT_ARCHIVE_ENTRY_REQUIRED;
+  public String IMPORT_TABLE_MISSING;
+  public String IMPORT_UNKNOWN_COLUMN;
+  public String IMPORT_RESUMING;
+  public String IMPORT_CHECKPOINT_EXISTS;
+  public String IMPORT_CHECKPOINT_INPUT_MISMATCH;
+  public String IMPORT_CHECKPOINT_UNVERIFIABLE;
+  public String IMPORT_CHECKPOINT_CONFLICT_MODE;
+  public String IMPORT_CHECKPOINT_IO_ERROR;
+  public String IMPORT_ON_CONFLICT_UNSUPPORTED;
+  public String IMPORT_ON_CONFLICT_REQUIRES_PK;
+  public String IMPORT_KEY_INDEX;
+  public String IMPORT_UPSERT_SUMMARY;
+  public String IMPORT_BULK_DEFERRED;
+  public String IMPORT_BULK_RESTORING;
+  public String IMPORT_BULK_RESTORE_FAILED;
+  public String IMPORT_BULK_STATE_IO_ERROR;
+  public String IMPORT_REJECT_IO_ERROR;
+  public String IMPORT_REJECT_ON_CONFLICT;
+  public String IMPORT_MAX_REJECTS;
+  public String IMPORT_REJECT_SUMMARY;
+  public String VALIDATE_VALID;
+  public String VALIDATE_INVALID;
+  public String VALIDATE_ERROR;
+  public String VALIDATE_STOPPED;
+  public String VALIDATE_COLUMN_NOT_TEXT;
+  public String VALIDATE_SUMMARY;
+
+  public String EXPORT_SUMMARY;
+  public String EXPORT_FAILED;
+  public String EXPORT_DB_ERROR;
+  public String EXPORT_IO_ERROR;
+  public String EXPORT_COLUMN_NOT_FOUND;
+  public String EXPORT_PARTITION_COLUMN_REQUIRED;
+  public String EXPORT_PARTITION_COLUMN_TYPE;
+  public String EXPORT_SHARDS_REQUIRE_OUTPUT;
+  public String EXPORT_TARGETS_UNSUPPORTED;
+  public String EXPORT_TARGET_DUPLICATE;
+  public String EXPORT_WATERMARK_COLUMN_REQUIRED;
+  public String EXPORT_WATERMARK_INVALID;
+  public String EXPORT_WATERMARK_IO_ERROR;
+  public String EXPORT_WATERMARK_SAVED;
+  public String EXPORT_FILTER_INVALID;
+  public String EXPORT_FILTER_WITH_SINCE_LAST;
+  public String EXPORT_COMPRESSION_UNSUPPORTED;
+  public String FORMAT_UNSUPPORTED;
+  public String CBIN_MALFORMED;
+  public String CONVERT_SUMMARY;
+  public String CONVERT_FAILED;
+  public String CONVERT_INPUT_REQUIRED;
+  public String STATS_HEADER;
+  public String STATS_RECORDS;
+  public String STATS_BYTES;
+  public String STATS_BATCHES;
+  public String STATS_QUEUE_WAIT;
+  public String STATS_PROGRESS;
+  public String STATS_JSON_IO_ERROR;
 
   /*
    * Lista de constantes para os message bundles do cronos-cli annotations.
@@ -68,6 +140,66 @@ public final class CliMessage {
   public static final String CRONOS_COMMAND_NOTE_2_KEY                 = "CRONOS_COMMAND_NOTE_2_KEY";
   public static final String CRONOS_PARAMETER_VERSION_DESCRIPTIONS_KEY = "CRONOS_PARAMETER_VERSION_DESCRIPTIONS_KEY";
 
+  public static final String IMPORT_COMMAND_DESCRIPTIONS_KEY                    = "IMPORT_COMMAND_DESCRIPTIONS_KEY";
+  public static final String IMPORT_COMMAND_INPUTS_KEY                          = "IMPORT_COMMAND_INPUTS_KEY";
+  public static final String IMPORT_COMMAND_VALIDATE_KEY                        = "IMPORT_COMMAND_VALIDATE_KEY";
+  public static final String IMPORT_PARAMETER_URL_DESCRIPTIONS_KEY              = "IMPORT_PARAMETER_URL_DESCRIPTIONS_KEY";
+  public static final String IMPORT_PARAMETER_USER_DESCRIPTIONS_KEY             = "IMPORT_PARAMETER_USER_DESCRIPTIONS_KEY";
+  public static final String IMPORT_PARAMETER_PASSWORD_DESCRIPTIONS_KEY         = "IMPORT_PARAMETER_PASSWORD_DESCRIPTIONS_KEY";
+  public static final String IMPORT_PARAMETER_TABLE_DESCRIPTIONS_KEY            = "IMPORT_PARAMETER_TABLE_DESCRIPTIONS_KEY";
+  public static final String IMPORT_PARAMETER_BATCH_SIZE_DESCRIPTIONS_KEY       = "IMPORT_PARAMETER_BATCH_SIZE_DESCRIPTIONS_KEY";
+  public static final String IMPORT_PARAMETER_READ_AHEAD_DESCRIPTIONS_KEY       = "IMPORT_PARAMETER_READ_AHEAD_DESCRIPTIONS_KEY";
+  public static final String IMPORT_PARAMETER_CHECKPOINT_DESCRIPTIONS_KEY       = "IMPORT_PARAMETER_CHECKPOINT_DESCRIPTIONS_KEY";
+  public static final String IMPORT_PARAMETER_RESUME_DESCRIPTIONS_KEY           = "IMPORT_PARAMETER_RESUME_DESCRIPTIONS_KEY";
+  public static final String IMPORT_PARAMETER_ON_CONFLICT_DESCRIPTIONS_KEY      = "IMPORT_PARAMETER_ON_CONFLICT_DESCRIPTIONS_KEY";
+  public static final String IMPORT_PARAMETER_KEY_INDEX_MEMORY_DESCRIPTIONS_KEY = "IMPORT_PARAMETER_KEY_INDEX_MEMORY_DESCRIPTIONS_KEY";
+  public static final String IMPORT_PARAMETER_BULK_DESCRIPTIONS_KEY             = "IMPORT_PARAMETER_BULK_DESCRIPTIONS_KEY";
+  public static final String IMPORT_PARAMETER_BULK_STATE_DESCRIPTIONS_KEY       = "IMPORT_PARAMETER_BULK_STATE_DESCRIPTIONS_KEY";
+  public static final String IMPORT_PARAMETER_REJECT_FILE_DESCRIPTIONS_KEY      = "IMPORT_PARAMETER_REJECT_FILE_DESCRIPTIONS_KEY";
+  public static final String IMPORT_PARAMETER_MAX_REJECTS_DESCRIPTIONS_KEY      = "IMPORT_PARAMETER_MAX_REJECTS_DESCRIPTIONS_KEY";
+  public static final String IMPORT_PARAMETER_STATS_DESCRIPTIONS_KEY            = "IMPORT_PARAMETER_STATS_DESCRIPTIONS_KEY";
+  public static final String IMPORT_PARAMETER_STATS_JSON_DESCRIPTIONS_KEY       = "IMPORT_PARAMETER_STATS_JSON_DESCRIPTIONS_KEY";
+  public static final String IMPORT_PARAMETER_PROGRESS_DESCRIPTIONS_KEY         = "IMPORT_PARAMETER_PROGRESS_DESCRIPTIONS_KEY";
+  public static final String IMPORT_PARAMETER_VALIDATE_ONLY_DESCRIPTIONS_KEY    = "IMPORT_PARAMETER_VALIDATE_ONLY_DESCRIPTIONS_KEY";
+  public static final String IMPORT_PARAMETER_MAX_ERRORS_DESCRIPTIONS_KEY       = "IMPORT_PARAMETER_MAX_ERRORS_DESCRIPTIONS_KEY";
+  public static final String IMPORT_PARAMETER_THREADS_DESCRIPTIONS_KEY          = "IMPORT_PARAMETER_THREADS_DESCRIPTIONS_KEY";
+
+  public static final String EXPORT_COMMAND_DESCRIPTIONS_KEY                    = "EXPORT_COMMAND_DESCRIPTIONS_KEY";
+  public static final String EXPORT_PARAMETER_URL_DESCRIPTIONS_KEY              = "EXPORT_PARAMETER_URL_DESCRIPTIONS_KEY";
+  public static final String EXPORT_PARAMETER_USER_DESCRIPTIONS_KEY             = "EXPORT_PARAMETER_USER_DESCRIPTIONS_KEY";
+  public static final String EXPORT_PARAMETER_PASSWORD_DESCRIPTIONS_KEY         = "EXPORT_PARAMETER_PASSWORD_DESCRIPTIONS_KEY";
+  public static final String EXPORT_PARAMETER_TABLE_DESCRIPTIONS_KEY            = "EXPORT_PARAMETER_TABLE_DESCRIPTIONS_KEY";
+  public static final String EXPORT_PARAMETER_OUTPUT_DESCRIPTIONS_KEY           = "EXPORT_PARAMETER_OUTPUT_DESCRIPTIONS_KEY";
+  public static final String EXPORT_PARAMETER_FORMAT_DESCRIPTIONS_KEY           = "EXPORT_PARAMETER_FORMAT_DESCRIPTIONS_KEY";
+  public static final String EXPORT_PARAMETER_FETCH_SIZE_DESCRIPTIONS_KEY       = "EXPORT_PARAMETER_FETCH_SIZE_DESCRIPTIONS_KEY";
+  public static final String EXPORT_PARAMETER_PARTITIONS_DESCRIPTIONS_KEY       = "EXPORT_PARAMETER_PARTITIONS_DESCRIPTIONS_KEY";
+  public static final String EXPORT_PARAMETER_PARTITION_BY_DESCRIPTIONS_KEY     = "EXPORT_PARAMETER_PARTITION_BY_DESCRIPTIONS_KEY";
+  public static final String EXPORT_PARAMETER_TEMP_DIR_DESCRIPTIONS_KEY         = "EXPORT_PARAMETER_TEMP_DIR_DESCRIPTIONS_KEY";
+  public static final String EXPORT_PARAMETER_SHARDS_DESCRIPTIONS_KEY           = "EXPORT_PARAMETER_SHARDS_DESCRIPTIONS_KEY";
+  public static final String EXPORT_PARAMETER_COMPRESS_DESCRIPTIONS_KEY         = "EXPORT_PARAMETER_COMPRESS_DESCRIPTIONS_KEY";
+  public static final String EXPORT_PARAMETER_SINCE_LAST_DESCRIPTIONS_KEY       = "EXPORT_PARAMETER_SINCE_LAST_DESCRIPTIONS_KEY";
+  public static final String EXPORT_PARAMETER_SINCE_DESCRIPTIONS_KEY            = "EXPORT_PARAMETER_SINCE_DESCRIPTIONS_KEY";
+  public static final String EXPORT_PARAMETER_WATERMARK_COLUMN_DESCRIPTIONS_KEY = "EXPORT_PARAMETER_WATERMARK_COLUMN_DESCRIPTIONS_KEY";
+  public static final String EXPORT_PARAMETER_WATERMARK_FILE_DESCRIPTIONS_KEY   = "EXPORT_PARAMETER_WATERMARK_FILE_DESCRIPTIONS_KEY";
+  public static final String EXPORT_PARAMETER_COLUMNS_DESCRIPTIONS_KEY          = "EXPORT_PARAMETER_COLUMNS_DESCRIPTIONS_KEY";
+  public static final String EXPORT_PARAMETER_ACCOUNT_DESCRIPTIONS_KEY          = "EXPORT_PARAMETER_ACCOUNT_DESCRIPTIONS_KEY";
+  public static final String EXPORT_PARAMETER_ACCOUNT_COLUMN_DESCRIPTIONS_KEY   = "EXPORT_PARAMETER_ACCOUNT_COLUMN_DESCRIPTIONS_KEY";
+  public static final String EXPORT_PARAMETER_FROM_DATE_DESCRIPTIONS_KEY        = "EXPORT_PARAMETER_FROM_DATE_DESCRIPTIONS_KEY";
+  public static final String EXPORT_PARAMETER_TO_DATE_DESCRIPTIONS_KEY          = "EXPORT_PARAMETER_TO_DATE_DESCRIPTIONS_KEY";
+  public static final String EXPORT_PARAMETER_DATE_COLUMN_DESCRIPTIONS_KEY      = "EXPORT_PARAMETER_DATE_COLUMN_DESCRIPTIONS_KEY";
+  public static final String EXPORT_PARAMETER_STATS_DESCRIPTIONS_KEY            = "EXPORT_PARAMETER_STATS_DESCRIPTIONS_KEY";
+  public static final String EXPORT_PARAMETER_STATS_JSON_DESCRIPTIONS_KEY       = "EXPORT_PARAMETER_STATS_JSON_DESCRIPTIONS_KEY";
+  public static final String EXPORT_PARAMETER_PROGRESS_DESCRIPTIONS_KEY         = "EXPORT_PARAMETER_PROGRESS_DESCRIPTIONS_KEY";
+
+  public static final String CONVERT_COMMAND_DESCRIPTIONS_KEY                   = "CONVERT_COMMAND_DESCRIPTIONS_KEY";
+  public static final String CONVERT_COMMAND_TYPES_KEY                          = "CONVERT_COMMAND_TYPES_KEY";
+  public static final String CONVERT_PARAMETER_TO_DESCRIPTIONS_KEY              = "CONVERT_PARAMETER_TO_DESCRIPTIONS_KEY";
+  public static final String CONVERT_PARAMETER_OUTPUT_DESCRIPTIONS_KEY          = "CONVERT_PARAMETER_OUTPUT_DESCRIPTIONS_KEY";
+  public static final String CONVERT_PARAMETER_URL_DESCRIPTIONS_KEY             = "CONVERT_PARAMETER_URL_DESCRIPTIONS_KEY";
+  public static final String CONVERT_PARAMETER_USER_DESCRIPTIONS_KEY            = "CONVERT_PARAMETER_USER_DESCRIPTIONS_KEY";
+  public static final String CONVERT_PARAMETER_PASSWORD_DESCRIPTIONS_KEY        = "CONVERT_PARAMETER_PASSWORD_DESCRIPTIONS_KEY";
+  public static final String CONVERT_PARAMETER_TABLE_DESCRIPTIONS_KEY           = "CONVERT_PARAMETER_TABLE_DESCRIPTIONS_KEY";
+
   /**
    * Resource bundle carregado por reflections na classe {@link MessageUtil}.
    */
@@ -0,0 +1,110 @@
+package br.com.techne.cronos.cli.importer;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+import br.com.techne.cronos.cli.db.SqlValues;
+import br.com.techne.cronos.cli.db.TableInfo;
+import br.com.techne.cronos.cli.i18n.CliMessage;
+import br.com.techne.cronos.cli.io.Record;
+import br.com.techne.cronos.i18n.MessageUtil;
+
+/**
+ * Acumula registros em um batch JDBC de {@code INSERT} sobre todas as colunas da tabela.
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+class BatchInserter implements RecordBatch {
+
+  private final String source;
+  private final TableInfo table;
+  private final PreparedStatement statement;
+  private int size;
+
+  BatchInserter(Connection connection, TableInfo table, String source) throws SQLException {
+    this.source = source;
+    this.table = table;
+    this.statement = connection.prepareStatement(insertSql(table));
+  }
+
+  static String insertSql(TableInfo table) {
+    StringBuilder sql = new StringBuilder("INSERT INTO ").append(table.getQualifiedName()).append(" (");
+    StringBuilder params = new StringBuilder();
+
+    List<String> columns = table.getColumns();
+    for(int i = 0; i < columns.size(); i++) {
+      if(i > 0) {
+        sql.append(", ");
+        params.append(", ");
+      }
+      sql.append(table.quote(columns.get(i)));
+      params.append('?');
+    }
+
+    return sql.append(") VALUES (").append(params).append(')').toString();
+  }
+
+  @Override
+  public void add(Record record) throws SQLException {
+    add(toValues(record));
+  }
+
+  /**
+   * Valores de <code>record</code> na ordem das colunas da tabela.
+   */
+  Object[] toValues(Record record) {
+    Object[] values = new Object[table.getColumns().size()];
+
+    for(Map.Entry<String, Object> entry : record.getValues().entrySet()) {
+      int index = table.indexOf(entry.getKey());
+      if(index < 0) {
+        throw new RuntimeException(
+          MessageUtil.format(CliMessage.get().IMPORT_UNKNOWN_COLUMN, entry.getKey(), table.getName(), record.getOrdinal(), source)
+        );
+      }
+      values[index] = entry.getValue();
+    }
+
+    return values;
+  }
+
+  void add(Object[] values) throws SQLException {
+    for(int i = 0; i < values.length; i++) {
+      SqlValues.bind(statement, i + 1, values[i], table.getType(i));
+    }
+
+    statement.addBatch();
+    size++;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public void execute() throws SQLException {
+    if(size > 0) {
+      statement.executeBatch();
+      size = 0;
+    }
+  }
+
+  /**
+   * Descarta os registros acumulados, por exemplo após uma falha no {@link #execute()}.
+   */
+  void clear() throws SQLException {
+    statement.clearBatch();
+    size = 0;
+  }
+
+  @Override
+  public void close() throws SQLException {
+    statement.close();
+  }
+}
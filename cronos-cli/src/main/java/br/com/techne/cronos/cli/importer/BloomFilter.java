@@ -0,0 +1,67 @@
+package br.com.techne.cronos.cli.importer;
+
+/**
+ * Filtro de Bloom sobre um {@code long[]}, para conjuntos de chaves grandes demais para
+ * o {@link LongHashSet}: responde "certamente ausente" ou "possivelmente presente".
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+final class BloomFilter {
+
+  /**
+   * Taxa de falsos positivos buscada quando a memória permite.
+   */
+  static final double TARGET_FPP = 0.01;
+
+  private final long[] bits;
+  private final long bitCount;
+  private final int hashes;
+
+  BloomFilter(long expected, long maxBytes) {
+    long n = Math.max(1, expected);
+    long optimal = (long)Math.ceil(-n * Math.log(TARGET_FPP) / (Math.log(2) * Math.log(2)));
+    long limit = Math.max(64, maxBytes * 8);
+    long words = (Math.max(64, Math.min(optimal, limit)) + 63) / 64;
+
+    this.bits = new long[(int)Math.min(words, Integer.MAX_VALUE - 8)];
+    this.bitCount = 64L * bits.length;
+    this.hashes = (int)Math.max(1, Math.min(16, Math.round((double)bitCount / n * Math.log(2))));
+  }
+
+  void add(long hash) {
+    long h2 = LongHashSet.mix(hash) | 1;
+    for(int i = 0; i < hashes; i++) {
+      long bit = index(hash + i * h2);
+      bits[(int)(bit >>> 6)] |= 1L << bit;
+    }
+  }
+
+  boolean mightContain(long hash) {
+    long h2 = LongHashSet.mix(hash) | 1;
+    for(int i = 0; i < hashes; i++) {
+      long bit = index(hash + i * h2);
+      if((bits[(int)(bit >>> 6)] & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Taxa de falsos positivos esperada com <code>count</code> chaves.
+   */
+  double fpp(long count) {
+    return Math.pow(1 - Math.exp(-(double)hashes * count / bitCount), hashes);
+  }
+
+  long memory() {
+    return 8L * bits.length;
+  }
+
+  private long index(long hash) {
+    long mod = hash % bitCount;
+    return mod < 0 ? mod + bitCount : mod;
+  }
+}
@@ -0,0 +1,35 @@
+package br.com.techne.cronos.cli.importer;
+
+import java.util.Locale;
+
+import br.com.techne.cronos.cli.i18n.CliMessage;
+import br.com.techne.cronos.i18n.MessageUtil;
+
+/**
+ * Tratamento de registros cuja chave primária já existe na tabela de destino.
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public enum ConflictMode {
+
+  /**
+   * Atualiza as demais colunas do registro existente.
+   */
+  UPDATE,
+
+  /**
+   * Mantém o registro existente.
+   */
+  SKIP;
+
+  public static ConflictMode of(String name) {
+    try {
+      return valueOf(name.toUpperCase(Locale.ROOT));
+    }
+    catch(IllegalArgumentException e) {
+      throw new RuntimeException(MessageUtil.format(CliMessage.get().IMPORT_ON_CONFLICT_UNSUPPORTED, name), e);
+    }
+  }
+}
@@ -0,0 +1,314 @@
+package br.com.techne.cronos.cli.importer;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import br.com.techne.cronos.cli.db.TableInfo;
+import br.com.techne.cronos.cli.i18n.CliMessage;
+import br.com.techne.cronos.cli.io.StateFiles;
+import br.com.techne.cronos.i18n.MessageUtil;
+
+/**
+ * Índices secundários e chaves estrangeiras removidos durante uma importação
+ * {@literal --bulk} e recriados ao seu final.
+ *
+ * <p>
+ * Os objetos são lidos via {@link DatabaseMetaData} e o SQL para recriá-los é gravado
+ * no arquivo de estado antes de qualquer remoção. Uma importação interrompida deixa o
+ * arquivo para trás e a próxima importação recria o que estiver faltando antes de
+ * começar; {@link #restore(Connection)} pode ser repetido sem efeitos colaterais.
+ * </p>
+ *
+ * <p>
+ * Chave primária e índices únicos são mantidos, pois garantem a integridade da carga.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+class DeferredSchema {
+
+  static final String INDEX       = "index";
+  static final String FOREIGN_KEY = "foreign-key";
+
+  private final File file;
+  private final Properties state;
+
+  private DeferredSchema(File file, Properties state) {
+    this.file = file;
+    this.state = state;
+  }
+
+  static DeferredSchema open(File file) {
+    try {
+      Properties state = StateFiles.load(file);
+      return new DeferredSchema(file, state != null ? state : new Properties());
+    }
+    catch(IOException e) {
+      throw new RuntimeException(MessageUtil.format(CliMessage.get().IMPORT_BULK_STATE_IO_ERROR, file), e);
+    }
+  }
+
+  File getFile() {
+    return file;
+  }
+
+  /**
+   * Existem objetos removidos ainda não recriados.
+   */
+  synchronized boolean isPending() {
+    return !state.isEmpty();
+  }
+
+  /**
+   * Registra e remove as chaves estrangeiras e os índices secundários de <code>table</code>.
+   *
+   * @return quantidade de índices e de chaves estrangeiras removidos.
+   */
+  int[] defer(Connection connection, TableInfo table) throws SQLException {
+    DatabaseMetaData meta = connection.getMetaData();
+
+    /*
+     * Chaves estrangeiras primeiro: alguns bancos removem junto os índices criados para elas.
+     */
+
+    List<DeferredObject> foreignKeys = foreignKeys(meta, table);
+    drop(connection, foreignKeys);
+
+    List<DeferredObject> indexes = indexes(meta, table);
+    drop(connection, indexes);
+
+    return new int[] { indexes.size(), foreignKeys.size() };
+  }
+
+  /**
+   * Recria, índices antes de chaves estrangeiras, os objetos registrados que não existem
+   * no banco e remove o arquivo de estado.
+   */
+  synchronized void restore(Connection connection) throws SQLException {
+    DatabaseMetaData meta = connection.getMetaData();
+    List<DeferredObject> objects = load();
+
+    for(String kind : new String[] { INDEX, FOREIGN_KEY }) {
+      for(DeferredObject object : objects) {
+        if(object.kind.equals(kind) && !exists(meta, object)) {
+          execute(connection, object.create);
+        }
+      }
+    }
+
+    state.clear();
+    file.delete();
+  }
+
+  private void drop(Connection connection, List<DeferredObject> objects) throws SQLException {
+    if(objects.isEmpty()) {
+      return;
+    }
+
+    int next = load().size();
+    for(DeferredObject object : objects) {
+      object.store(state, next++);
+    }
+    save();
+
+    for(DeferredObject object : objects) {
+      execute(connection, object.drop);
+    }
+  }
+
+  private static void execute(Connection connection, String sql) throws SQLException {
+    try (Statement st = connection.createStatement()) {
+      st.execute(sql);
+    }
+    if(!connection.getAutoCommit()) {
+      connection.commit();
+    }
+  }
+
+  private List<DeferredObject> load() {
+    Map<Integer, DeferredObject> objects = new TreeMap<>();
+    for(String name : state.stringPropertyNames()) {
+      int dot = name.indexOf('.');
+      int index = Integer.parseInt(name.substring(0, dot));
+      if(!objects.containsKey(index)) {
+        objects.put(index, DeferredObject.load(state, index));
+      }
+    }
+    return new ArrayList<>(objects.values());
+  }
+
+  private void save() {
+    try {
+      StateFiles.store(state, file, "cronos import --bulk: indexes and constraints to restore");
+    }
+    catch(IOException e) {
+      throw new RuntimeException(MessageUtil.format(CliMessage.get().IMPORT_BULK_STATE_IO_ERROR, file), e);
+    }
+  }
+
+  private static List<DeferredObject> indexes(DatabaseMetaData meta, TableInfo table) throws SQLException {
+    Map<String, List<String>> columns = new LinkedHashMap<>();
+    List<String> unsupported = new ArrayList<>();
+
+    try (ResultSet rs = meta.getIndexInfo(null, table.getSchema(), table.getName(), false, false)) {
+      while(rs.next()) {
+        String name = rs.getString("INDEX_NAME");
+        if(name == null || rs.getShort("TYPE") == DatabaseMetaData.tableIndexStatistic || !rs.getBoolean("NON_UNIQUE")) {
+          continue;
+        }
+
+        String column = rs.getString("COLUMN_NAME");
+        if(column == null) {
+          unsupported.add(name);
+          continue;
+        }
+
+        List<String> list = columns.get(name);
+        if(list == null) {
+          list = new ArrayList<>();
+          columns.put(name, list);
+        }
+        list.add(table.quote(column) + ("D".equals(rs.getString("ASC_OR_DESC")) ? " DESC" : ""));
+      }
+    }
+
+    List<DeferredObject> indexes = new ArrayList<>();
+    for(Map.Entry<String, List<String>> entry : columns.entrySet()) {
+      if(unsupported.contains(entry.getKey())) {
+        continue;
+      }
+
+      String name = qualified(table, entry.getKey());
+      indexes.add(new DeferredObject(INDEX, table.getSchema(), table.getName(), entry.getKey(),
+        "DROP INDEX " + name,
+        "CREATE INDEX " + table.quote(entry.getKey()) + " ON " + table.getQualifiedName() + " (" + join(entry.getValue()) + ")"));
+    }
+    return indexes;
+  }
+
+  private static List<DeferredObject> foreignKeys(DatabaseMetaData meta, TableInfo table) throws SQLException {
+    Map<String, String[]> keys = new LinkedHashMap<>();
+    Map<String, List<String>> fkColumns = new LinkedHashMap<>();
+    Map<String, List<String>> pkColumns = new LinkedHashMap<>();
+
+    try (ResultSet rs = meta.getImportedKeys(null, table.getSchema(), table.getName())) {
+      while(rs.next()) {
+        String name = rs.getString("FK_NAME");
+        if(name == null) {
+          continue;
+        }
+
+        if(!keys.containsKey(name)) {
+          String referenced = rs.getString("PKTABLE_SCHEM") == null ? table.quote(rs.getString("PKTABLE_NAME"))
+            : table.quote(rs.getString("PKTABLE_SCHEM")) + "." + table.quote(rs.getString("PKTABLE_NAME"));
+          keys.put(name, new String[] { referenced, rule("UPDATE", rs.getShort("UPDATE_RULE")) + rule("DELETE", rs.getShort("DELETE_RULE")) });
+          fkColumns.put(name, new ArrayList<String>());
+          pkColumns.put(name, new ArrayList<String>());
+        }
+
+        fkColumns.get(name).add(table.quote(rs.getString("FKCOLUMN_NAME")));
+        pkColumns.get(name).add(table.quote(rs.getString("PKCOLUMN_NAME")));
+      }
+    }
+
+    List<DeferredObject> foreignKeys = new ArrayList<>();
+    for(Map.Entry<String, String[]> entry : keys.entrySet()) {
+      String name = entry.getKey();
+      String constraint = table.quote(name);
+      foreignKeys.add(new DeferredObject(FOREIGN_KEY, table.getSchema(), table.getName(), name,
+        "ALTER TABLE " + table.getQualifiedName() + " DROP CONSTRAINT " + constraint,
+        "ALTER TABLE " + table.getQualifiedName() + " ADD CONSTRAINT " + constraint + " FOREIGN KEY (" + join(fkColumns.get(name))
+          + ") REFERENCES " + entry.getValue()[0] + " (" + join(pkColumns.get(name)) + ")" + entry.getValue()[1]));
+    }
+    return foreignKeys;
+  }
+
+  private static String rule(String action, short rule) {
+    switch(rule) {
+      case DatabaseMetaData.importedKeyCascade:
+        return " ON " + action + " CASCADE";
+      case DatabaseMetaData.importedKeySetNull:
+        return " ON " + action + " SET NULL";
+      case DatabaseMetaData.importedKeySetDefault:
+        return " ON " + action + " SET DEFAULT";
+      default:
+        return "";
+    }
+  }
+
+  private static boolean exists(DatabaseMetaData meta, DeferredObject object) throws SQLException {
+    boolean index = INDEX.equals(object.kind);
+
+    try (ResultSet rs = index ? meta.getIndexInfo(null, object.schema, object.table, false, false) : meta.getImportedKeys(null, object.schema, object.table)) {
+      while(rs.next()) {
+        if(object.name.equals(rs.getString(index ? "INDEX_NAME" : "FK_NAME"))) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private static String qualified(TableInfo table, String name) {
+    return table.getSchema() == null ? table.quote(name) : table.quote(table.getSchema()) + "." + table.quote(name);
+  }
+
+  private static String join(List<String> items) {
+    StringBuilder text = new StringBuilder();
+    for(String item : items) {
+      text.append(text.length() > 0 ? ", " : "").append(item);
+    }
+    return text.toString();
+  }
+
+  /**
+   * Índice ou chave estrangeira removido, com o SQL para recriá-lo.
+   */
+  static class DeferredObject {
+    final String kind;
+    final String schema;
+    final String table;
+    final String name;
+    final String drop;
+    final String create;
+
+    DeferredObject(String kind, String schema, String table, String name, String drop, String create) {
+      this.kind = kind;
+      this.schema = schema;
+      this.table = table;
+      this.name = name;
+      this.drop = drop;
+      this.create = create;
+    }
+
+    static DeferredObject load(Properties state, int index) {
+      String prefix = index + ".";
+      return new DeferredObject(state.getProperty(prefix + "kind"), state.getProperty(prefix + "schema"), state.getProperty(prefix + "table"),
+        state.getProperty(prefix + "name"), null, state.getProperty(prefix + "create"));
+    }
+
+    void store(Properties state, int index) {
+      String prefix = index + ".";
+      state.setProperty(prefix + "kind", kind);
+      if(schema != null) {
+        state.setProperty(prefix + "schema", schema);
+      }
+      state.setProperty(prefix + "table", table);
+      state.setProperty(prefix + "name", name);
+      state.setProperty(prefix + "create", create);
+    }
+  }
+}
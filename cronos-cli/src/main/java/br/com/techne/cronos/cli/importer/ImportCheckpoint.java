@@ -0,0 +1,265 @@
+package br.com.techne.cronos.cli.importer;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import br.com.techne.cronos.cli.i18n.CliMessage;
+import br.com.techne.cronos.cli.io.StateFiles;
+import br.com.techne.cronos.i18n.MessageUtil;
+
+/**
+ * Arquivo de estado local do {@literal cronos import}, utilizado pelo {@literal --resume}.
+ *
+ * <p>
+ * Registra a entrada corrente, o ordinal do último registro "commitado" e o número do
+ * último batch. Cada batch é gravado em duas fases: antes do {@code commit} o estado
+ * passa a {@code PENDING}, com a chave primária do último registro do batch, e após o
+ * {@code commit} volta a {@code COMMITTED}. Se o processo morrer entre as duas fases, a
+ * retomada consulta a chave no banco para decidir se o batch foi ou não efetivado. Em uma
+ * tabela sem chave primária o estado registra as linhas gravadas pelo batch e a quantidade
+ * de linhas esperada na tabela após o {@code commit}, conferida com um {@code COUNT(*)}.
+ * Um batch de "upsert" ({@literal --on-conflict}) registra o {@link ConflictMode}: a chave
+ * do seu último registro pode existir antes do batch, mas repeti-lo no mesmo modo leva ao
+ * mesmo resultado, efetivado ou não.
+ * </p>
+ *
+ * <p>
+ * Com {@literal --reject-file} cada batch registra também o fim de cada arquivo de
+ * rejeitados ({@link RejectFile#positions()}), gravados antes do {@code commit}: a retomada
+ * trunca os arquivos no último batch efetivado, sem repetir os rejeitados do batch desfeito.
+ * </p>
+ *
+ * <p>
+ * Toda gravação é atômica (veja {@link StateFiles}).
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+class ImportCheckpoint {
+
+  private static final String INPUT             = "input";
+  private static final String STATUS            = "status";
+  private static final String COMMITTED_ORDINAL = "committed.ordinal";
+  private static final String COMMITTED_BATCH   = "committed.batch";
+  private static final String PENDING_ORDINAL   = "pending.ordinal";
+  private static final String PENDING_BATCH     = "pending.batch";
+  private static final String PENDING_KEY       = "pending.key.";
+  private static final String PENDING_ROWS      = "pending.rows";
+  private static final String PENDING_COUNT     = "pending.count";
+  private static final String PENDING_CONFLICT  = "pending.conflict";
+  private static final String PENDING_REJECT    = "pending.reject.";
+  private static final String REJECT            = "reject.";
+
+  private static final String STATUS_COMMITTED  = "COMMITTED";
+  private static final String STATUS_PENDING    = "PENDING";
+
+  private final File file;
+  private final Properties state;
+
+  private ImportCheckpoint(File file, Properties state) {
+    this.file = file;
+    this.state = state;
+  }
+
+  /**
+   * Cria um estado novo, ainda não gravado, para <code>file</code>.
+   */
+  static ImportCheckpoint create(File file) {
+    return new ImportCheckpoint(file, new Properties());
+  }
+
+  /**
+   * Lê o estado gravado em <code>file</code>.
+   *
+   * @return o estado ou {@code null} caso o arquivo não exista.
+   */
+  static ImportCheckpoint load(File file) {
+    try {
+      Properties state = StateFiles.load(file);
+      return state == null ? null : new ImportCheckpoint(file, state);
+    }
+    catch(IOException e) {
+      throw new RuntimeException(MessageUtil.format(CliMessage.get().IMPORT_CHECKPOINT_IO_ERROR, file), e);
+    }
+  }
+
+  File getFile() {
+    return file;
+  }
+
+  String getInput() {
+    return state.getProperty(INPUT);
+  }
+
+  long getCommittedOrdinal() {
+    return Long.parseLong(state.getProperty(COMMITTED_ORDINAL, "0"));
+  }
+
+  long getCommittedBatch() {
+    return Long.parseLong(state.getProperty(COMMITTED_BATCH, "0"));
+  }
+
+  boolean isPending() {
+    return STATUS_PENDING.equals(state.getProperty(STATUS));
+  }
+
+  long getPendingOrdinal() {
+    return Long.parseLong(state.getProperty(PENDING_ORDINAL, "0"));
+  }
+
+  /**
+   * Chave primária (coluna, valor textual) do último registro do batch pendente.
+   */
+  Map<String, String> getPendingKey() {
+    Map<String, String> key = new LinkedHashMap<>();
+    for(String name : state.stringPropertyNames()) {
+      if(name.startsWith(PENDING_KEY)) {
+        key.put(name.substring(PENDING_KEY.length()), state.getProperty(name));
+      }
+    }
+    return key;
+  }
+
+  /**
+   * Linhas gravadas pelo batch pendente, ou -1 se não registradas.
+   */
+  long getPendingRows() {
+    return Long.parseLong(state.getProperty(PENDING_ROWS, "-1"));
+  }
+
+  /**
+   * Linhas da tabela após o {@code commit} do batch pendente, ou -1 se não registradas.
+   */
+  long getPendingCount() {
+    return Long.parseLong(state.getProperty(PENDING_COUNT, "-1"));
+  }
+
+  /**
+   * Modo de "upsert" do batch pendente, ou {@code null} para um batch de {@code INSERT}s.
+   */
+  ConflictMode getPendingConflict() {
+    String mode = state.getProperty(PENDING_CONFLICT);
+    return mode != null ? ConflictMode.valueOf(mode) : null;
+  }
+
+  /**
+   * Fim de cada arquivo de rejeitados no último batch efetivado, pela tabela.
+   */
+  Map<String, RejectFile.Position> getRejects() {
+    Map<String, RejectFile.Position> rejects = new LinkedHashMap<>();
+    for(String name : state.stringPropertyNames()) {
+      if(name.startsWith(REJECT)) {
+        String value = state.getProperty(name);
+        int separator = value.indexOf(':');
+        rejects.put(name.substring(REJECT.length()), new RejectFile.Position(new File(value.substring(separator + 1)), Long.parseLong(value.substring(0, separator))));
+      }
+    }
+    return rejects;
+  }
+
+  /**
+   * Registra um novo arquivo de rejeitados, ainda sem rejeitados efetivados: gravado desde a
+   * criação, para que a retomada o reaproveite mesmo sem nenhum batch efetivado.
+   */
+  void rejectFile(String table, RejectFile.Position position) {
+    state.setProperty(REJECT + table, position.offset + ":" + position.file.getPath());
+    save();
+  }
+
+  /**
+   * Inicia a entrada <code>input</code> a partir do seu primeiro registro.
+   */
+  void start(String input) {
+    clearPending();
+    state.setProperty(INPUT, input);
+    state.setProperty(STATUS, STATUS_COMMITTED);
+    state.setProperty(COMMITTED_ORDINAL, "0");
+    save();
+  }
+
+  /**
+   * Registra, antes do {@code commit}, o batch que está para ser efetivado.
+   *
+   * @param rows
+   *          linhas gravadas pelo batch.
+   * @param count
+   *          linhas da tabela após o {@code commit}, ou -1 se não conhecidas.
+   * @param conflict
+   *          modo de "upsert" do batch, ou {@code null}.
+   * @param rejects
+   *          fim de cada arquivo de rejeitados, já gravados, após o batch.
+   */
+  void pending(long ordinal, long batch, Map<String, String> key, long rows, long count, ConflictMode conflict, Map<String, RejectFile.Position> rejects) {
+    clearPending();
+    state.setProperty(STATUS, STATUS_PENDING);
+    state.setProperty(PENDING_ORDINAL, Long.toString(ordinal));
+    state.setProperty(PENDING_BATCH, Long.toString(batch));
+    state.setProperty(PENDING_ROWS, Long.toString(rows));
+    if(count >= 0) {
+      state.setProperty(PENDING_COUNT, Long.toString(count));
+    }
+    if(conflict != null) {
+      state.setProperty(PENDING_CONFLICT, conflict.name());
+    }
+    for(Map.Entry<String, String> entry : key.entrySet()) {
+      state.setProperty(PENDING_KEY + entry.getKey(), entry.getValue());
+    }
+    for(Map.Entry<String, RejectFile.Position> entry : rejects.entrySet()) {
+      state.setProperty(PENDING_REJECT + entry.getKey(), entry.getValue().offset + ":" + entry.getValue().file.getPath());
+    }
+    save();
+  }
+
+  /**
+   * Confirma o batch pendente após o {@code commit}.
+   */
+  void committed() {
+    state.setProperty(COMMITTED_ORDINAL, state.getProperty(PENDING_ORDINAL));
+    state.setProperty(COMMITTED_BATCH, state.getProperty(PENDING_BATCH));
+    state.setProperty(STATUS, STATUS_COMMITTED);
+    for(String name : state.stringPropertyNames()) {
+      if(name.startsWith(PENDING_REJECT)) {
+        state.setProperty(REJECT + name.substring(PENDING_REJECT.length()), state.getProperty(name));
+      }
+    }
+    clearPending();
+    save();
+  }
+
+  /**
+   * Descarta o batch pendente, que não chegou a ser efetivado.
+   */
+  void discardPending() {
+    state.setProperty(STATUS, STATUS_COMMITTED);
+    clearPending();
+    save();
+  }
+
+  void delete() {
+    if(file.exists() && !file.delete()) {
+      throw new RuntimeException(MessageUtil.format(CliMessage.get().IMPORT_CHECKPOINT_IO_ERROR, file));
+    }
+  }
+
+  private void clearPending() {
+    for(String name : state.stringPropertyNames()) {
+      if(name.startsWith("pending.")) {
+        state.remove(name);
+      }
+    }
+  }
+
+  private void save() {
+    try {
+      StateFiles.store(state, file, "cronos import checkpoint");
+    }
+    catch(IOException e) {
+      throw new RuntimeException(MessageUtil.format(CliMessage.get().IMPORT_CHECKPOINT_IO_ERROR, file), e);
+    }
+  }
+}
@@ -0,0 +1,163 @@
+package br.com.techne.cronos.cli.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import br.com.techne.cronos.cli.i18n.CliMessage;
+import br.com.techne.cronos.cli.io.InputSources;
+import br.com.techne.cronos.cli.io.RecordFormat;
+import br.com.techne.cronos.cli.io.RecordReader;
+import br.com.techne.cronos.cli.xml.XmlValidator;
+
+/**
+ * Valida as entradas de uma importação sem acessar o banco de dados
+ * ({@literal cronos import --validate-only}).
+ *
+ * <p>
+ * Cada entrada é validada por uma thread: XMLs com {@link XmlValidator}, arquivos
+ * {@link RecordFormat#CBIN} lendo todos os registros. A memória utilizada é constante por
+ * thread, independente do tamanho das entradas.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class ImportValidator {
+
+  public static final int DEFAULT_MAX_ERRORS = 10;
+
+  private int maxErrors = DEFAULT_MAX_ERRORS;
+  private int threads = Runtime.getRuntime().availableProcessors();
+  private int readAhead = InputSources.DEFAULT_READ_AHEAD;
+
+  /**
+   * Quantidade de erros reportados por entrada antes de interromper sua validação.
+   */
+  public ImportValidator maxErrors(int maxErrors) {
+    this.maxErrors = maxErrors > 0 ? maxErrors : DEFAULT_MAX_ERRORS;
+    return this;
+  }
+
+  public ImportValidator threads(int threads) {
+    this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    return this;
+  }
+
+  public ImportValidator readAhead(int readAhead) {
+    this.readAhead = readAhead > 0 ? readAhead : InputSources.DEFAULT_READ_AHEAD;
+    return this;
+  }
+
+  /**
+   * Valida as entradas <code>names</code>, expandidas como em {@link Importer#run(List)}.
+   *
+   * @return resultados na ordem das entradas.
+   */
+  public List<Result> run(List<String> names) {
+    List<String> inputs;
+    try {
+      inputs = InputSources.expand(names);
+    }
+    catch(IOException e) {
+      throw new RuntimeException(e.getMessage(), e);
+    }
+
+    if(inputs.isEmpty()) {
+      throw new RuntimeException(CliMessage.get().IMPORT_NO_INPUT);
+    }
+
+    ExecutorService pool = Executors.newFixedThreadPool(Math.min(threads, inputs.size()));
+    try {
+      List<Future<Result>> futures = new ArrayList<>();
+      for(final String input : inputs) {
+        futures.add(pool.submit(new Callable<Result>() {
+          @Override
+          public Result call() {
+            return validate(input);
+          }
+        }));
+      }
+
+      List<Result> results = new ArrayList<>();
+      for(Future<Result> future : futures) {
+        results.add(future.get());
+      }
+      return results;
+    }
+    catch(InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e.getMessage(), e);
+    }
+    catch(ExecutionException e) {
+      throw new RuntimeException(e.getCause().getMessage(), e.getCause());
+    }
+    finally {
+      pool.shutdownNow();
+    }
+  }
+
+  private Result validate(String input) {
+    List<String> errors = new ArrayList<>();
+    long records = 0;
+
+    try (InputStream in = InputSources.open(input, readAhead)) {
+      if(RecordFormat.detect(in) == RecordFormat.CBIN) {
+        try (RecordReader reader = RecordFormat.CBIN.newReader(input, in)) {
+          records = reader.skip(Long.MAX_VALUE);
+        }
+      }
+      else {
+        records = new XmlValidator(maxErrors).validate(in, errors);
+      }
+    }
+    catch(IOException | RuntimeException e) {
+      errors.add(e.getMessage());
+    }
+
+    return new Result(input, records, errors);
+  }
+
+  /**
+   * Resultado da validação de uma entrada.
+   */
+  public static class Result {
+
+    private final String input;
+    private final long records;
+    private final List<String> errors;
+
+    Result(String input, long records, List<String> errors) {
+      this.input = input;
+      this.records = records;
+      this.errors = Collections.unmodifiableList(errors);
+    }
+
+    public String getInput() {
+      return input;
+    }
+
+    /**
+     * Registros lidos; em uma entrada inválida, até o ponto em que a validação parou.
+     */
+    public long getRecords() {
+      return records;
+    }
+
+    public List<String> getErrors() {
+      return errors;
+    }
+
+    public boolean isValid() {
+      return errors.isEmpty();
+    }
+  }
+}
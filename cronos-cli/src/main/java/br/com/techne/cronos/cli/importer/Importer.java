@@ -0,0 +1,645 @@
+package br.com.techne.cronos.cli.importer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import br.com.techne.cronos.cli.db.CronosDataSource;
+import br.com.techne.cronos.cli.db.SqlValues;
+import br.com.techne.cronos.cli.db.TableInfo;
+import br.com.techne.cronos.cli.i18n.CliMessage;
+import br.com.techne.cronos.cli.io.InputSources;
+import br.com.techne.cronos.cli.io.MeteredInputStream;
+import br.com.techne.cronos.cli.io.Record;
+import br.com.techne.cronos.cli.io.RecordFormat;
+import br.com.techne.cronos.cli.io.RecordReader;
+import br.com.techne.cronos.cli.metrics.Metrics;
+import br.com.techne.cronos.i18n.MessageUtil;
+
+/**
+ * Importa XMLs Cronos (ou arquivos {@link RecordFormat#CBIN}, detectados pelo conteúdo)
+ * para o banco de dados em batches JDBC.
+ *
+ * <p>
+ * Cada batch de {@link #batchSize(int)} registros é uma transação. Após cada
+ * {@code commit} o {@link ImportCheckpoint} é atualizado, de forma que uma importação
+ * interrompida pode ser retomada com {@link #resume(boolean)} a partir do último batch
+ * efetivado, sem duplicar nem perder registros.
+ * </p>
+ *
+ * <p>
+ * Com {@link #onConflict(ConflictMode)} registros cuja chave primária já existe são
+ * atualizados ou ignorados. As chaves da tabela são carregadas antes da importação em um
+ * {@link KeyIndex} limitado a {@link #keyIndexMemory(long)} bytes (veja {@link UpsertBatch}).
+ * </p>
+ *
+ * <p>
+ * Com {@link #bulk(boolean)} os índices secundários e as chaves estrangeiras de cada tabela
+ * são removidos antes da carga e recriados ao seu final (veja {@link DeferredSchema}).
+ * Objetos não recriados por uma importação interrompida são recriados no início da
+ * importação seguinte, com ou sem {@link #bulk(boolean)}.
+ * </p>
+ *
+ * <p>
+ * Com {@link #rejectFile(File)} registros recusados pela conversão ou pelas restrições do
+ * banco vão para um arquivo de quarentena (veja {@link RejectFile}) sem desfazer os demais
+ * registros do batch; a importação só é interrompida ao ultrapassar {@link #maxRejects(long)}.
+ * </p>
+ *
+ * <p>
+ * Bytes e registros lidos, registros gravados e a latência de cada batch (execução e
+ * {@code commit}) são medidos em {@link #getMetrics()}.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class Importer {
+
+  public static final int    DEFAULT_BATCH_SIZE       = 1000;
+  public static final int    DEFAULT_BULK_BATCH_SIZE  = 10000;
+  public static final String DEFAULT_CHECKPOINT_FILE  = ".cronos-import.checkpoint";
+  public static final String DEFAULT_BULK_STATE_FILE  = ".cronos-import.bulk";
+  public static final long   DEFAULT_KEY_INDEX_MEMORY = 256L * 1024 * 1024;
+  public static final long   DEFAULT_MAX_REJECTS      = 1000;
+
+  private final CronosDataSource dataSource;
+  private String table;
+  private int batchSize;
+  private File checkpointFile = new File(DEFAULT_CHECKPOINT_FILE);
+  private boolean resume;
+  private int readAhead = InputSources.DEFAULT_READ_AHEAD;
+  private ConflictMode onConflict;
+  private long keyIndexMemory = DEFAULT_KEY_INDEX_MEMORY;
+  private boolean bulk;
+  private File bulkStateFile = new File(DEFAULT_BULK_STATE_FILE);
+  private File rejectFile;
+  private long maxRejects = DEFAULT_MAX_REJECTS;
+  private Metrics metrics = new Metrics();
+
+  private long batch;
+  private long tableRows;
+  private Map<String, KeyIndex> keyIndexes;
+  private DeferredSchema deferred;
+  private Set<String> deferredTables;
+  private RejectFile rejects;
+  private long inserted;
+  private long updated;
+  private long skipped;
+
+  public Importer(CronosDataSource dataSource) {
+    this.dataSource = dataSource;
+  }
+
+  /**
+   * Tabela de destino; quando não informada é utilizado o atributo
+   * {@code table} do elemento raiz de cada XML.
+   */
+  public Importer table(String table) {
+    this.table = table;
+    return this;
+  }
+
+  /**
+   * Quantidade de registros por batch JDBC e, portanto, por transação; quando não informada
+   * é {@link #DEFAULT_BATCH_SIZE}, ou {@link #DEFAULT_BULK_BATCH_SIZE} com {@link #bulk(boolean)}.
+   */
+  public Importer batchSize(int batchSize) {
+    this.batchSize = batchSize > 0 ? batchSize : 0;
+    return this;
+  }
+
+  public Importer checkpoint(File checkpointFile) {
+    this.checkpointFile = checkpointFile;
+    return this;
+  }
+
+  public Importer resume(boolean resume) {
+    this.resume = resume;
+    return this;
+  }
+
+  /**
+   * Tamanho, em bytes, das janelas mapeadas na leitura de arquivos.
+   */
+  public Importer readAhead(int readAhead) {
+    this.readAhead = readAhead > 0 ? readAhead : InputSources.DEFAULT_READ_AHEAD;
+    return this;
+  }
+
+  /**
+   * Tratamento de chaves já existentes; {@code null} (padrão) importa somente com {@code INSERT}.
+   */
+  public Importer onConflict(ConflictMode onConflict) {
+    this.onConflict = onConflict;
+    return this;
+  }
+
+  /**
+   * Memória máxima, em bytes, do índice de chaves de cada tabela no modo
+   * {@link #onConflict(ConflictMode)}.
+   */
+  public Importer keyIndexMemory(long keyIndexMemory) {
+    this.keyIndexMemory = keyIndexMemory > 0 ? keyIndexMemory : DEFAULT_KEY_INDEX_MEMORY;
+    return this;
+  }
+
+  /**
+   * Remove índices secundários e chaves estrangeiras das tabelas de destino durante a
+   * importação, recriando-os ao final.
+   */
+  public Importer bulk(boolean bulk) {
+    this.bulk = bulk;
+    return this;
+  }
+
+  /**
+   * Arquivo com os índices e chaves estrangeiras a recriar após uma carga {@link #bulk(boolean)}.
+   */
+  public Importer bulkState(File bulkStateFile) {
+    this.bulkStateFile = bulkStateFile;
+    return this;
+  }
+
+  /**
+   * Arquivo de quarentena dos registros recusados; {@code null} (padrão) interrompe a
+   * importação no primeiro registro recusado.
+   */
+  public Importer rejectFile(File rejectFile) {
+    this.rejectFile = rejectFile;
+    return this;
+  }
+
+  /**
+   * Quantidade máxima de registros recusados com {@link #rejectFile(File)}.
+   */
+  public Importer maxRejects(long maxRejects) {
+    this.maxRejects = maxRejects >= 0 ? maxRejects : DEFAULT_MAX_REJECTS;
+    return this;
+  }
+
+  public Importer metrics(Metrics metrics) {
+    this.metrics = metrics;
+    return this;
+  }
+
+  public Metrics getMetrics() {
+    return metrics;
+  }
+
+  public long getInserted() {
+    return inserted;
+  }
+
+  public long getUpdated() {
+    return updated;
+  }
+
+  public long getSkipped() {
+    return skipped;
+  }
+
+  public long getRejected() {
+    return rejects != null ? rejects.getRejected() : 0;
+  }
+
+  /**
+   * Arquivos de quarentena que receberam registros nesta execução.
+   */
+  public List<File> getRejectFiles() {
+    return rejects != null ? rejects.getFiles() : Collections.<File>emptyList();
+  }
+
+  /**
+   * Importa as entradas <code>names</code> na ordem informada. Padrões de entradas de jar/zip
+   * são substituídos pelas entradas correspondentes (veja {@link InputSources#expand(List)}).
+   *
+   * @return quantidade de registros importados nesta execução.
+   */
+  public long run(List<String> names) {
+    List<String> inputs;
+    try {
+      inputs = InputSources.expand(names);
+    }
+    catch(IOException e) {
+      throw new RuntimeException(e.getMessage(), e);
+    }
+
+    if(inputs.isEmpty()) {
+      throw new RuntimeException(CliMessage.get().IMPORT_NO_INPUT);
+    }
+
+    if(rejectFile != null && onConflict != null) {
+      throw new RuntimeException(CliMessage.get().IMPORT_REJECT_ON_CONFLICT);
+    }
+
+    ImportCheckpoint saved = ImportCheckpoint.load(checkpointFile);
+    if(saved != null && !resume) {
+      throw new RuntimeException(MessageUtil.format(CliMessage.get().IMPORT_CHECKPOINT_EXISTS, checkpointFile));
+    }
+
+    int first = 0;
+    ImportCheckpoint checkpoint = ImportCheckpoint.create(checkpointFile);
+    batch = 0;
+
+    if(saved != null) {
+      first = inputs.indexOf(saved.getInput());
+      if(first < 0) {
+        throw new RuntimeException(
+          MessageUtil.format(CliMessage.get().IMPORT_CHECKPOINT_INPUT_MISMATCH, checkpointFile, saved.getInput())
+        );
+      }
+      checkpoint = saved;
+      batch = saved.getCommittedBatch();
+    }
+
+    deferred = DeferredSchema.open(bulkStateFile);
+    if(deferred.isPending()) {
+      System.out.println(MessageUtil.format(CliMessage.get().IMPORT_BULK_RESTORING, bulkStateFile));
+      restore();
+    }
+
+    long imported = 0;
+    keyIndexes = new HashMap<>();
+    deferredTables = new HashSet<>();
+    inserted = 0;
+    updated = 0;
+    skipped = 0;
+    rejects = rejectFile != null ? new RejectFile(rejectFile, maxRejects, checkpoint) : null;
+
+    Thread restoreHook = bulk ? addRestoreHook() : null;
+    boolean completed = false;
+
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(false);
+
+      try {
+        for(int i = first; i < inputs.size(); i++) {
+          imported += importInput(connection, inputs.get(i), checkpoint, saved != null && i == first);
+        }
+      }
+      catch(SQLException | RuntimeException e) {
+        rollbackQuietly(connection);
+        throw e;
+      }
+      completed = true;
+    }
+    catch(SQLException e) {
+      throw new RuntimeException(MessageUtil.format(CliMessage.get().IMPORT_DB_ERROR, e.getMessage()), e);
+    }
+    finally {
+      if(restoreHook != null) {
+        restoreAfterBulk(restoreHook, completed);
+      }
+      closeRejects(completed);
+    }
+
+    checkpoint.delete();
+    return imported;
+  }
+
+  private void closeRejects(boolean completed) {
+    if(rejects == null) {
+      return;
+    }
+
+    try {
+      rejects.close();
+    }
+    catch(IOException e) {
+      if(completed) {
+        throw new RuntimeException(MessageUtil.format(CliMessage.get().IMPORT_REJECT_IO_ERROR, rejectFile, e.getMessage()), e);
+      }
+    }
+  }
+
+  /**
+   * Recria o que foi removido pela carga. Em uma importação que falhou, uma falha aqui não
+   * encobre o erro original: o arquivo de estado é mantido para a próxima importação.
+   */
+  private void restoreAfterBulk(Thread restoreHook, boolean completed) {
+    try {
+      restore();
+    }
+    catch(RuntimeException e) {
+      if(completed) {
+        throw e;
+      }
+      System.err.println(e.getMessage());
+    }
+    finally {
+      try {
+        Runtime.getRuntime().removeShutdownHook(restoreHook);
+      }
+      catch(IllegalStateException e) {
+        // JVM já encerrando: o próprio hook recria os objetos
+      }
+    }
+  }
+
+  /**
+   * Recria índices e chaves estrangeiras também quando a JVM é encerrada no meio da carga
+   * (Ctrl+C, {@code System.exit}).
+   */
+  private Thread addRestoreHook() {
+    Thread hook = new Thread("cronos-import-bulk-restore") {
+      @Override
+      public void run() {
+        try {
+          restore();
+        }
+        catch(RuntimeException e) {
+          System.err.println(e.getMessage());
+        }
+      }
+    };
+    Runtime.getRuntime().addShutdownHook(hook);
+    return hook;
+  }
+
+  private void restore() {
+    if(!deferred.isPending()) {
+      return;
+    }
+
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(true);
+      deferred.restore(connection);
+    }
+    catch(SQLException e) {
+      throw new RuntimeException(MessageUtil.format(CliMessage.get().IMPORT_BULK_RESTORE_FAILED, bulkStateFile, e.getMessage()), e);
+    }
+  }
+
+  private void defer(Connection connection, TableInfo tableInfo) throws SQLException {
+    if(deferredTables.add(tableInfo.getQualifiedName())) {
+      int[] deferredObjects = deferred.defer(connection, tableInfo);
+      System.out.println(MessageUtil.format(CliMessage.get().IMPORT_BULK_DEFERRED, tableInfo.getName(), deferredObjects[0], deferredObjects[1]));
+    }
+  }
+
+  private int effectiveBatchSize() {
+    if(batchSize > 0) {
+      return batchSize;
+    }
+    return bulk ? DEFAULT_BULK_BATCH_SIZE : DEFAULT_BATCH_SIZE;
+  }
+
+  private long importInput(Connection connection, String input, ImportCheckpoint checkpoint, boolean resuming) throws SQLException {
+    long imported = 0;
+
+    try (InputStream in = new MeteredInputStream(InputSources.open(input, readAhead), metrics.getBytesRead()); RecordReader reader = RecordFormat.open(input, in)) {
+      TableInfo tableInfo = TableInfo.load(connection, resolveTable(input, reader.getTable()));
+
+      if(resuming) {
+        long committed = recover(connection, tableInfo, checkpoint);
+        if(rejects != null) {
+          rejects.resume(checkpoint.getRejects());
+        }
+        reader.skip(committed);
+        System.out.println(MessageUtil.format(CliMessage.get().IMPORT_RESUMING, input, committed, checkpoint.getCommittedBatch()));
+      }
+      else {
+        checkpoint.start(input);
+      }
+
+      // sem chave primária, a retomada confere o batch pendente pela contagem de linhas
+      tableRows = tableInfo.getPrimaryKey().isEmpty() ? count(connection, tableInfo) : -1;
+
+      if(bulk) {
+        defer(connection, tableInfo);
+      }
+
+      int batchSize = effectiveBatchSize();
+      long rejectedBefore = getRejected();
+      try (RecordBatch inserter = newBatch(connection, tableInfo, input)) {
+        Record record;
+        Record last = null;
+
+        while((record = reader.next()) != null) {
+          metrics.getRecordsRead().increment();
+          inserter.add(record);
+          last = record;
+          imported++;
+
+          if(inserter.size() >= batchSize) {
+            commit(connection, inserter, tableInfo, last, checkpoint);
+          }
+        }
+
+        if(inserter.size() > 0) {
+          commit(connection, inserter, tableInfo, last, checkpoint);
+        }
+
+        if(rejects != null) {
+          imported -= rejects.getRejected() - rejectedBefore;
+        }
+
+        if(inserter instanceof UpsertBatch) {
+          UpsertBatch upsert = (UpsertBatch)inserter;
+          inserted += upsert.getInserted();
+          updated += upsert.getUpdated();
+          skipped += upsert.getSkipped();
+        }
+        else {
+          inserted += imported;
+        }
+      }
+    }
+    catch(IOException e) {
+      throw new RuntimeException(e.getMessage(), e);
+    }
+
+    return imported;
+  }
+
+  private RecordBatch newBatch(Connection connection, TableInfo tableInfo, String input) throws SQLException {
+    if(rejects != null) {
+      return new RejectingBatch(connection, tableInfo, input, rejects);
+    }
+
+    if(onConflict == null) {
+      return new BatchInserter(connection, tableInfo, input);
+    }
+
+    if(tableInfo.getPrimaryKey().isEmpty()) {
+      throw new RuntimeException(MessageUtil.format(CliMessage.get().IMPORT_ON_CONFLICT_REQUIRES_PK, tableInfo.getName()));
+    }
+
+    KeyIndex index = keyIndexes.get(tableInfo.getQualifiedName());
+    if(index == null) {
+      index = KeyIndex.load(connection, tableInfo, keyIndexMemory);
+      keyIndexes.put(tableInfo.getQualifiedName(), index);
+      System.out.println(MessageUtil.format(CliMessage.get().IMPORT_KEY_INDEX, tableInfo.getName(), index.describe(), index.getKeys(),
+        toMegabytes(index.memory()), toMegabytes(keyIndexMemory)));
+    }
+
+    return new UpsertBatch(connection, tableInfo, input, index, onConflict);
+  }
+
+  private static String toMegabytes(long bytes) {
+    return String.format("%.1f", bytes / (1024.0 * 1024.0));
+  }
+
+  private String resolveTable(String input, String declared) {
+    String resolved = table != null ? table : declared;
+
+    if(resolved == null || resolved.isEmpty()) {
+      throw new RuntimeException(MessageUtil.format(CliMessage.get().IMPORT_TABLE_MISSING, input));
+    }
+
+    return resolved;
+  }
+
+  /**
+   * Efetiva o batch corrente alinhando o {@code commit} JDBC ao checkpoint.
+   */
+  private void commit(Connection connection, RecordBatch inserter, TableInfo tableInfo, Record last, ImportCheckpoint checkpoint) throws SQLException {
+    long written = inserter.size() + getRejected();
+
+    long start = System.nanoTime();
+    inserter.execute();
+    long latency = System.nanoTime() - start;
+    batch++;
+
+    // a verificação na retomada usa o último registro gravado, não um recusado
+    Record verifiable = inserter instanceof RejectingBatch ? ((RejectingBatch)inserter).getLastAccepted() : last;
+    long rows = written - getRejected();
+
+    // rejeitados do batch em disco antes do commit: a retomada trunca no último efetivado
+    Map<String, RejectFile.Position> rejected = Collections.emptyMap();
+    if(rejects != null) {
+      rejects.flush();
+      rejected = rejects.positions();
+    }
+    checkpoint.pending(last.getOrdinal(), batch, verifiable != null ? keyOf(tableInfo, verifiable) : new LinkedHashMap<String, String>(),
+      rows, tableRows >= 0 ? tableRows + rows : -1, inserter instanceof UpsertBatch ? onConflict : null, rejected);
+    start = System.nanoTime();
+    connection.commit();
+    latency += System.nanoTime() - start;
+    checkpoint.committed();
+    if(tableRows >= 0) {
+      tableRows += rows;
+    }
+
+    metrics.getBatchLatency().record(latency);
+    metrics.getBatches().increment();
+    metrics.getRecordsWritten().add(rows);
+  }
+
+  /**
+   * Resolve um batch deixado como pendente, consultando no banco a chave primária do seu
+   * último registro ou, sem chave, a quantidade de linhas da tabela. Um batch de "upsert"
+   * é sempre repetido, no mesmo {@link ConflictMode}: a sua chave pode existir antes dele.
+   *
+   * @return ordinal do último registro efetivado.
+   */
+  private long recover(Connection connection, TableInfo tableInfo, ImportCheckpoint checkpoint) throws SQLException {
+    if(checkpoint.isPending()) {
+      Map<String, String> key = checkpoint.getPendingKey();
+      long rows = checkpoint.getPendingRows();
+      long count = checkpoint.getPendingCount();
+      ConflictMode conflict = checkpoint.getPendingConflict();
+
+      if(conflict != null) {
+        if(conflict != onConflict) {
+          throw new RuntimeException(MessageUtil.format(CliMessage.get().IMPORT_CHECKPOINT_CONFLICT_MODE, checkpoint.getInput(), checkpoint.getPendingOrdinal(),
+            conflict.name().toLowerCase(Locale.ROOT)));
+        }
+        checkpoint.discardPending();
+      }
+      else if(!key.isEmpty()) {
+        if(exists(connection, tableInfo, key)) {
+          checkpoint.committed();
+        }
+        else {
+          checkpoint.discardPending();
+        }
+      }
+      else if(rows == 0) {
+        // todos os registros do batch foram recusados: repeti-lo não duplica linhas
+        checkpoint.discardPending();
+      }
+      else {
+        long actual = count >= 0 ? count(connection, tableInfo) : -1;
+        if(actual >= 0 && actual == count) {
+          checkpoint.committed();
+        }
+        else if(actual >= 0 && actual == count - rows) {
+          checkpoint.discardPending();
+        }
+        else {
+          throw new RuntimeException(MessageUtil.format(CliMessage.get().IMPORT_CHECKPOINT_UNVERIFIABLE, checkpoint.getInput(), checkpoint.getPendingOrdinal(),
+            checkpoint.getFile()));
+        }
+      }
+    }
+
+    batch = checkpoint.getCommittedBatch();
+    return checkpoint.getCommittedOrdinal();
+  }
+
+  private static Map<String, String> keyOf(TableInfo tableInfo, Record record) throws SQLException {
+    Map<String, String> key = new LinkedHashMap<>();
+
+    for(String column : tableInfo.getPrimaryKey()) {
+      String value = SqlValues.toText(record.get(column));
+      if(value == null) {
+        return new LinkedHashMap<>();
+      }
+      key.put(column, value);
+    }
+
+    return key;
+  }
+
+  private static boolean exists(Connection connection, TableInfo tableInfo, Map<String, String> key) throws SQLException {
+    StringBuilder sql = new StringBuilder("SELECT COUNT(*) FROM ").append(tableInfo.getQualifiedName()).append(" WHERE ");
+
+    int n = 0;
+    for(String column : key.keySet()) {
+      sql.append(n++ > 0 ? " AND " : "").append(tableInfo.quote(column)).append(" = ?");
+    }
+
+    try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+      n = 0;
+      for(Map.Entry<String, String> entry : key.entrySet()) {
+        int index = tableInfo.indexOf(entry.getKey());
+        SqlValues.bind(ps, ++n, entry.getValue(), tableInfo.getType(index));
+      }
+
+      try (ResultSet rs = ps.executeQuery()) {
+        return rs.next() && rs.getLong(1) > 0;
+      }
+    }
+  }
+
+  private static long count(Connection connection, TableInfo tableInfo) throws SQLException {
+    try (PreparedStatement ps = connection.prepareStatement("SELECT COUNT(*) FROM " + tableInfo.getQualifiedName()); ResultSet rs = ps.executeQuery()) {
+      rs.next();
+      return rs.getLong(1);
+    }
+  }
+
+  private static void rollbackQuietly(Connection connection) {
+    try {
+      connection.rollback();
+    }
+    catch(SQLException e) {
+      // conexão possivelmente já perdida; o banco descarta a transação
+    }
+  }
+}
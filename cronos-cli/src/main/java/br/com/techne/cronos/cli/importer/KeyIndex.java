@@ -0,0 +1,269 @@
+package br.com.techne.cronos.cli.importer;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import br.com.techne.cronos.cli.db.SqlValues;
+import br.com.techne.cronos.cli.db.TableInfo;
+
+/**
+ * Índice em memória das chaves primárias da tabela de destino, carregado antes da
+ * importação para decidir entre {@code INSERT} e {@code UPDATE} sem uma consulta por
+ * registro.
+ *
+ * <p>
+ * Chaves de uma única coluna inteira são mantidas exatas em um {@link LongHashSet}. Demais
+ * chaves, ou conjuntos que não cabem no limite de memória, vão para um {@link BloomFilter},
+ * cujas respostas positivas são {@link Lookup#MAYBE} e confirmadas no banco, em lote, por
+ * {@link #existing(Connection, List)}.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+class KeyIndex {
+
+  enum Lookup {
+    ABSENT, PRESENT, MAYBE
+  }
+
+  private static final int    FETCH_SIZE   = 10000;
+  private static final int    VERIFY_CHUNK = 200;
+  private static final String SEPARATOR    = "\u0000";
+
+  private final TableInfo table;
+  private final int[] keyColumns;
+  private final boolean numeric;
+
+  private LongHashSet set;
+  private BloomFilter bloom;
+  private boolean exact;
+  private long keys;
+
+  private KeyIndex(TableInfo table) {
+    List<String> primaryKey = table.getPrimaryKey();
+
+    this.table = table;
+    this.keyColumns = new int[primaryKey.size()];
+    for(int i = 0; i < keyColumns.length; i++) {
+      keyColumns[i] = table.indexOf(primaryKey.get(i));
+    }
+    this.numeric = keyColumns.length == 1 && isIntegral(table.getType(keyColumns[0]));
+  }
+
+  /**
+   * Carrega as chaves de <code>table</code>, que deve possuir chave primária, utilizando
+   * no máximo <code>maxBytes</code> bytes de memória.
+   */
+  static KeyIndex load(Connection connection, TableInfo table, long maxBytes) throws SQLException {
+    KeyIndex index = new KeyIndex(table);
+
+    long count;
+    try (Statement st = connection.createStatement(); ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM " + table.getQualifiedName())) {
+      rs.next();
+      count = rs.getLong(1);
+    }
+
+    /*
+     * Folga para as chaves incluídas pela própria importação.
+     */
+
+    long expected = count + count / 2 + 1024;
+    if(index.numeric && LongHashSet.bytesFor(expected) <= maxBytes) {
+      index.set = new LongHashSet(expected, maxBytes);
+      index.exact = true;
+    }
+    else {
+      index.bloom = new BloomFilter(expected, maxBytes);
+    }
+
+    StringBuilder sql = new StringBuilder("SELECT ");
+    for(int i = 0; i < index.keyColumns.length; i++) {
+      sql.append(i > 0 ? ", " : "").append(table.quote(table.getColumns().get(index.keyColumns[i])));
+    }
+    sql.append(" FROM ").append(table.getQualifiedName());
+
+    try (Statement st = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+      st.setFetchSize(FETCH_SIZE);
+      try (ResultSet rs = st.executeQuery(sql.toString())) {
+        while(rs.next()) {
+          index.add(index.keyOf(rs));
+        }
+      }
+    }
+
+    return index;
+  }
+
+  /**
+   * Chave dos valores <code>values</code>, alinhados às colunas da tabela: {@link Long}
+   * para chaves inteiras, texto nos demais casos, ou {@code null} caso parte da chave
+   * seja nula.
+   */
+  Object key(Object[] values) throws SQLException {
+    if(numeric) {
+      Object value = values[keyColumns[0]];
+      if(value == null) {
+        return null;
+      }
+      return value instanceof Number ? ((Number)value).longValue() : Long.parseLong(value.toString().trim());
+    }
+
+    StringBuilder key = new StringBuilder();
+    for(int i = 0; i < keyColumns.length; i++) {
+      Object value = values[keyColumns[i]];
+      if(value == null) {
+        return null;
+      }
+      if(value instanceof String) {
+        value = SqlValues.toJdbc((String)value, table.getType(keyColumns[i]));
+      }
+      key.append(i > 0 ? SEPARATOR : "").append(text(value));
+    }
+    return key.toString();
+  }
+
+  Lookup lookup(Object key) {
+    if(set != null) {
+      if(set.contains((Long)key)) {
+        return Lookup.PRESENT;
+      }
+      return exact ? Lookup.ABSENT : Lookup.MAYBE;
+    }
+
+    return bloom.mightContain(hash(key)) ? Lookup.MAYBE : Lookup.ABSENT;
+  }
+
+  void add(Object key) {
+    if(set != null) {
+      if(!set.add((Long)key)) {
+        exact = false;
+      }
+    }
+    else {
+      bloom.add(hash(key));
+    }
+    keys++;
+  }
+
+  /**
+   * Consulta no banco quais das chaves <code>candidates</code> existem, em lotes de
+   * {@value #VERIFY_CHUNK} chaves por consulta.
+   */
+  Set<Object> existing(Connection connection, List<Object> candidates) throws SQLException {
+    Set<Object> found = new HashSet<>();
+
+    for(int from = 0; from < candidates.size(); from += VERIFY_CHUNK) {
+      List<Object> chunk = candidates.subList(from, Math.min(candidates.size(), from + VERIFY_CHUNK));
+
+      try (PreparedStatement ps = connection.prepareStatement(verifySql(chunk.size()))) {
+        int param = 0;
+        for(Object key : chunk) {
+          String[] parts = numeric ? null : ((String)key).split(SEPARATOR, -1);
+          for(int i = 0; i < keyColumns.length; i++) {
+            SqlValues.bind(ps, ++param, numeric ? key : parts[i], table.getType(keyColumns[i]));
+          }
+        }
+
+        try (ResultSet rs = ps.executeQuery()) {
+          while(rs.next()) {
+            found.add(keyOf(rs));
+          }
+        }
+      }
+    }
+
+    return found;
+  }
+
+  /**
+   * Descrição do índice para o usuário: tipo, chaves e memória.
+   */
+  String describe() {
+    if(set != null) {
+      return "hash set" + (exact ? "" : " (saturated)");
+    }
+    return String.format("bloom filter, ~%.2f%% false positives", bloom.fpp(keys) * 100);
+  }
+
+  long getKeys() {
+    return keys;
+  }
+
+  long memory() {
+    return set != null ? set.memory() : bloom.memory();
+  }
+
+  private String verifySql(int count) {
+    StringBuilder sql = new StringBuilder("SELECT ");
+    StringBuilder condition = new StringBuilder();
+
+    for(int i = 0; i < keyColumns.length; i++) {
+      String column = table.quote(table.getColumns().get(keyColumns[i]));
+      sql.append(i > 0 ? ", " : "").append(column);
+      condition.append(i > 0 ? " AND " : "").append(column).append(" = ?");
+    }
+
+    sql.append(" FROM ").append(table.getQualifiedName()).append(" WHERE ");
+    for(int i = 0; i < count; i++) {
+      sql.append(i > 0 ? " OR " : "").append('(').append(condition).append(')');
+    }
+
+    return sql.toString();
+  }
+
+  private Object keyOf(ResultSet rs) throws SQLException {
+    if(numeric) {
+      return rs.getLong(1);
+    }
+
+    StringBuilder key = new StringBuilder();
+    for(int i = 0; i < keyColumns.length; i++) {
+      key.append(i > 0 ? SEPARATOR : "").append(text(rs.getObject(i + 1)));
+    }
+    return key.toString();
+  }
+
+  /**
+   * Texto canônico de um valor de chave: decimais sem zeros à direita, para que
+   * {@literal 10.5} do arquivo e {@literal 10.50} do banco sejam a mesma chave.
+   */
+  private static String text(Object value) throws SQLException {
+    if(value instanceof BigDecimal) {
+      BigDecimal decimal = ((BigDecimal)value).stripTrailingZeros();
+      return (decimal.scale() < 0 ? decimal.setScale(0) : decimal).toPlainString();
+    }
+    return SqlValues.toText(value);
+  }
+
+  private static long hash(Object key) {
+    if(key instanceof Long) {
+      return LongHashSet.mix((Long)key);
+    }
+
+    /*
+     * FNV-1a de 64 bits sobre os caracteres.
+     */
+
+    String text = (String)key;
+    long h = 0xcbf29ce484222325L;
+    for(int i = 0; i < text.length(); i++) {
+      h ^= text.charAt(i);
+      h *= 0x100000001b3L;
+    }
+    return LongHashSet.mix(h);
+  }
+
+  private static boolean isIntegral(int type) {
+    return type == Types.TINYINT || type == Types.SMALLINT || type == Types.INTEGER || type == Types.BIGINT;
+  }
+}
@@ -0,0 +1,141 @@
+package br.com.techne.cronos.cli.importer;
+
+/**
+ * Conjunto de {@code long} em endereçamento aberto sobre um {@code long[]}, sem objetos
+ * por elemento.
+ *
+ * <p>
+ * A tabela cresce dobrando de tamanho até o limite de memória informado; atingido o
+ * limite o conjunto fica "saturado" e novas chaves deixam de ser registradas
+ * ({@link #add(long)} retorna {@code false}).
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+final class LongHashSet {
+
+  private static final float LOAD_FACTOR = 0.75f;
+
+  private final long maxBytes;
+  private long[] table;
+  private int mask;
+  private int size;
+  private boolean hasZero;
+
+  LongHashSet(long expected, long maxBytes) {
+    this.maxBytes = maxBytes;
+    int capacity = capacityFor(expected);
+    this.table = new long[capacity];
+    this.mask = capacity - 1;
+  }
+
+  /**
+   * Memória, em bytes, de um conjunto dimensionado para <code>expected</code> elementos.
+   */
+  static long bytesFor(long expected) {
+    return 8L * capacityFor(expected);
+  }
+
+  private static int capacityFor(long expected) {
+    long needed = Math.max(16, (long)Math.ceil(expected / LOAD_FACTOR));
+    if(needed > 1 << 30) {
+      return 1 << 30;
+    }
+    return Integer.highestOneBit((int)needed - 1) << 1;
+  }
+
+  /**
+   * @return {@code false} caso <code>value</code> não esteja no conjunto e não possa ser
+   *         incluído por falta de memória.
+   */
+  boolean add(long value) {
+    if(value == 0) {
+      if(!hasZero) {
+        hasZero = true;
+        size++;
+      }
+      return true;
+    }
+
+    int slot = slot(value);
+    while(table[slot] != 0) {
+      if(table[slot] == value) {
+        return true;
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    if(size + 1 > table.length * LOAD_FACTOR) {
+      if(!grow()) {
+        return false;
+      }
+      return add(value);
+    }
+
+    table[slot] = value;
+    size++;
+    return true;
+  }
+
+  boolean contains(long value) {
+    if(value == 0) {
+      return hasZero;
+    }
+
+    int slot = slot(value);
+    while(table[slot] != 0) {
+      if(table[slot] == value) {
+        return true;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return false;
+  }
+
+  int size() {
+    return size;
+  }
+
+  long memory() {
+    return 8L * table.length;
+  }
+
+  private boolean grow() {
+    if(table.length >= 1 << 30 || 16L * table.length > maxBytes) {
+      return false;
+    }
+
+    long[] old = table;
+    table = new long[old.length * 2];
+    mask = table.length - 1;
+
+    for(long value : old) {
+      if(value != 0) {
+        int slot = slot(value);
+        while(table[slot] != 0) {
+          slot = (slot + 1) & mask;
+        }
+        table[slot] = value;
+      }
+    }
+    return true;
+  }
+
+  private int slot(long value) {
+    return (int)mix(value) & mask;
+  }
+
+  /**
+   * "Finalizer" do MurmurHash3: espalha chaves sequenciais pela tabela.
+   */
+  static long mix(long h) {
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
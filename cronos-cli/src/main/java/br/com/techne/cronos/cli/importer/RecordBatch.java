@@ -0,0 +1,27 @@
+package br.com.techne.cronos.cli.importer;
+
+import java.sql.SQLException;
+
+import br.com.techne.cronos.cli.io.Record;
+
+/**
+ * Batch de escrita de registros na tabela de destino, executado a cada transação.
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+interface RecordBatch extends AutoCloseable {
+
+  void add(Record record) throws SQLException;
+
+  /**
+   * Quantidade de registros acumulados desde o último {@link #execute()}.
+   */
+  int size();
+
+  void execute() throws SQLException;
+
+  @Override
+  void close() throws SQLException;
+}
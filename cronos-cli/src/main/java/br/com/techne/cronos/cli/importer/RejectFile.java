@@ -0,0 +1,254 @@
+package br.com.techne.cronos.cli.importer;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import br.com.techne.cronos.cli.i18n.CliMessage;
+import br.com.techne.cronos.cli.io.Record;
+import br.com.techne.cronos.cli.xml.XmlRecordWriter;
+import br.com.techne.cronos.i18n.MessageUtil;
+
+/**
+ * Arquivo de quarentena ({@literal --reject-file}) com os registros rejeitados pela
+ * importação, no próprio dialeto XML Cronos: cada registro é precedido por um comentário
+ * com a entrada, a posição e o motivo, e o arquivo pode ser importado depois de corrigido.
+ *
+ * <p>
+ * Como cada XML Cronos se refere a uma única tabela, rejeitados de outras tabelas vão para
+ * arquivos irmãos com o nome da tabela ({@literal rejeitados.CONTA.xml}). Arquivos
+ * existentes nunca são sobrescritos: é escolhido o próximo nome livre
+ * ({@literal rejeitados.1.xml}), preservando os rejeitados de uma execução anterior.
+ * </p>
+ *
+ * <p>
+ * Na retomada ({@literal --resume}) os arquivos da execução interrompida são reaproveitados
+ * ({@link #resume(Map)}): truncados na posição registrada pelo {@link ImportCheckpoint} no
+ * último batch efetivado, descartando os rejeitados do batch desfeito, e completados.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+class RejectFile implements Closeable {
+
+  private final File file;
+  private final long maxRejects;
+  private final ImportCheckpoint checkpoint;
+  private final Map<String, Output> outputs = new LinkedHashMap<>();
+  private final List<File> files = new ArrayList<>();
+  private long rejected;
+
+  /**
+   * @param checkpoint
+   *          estado da importação, em que cada novo arquivo é registrado.
+   */
+  RejectFile(File file, long maxRejects, ImportCheckpoint checkpoint) {
+    this.file = file;
+    this.maxRejects = maxRejects;
+    this.checkpoint = checkpoint;
+  }
+
+  /**
+   * Grava <code>record</code> da tabela <code>table</code> como rejeitado.
+   *
+   * @throws RuntimeException quando a quantidade de rejeitados ultrapassa o limite.
+   */
+  void reject(String input, String table, Record record, String reason) {
+    Output output = outputs.get(table);
+
+    try {
+      if(output == null) {
+        output = new Output(available(outputs.isEmpty() ? file : sibling(table)), table, false);
+        outputs.put(table, output);
+        files.add(output.file);
+        checkpoint.rejectFile(table, new Position(output.file, output.out.getChannel().position()));
+      }
+
+      output.writer.comment(input + " #" + record.getOrdinal() + ": " + reason);
+      output.writer.write(record);
+    }
+    catch(IOException e) {
+      throw new RuntimeException(MessageUtil.format(CliMessage.get().IMPORT_REJECT_IO_ERROR, output != null ? output.file : file, e.getMessage()), e);
+    }
+
+    if(++rejected > maxRejects) {
+      throw new RuntimeException(MessageUtil.format(CliMessage.get().IMPORT_MAX_REJECTS, rejected, maxRejects));
+    }
+  }
+
+  long getRejected() {
+    return rejected;
+  }
+
+  /**
+   * Arquivos criados, na ordem em que receberam o primeiro rejeitado.
+   */
+  List<File> getFiles() {
+    return Collections.unmodifiableList(files);
+  }
+
+  /**
+   * Posição, após o {@link #flush()}, do fim de cada arquivo, pela tabela.
+   */
+  Map<String, Position> positions() {
+    Map<String, Position> positions = new LinkedHashMap<>();
+    for(Map.Entry<String, Output> entry : outputs.entrySet()) {
+      Output output = entry.getValue();
+      try {
+        positions.put(entry.getKey(), new Position(output.file, output.out.getChannel().position()));
+      }
+      catch(IOException e) {
+        throw new RuntimeException(MessageUtil.format(CliMessage.get().IMPORT_REJECT_IO_ERROR, output.file, e.getMessage()), e);
+      }
+    }
+    return positions;
+  }
+
+  /**
+   * Reabre os arquivos de uma execução interrompida, truncados em <code>positions</code>, e
+   * continua a gravação ao seu final.
+   */
+  void resume(Map<String, Position> positions) {
+    for(Map.Entry<String, Position> entry : positions.entrySet()) {
+      Position position = entry.getValue();
+      try {
+        if(!position.file.isFile() || position.file.length() < position.offset) {
+          throw new IOException(position.file + " (" + position.file.length() + " < " + position.offset + ")");
+        }
+        try (FileChannel channel = FileChannel.open(position.file.toPath(), StandardOpenOption.WRITE)) {
+          channel.truncate(position.offset);
+        }
+
+        Output output = new Output(position.file, entry.getKey(), true);
+        outputs.put(entry.getKey(), output);
+        files.add(output.file);
+      }
+      catch(IOException e) {
+        throw new RuntimeException(MessageUtil.format(CliMessage.get().IMPORT_REJECT_IO_ERROR, position.file, e.getMessage()), e);
+      }
+    }
+  }
+
+  /**
+   * Descarrega os rejeitados até o disco, mantendo os arquivos abertos.
+   */
+  void flush() {
+    for(Output output : outputs.values()) {
+      try {
+        output.writer.flush();
+      }
+      catch(IOException e) {
+        throw new RuntimeException(MessageUtil.format(CliMessage.get().IMPORT_REJECT_IO_ERROR, output.file, e.getMessage()), e);
+      }
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    IOException error = null;
+
+    for(Output output : outputs.values()) {
+      try {
+        output.writer.end();
+      }
+      catch(IOException e) {
+        error = error != null ? error : e;
+      }
+      finally {
+        try {
+          output.out.close();
+        }
+        catch(IOException e) {
+          error = error != null ? error : e;
+        }
+      }
+    }
+    outputs.clear();
+
+    if(error != null) {
+      throw error;
+    }
+  }
+
+  private File sibling(String table) {
+    String name = file.getName();
+    int dot = name.lastIndexOf('.');
+    String sibling = dot > 0 ? name.substring(0, dot) + "." + table + name.substring(dot) : name + "." + table;
+    return new File(file.getAbsoluteFile().getParentFile(), sibling);
+  }
+
+  private static File available(File candidate) {
+    if(!candidate.exists()) {
+      return candidate;
+    }
+
+    String name = candidate.getName();
+    int dot = name.lastIndexOf('.');
+    for(int n = 1;; n++) {
+      String numbered = dot > 0 ? name.substring(0, dot) + "." + n + name.substring(dot) : name + "." + n;
+      File file = new File(candidate.getAbsoluteFile().getParentFile(), numbered);
+      if(!file.exists()) {
+        return file;
+      }
+    }
+  }
+
+  /**
+   * Fim de um arquivo de rejeitados.
+   */
+  static class Position {
+    final File file;
+    final long offset;
+
+    Position(File file, long offset) {
+      this.file = file;
+      this.offset = offset;
+    }
+  }
+
+  private static class Output {
+    final File file;
+    final FileOutputStream out;
+    final XmlRecordWriter writer;
+
+    /**
+     * @param append
+     *          continua um arquivo já iniciado: o cabeçalho, já gravado, é descartado.
+     */
+    Output(File file, String table, boolean append) throws IOException {
+      this.file = file;
+      this.out = new FileOutputStream(file, append);
+
+      final boolean[] header = { append };
+      this.writer = new XmlRecordWriter(new FilterOutputStream(out) {
+        @Override
+        public void write(int b) throws IOException {
+          if(!header[0]) {
+            out.write(b);
+          }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+          if(!header[0]) {
+            out.write(b, off, len);
+          }
+        }
+      });
+      writer.begin(table, Collections.<String>emptyList(), new int[0]);
+      writer.flush();
+      header[0] = false;
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package br.com.techne.cronos.cli.importer;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.List;
+
+import br.com.techne.cronos.cli.db.TableInfo;
+import br.com.techne.cronos.cli.io.Record;
+
+/**
+ * {@link BatchInserter} que envia ao {@link RejectFile} os registros recusados, sem
+ * desfazer os demais registros do batch.
+ *
+ * <p>
+ * Falhas de conversão são detectadas no {@link #add(Record)}. Quando o {@code executeBatch}
+ * falha (restrições do banco), o batch é desfeito até um {@link Savepoint} e os seus
+ * registros são reenviados um a um, cada um com o seu savepoint, identificando os
+ * recusados. O caminho normal custa somente um savepoint por batch.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+class RejectingBatch implements RecordBatch {
+
+  private final Connection connection;
+  private final BatchInserter inserter;
+  private final TableInfo table;
+  private final String source;
+  private final RejectFile rejects;
+  private final List<Record> records = new ArrayList<>();
+  private Record lastAccepted;
+
+  RejectingBatch(Connection connection, TableInfo table, String source, RejectFile rejects) throws SQLException {
+    this.connection = connection;
+    this.inserter = new BatchInserter(connection, table, source);
+    this.table = table;
+    this.source = source;
+    this.rejects = rejects;
+  }
+
+  @Override
+  public void add(Record record) throws SQLException {
+    try {
+      inserter.add(record);
+      records.add(record);
+    }
+    catch(RuntimeException e) {
+      rejects.reject(source, table.getName(), record, reason(e));
+    }
+  }
+
+  @Override
+  public int size() {
+    return inserter.size();
+  }
+
+  @Override
+  public void execute() throws SQLException {
+    lastAccepted = null;
+    if(records.isEmpty()) {
+      return;
+    }
+
+    Savepoint savepoint = connection.setSavepoint();
+    try {
+      inserter.execute();
+      lastAccepted = records.get(records.size() - 1);
+    }
+    catch(SQLException e) {
+      connection.rollback(savepoint);
+      inserter.clear();
+      replay();
+    }
+
+    records.clear();
+  }
+
+  /**
+   * Último registro efetivamente incluído pelo último {@link #execute()}, ou {@code null}
+   * quando todos foram recusados.
+   */
+  Record getLastAccepted() {
+    return lastAccepted;
+  }
+
+  private void replay() throws SQLException {
+    for(Record record : records) {
+      Savepoint savepoint = connection.setSavepoint();
+      try {
+        inserter.add(record);
+        inserter.execute();
+        lastAccepted = record;
+      }
+      catch(SQLException e) {
+        connection.rollback(savepoint);
+        inserter.clear();
+        rejects.reject(source, table.getName(), record, reason(e));
+      }
+    }
+  }
+
+  /**
+   * Primeira linha da mensagem; drivers costumam anexar o SQL e a pilha.
+   */
+  private static String reason(Exception e) {
+    Throwable cause = e;
+    if(e instanceof SQLException && ((SQLException)e).getNextException() != null) {
+      cause = ((SQLException)e).getNextException();
+    }
+
+    String message = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getName();
+    int newLine = message.indexOf('\n');
+    return (newLine >= 0 ? message.substring(0, newLine) : message).trim();
+  }
+
+  @Override
+  public void close() throws SQLException {
+    inserter.close();
+  }
+}
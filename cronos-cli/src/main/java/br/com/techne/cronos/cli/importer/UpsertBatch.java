@@ -0,0 +1,205 @@
+package br.com.techne.cronos.cli.importer;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import br.com.techne.cronos.cli.db.SqlValues;
+import br.com.techne.cronos.cli.db.TableInfo;
+import br.com.techne.cronos.cli.io.Record;
+
+/**
+ * Batch de "upsert": cada registro é encaminhado ao batch de {@code INSERT} ou, conforme
+ * o {@link ConflictMode}, ao batch de {@code UPDATE} ou descartado, consultando o
+ * {@link KeyIndex} em memória.
+ *
+ * <p>
+ * Registros cuja chave o índice não sabe responder ({@link KeyIndex.Lookup#MAYBE}) ficam
+ * pendentes e são resolvidos no {@link #execute()} com uma consulta por lote de chaves.
+ * Os {@code INSERT}s são executados antes dos {@code UPDATE}s, de forma que uma chave
+ * repetida na entrada é incluída e depois atualizada.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+class UpsertBatch implements RecordBatch {
+
+  private final Connection connection;
+  private final TableInfo table;
+  private final KeyIndex index;
+  private final ConflictMode mode;
+  private final BatchInserter inserter;
+  private final PreparedStatement update;
+  private final int[] updateColumns;
+  private final int[] keyColumns;
+
+  private final List<Object[]> pending = new ArrayList<>();
+  private final List<Object> pendingKeys = new ArrayList<>();
+  private int updates;
+
+  private long inserted;
+  private long updated;
+  private long skipped;
+
+  UpsertBatch(Connection connection, TableInfo table, String source, KeyIndex index, ConflictMode mode) throws SQLException {
+    this.connection = connection;
+    this.table = table;
+    this.index = index;
+    this.mode = mode;
+
+    List<String> primaryKey = table.getPrimaryKey();
+    this.keyColumns = new int[primaryKey.size()];
+    for(int i = 0; i < keyColumns.length; i++) {
+      keyColumns[i] = table.indexOf(primaryKey.get(i));
+    }
+
+    List<Integer> others = new ArrayList<>();
+    for(int i = 0; i < table.getColumns().size(); i++) {
+      if(!primaryKey.contains(table.getColumns().get(i))) {
+        others.add(i);
+      }
+    }
+    this.updateColumns = new int[others.size()];
+    for(int i = 0; i < updateColumns.length; i++) {
+      updateColumns[i] = others.get(i);
+    }
+
+    this.inserter = new BatchInserter(connection, table, source);
+    this.update = mode == ConflictMode.UPDATE && updateColumns.length > 0 ? connection.prepareStatement(updateSql()) : null;
+  }
+
+  private String updateSql() {
+    StringBuilder sql = new StringBuilder("UPDATE ").append(table.getQualifiedName()).append(" SET ");
+    for(int i = 0; i < updateColumns.length; i++) {
+      sql.append(i > 0 ? ", " : "").append(table.quote(table.getColumns().get(updateColumns[i]))).append(" = ?");
+    }
+
+    sql.append(" WHERE ");
+    for(int i = 0; i < keyColumns.length; i++) {
+      sql.append(i > 0 ? " AND " : "").append(table.quote(table.getColumns().get(keyColumns[i]))).append(" = ?");
+    }
+
+    return sql.toString();
+  }
+
+  @Override
+  public void add(Record record) throws SQLException {
+    Object[] values = inserter.toValues(record);
+    Object key = index.key(values);
+
+    if(key == null) {
+      inserter.add(values);
+      inserted++;
+      return;
+    }
+
+    switch(index.lookup(key)) {
+      case ABSENT:
+        insert(values, key);
+        break;
+      case PRESENT:
+        conflict(values);
+        break;
+      default:
+        pending.add(values);
+        pendingKeys.add(key);
+        break;
+    }
+  }
+
+  @Override
+  public int size() {
+    return inserter.size() + updates + pending.size();
+  }
+
+  @Override
+  public void execute() throws SQLException {
+    inserter.execute();
+
+    if(!pending.isEmpty()) {
+      resolvePending();
+      inserter.execute();
+    }
+
+    if(updates > 0) {
+      update.executeBatch();
+      updates = 0;
+    }
+  }
+
+  /**
+   * Confirma no banco as chaves pendentes e encaminha os registros.
+   */
+  private void resolvePending() throws SQLException {
+    Set<Object> existing = index.existing(connection, pendingKeys);
+    Set<Object> routed = new HashSet<>();
+
+    for(int i = 0; i < pending.size(); i++) {
+      Object key = pendingKeys.get(i);
+      if(existing.contains(key) || !routed.add(key)) {
+        conflict(pending.get(i));
+      }
+      else {
+        insert(pending.get(i), key);
+      }
+    }
+
+    pending.clear();
+    pendingKeys.clear();
+  }
+
+  private void insert(Object[] values, Object key) throws SQLException {
+    inserter.add(values);
+    index.add(key);
+    inserted++;
+  }
+
+  private void conflict(Object[] values) throws SQLException {
+    if(update == null) {
+      skipped++;
+      return;
+    }
+
+    int param = 0;
+    for(int column : updateColumns) {
+      SqlValues.bind(update, ++param, values[column], table.getType(column));
+    }
+    for(int column : keyColumns) {
+      SqlValues.bind(update, ++param, values[column], table.getType(column));
+    }
+
+    update.addBatch();
+    updates++;
+    updated++;
+  }
+
+  long getInserted() {
+    return inserted;
+  }
+
+  long getUpdated() {
+    return updated;
+  }
+
+  long getSkipped() {
+    return skipped;
+  }
+
+  @Override
+  public void close() throws SQLException {
+    try {
+      inserter.close();
+    }
+    finally {
+      if(update != null) {
+        update.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,231 @@
+package br.com.techne.cronos.cli.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import br.com.techne.cronos.cli.metrics.Histogram;
+
+/**
+ * Distribui os registros de uma única leitura para vários {@link RecordWriter}, cada um
+ * escrito por uma thread própria.
+ *
+ * <p>
+ * Os registros são copiados uma vez, agrupados em blocos de {@link #DEFAULT_CHUNK_SIZE}
+ * e o mesmo bloco é entregue a todas as saídas por filas circulares limitadas
+ * ({@link ArrayBlockingQueue}) de {@link #DEFAULT_CAPACITY} blocos. Quando a fila de uma
+ * saída lenta está cheia a leitura aguarda, de forma que as demais saídas acompanham a
+ * mais lenta em vez de acumular registros sem limite: o consumo de memória é constante.
+ * </p>
+ *
+ * <p>
+ * A falha de uma saída interrompe a exportação no próximo bloco entregue ou em
+ * {@link #end()}; {@link #close()} encerra as threads de uma exportação interrompida.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class FanOutRecordWriter implements RecordWriter, Closeable {
+
+  public static final int DEFAULT_CAPACITY   = 16;
+  public static final int DEFAULT_CHUNK_SIZE = 256;
+
+  private static final Object[][] END = new Object[0][];
+
+  private final List<Target> targets = new ArrayList<>();
+  private final int chunkSize;
+
+  private Object[][] chunk;
+  private int count;
+  private Histogram queueWait;
+
+  public FanOutRecordWriter(List<RecordWriter> writers) {
+    this(writers, DEFAULT_CAPACITY, DEFAULT_CHUNK_SIZE);
+  }
+
+  /**
+   * @param capacity
+   *          blocos aguardando em cada saída antes que a leitura seja bloqueada.
+   * @param chunkSize
+   *          registros por bloco.
+   */
+  public FanOutRecordWriter(List<RecordWriter> writers, int capacity, int chunkSize) {
+    this.chunkSize = Math.max(1, chunkSize);
+    for(int i = 0; i < writers.size(); i++) {
+      targets.add(new Target(writers.get(i), Math.max(1, capacity), "cronos-fanout-" + (i + 1)));
+    }
+  }
+
+  /**
+   * Registra em <code>queueWait</code> quanto a leitura aguardou a fila de cada saída.
+   */
+  public FanOutRecordWriter queueWait(Histogram queueWait) {
+    this.queueWait = queueWait;
+    return this;
+  }
+
+  @Override
+  public void begin(String table, List<String> columns, int[] types) throws IOException {
+    for(Target target : targets) {
+      target.writer.begin(table, columns, types);
+    }
+    for(Target target : targets) {
+      target.thread.start();
+    }
+  }
+
+  /**
+   * Copia <code>values</code>, que pode ser reutilizado por quem escreve.
+   */
+  @Override
+  public void write(Object[] values) throws IOException {
+    if(chunk == null) {
+      chunk = new Object[chunkSize][];
+    }
+
+    chunk[count++] = values.clone();
+    if(count == chunkSize) {
+      publish();
+    }
+  }
+
+  /**
+   * Entrega os registros restantes, aguarda todas as saídas e as finaliza.
+   */
+  @Override
+  public void end() throws IOException {
+    if(count > 0) {
+      publish();
+    }
+
+    for(Target target : targets) {
+      target.put(END);
+    }
+
+    IOException failure = null;
+    for(Target target : targets) {
+      try {
+        target.thread.join();
+      }
+      catch(InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException();
+      }
+
+      if(failure == null && target.failure != null) {
+        failure = target.failed();
+      }
+    }
+
+    if(failure != null) {
+      throw failure;
+    }
+  }
+
+  /**
+   * Encerra as threads ainda ativas, descartando os registros pendentes.
+   */
+  @Override
+  public void close() {
+    for(Target target : targets) {
+      target.thread.interrupt();
+    }
+  }
+
+  private void publish() throws IOException {
+    Object[][] full = count == chunkSize ? chunk : Arrays.copyOf(chunk, count);
+    chunk = null;
+    count = 0;
+
+    for(Target target : targets) {
+      target.put(full);
+    }
+  }
+
+  /**
+   * Uma saída, com sua fila e sua thread.
+   */
+  private class Target implements Runnable {
+
+    private final RecordWriter writer;
+    private final BlockingQueue<Object[][]> queue;
+    private final Thread thread;
+    private volatile Throwable failure;
+
+    Target(RecordWriter writer, int capacity, String name) {
+      this.writer = writer;
+      this.queue = new ArrayBlockingQueue<>(capacity);
+      this.thread = new Thread(this, name);
+      this.thread.setDaemon(true);
+    }
+
+    void put(Object[][] records) throws IOException {
+      if(failure != null) {
+        throw failed();
+      }
+
+      long start = System.nanoTime();
+      try {
+        queue.put(records);
+      }
+      catch(InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException();
+      }
+
+      if(queueWait != null) {
+        queueWait.recordSince(start);
+      }
+    }
+
+    IOException failed() {
+      return failure instanceof IOException ? (IOException)failure : new IOException(failure.getMessage(), failure);
+    }
+
+    /*
+     * Após uma falha a fila continua sendo esvaziada até o fim, para que a leitura
+     * nunca fique bloqueada por uma saída que não escreve mais: também um Error, que
+     * encerraria a thread com a leitura aguardando em queue.put.
+     */
+
+    @Override
+    public void run() {
+      try {
+        Object[][] records;
+        while((records = queue.take()) != END) {
+          if(failure == null) {
+            write(records);
+          }
+        }
+
+        if(failure == null) {
+          writer.end();
+        }
+      }
+      catch(InterruptedException e) {
+        // exportação interrompida (veja close())
+      }
+      catch(Throwable e) {
+        failure = e;
+      }
+    }
+
+    private void write(Object[][] records) {
+      try {
+        for(Object[] values : records) {
+          writer.write(values);
+        }
+      }
+      catch(Throwable e) {
+        failure = e;
+      }
+    }
+  }
+}
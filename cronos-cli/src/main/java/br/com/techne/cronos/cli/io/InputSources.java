@@ -0,0 +1,214 @@
+package br.com.techne.cronos.cli.io;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import br.com.techne.cronos.cli.i18n.CliMessage;
+import br.com.techne.cronos.i18n.MessageUtil;
+
+/**
+ * Resolve as entradas informadas ao {@literal cronos import}:
+ *
+ * <ul>
+ * <li>arquivos comuns, lidos via {@link MappedInputStream};</li>
+ * <li>entradas de jar/zip no formato {@literal arquivo.jar!/caminho/entrada.xml}, lidas
+ * diretamente do arquivo compactado, sem extração para disco, ou um padrão como
+ * {@literal arquivo.jar!/dados/*.xml} (veja {@link #expand(List)});</li>
+ * <li>recursos do classpath, inclusive dentro de jars.</li>
+ * </ul>
+ *
+ * Conteúdo gzip ({@literal .xml.gz}) é detectado pelo "magic number" e descompactado
+ * durante a leitura.
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public final class InputSources {
+
+  /**
+   * Separador entre o arquivo jar/zip e a entrada, como nas URLs {@literal jar:}.
+   */
+  public static final String ENTRY_SEPARATOR = "!/";
+
+  public static final int DEFAULT_READ_AHEAD = 16 * 1024 * 1024;
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private static final String META_INF = "META-INF/";
+
+  private InputSources() {
+  }
+
+  /**
+   * Substitui cada padrão de entradas de jar/zip ({@literal arquivo.jar!/dados/*.xml}) pelas
+   * entradas correspondentes, na ordem em que aparecem no arquivo. No padrão, {@literal *} e
+   * {@literal ?} não atravessam diretórios e {@literal **} atravessa; as entradas de
+   * {@literal META-INF/} são ignoradas.
+   *
+   * <p>
+   * Um jar/zip sem entrada é recusado: um jar do classpath contém outros XMLs, como o
+   * {@literal pom.xml} do Maven e configurações, que não são registros do Cronos.
+   * </p>
+   */
+  public static List<String> expand(List<String> names) throws IOException {
+    List<String> expanded = new ArrayList<>(names.size());
+
+    for(String name : names) {
+      int separator = name.indexOf(ENTRY_SEPARATOR);
+      String pattern = separator > 0 ? name.substring(separator + ENTRY_SEPARATOR.length()) : null;
+      File archive = separator > 0 ? new File(name.substring(0, separator)) : null;
+
+      if(new File(name).isFile() && isArchive(name)) {
+        throw new IOException(MessageUtil.format(CliMessage.get().IMPORT_ARCHIVE_ENTRY_REQUIRED, name));
+      }
+      else if(archive != null && archive.isFile() && isPattern(pattern)) {
+        int before = expanded.size();
+        Pattern matcher = glob(pattern);
+        try (ZipFile zip = new ZipFile(archive)) {
+          Enumeration<? extends ZipEntry> entries = zip.entries();
+          while(entries.hasMoreElements()) {
+            ZipEntry entry = entries.nextElement();
+            if(!entry.isDirectory() && !entry.getName().startsWith(META_INF) && matcher.matcher(entry.getName()).matches()) {
+              expanded.add(archive.getPath() + ENTRY_SEPARATOR + entry.getName());
+            }
+          }
+        }
+        if(expanded.size() == before) {
+          throw new IOException(MessageUtil.format(CliMessage.get().IMPORT_INPUT_NOT_FOUND, name));
+        }
+      }
+      else {
+        expanded.add(name);
+      }
+    }
+
+    return expanded;
+  }
+
+  public static InputStream open(String name) throws IOException {
+    return open(name, DEFAULT_READ_AHEAD);
+  }
+
+  /**
+   * Abre a entrada <code>name</code>.
+   *
+   * @param readAhead
+   *          tamanho, em bytes, das janelas mapeadas na leitura de arquivos comuns.
+   */
+  public static InputStream open(String name, int readAhead) throws IOException {
+    return decompress(openRaw(name, readAhead));
+  }
+
+  private static InputStream openRaw(String name, int readAhead) throws IOException {
+    File file = new File(name);
+
+    if(file.isFile()) {
+      return new MappedInputStream(file, readAhead);
+    }
+
+    int separator = name.indexOf(ENTRY_SEPARATOR);
+    if(separator > 0 && new File(name.substring(0, separator)).isFile()) {
+      return openEntry(new File(name.substring(0, separator)), name.substring(separator + ENTRY_SEPARATOR.length()), name);
+    }
+
+    String resource = name.startsWith("/") ? name.substring(1) : name;
+    ClassLoader loader = Thread.currentThread().getContextClassLoader();
+    InputStream in = (loader != null ? loader : InputSources.class.getClassLoader()).getResourceAsStream(resource);
+
+    if(in == null) {
+      throw new IOException(MessageUtil.format(CliMessage.get().IMPORT_INPUT_NOT_FOUND, name));
+    }
+
+    return in;
+  }
+
+  private static InputStream openEntry(File archive, String entryName, String name) throws IOException {
+    final ZipFile zip = new ZipFile(archive);
+
+    ZipEntry entry = zip.getEntry(entryName);
+    if(entry == null) {
+      zip.close();
+      throw new IOException(MessageUtil.format(CliMessage.get().IMPORT_INPUT_NOT_FOUND, name));
+    }
+
+    return new FilterInputStream(zip.getInputStream(entry)) {
+      @Override
+      public void close() throws IOException {
+        try {
+          super.close();
+        }
+        finally {
+          zip.close();
+        }
+      }
+    };
+  }
+
+  /**
+   * Aplica buffer à entrada e, caso inicie com o "magic number" gzip, descompacta.
+   */
+  private static InputStream decompress(InputStream raw) throws IOException {
+    BufferedInputStream in = new BufferedInputStream(raw, BUFFER_SIZE);
+
+    in.mark(2);
+    int b1 = in.read();
+    int b2 = in.read();
+    in.reset();
+
+    if(b1 == (GZIPInputStream.GZIP_MAGIC & 0xFF) && b2 == (GZIPInputStream.GZIP_MAGIC >>> 8)) {
+      return new BufferedInputStream(new GZIPInputStream(in, BUFFER_SIZE), BUFFER_SIZE);
+    }
+
+    return in;
+  }
+
+  private static boolean isPattern(String entry) {
+    return entry.indexOf('*') >= 0 || entry.indexOf('?') >= 0;
+  }
+
+  /**
+   * Expressão regular do padrão de entradas: {@literal **} atravessa diretórios,
+   * {@literal *} e {@literal ?} não.
+   */
+  static Pattern glob(String pattern) {
+    StringBuilder regex = new StringBuilder();
+    int start = 0;
+
+    for(int i = 0; i < pattern.length(); i++) {
+      char c = pattern.charAt(i);
+      if(c == '*' || c == '?') {
+        regex.append(Pattern.quote(pattern.substring(start, i)));
+        if(c == '?') {
+          regex.append("[^/]");
+        }
+        else if(i + 1 < pattern.length() && pattern.charAt(i + 1) == '*') {
+          regex.append(".*");
+          i++;
+        }
+        else {
+          regex.append("[^/]*");
+        }
+        start = i + 1;
+      }
+    }
+
+    return Pattern.compile(regex.append(Pattern.quote(pattern.substring(start))).toString());
+  }
+
+  private static boolean isArchive(String name) {
+    String lower = name.toLowerCase(Locale.ROOT);
+    return lower.endsWith(".zip") || lower.endsWith(".jar");
+  }
+}
@@ -0,0 +1,97 @@
+package br.com.techne.cronos.cli.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Leitura sequencial de arquivo via {@link FileChannel#map}, em janelas de
+ * <code>window</code> bytes.
+ *
+ * <p>
+ * Cada janela mapeada funciona como um "read-ahead" grande: o parser consome os bytes
+ * diretamente do page cache, sem a cópia intermediária do {@code read(2)} e sem limitar
+ * o tamanho do arquivo ao espaço de endereçamento.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+class MappedInputStream extends InputStream {
+
+  private final FileChannel channel;
+  private final long size;
+  private final int window;
+  private long position;
+  private MappedByteBuffer buffer;
+
+  MappedInputStream(File file, int window) throws IOException {
+    this.channel = new RandomAccessFile(file, "r").getChannel();
+    this.size = channel.size();
+    this.window = window;
+  }
+
+  private boolean fill() throws IOException {
+    if(buffer != null && buffer.hasRemaining()) {
+      return true;
+    }
+
+    if(position >= size) {
+      return false;
+    }
+
+    long length = Math.min(window, size - position);
+    buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+    position += length;
+    return true;
+  }
+
+  @Override
+  public int read() throws IOException {
+    return fill() ? buffer.get() & 0xFF : -1;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if(len == 0) {
+      return 0;
+    }
+
+    if(!fill()) {
+      return -1;
+    }
+
+    int n = Math.min(len, buffer.remaining());
+    buffer.get(b, off, n);
+    return n;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    long skipped = 0;
+
+    while(skipped < n && fill()) {
+      int step = (int)Math.min(n - skipped, buffer.remaining());
+      buffer.position(buffer.position() + step);
+      skipped += step;
+    }
+
+    return skipped;
+  }
+
+  @Override
+  public int available() throws IOException {
+    long remaining = (buffer != null ? buffer.remaining() : 0) + size - position;
+    return (int)Math.min(Integer.MAX_VALUE, remaining);
+  }
+
+  @Override
+  public void close() throws IOException {
+    buffer = null;
+    channel.close();
+  }
+}
@@ -0,0 +1,73 @@
+package br.com.techne.cronos.cli.io;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import br.com.techne.cronos.cli.metrics.Counter;
+
+/**
+ * Soma a um {@link Counter} os bytes lidos; bytes relidos após {@link #reset()} não são
+ * contados de novo.
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class MeteredInputStream extends FilterInputStream {
+
+  private final Counter counter;
+  private long position;
+  private long counted;
+  private long mark;
+
+  public MeteredInputStream(InputStream in, Counter counter) {
+    super(in);
+    this.counter = counter;
+  }
+
+  @Override
+  public int read() throws IOException {
+    int b = in.read();
+    if(b >= 0) {
+      advance(1);
+    }
+    return b;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    int n = in.read(b, off, len);
+    if(n > 0) {
+      advance(n);
+    }
+    return n;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    long skipped = in.skip(n);
+    advance(skipped);
+    return skipped;
+  }
+
+  @Override
+  public synchronized void mark(int readlimit) {
+    in.mark(readlimit);
+    mark = position;
+  }
+
+  @Override
+  public synchronized void reset() throws IOException {
+    in.reset();
+    position = mark;
+  }
+
+  private void advance(long n) {
+    position += n;
+    if(position > counted) {
+      counter.add(position - counted);
+      counted = position;
+    }
+  }
+}
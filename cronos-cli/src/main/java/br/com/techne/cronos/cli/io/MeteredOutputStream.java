@@ -0,0 +1,36 @@
+package br.com.techne.cronos.cli.io;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import br.com.techne.cronos.cli.metrics.Counter;
+
+/**
+ * Soma a um {@link Counter} os bytes escritos.
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class MeteredOutputStream extends FilterOutputStream {
+
+  private final Counter counter;
+
+  public MeteredOutputStream(OutputStream out, Counter counter) {
+    super(out);
+    this.counter = counter;
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    out.write(b);
+    counter.increment();
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    out.write(b, off, len);
+    counter.add(len);
+  }
+}
@@ -0,0 +1,242 @@
+package br.com.techne.cronos.cli.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import br.com.techne.cronos.cli.metrics.Histogram;
+
+/**
+ * Compressão gzip em paralelo, no estilo do {@literal pigz}: o conteúdo é dividido em
+ * blocos de {@link #DEFAULT_BLOCK_SIZE} bytes, cada bloco é comprimido em uma thread como
+ * um "member" gzip completo e os "members" são escritos na ordem original.
+ *
+ * <p>
+ * O resultado é um gzip "multi-member" padrão (RFC 1952), lido por {@literal gunzip} e
+ * por {@link java.util.zip.GZIPInputStream}. A quantidade de blocos em compressão é
+ * limitada ao dobro da quantidade de threads, de forma que o consumo de memória é
+ * constante e o escritor aguarda quando a compressão não acompanha a produção.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class ParallelGzipOutputStream extends OutputStream {
+
+  public static final int DEFAULT_BLOCK_SIZE = 1024 * 1024;
+
+  private static final byte[] HEADER = { 0x1f, (byte)0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte)0xff };
+
+  private static final ThreadLocal<Deflater> DEFLATER = new ThreadLocal<Deflater>() {
+    @Override
+    protected Deflater initialValue() {
+      return new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+    }
+  };
+
+  private final OutputStream out;
+  private final int blockSize;
+  private final int maxPending;
+  private final ThreadPoolExecutor pool;
+  private final Deque<Future<byte[]>> pending = new ArrayDeque<>();
+  private final ConcurrentLinkedQueue<byte[]> free = new ConcurrentLinkedQueue<>();
+
+  private byte[] block;
+  private int count;
+  private long members;
+  private boolean finished;
+  private Histogram queueWait;
+
+  public ParallelGzipOutputStream(OutputStream out) {
+    this(out, Runtime.getRuntime().availableProcessors(), DEFAULT_BLOCK_SIZE);
+  }
+
+  public ParallelGzipOutputStream(OutputStream out, int threads, int blockSize) {
+    this.out = out;
+    this.blockSize = blockSize;
+    this.maxPending = Math.max(1, threads) * 2;
+    this.block = new byte[blockSize];
+
+    /*
+     * Threads "daemon" que expiram quando ociosas: uma exportação interrompida por erro
+     * não deixa o pool vivo.
+     */
+
+    this.pool = new ThreadPoolExecutor(Math.max(1, threads), Math.max(1, threads), 1, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+      new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable r) {
+          Thread thread = new Thread(r, "cronos-gzip");
+          thread.setDaemon(true);
+          return thread;
+        }
+      });
+    this.pool.allowCoreThreadTimeOut(true);
+  }
+
+  /**
+   * Registra em <code>queueWait</code> quanto a escrita aguardou cada bloco comprimido.
+   */
+  public ParallelGzipOutputStream queueWait(Histogram queueWait) {
+    this.queueWait = queueWait;
+    return this;
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    if(count == blockSize) {
+      submit();
+    }
+    block[count++] = (byte)b;
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    while(len > 0) {
+      if(count == blockSize) {
+        submit();
+      }
+
+      int n = Math.min(len, blockSize - count);
+      System.arraycopy(b, off, block, count, n);
+      count += n;
+      off += n;
+      len -= n;
+    }
+  }
+
+  /**
+   * Comprime o bloco corrente, mesmo incompleto, e escreve todos os blocos pendentes.
+   */
+  @Override
+  public void flush() throws IOException {
+    if(count > 0) {
+      submit();
+    }
+    while(!pending.isEmpty()) {
+      writeNext();
+    }
+    out.flush();
+  }
+
+  /**
+   * Conclui o gzip sem fechar a saída.
+   */
+  public void finish() throws IOException {
+    if(finished) {
+      return;
+    }
+
+    try {
+      if(count > 0 || members == 0) {
+        submit();
+      }
+      flush();
+    }
+    finally {
+      finished = true;
+      pool.shutdown();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      finish();
+    }
+    finally {
+      out.close();
+    }
+  }
+
+  private void submit() throws IOException {
+    final byte[] data = block;
+    final int length = count;
+
+    pending.add(pool.submit(new Callable<byte[]>() {
+      @Override
+      public byte[] call() throws Exception {
+        try {
+          return compress(data, length);
+        }
+        finally {
+          free.offer(data);
+        }
+      }
+    }));
+    members++;
+
+    byte[] recycled = free.poll();
+    block = recycled != null ? recycled : new byte[blockSize];
+    count = 0;
+
+    while(pending.size() > maxPending) {
+      writeNext();
+    }
+  }
+
+  private void writeNext() throws IOException {
+    try {
+      long start = System.nanoTime();
+      byte[] member = pending.poll().get();
+      if(queueWait != null) {
+        queueWait.recordSince(start);
+      }
+      out.write(member);
+    }
+    catch(InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    }
+    catch(ExecutionException e) {
+      throw new IOException(e.getCause());
+    }
+  }
+
+  /**
+   * Comprime <code>data</code> como um "member" gzip completo: cabeçalho, "deflate" puro
+   * e "trailer" com CRC32 e tamanho original.
+   */
+  static byte[] compress(byte[] data, int length) {
+    ByteArrayOutputStream member = new ByteArrayOutputStream(length / 4 + 64);
+    member.write(HEADER, 0, HEADER.length);
+
+    Deflater deflater = DEFLATER.get();
+    deflater.reset();
+    deflater.setInput(data, 0, length);
+    deflater.finish();
+
+    byte[] buffer = new byte[64 * 1024];
+    while(!deflater.finished()) {
+      int n = deflater.deflate(buffer);
+      member.write(buffer, 0, n);
+    }
+
+    CRC32 crc = new CRC32();
+    crc.update(data, 0, length);
+    writeInt(member, (int)crc.getValue());
+    writeInt(member, length);
+
+    return member.toByteArray();
+  }
+
+  private static void writeInt(ByteArrayOutputStream out, int value) {
+    out.write(value);
+    out.write(value >>> 8);
+    out.write(value >>> 16);
+    out.write(value >>> 24);
+  }
+}
@@ -0,0 +1,62 @@
+package br.com.techne.cronos.cli.io;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Registro lido de uma fonte de importação: valores por nome de coluna, na ordem
+ * em que aparecem na entrada.
+ *
+ * <p>
+ * Os valores são textos (XML) ou objetos já tipados; colunas ausentes representam
+ * {@code NULL}.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class Record {
+
+  private final long ordinal;
+  private final Map<String, Object> values;
+
+  public Record(long ordinal) {
+    this.ordinal = ordinal;
+    this.values = new LinkedHashMap<>();
+  }
+
+  /**
+   * Posição (iniciada em 1) do registro na sua fonte.
+   */
+  public long getOrdinal() {
+    return ordinal;
+  }
+
+  public Map<String, Object> getValues() {
+    return values;
+  }
+
+  public Object get(String column) {
+    Object value = values.get(column);
+
+    if(value == null) {
+      for(Map.Entry<String, Object> entry : values.entrySet()) {
+        if(entry.getKey().equalsIgnoreCase(column)) {
+          return entry.getValue();
+        }
+      }
+    }
+
+    return value;
+  }
+
+  public void put(String column, Object value) {
+    values.put(column, value);
+  }
+
+  @Override
+  public String toString() {
+    return "#" + ordinal + " " + values;
+  }
+}
@@ -0,0 +1,95 @@
+package br.com.techne.cronos.cli.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Locale;
+
+import br.com.techne.cronos.cli.cbin.Cbin;
+import br.com.techne.cronos.cli.cbin.CbinRecordReader;
+import br.com.techne.cronos.cli.cbin.CbinRecordWriter;
+import br.com.techne.cronos.cli.i18n.CliMessage;
+import br.com.techne.cronos.cli.xml.XmlRecordReader;
+import br.com.techne.cronos.cli.xml.XmlRecordWriter;
+import br.com.techne.cronos.i18n.MessageUtil;
+
+/**
+ * Formatos de registros suportados pelo {@literal cronos import} e {@literal cronos export}.
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public enum RecordFormat {
+
+  /**
+   * XML Cronos (veja {@link br.com.techne.cronos.cli.xml.CronosXml}).
+   */
+  XML {
+    @Override
+    public RecordReader newReader(String source, InputStream in) {
+      return new XmlRecordReader(source, in);
+    }
+
+    @Override
+    public RecordWriter newWriter(OutputStream out) throws IOException {
+      return new XmlRecordWriter(out);
+    }
+  },
+
+  /**
+   * Binário compacto (veja {@link Cbin}).
+   */
+  CBIN {
+    @Override
+    public RecordReader newReader(String source, InputStream in) {
+      return new CbinRecordReader(source, in);
+    }
+
+    @Override
+    public RecordWriter newWriter(OutputStream out) {
+      return new CbinRecordWriter(out);
+    }
+  };
+
+  public abstract RecordReader newReader(String source, InputStream in);
+
+  public abstract RecordWriter newWriter(OutputStream out) throws IOException;
+
+  /**
+   * Formato de nome <code>name</code> ({@literal xml}, {@literal cbin}).
+   */
+  public static RecordFormat of(String name) {
+    try {
+      return valueOf(name.toUpperCase(Locale.ROOT));
+    }
+    catch(IllegalArgumentException e) {
+      throw new RuntimeException(MessageUtil.format(CliMessage.get().FORMAT_UNSUPPORTED, name), e);
+    }
+  }
+
+  /**
+   * Identifica o formato pelo início de <code>in</code>, que deve suportar
+   * {@link InputStream#mark(int)} (como os streams de {@link InputSources}).
+   */
+  public static RecordFormat detect(InputStream in) throws IOException {
+    byte[] head = new byte[Cbin.MAGIC.length];
+
+    in.mark(head.length);
+    int length = 0;
+    int n;
+    while(length < head.length && (n = in.read(head, length, head.length - length)) > 0) {
+      length += n;
+    }
+    in.reset();
+
+    return Cbin.isCbin(head, length) ? CBIN : XML;
+  }
+
+  /**
+   * Abre o leitor do formato detectado em <code>in</code>.
+   */
+  public static RecordReader open(String source, InputStream in) throws IOException {
+    return detect(in).newReader(source, in);
+  }
+}
@@ -0,0 +1,33 @@
+package br.com.techne.cronos.cli.io;
+
+import java.io.Closeable;
+
+/**
+ * Leitura sequencial de registros de uma fonte de importação.
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public interface RecordReader extends Closeable {
+
+  /**
+   * Tabela de destino declarada pela fonte ou {@code null} caso não declarada.
+   */
+  String getTable();
+
+  /**
+   * Lê o próximo registro.
+   *
+   * @return o registro ou {@code null} ao final da fonte.
+   */
+  Record next();
+
+  /**
+   * Avança <code>count</code> registros sem materializá-los.
+   *
+   * @return quantidade de registros efetivamente ignorados (menor que
+   *         <code>count</code> somente ao final da fonte).
+   */
+  long skip(long count);
+}
@@ -0,0 +1,30 @@
+package br.com.techne.cronos.cli.io;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Escrita sequencial de registros em um formato de exportação.
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public interface RecordWriter {
+
+  /**
+   * Inicia o documento para a tabela <code>table</code> com as colunas e tipos JDBC informados.
+   */
+  void begin(String table, List<String> columns, int[] types) throws IOException;
+
+  /**
+   * Escreve um registro; <code>values</code> segue a ordem das colunas de {@link #begin}
+   * e {@code null} representa {@code NULL}.
+   */
+  void write(Object[] values) throws IOException;
+
+  /**
+   * Finaliza o documento e descarrega os buffers, sem fechar a saída subjacente.
+   */
+  void end() throws IOException;
+}
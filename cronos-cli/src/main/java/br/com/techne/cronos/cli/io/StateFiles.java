@@ -0,0 +1,64 @@
+package br.com.techne.cronos.cli.io;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * Arquivos de estado locais (checkpoints, watermarks) no formato {@link Properties}.
+ *
+ * <p>
+ * A gravação é feita em um arquivo temporário no mesmo diretório, sincronizada em disco e
+ * movida atomicamente sobre o arquivo de estado: uma queda durante a gravação mantém o
+ * estado anterior intacto.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public final class StateFiles {
+
+  private StateFiles() {
+  }
+
+  /**
+   * Lê o estado gravado em <code>file</code>.
+   *
+   * @return o estado ou {@code null} caso o arquivo não exista.
+   */
+  public static Properties load(File file) throws IOException {
+    if(!file.isFile()) {
+      return null;
+    }
+
+    Properties state = new Properties();
+    try (InputStream in = new FileInputStream(file)) {
+      state.load(in);
+    }
+    return state;
+  }
+
+  public static void store(Properties state, File file, String comment) throws IOException {
+    File dir = file.getAbsoluteFile().getParentFile();
+    File tmp = new File(dir, file.getName() + ".tmp");
+
+    try (FileOutputStream out = new FileOutputStream(tmp)) {
+      state.store(out, comment);
+      out.getFD().sync();
+    }
+
+    try {
+      Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    catch(AtomicMoveNotSupportedException e) {
+      Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package br.com.techne.cronos.cli.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Contador somado por várias threads sem disputa pela mesma linha de cache.
+ *
+ * <p>
+ * Equivalente simplificado do {@code java.util.concurrent.atomic.LongAdder}, indisponível
+ * no Java 7: cada thread incrementa uma das células, espaçadas de 64 bytes, escolhida pelo
+ * id da thread, e {@link #sum()} soma as células. A soma lida durante atualizações
+ * concorrentes é aproximada, suficiente para métricas.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class Counter {
+
+  /**
+   * Longs por célula: 8 x 8 bytes ocupam uma linha de cache.
+   */
+  private static final int PADDING = 8;
+
+  private static final int STRIPES = stripes();
+
+  private final AtomicLongArray cells = new AtomicLongArray(STRIPES * PADDING);
+
+  private static int stripes() {
+    int stripes = 1;
+    while(stripes < 2 * Runtime.getRuntime().availableProcessors() && stripes < 64) {
+      stripes <<= 1;
+    }
+    return stripes;
+  }
+
+  public void increment() {
+    add(1);
+  }
+
+  public void add(long delta) {
+    cells.addAndGet(cell(), delta);
+  }
+
+  public long sum() {
+    long sum = 0;
+    for(int i = 0; i < STRIPES; i++) {
+      sum += cells.get(i * PADDING);
+    }
+    return sum;
+  }
+
+  private static int cell() {
+    long id = Thread.currentThread().getId();
+    id ^= id >>> 17;
+    id *= 0x9E3779B97F4A7C15L;
+    return (int)(id >>> 40 & (STRIPES - 1)) * PADDING;
+  }
+}
@@ -0,0 +1,114 @@
+package br.com.techne.cronos.cli.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histograma de latências em nanossegundos com buckets logarítmicos: 8 sub-buckets por
+ * potência de 2, ou seja, percentis com erro máximo de 12,5%, em memória fixa (~4 KB).
+ *
+ * <p>
+ * Pensado para eventos por batch, não por registro: cada {@link #record(long)} é um
+ * incremento atômico.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class Histogram {
+
+  private static final int SUB_BUCKETS = 8;
+  private static final int SUB_BITS    = 3;
+  private static final int BUCKETS     = (64 - SUB_BITS + 1) * SUB_BUCKETS;
+
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+  private final Counter count = new Counter();
+  private final Counter total = new Counter();
+  private final AtomicLong max = new AtomicLong();
+
+  public void record(long nanos) {
+    long value = Math.max(0, nanos);
+
+    buckets.incrementAndGet(index(value));
+    count.increment();
+    total.add(value);
+
+    long current;
+    while(value > (current = max.get()) && !max.compareAndSet(current, value)) {
+      // outra thread atualizou o máximo; tenta de novo
+    }
+  }
+
+  /**
+   * Registra o tempo decorrido desde <code>startNanos</code> ({@link System#nanoTime()}).
+   */
+  public void recordSince(long startNanos) {
+    record(System.nanoTime() - startNanos);
+  }
+
+  public long getCount() {
+    return count.sum();
+  }
+
+  public long getTotal() {
+    return total.sum();
+  }
+
+  public long getMax() {
+    return max.get();
+  }
+
+  public long getMean() {
+    long count = getCount();
+    return count > 0 ? getTotal() / count : 0;
+  }
+
+  /**
+   * Limite superior do bucket que contém o percentil <code>percentile</code> (0 a 100),
+   * limitado ao máximo registrado.
+   */
+  public long getPercentile(double percentile) {
+    long count = getCount();
+    if(count == 0) {
+      return 0;
+    }
+
+    long rank = Math.max(1, (long)Math.ceil(count * percentile / 100.0));
+    long seen = 0;
+    for(int i = 0; i < BUCKETS; i++) {
+      seen += buckets.get(i);
+      if(seen >= rank) {
+        return Math.min(upperBound(i), getMax());
+      }
+    }
+    return getMax();
+  }
+
+  static int index(long value) {
+    if(value < SUB_BUCKETS) {
+      return (int)value;
+    }
+
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    return (exponent - SUB_BITS + 1) * SUB_BUCKETS + (int)(value >>> (exponent - SUB_BITS) & (SUB_BUCKETS - 1));
+  }
+
+  static long upperBound(int index) {
+    if(index < SUB_BUCKETS) {
+      return index;
+    }
+
+    int shift = index / SUB_BUCKETS - 1;
+    long lower = (long)(SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+    return lower + (1L << shift) - 1;
+  }
+
+  /**
+   * <code>nanos</code> em milissegundos, com fração.
+   */
+  public static double toMillis(long nanos) {
+    return nanos / (double)TimeUnit.MILLISECONDS.toNanos(1);
+  }
+}
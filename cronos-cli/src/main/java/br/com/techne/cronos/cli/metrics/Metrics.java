@@ -0,0 +1,182 @@
+package br.com.techne.cronos.cli.metrics;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import br.com.techne.cronos.cli.i18n.CliMessage;
+import br.com.techne.cronos.i18n.MessageUtil;
+
+/**
+ * Contadores e histogramas de uma execução do {@literal cronos import} ou
+ * {@literal cronos export}, atualizados pelas threads de trabalho sem disputa
+ * (veja {@link Counter}) e consultados pelos relatórios {@literal --stats},
+ * {@literal --stats-json} e {@literal --progress}.
+ *
+ * <ul>
+ * <li>bytes lidos (já descompactados) e escritos (como gravados na saída);</li>
+ * <li>registros lidos da entrada ou do banco e registros gravados;</li>
+ * <li>batches JDBC: transações na importação, idas ao banco na exportação, com a latência de cada um;</li>
+ * <li>espera entre estágios: tempo em que um estágio aguardou o seguinte
+ * (p.ex. a escrita aguardando a compressão paralela).</li>
+ * </ul>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class Metrics {
+
+  private static final double MEGABYTE = 1024.0 * 1024.0;
+
+  private final long started = System.nanoTime();
+  private volatile long finished;
+
+  private final Counter bytesRead = new Counter();
+  private final Counter bytesWritten = new Counter();
+  private final Counter recordsRead = new Counter();
+  private final Counter recordsWritten = new Counter();
+  private final Counter batches = new Counter();
+  private final Histogram batchLatency = new Histogram();
+  private final Histogram queueWait = new Histogram();
+
+  public Counter getBytesRead() {
+    return bytesRead;
+  }
+
+  public Counter getBytesWritten() {
+    return bytesWritten;
+  }
+
+  public Counter getRecordsRead() {
+    return recordsRead;
+  }
+
+  public Counter getRecordsWritten() {
+    return recordsWritten;
+  }
+
+  public Counter getBatches() {
+    return batches;
+  }
+
+  public Histogram getBatchLatency() {
+    return batchLatency;
+  }
+
+  public Histogram getQueueWait() {
+    return queueWait;
+  }
+
+  /**
+   * Encerra a medição do tempo total; antes disso o tempo é medido até o momento.
+   */
+  public void finish() {
+    finished = System.nanoTime();
+  }
+
+  public long getElapsedNanos() {
+    return (finished != 0 ? finished : System.nanoTime()) - started;
+  }
+
+  public double getRecordsPerSecond() {
+    return perSecond(recordsWritten.sum());
+  }
+
+  public double getMegabytesReadPerSecond() {
+    return perSecond(bytesRead.sum()) / MEGABYTE;
+  }
+
+  public double getMegabytesWrittenPerSecond() {
+    return perSecond(bytesWritten.sum()) / MEGABYTE;
+  }
+
+  private double perSecond(long value) {
+    double seconds = getElapsedNanos() / (double)TimeUnit.SECONDS.toNanos(1);
+    return seconds > 0 ? value / seconds : 0;
+  }
+
+  /**
+   * Resumo legível da execução ({@literal --stats}).
+   */
+  public List<String> summary() {
+    CliMessage messages = CliMessage.get();
+    List<String> lines = new ArrayList<>();
+
+    lines.add(MessageUtil.format(messages.STATS_HEADER, decimal(getElapsedNanos() / (double)TimeUnit.SECONDS.toNanos(1))));
+    lines.add(MessageUtil.format(messages.STATS_RECORDS, recordsRead.sum(), recordsWritten.sum(), decimal(getRecordsPerSecond())));
+    lines.add(MessageUtil.format(messages.STATS_BYTES, decimal(bytesRead.sum() / MEGABYTE), decimal(getMegabytesReadPerSecond()),
+      decimal(bytesWritten.sum() / MEGABYTE), decimal(getMegabytesWrittenPerSecond())));
+    lines.add(MessageUtil.format(messages.STATS_BATCHES, batches.sum(), millis(batchLatency.getMean()), millis(batchLatency.getPercentile(50)),
+      millis(batchLatency.getPercentile(95)), millis(batchLatency.getPercentile(99)), millis(batchLatency.getMax())));
+    lines.add(MessageUtil.format(messages.STATS_QUEUE_WAIT, queueWait.getCount(), millis(queueWait.getTotal()), millis(queueWait.getPercentile(99)),
+      millis(queueWait.getMax())));
+
+    return lines;
+  }
+
+  /**
+   * Linha de andamento ({@literal --progress}).
+   */
+  public String progress() {
+    return MessageUtil.format(CliMessage.get().STATS_PROGRESS, recordsWritten.sum(), decimal(getRecordsPerSecond()),
+      decimal(Math.max(bytesRead.sum(), bytesWritten.sum()) / MEGABYTE), decimal(Math.max(getMegabytesReadPerSecond(), getMegabytesWrittenPerSecond())),
+      batches.sum());
+  }
+
+  /**
+   * Grava o resumo em JSON ({@literal --stats-json}); tempos em milissegundos.
+   */
+  public void writeJson(File file, String command) throws IOException {
+    StringBuilder json = new StringBuilder("{\n");
+    json.append("  \"command\": \"").append(command).append("\",\n");
+    json.append("  \"elapsedMillis\": ").append(number(Histogram.toMillis(getElapsedNanos()))).append(",\n");
+    json.append("  \"bytesRead\": ").append(bytesRead.sum()).append(",\n");
+    json.append("  \"bytesWritten\": ").append(bytesWritten.sum()).append(",\n");
+    json.append("  \"recordsRead\": ").append(recordsRead.sum()).append(",\n");
+    json.append("  \"recordsWritten\": ").append(recordsWritten.sum()).append(",\n");
+    json.append("  \"recordsPerSecond\": ").append(number(getRecordsPerSecond())).append(",\n");
+    json.append("  \"megabytesReadPerSecond\": ").append(number(getMegabytesReadPerSecond())).append(",\n");
+    json.append("  \"megabytesWrittenPerSecond\": ").append(number(getMegabytesWrittenPerSecond())).append(",\n");
+    json.append("  \"batches\": ").append(batches.sum()).append(",\n");
+    json.append("  \"batchLatency\": ");
+    appendJson(json, batchLatency);
+    json.append(",\n  \"queueWait\": ");
+    appendJson(json, queueWait);
+    json.append("\n}\n");
+
+    try (Writer out = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+      out.write(json.toString());
+    }
+  }
+
+  private static void appendJson(StringBuilder json, Histogram histogram) {
+    json.append("{ \"count\": ").append(histogram.getCount())
+      .append(", \"totalMillis\": ").append(number(Histogram.toMillis(histogram.getTotal())))
+      .append(", \"meanMillis\": ").append(number(Histogram.toMillis(histogram.getMean())))
+      .append(", \"p50Millis\": ").append(number(Histogram.toMillis(histogram.getPercentile(50))))
+      .append(", \"p95Millis\": ").append(number(Histogram.toMillis(histogram.getPercentile(95))))
+      .append(", \"p99Millis\": ").append(number(Histogram.toMillis(histogram.getPercentile(99))))
+      .append(", \"maxMillis\": ").append(number(Histogram.toMillis(histogram.getMax())))
+      .append(" }");
+  }
+
+  private static String number(double value) {
+    return String.format(Locale.ROOT, "%.3f", value);
+  }
+
+  private static String decimal(double value) {
+    return String.format("%.1f", value);
+  }
+
+  private static String millis(long nanos) {
+    return String.format("%.2f", Histogram.toMillis(nanos));
+  }
+}
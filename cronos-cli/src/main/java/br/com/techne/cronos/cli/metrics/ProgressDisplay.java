@@ -0,0 +1,74 @@
+package br.com.techne.cronos.cli.metrics;
+
+import java.io.Closeable;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exibe {@link Metrics#progress()} em uma única linha, reescrita a cada
+ * {@link #INTERVAL_MILLIS} ms por uma thread "daemon" ({@literal --progress}).
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class ProgressDisplay implements Closeable {
+
+  public static final long INTERVAL_MILLIS = 1000;
+
+  private final Metrics metrics;
+  private final PrintStream out;
+  private final Thread thread;
+  private int width;
+
+  public ProgressDisplay(Metrics metrics, PrintStream out) {
+    this.metrics = metrics;
+    this.out = out;
+    this.thread = new Thread("cronos-progress") {
+      @Override
+      public void run() {
+        try {
+          while(!isInterrupted()) {
+            TimeUnit.MILLISECONDS.sleep(INTERVAL_MILLIS);
+            print();
+          }
+        }
+        catch(InterruptedException e) {
+          // encerrado por close()
+        }
+      }
+    };
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  private synchronized void print() {
+    String line = metrics.progress();
+
+    StringBuilder text = new StringBuilder("\r").append(line);
+    for(int i = line.length(); i < width; i++) {
+      text.append(' ');
+    }
+    width = line.length();
+
+    out.print(text);
+    out.flush();
+  }
+
+  /**
+   * Interrompe a atualização, exibindo a linha final.
+   */
+  @Override
+  public void close() {
+    thread.interrupt();
+    try {
+      thread.join();
+    }
+    catch(InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    print();
+    out.println();
+  }
+}
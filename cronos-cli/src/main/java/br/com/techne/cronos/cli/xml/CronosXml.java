@@ -0,0 +1,68 @@
+package br.com.techne.cronos.cli.xml;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+
+import org.xml.sax.SAXException;
+
+/**
+ * Vocabulário do XML de transações Cronos:
+ *
+ * <pre>
+ * {@code <cronos table="TRANSACAO">
+ *   <record>
+ *     <ID>1</ID>
+ *     <DESCRICAO>...</DESCRICAO>
+ *   </record>
+ * </cronos>}
+ * </pre>
+ *
+ * Cada elemento filho de {@code record} é uma coluna; colunas ausentes são {@code NULL}.
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public final class CronosXml {
+
+  public static final String ROOT       = "cronos";
+  public static final String ATTR_TABLE = "table";
+  public static final String RECORD     = "record";
+
+  /**
+   * XSD do vocabulário, disponível no classpath ao lado desta classe.
+   */
+  public static final String SCHEMA     = "cronos.xsd";
+
+  private static Schema schema;
+
+  private CronosXml() {
+  }
+
+  /**
+   * Factory StAX sem suporte a DTD e entidades externas.
+   */
+  public static XMLInputFactory newInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+    return factory;
+  }
+
+  /**
+   * {@link Schema} de {@link #SCHEMA}, imutável e compartilhado entre threads.
+   */
+  public static synchronized Schema schema() {
+    if(schema == null) {
+      try {
+        schema = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI).newSchema(CronosXml.class.getResource(SCHEMA));
+      }
+      catch(SAXException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+    return schema;
+  }
+}
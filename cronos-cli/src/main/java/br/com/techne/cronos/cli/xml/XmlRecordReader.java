@@ -0,0 +1,151 @@
+package br.com.techne.cronos.cli.xml;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import br.com.techne.cronos.cli.i18n.CliMessage;
+import br.com.techne.cronos.cli.io.Record;
+import br.com.techne.cronos.cli.io.RecordReader;
+import br.com.techne.cronos.i18n.MessageUtil;
+
+/**
+ * {@link RecordReader} sobre o XML Cronos (veja {@link CronosXml}) utilizando StAX,
+ * ou seja, em memória constante independente do tamanho do arquivo.
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class XmlRecordReader implements RecordReader {
+
+  private final String source;
+  private final InputStream in;
+  private final XMLStreamReader reader;
+  private final String table;
+  private long ordinal;
+  private boolean eof;
+
+  public XmlRecordReader(String source, InputStream in) {
+    this.source = source;
+    this.in = in;
+
+    try {
+      this.reader = CronosXml.newInputFactory().createXMLStreamReader(in);
+      reader.nextTag();
+      if(!CronosXml.ROOT.equals(reader.getLocalName())) {
+        throw malformed(null);
+      }
+      this.table = reader.getAttributeValue(null, CronosXml.ATTR_TABLE);
+    }
+    catch(XMLStreamException e) {
+      throw malformed(e);
+    }
+  }
+
+  @Override
+  public String getTable() {
+    return table;
+  }
+
+  /**
+   * Quantidade de registros lidos ou ignorados até o momento.
+   */
+  public long getOrdinal() {
+    return ordinal;
+  }
+
+  @Override
+  public Record next() {
+    try {
+      if(!nextRecord()) {
+        return null;
+      }
+
+      Record record = new Record(++ordinal);
+      while(reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+        String column = reader.getLocalName();
+        record.put(column, reader.getElementText());
+      }
+
+      return record;
+    }
+    catch(XMLStreamException e) {
+      throw malformed(e);
+    }
+  }
+
+  /**
+   * Avança pelos eventos StAX de cada {@code record}, sem extrair texto ou criar objetos.
+   */
+  @Override
+  public long skip(long count) {
+    long skipped = 0;
+
+    try {
+      while(skipped < count && nextRecord()) {
+        int depth = 1;
+        while(depth > 0) {
+          int event = reader.next();
+          if(event == XMLStreamConstants.START_ELEMENT) {
+            depth++;
+          }
+          else if(event == XMLStreamConstants.END_ELEMENT) {
+            depth--;
+          }
+        }
+
+        ordinal++;
+        skipped++;
+      }
+    }
+    catch(XMLStreamException e) {
+      throw malformed(e);
+    }
+
+    return skipped;
+  }
+
+  /**
+   * Posiciona o cursor no início do próximo {@code record}.
+   *
+   * @return {@code false} ao encontrar o fim do elemento raiz.
+   */
+  private boolean nextRecord() throws XMLStreamException {
+    if(eof) {
+      return false;
+    }
+
+    if(reader.nextTag() == XMLStreamConstants.END_ELEMENT) {
+      eof = true;
+      return false;
+    }
+
+    if(!CronosXml.RECORD.equals(reader.getLocalName())) {
+      throw malformed(null);
+    }
+
+    return true;
+  }
+
+  private RuntimeException malformed(XMLStreamException cause) {
+    String detail = cause != null ? cause.getMessage() : "<" + CronosXml.ROOT + "><" + CronosXml.RECORD + ">";
+    return new RuntimeException(MessageUtil.format(CliMessage.get().XML_MALFORMED, source, detail), cause);
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      reader.close();
+    }
+    catch(XMLStreamException e) {
+      throw new IOException(e);
+    }
+    finally {
+      in.close();
+    }
+  }
+}
@@ -0,0 +1,160 @@
+package br.com.techne.cronos.cli.xml;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import br.com.techne.cronos.cli.db.SqlValues;
+import br.com.techne.cronos.cli.io.Record;
+import br.com.techne.cronos.cli.io.RecordWriter;
+
+/**
+ * {@link RecordWriter} do XML Cronos (veja {@link CronosXml}) via {@link XMLStreamWriter}
+ * bufferizado: cada registro é serializado assim que recebido.
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class XmlRecordWriter implements RecordWriter {
+
+  public static final int BUFFER_SIZE = 64 * 1024;
+
+  private final OutputStream out;
+  private final XMLStreamWriter writer;
+  private String[] columns;
+
+  public XmlRecordWriter(OutputStream out) throws IOException {
+    this.out = new BufferedOutputStream(out, BUFFER_SIZE);
+
+    try {
+      this.writer = XMLOutputFactory.newInstance().createXMLStreamWriter(this.out, "UTF-8");
+    }
+    catch(XMLStreamException e) {
+      throw new IOException(e);
+    }
+  }
+
+  @Override
+  public void begin(String table, List<String> columns, int[] types) throws IOException {
+    this.columns = columns.toArray(new String[columns.size()]);
+
+    try {
+      writer.writeStartDocument("UTF-8", "1.0");
+      writer.writeCharacters("\n");
+      writer.writeStartElement(CronosXml.ROOT);
+      writer.writeAttribute(CronosXml.ATTR_TABLE, table);
+      writer.writeCharacters("\n");
+    }
+    catch(XMLStreamException e) {
+      throw new IOException(e);
+    }
+  }
+
+  @Override
+  public void write(Object[] values) throws IOException {
+    try {
+      writer.writeCharacters("  ");
+      writer.writeStartElement(CronosXml.RECORD);
+
+      for(int i = 0; i < columns.length; i++) {
+        String text = SqlValues.toText(values[i]);
+        if(text != null) {
+          writer.writeStartElement(columns[i]);
+          writer.writeCharacters(text);
+          writer.writeEndElement();
+        }
+      }
+
+      writer.writeEndElement();
+      writer.writeCharacters("\n");
+    }
+    catch(XMLStreamException | SQLException e) {
+      throw new IOException(e);
+    }
+  }
+
+  /**
+   * Escreve <code>record</code> com as suas próprias colunas, independente das colunas de
+   * {@link #begin}.
+   */
+  public void write(Record record) throws IOException {
+    try {
+      writer.writeCharacters("  ");
+      writer.writeStartElement(CronosXml.RECORD);
+
+      for(Map.Entry<String, Object> entry : record.getValues().entrySet()) {
+        String text = SqlValues.toText(entry.getValue());
+        if(text != null) {
+          writer.writeStartElement(entry.getKey());
+          writer.writeCharacters(text);
+          writer.writeEndElement();
+        }
+      }
+
+      writer.writeEndElement();
+      writer.writeCharacters("\n");
+    }
+    catch(XMLStreamException | SQLException e) {
+      throw new IOException(e);
+    }
+  }
+
+  /**
+   * Escreve um comentário XML, ignorado na importação; sequências {@literal --}, inválidas
+   * em comentários, são separadas.
+   */
+  public void comment(String text) throws IOException {
+    String safe = text;
+    while(safe.contains("--")) {
+      safe = safe.replace("--", "- -");
+    }
+    if(safe.endsWith("-")) {
+      safe += " ";
+    }
+
+    try {
+      writer.writeCharacters("  ");
+      writer.writeComment(" " + safe + " ");
+      writer.writeCharacters("\n");
+    }
+    catch(XMLStreamException e) {
+      throw new IOException(e);
+    }
+  }
+
+  /**
+   * Descarrega o que já foi escrito até a saída subjacente, permitindo medir as posições
+   * do cabeçalho e do fim do corpo do documento.
+   */
+  public void flush() throws IOException {
+    try {
+      writer.flush();
+      out.flush();
+    }
+    catch(XMLStreamException e) {
+      throw new IOException(e);
+    }
+  }
+
+  @Override
+  public void end() throws IOException {
+    try {
+      writer.writeEndElement();
+      writer.writeCharacters("\n");
+      writer.writeEndDocument();
+      writer.flush();
+      out.flush();
+    }
+    catch(XMLStreamException e) {
+      throw new IOException(e);
+    }
+  }
+}
@@ -0,0 +1,164 @@
+package br.com.techne.cronos.cli.xml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.util.StreamReaderDelegate;
+import javax.xml.transform.stax.StAXSource;
+import javax.xml.validation.Validator;
+
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+
+import br.com.techne.cronos.cli.i18n.CliMessage;
+import br.com.techne.cronos.i18n.MessageUtil;
+
+/**
+ * Valida um XML Cronos contra {@link CronosXml#SCHEMA} com um {@link Validator} sobre
+ * {@link StAXSource}, em memória constante independente do tamanho do arquivo.
+ *
+ * <p>
+ * Além do XSD, que não declara as colunas, verifica que cada coluna contém somente texto.
+ * A validação é interrompida no primeiro erro de sintaxe ou ao atingir o limite de erros.
+ * Instâncias não são thread-safe; o {@link javax.xml.validation.Schema} é compartilhado.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class XmlValidator implements ErrorHandler {
+
+  private final int maxErrors;
+  private List<String> errors;
+  private long records;
+  private boolean stopped;
+
+  public XmlValidator(int maxErrors) {
+    this.maxErrors = maxErrors;
+  }
+
+  /**
+   * Valida <code>in</code>, acrescentando em <code>errors</code> até <code>maxErrors</code>
+   * mensagens com linha e coluna.
+   *
+   * @return quantidade de registros lidos.
+   */
+  public long validate(InputStream in, List<String> errors) throws IOException {
+    this.errors = errors;
+    this.records = 0;
+    this.stopped = false;
+
+    XMLStreamReader reader = null;
+    try {
+      reader = CronosXml.newInputFactory().createXMLStreamReader(in);
+      Validator validator = CronosXml.schema().newValidator();
+      validator.setErrorHandler(this);
+      validator.validate(new StAXSource(new ColumnChecker(reader)));
+    }
+    catch(XMLStreamException e) {
+      if(!stopped) {
+        add(e.getLocation(), e.getMessage());
+      }
+    }
+    catch(SAXException e) {
+      if(!stopped) {
+        add(reader != null ? reader.getLocation() : null, e.getMessage());
+      }
+    }
+    finally {
+      if(reader != null) {
+        try {
+          reader.close();
+        }
+        catch(XMLStreamException e) {
+          // somente libera o parser; o stream é fechado por quem o abriu
+        }
+      }
+    }
+
+    return records;
+  }
+
+  @Override
+  public void warning(SAXParseException e) {
+    // avisos do XSD não invalidam o arquivo
+  }
+
+  @Override
+  public void error(SAXParseException e) throws SAXException {
+    if(report(e.getLineNumber(), e.getColumnNumber(), e.getMessage())) {
+      throw e;
+    }
+  }
+
+  @Override
+  public void fatalError(SAXParseException e) throws SAXException {
+    report(e.getLineNumber(), e.getColumnNumber(), e.getMessage());
+    stopped = true;
+    throw e;
+  }
+
+  /**
+   * @return {@code true} quando o limite de erros foi atingido e a validação deve parar.
+   */
+  private boolean report(int line, int column, String message) {
+    if(stopped) {
+      return true;
+    }
+
+    errors.add(MessageUtil.format(CliMessage.get().VALIDATE_ERROR, line, column, message));
+    if(errors.size() >= maxErrors) {
+      errors.add(MessageUtil.format(CliMessage.get().VALIDATE_STOPPED, maxErrors));
+      stopped = true;
+    }
+    return stopped;
+  }
+
+  private void add(Location location, String message) {
+    report(location != null ? location.getLineNumber() : -1, location != null ? location.getColumnNumber() : -1, message);
+    stopped = true;
+  }
+
+  /**
+   * Conta os registros e rejeita elementos dentro de colunas à medida que o
+   * {@link Validator} consome os eventos.
+   */
+  private class ColumnChecker extends StreamReaderDelegate {
+
+    private int depth;
+
+    ColumnChecker(XMLStreamReader reader) {
+      super(reader);
+    }
+
+    @Override
+    public int next() throws XMLStreamException {
+      int event = super.next();
+
+      if(event == XMLStreamConstants.START_ELEMENT) {
+        depth++;
+        if(depth == 2 && CronosXml.RECORD.equals(getLocalName())) {
+          records++;
+        }
+        else if(depth == 4) {
+          Location location = getLocation();
+          if(report(location.getLineNumber(), location.getColumnNumber(), MessageUtil.format(CliMessage.get().VALIDATE_COLUMN_NOT_TEXT, getLocalName()))) {
+            throw new XMLStreamException(errors.get(errors.size() - 1), location);
+          }
+        }
+      }
+      else if(event == XMLStreamConstants.END_ELEMENT) {
+        depth--;
+      }
+
+      return event;
+    }
+  }
+}
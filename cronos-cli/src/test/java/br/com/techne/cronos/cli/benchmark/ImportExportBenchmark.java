@@ -0,0 +1,260 @@
+package br.com.techne.cronos.cli.benchmark;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+
+import br.com.techne.cronos.cli.db.CronosDataSource;
+import br.com.techne.cronos.cli.exporter.Exporter;
+import br.com.techne.cronos.cli.importer.Importer;
+import br.com.techne.cronos.cli.metrics.Metrics;
+
+/**
+ * Mede {@link Importer} e {@link Exporter} de ponta a ponta: gera XMLs sintéticos
+ * ({@link SyntheticData}), importa cada um em um banco H2 embarcado e exporta a tabela de
+ * volta, registrando MB/s, registros/s, pico de heap e tempo de GC de cada fase.
+ *
+ * <p>
+ * Roda sem rede; o relatório JSON é gravado por commit ({@literal target/benchmark/<commit>.json})
+ * para comparação entre versões. Para executar:
+ * </p>
+ *
+ * <pre>
+ * mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -Xmx1g -cp target/classes:target/test-classes:$(cat target/cp.txt) \
+ *   br.com.techne.cronos.cli.benchmark.ImportExportBenchmark --records 100000,1000000 --text-length 40
+ * </pre>
+ *
+ * <p>
+ * Opções: {@literal --records} (lista), {@literal --numeric-columns}, {@literal --text-columns},
+ * {@literal --text-length}, {@literal --null-ratio}, {@literal --batch-size},
+ * {@literal --fetch-size}, {@literal --db mem|file}, {@literal --dir} e {@literal --report}.
+ * </p>
+ */
+public class ImportExportBenchmark {
+
+  private final Map<String, String> options;
+  private final List<String> results = new ArrayList<>();
+
+  ImportExportBenchmark(Map<String, String> options) {
+    this.options = options;
+  }
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> options = new LinkedHashMap<>();
+    for(int i = 0; i + 1 < args.length; i += 2) {
+      options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+    }
+
+    File report = new ImportExportBenchmark(options).run();
+    System.out.println("report: " + report);
+  }
+
+  /**
+   * Executa todas as configurações e grava o relatório.
+   */
+  File run() throws Exception {
+    File dir = new File(option("dir", "target/benchmark"));
+    dir.mkdirs();
+
+    for(String records : option("records", "100000").split(",")) {
+      SyntheticData data = new SyntheticData()
+        .records(Long.parseLong(records.trim()))
+        .numericColumns(Integer.parseInt(option("numeric-columns", "3")))
+        .textColumns(Integer.parseInt(option("text-columns", "2")))
+        .textLength(Integer.parseInt(option("text-length", "40")))
+        .nullRatio(Double.parseDouble(option("null-ratio", "0.1")));
+
+      run(data, dir);
+    }
+
+    String commit = commit();
+    File report = new File(option("report", new File(dir, commit + ".json").getPath()));
+    writeReport(report, commit);
+    return report;
+  }
+
+  private void run(SyntheticData data, File dir) throws Exception {
+    File xml = data.writeXml(new File(dir, "bench-" + data.getRecords() + ".xml"));
+    File db = new File(dir, "db-" + data.getRecords());
+    CronosDataSource dataSource = dataSource(db);
+
+    try {
+      data.createTable(dataSource);
+
+      Phase phase = Phase.start();
+      Importer importer = new Importer(dataSource)
+        .table(SyntheticData.TABLE)
+        .batchSize(Integer.parseInt(option("batch-size", "1000")))
+        .checkpoint(new File(dir, "bench.checkpoint"));
+      importer.run(Arrays.asList(xml.getPath()));
+      results.add(phase.finish("import", data, importer.getMetrics()));
+
+      File exported = new File(dir, "bench-" + data.getRecords() + ".export.xml");
+      phase = Phase.start();
+      Exporter exporter = new Exporter(dataSource)
+        .table(SyntheticData.TABLE)
+        .fetchSize(Integer.parseInt(option("fetch-size", "1000")));
+      try (OutputStream out = new FileOutputStream(exported)) {
+        exporter.run(out);
+      }
+      results.add(phase.finish("export", data, exporter.getMetrics()));
+
+      exported.delete();
+    }
+    finally {
+      try (Connection c = dataSource.getConnection(); Statement st = c.createStatement()) {
+        st.execute("SHUTDOWN");
+      }
+      xml.delete();
+      for(File file : dir.listFiles()) {
+        if(file.getName().startsWith(db.getName())) {
+          file.delete();
+        }
+      }
+    }
+  }
+
+  private CronosDataSource dataSource(File db) {
+    String url = "file".equals(option("db", "file")) ? "jdbc:h2:" + db.getAbsolutePath() : "jdbc:h2:mem:" + db.getName() + ";DB_CLOSE_DELAY=-1";
+    return new CronosDataSource(url, "sa", "".toCharArray());
+  }
+
+  private String option(String name, String defaultValue) {
+    String value = options.get(name);
+    return value != null ? value : defaultValue;
+  }
+
+  private void writeReport(File report, String commit) throws IOException {
+    SimpleDateFormat iso = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'", Locale.ROOT);
+    iso.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+    StringBuilder json = new StringBuilder("{\n");
+    json.append("  \"commit\": \"").append(commit).append("\",\n");
+    json.append("  \"timestamp\": \"").append(iso.format(new Date())).append("\",\n");
+    json.append("  \"java\": \"").append(System.getProperty("java.version")).append("\",\n");
+    json.append("  \"os\": \"").append(System.getProperty("os.name")).append(' ').append(System.getProperty("os.arch")).append("\",\n");
+    json.append("  \"cpus\": ").append(Runtime.getRuntime().availableProcessors()).append(",\n");
+    json.append("  \"maxHeapMB\": ").append(Runtime.getRuntime().maxMemory() >> 20).append(",\n");
+    json.append("  \"db\": \"h2-").append(option("db", "file")).append("\",\n");
+    json.append("  \"results\": [\n");
+    for(int i = 0; i < results.size(); i++) {
+      json.append("    ").append(results.get(i)).append(i < results.size() - 1 ? ",\n" : "\n");
+    }
+    json.append("  ]\n}\n");
+
+    report.getAbsoluteFile().getParentFile().mkdirs();
+    try (Writer out = new OutputStreamWriter(new FileOutputStream(report), StandardCharsets.UTF_8)) {
+      out.write(json.toString());
+    }
+  }
+
+  /**
+   * Commit corrente ({@literal -Dbenchmark.commit} ou {@literal git rev-parse}), que nomeia o relatório.
+   */
+  private static String commit() {
+    String commit = System.getProperty("benchmark.commit");
+    if(commit != null) {
+      return commit;
+    }
+
+    try {
+      Process git = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").redirectErrorStream(true).start();
+      try (BufferedReader in = new BufferedReader(new InputStreamReader(git.getInputStream(), StandardCharsets.UTF_8))) {
+        String line = in.readLine();
+        if(git.waitFor() == 0 && line != null && line.matches("[0-9a-f]+")) {
+          return line;
+        }
+      }
+    }
+    catch(IOException | InterruptedException e) {
+      // fora de um repositório git
+    }
+    return "unknown";
+  }
+
+  /**
+   * Pico de heap e tempo de GC de uma fase, medidos pelos MXBeans da JVM.
+   */
+  static class Phase {
+
+    private final long gcTime;
+    private final long gcCount;
+
+    private Phase(long gcTime, long gcCount) {
+      this.gcTime = gcTime;
+      this.gcCount = gcCount;
+    }
+
+    static Phase start() {
+      System.gc();
+      for(MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+        if(pool.getType() == MemoryType.HEAP) {
+          pool.resetPeakUsage();
+        }
+      }
+      return new Phase(gcTime(), gcCount());
+    }
+
+    String finish(String name, SyntheticData data, Metrics metrics) {
+      metrics.finish();
+
+      long peakHeap = 0;
+      for(MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+        if(pool.getType() == MemoryType.HEAP) {
+          peakHeap += pool.getPeakUsage().getUsed();
+        }
+      }
+
+      long bytes = Math.max(metrics.getBytesRead().sum(), metrics.getBytesWritten().sum());
+      double seconds = metrics.getElapsedNanos() / 1e9;
+
+      String result = String.format(Locale.ROOT,
+        "{ \"phase\": \"%s\", \"shape\": %s, \"records\": %d, \"bytes\": %d, \"seconds\": %.3f, \"megabytesPerSecond\": %.2f, "
+          + "\"recordsPerSecond\": %.0f, \"peakHeapMB\": %.1f, \"gcMillis\": %d, \"gcCount\": %d, \"batches\": %d, \"batchP99Millis\": %.3f }",
+        name, data.describe(), metrics.getRecordsWritten().sum(), bytes, seconds, bytes / (1024.0 * 1024.0) / seconds,
+        metrics.getRecordsWritten().sum() / seconds, peakHeap / (1024.0 * 1024.0), gcTime() - gcTime, gcCount() - gcCount,
+        metrics.getBatches().sum(), metrics.getBatchLatency().getPercentile(99) / 1e6);
+
+      System.out.println(result);
+      return result;
+    }
+
+    private static long gcTime() {
+      long time = 0;
+      for(GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+        time += Math.max(0, gc.getCollectionTime());
+      }
+      return time;
+    }
+
+    private static long gcCount() {
+      long count = 0;
+      for(GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+        count += Math.max(0, gc.getCollectionCount());
+      }
+      return count;
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package br.com.techne.cronos.cli.benchmark;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Execução mínima do {@link ImportExportBenchmark}, garantindo que o harness continua
+ * funcionando e produzindo o relatório.
+ */
+public class ImportExportBenchmarkTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void writesReportForEachPhase() throws Exception {
+    Map<String, String> options = new LinkedHashMap<>();
+    options.put("records", "500,1500");
+    options.put("db", "mem");
+    options.put("dir", folder.getRoot().getPath());
+    options.put("report", new File(folder.getRoot(), "report.json").getPath());
+
+    File report = new ImportExportBenchmark(options).run();
+
+    String json = new String(Files.readAllBytes(report.toPath()), StandardCharsets.UTF_8);
+    assertTrue(json, json.contains("\"phase\": \"import\", \"shape\": { \"records\": 1500,"));
+    assertTrue(json, json.contains("\"phase\": \"export\", \"shape\": { \"records\": 500,"));
+    assertTrue(json, json.contains("\"records\": 1500, \"bytes\": "));
+    assertTrue(json, json.contains("\"peakHeapMB\": "));
+  }
+}
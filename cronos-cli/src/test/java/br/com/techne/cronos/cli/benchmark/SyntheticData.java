@@ -0,0 +1,145 @@
+package br.com.techne.cronos.cli.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Locale;
+import java.util.Random;
+
+import br.com.techne.cronos.cli.db.CronosDataSource;
+
+/**
+ * Gerador determinístico de XML Cronos com tamanho e formato configuráveis: uma chave
+ * {@code ID}, uma data, colunas decimais e colunas de texto com tamanho e proporção de
+ * nulos informados.
+ */
+public class SyntheticData {
+
+  public static final String TABLE = "BENCH";
+
+  private static final long BASE_DATE = Timestamp.valueOf("2016-01-01 00:00:00").getTime();
+  private static final char[] ALPHABET = "abcdefghijklmnopqrstuvwxyz ABCDEFGHIJKLMNOPQRSTUVWXYZ 0123456789 <&>".toCharArray();
+
+  private long records = 100000;
+  private int numericColumns = 3;
+  private int textColumns = 2;
+  private int textLength = 40;
+  private double nullRatio = 0.1;
+  private long seed = 20161019L;
+
+  public SyntheticData records(long records) {
+    this.records = records;
+    return this;
+  }
+
+  public SyntheticData numericColumns(int numericColumns) {
+    this.numericColumns = numericColumns;
+    return this;
+  }
+
+  public SyntheticData textColumns(int textColumns) {
+    this.textColumns = textColumns;
+    return this;
+  }
+
+  /**
+   * Tamanho médio dos textos; cada valor tem entre metade e 1,5 vez esse tamanho.
+   */
+  public SyntheticData textLength(int textLength) {
+    this.textLength = textLength;
+    return this;
+  }
+
+  /**
+   * Proporção de colunas de texto nulas (ausentes no XML).
+   */
+  public SyntheticData nullRatio(double nullRatio) {
+    this.nullRatio = nullRatio;
+    return this;
+  }
+
+  public SyntheticData seed(long seed) {
+    this.seed = seed;
+    return this;
+  }
+
+  public long getRecords() {
+    return records;
+  }
+
+  /**
+   * Formato em JSON, para o relatório.
+   */
+  public String describe() {
+    return String.format(Locale.ROOT,
+      "{ \"records\": %d, \"numericColumns\": %d, \"textColumns\": %d, \"textLength\": %d, \"nullRatio\": %.3f, \"seed\": %d }", records,
+      numericColumns, textColumns, textLength, nullRatio, seed);
+  }
+
+  public void createTable(CronosDataSource dataSource) throws SQLException {
+    StringBuilder sql = new StringBuilder("CREATE TABLE ").append(TABLE).append(" (ID BIGINT PRIMARY KEY, DATA TIMESTAMP NOT NULL");
+    for(int i = 1; i <= numericColumns; i++) {
+      sql.append(", VALOR").append(i).append(" DECIMAL(15,2)");
+    }
+    for(int i = 1; i <= textColumns; i++) {
+      sql.append(", TEXTO").append(i).append(" VARCHAR(").append(textLength * 2).append(')');
+    }
+
+    try (Connection c = dataSource.getConnection(); Statement st = c.createStatement()) {
+      st.execute(sql.append(')').toString());
+    }
+  }
+
+  public File writeXml(File file) throws IOException {
+    Random random = new Random(seed);
+    char[] text = new char[textLength * 2];
+
+    try (Writer w = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8), 64 * 1024)) {
+      w.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<cronos table=\"" + TABLE + "\">\n");
+
+      for(long id = 1; id <= records; id++) {
+        w.write("  <record><ID>");
+        w.write(Long.toString(id));
+        w.write("</ID><DATA>");
+        w.write(new Timestamp(BASE_DATE + id * 1000L).toString());
+        w.write("</DATA>");
+
+        for(int i = 1; i <= numericColumns; i++) {
+          w.write("<VALOR" + i + ">");
+          w.write(BigDecimal.valueOf(random.nextInt(100000000), 2).toPlainString());
+          w.write("</VALOR" + i + ">");
+        }
+
+        for(int i = 1; i <= textColumns; i++) {
+          if(random.nextDouble() < nullRatio) {
+            continue;
+          }
+
+          int length = textLength / 2 + random.nextInt(textLength + 1);
+          for(int c = 0; c < length; c++) {
+            text[c] = ALPHABET[random.nextInt(ALPHABET.length)];
+          }
+
+          w.write("<TEXTO" + i + ">");
+          w.write(new String(text, 0, length).replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;"));
+          w.write("</TEXTO" + i + ">");
+        }
+
+        w.write("</record>\n");
+      }
+
+      w.write("</cronos>\n");
+    }
+
+    return file;
+  }
+}
@@ -0,0 +1,76 @@
+package br.com.techne.cronos.cli.cbin;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+
+import br.com.techne.cronos.cli.io.RecordFormat;
+import br.com.techne.cronos.cli.io.RecordReader;
+import br.com.techne.cronos.cli.io.RecordWriter;
+import br.com.techne.cronos.cli.support.TransactionFixture;
+
+/**
+ * Compara a codificação e a decodificação de transações em XML (StAX) e em cbin, em
+ * memória, sem banco de dados nem disco.
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes br.com.techne.cronos.cli.cbin.CbinBenchmark [registros] [rodadas]
+ * </pre>
+ */
+public class CbinBenchmark {
+
+  private static final List<String> COLUMNS = Arrays.asList("ID", "CONTA", "DATA_TRANSACAO", "VALOR", "DESCRICAO");
+  private static final int[] TYPES = { Types.BIGINT, Types.VARCHAR, Types.TIMESTAMP, Types.DECIMAL, Types.VARCHAR };
+
+  public static void main(String[] args) throws IOException {
+    int records = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+    int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+    for(int round = 0; round < rounds; round++) {
+      for(RecordFormat format : RecordFormat.values()) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024 * 1024);
+
+        long start = System.nanoTime();
+        encode(format.newWriter(out), records);
+        long encode = System.nanoTime() - start;
+
+        byte[] bytes = out.toByteArray();
+        start = System.nanoTime();
+        decode(format.newReader("bench", new ByteArrayInputStream(bytes)));
+        long decode = System.nanoTime() - start;
+
+        double mb = bytes.length / (1024.0 * 1024.0);
+        System.out.printf("%-4s %7.1f MB | encode %8.1f MB/s %10.0f rec/s | decode %8.1f MB/s %10.0f rec/s%n", format, mb,
+          mb / (encode / 1e9), records / (encode / 1e9), mb / (decode / 1e9), records / (decode / 1e9));
+      }
+      System.out.println();
+    }
+  }
+
+  private static void encode(RecordWriter writer, int records) throws IOException {
+    writer.begin(TransactionFixture.TABLE, COLUMNS, TYPES);
+
+    Object[] values = new Object[COLUMNS.size()];
+    for(long id = 1; id <= records; id++) {
+      values[0] = id;
+      values[1] = TransactionFixture.account(id);
+      values[2] = TransactionFixture.date(id);
+      values[3] = TransactionFixture.value(id);
+      values[4] = TransactionFixture.description(id);
+      writer.write(values);
+    }
+
+    writer.end();
+  }
+
+  private static void decode(RecordReader reader) throws IOException {
+    try (RecordReader r = reader) {
+      while(r.next() != null) {
+        // somente decodificação
+      }
+    }
+  }
+}
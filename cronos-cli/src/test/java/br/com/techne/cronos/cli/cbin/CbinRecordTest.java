@@ -0,0 +1,122 @@
+package br.com.techne.cronos.cli.cbin;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import br.com.techne.cronos.cli.io.InputSources;
+import br.com.techne.cronos.cli.io.Record;
+import br.com.techne.cronos.cli.io.RecordFormat;
+import br.com.techne.cronos.cli.support.TransactionFixture;
+
+public class CbinRecordTest {
+
+  private static final List<String> COLUMNS = Arrays.asList("ID", "ATIVO", "CONTA", "VALOR", "GRANDE", "TAXA", "DATA", "HORA", "DADOS");
+  private static final int[] TYPES = {
+    Types.BIGINT, Types.BOOLEAN, Types.VARCHAR, Types.DECIMAL, Types.NUMERIC, Types.DOUBLE, Types.DATE, Types.TIMESTAMP, Types.VARBINARY
+  };
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void roundTripsTypedValuesAndNulls() throws Exception {
+    Timestamp timestamp = Timestamp.valueOf("2026-03-08 02:30:00.123456789");
+    BigDecimal huge = new BigDecimal("-123456789012345678901234567890.123456");
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    CbinRecordWriter writer = new CbinRecordWriter(out);
+    writer.begin("TRANSACAO", COLUMNS, TYPES);
+    writer.write(new Object[] { -42L, true, "0001-9", new BigDecimal("10.50"), huge, 0.25d, Date.valueOf("1969-12-31"), timestamp, new byte[] { 0, -1, 7 } });
+    writer.write(new Object[] { Long.MAX_VALUE, null, "0001-9", "-0.01", null, null, null, null, null });
+    writer.end();
+
+    try (CbinRecordReader reader = new CbinRecordReader("test", new ByteArrayInputStream(out.toByteArray()))) {
+      assertEquals("TRANSACAO", reader.getTable());
+      assertEquals(COLUMNS, reader.getColumns());
+
+      Record first = reader.next();
+      assertEquals(-42L, first.get("ID"));
+      assertEquals(true, first.get("ATIVO"));
+      assertEquals("0001-9", first.get("CONTA"));
+      assertEquals(new BigDecimal("10.50"), first.get("VALOR"));
+      assertEquals(huge, first.get("GRANDE"));
+      assertEquals(0.25d, first.get("TAXA"));
+      assertEquals(Date.valueOf("1969-12-31").toString(), first.get("DATA").toString());
+      assertEquals(timestamp, first.get("HORA"));
+      assertArrayEquals(new byte[] { 0, -1, 7 }, (byte[])first.get("DADOS"));
+
+      Record second = reader.next();
+      assertEquals(Long.MAX_VALUE, second.get("ID"));
+      assertEquals("0001-9", second.get("CONTA"));
+      assertEquals(new BigDecimal("-0.01"), second.get("VALOR"));
+      assertEquals(3, second.getValues().size());
+
+      assertNull(reader.next());
+      assertEquals(2, reader.getOrdinal());
+    }
+  }
+
+  @Test
+  public void skipsRecordsAndReadsConcatenatedSegments() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for(int segment = 0; segment < 2; segment++) {
+      CbinRecordWriter writer = new CbinRecordWriter(out);
+      writer.begin("T", Arrays.asList("ID", "CONTA"), new int[] { Types.INTEGER, Types.VARCHAR });
+      for(int i = 0; i < 5000; i++) {
+        writer.write(new Object[] { segment * 5000 + i, "conta-" + (i % 7) });
+      }
+      writer.end();
+    }
+
+    try (CbinRecordReader reader = new CbinRecordReader("test", new ByteArrayInputStream(out.toByteArray()))) {
+      assertEquals(4999, reader.skip(4999));
+      assertEquals(4999, reader.next().get("ID"));
+      assertEquals(3000, reader.skip(3000));
+
+      Record record = reader.next();
+      assertEquals(8000, record.get("ID"));
+      assertEquals("conta-" + (3000 % 7), record.get("CONTA"));
+      assertEquals(1999, reader.skip(Long.MAX_VALUE));
+    }
+  }
+
+  @Test
+  public void convertsXmlToCbinAndBack() throws Exception {
+    File xml = TransactionFixture.writeXml(folder.newFile("a.xml"), 1, 3000);
+    File cbin = folder.newFile("a.cbin");
+    File back = folder.newFile("b.xml");
+
+    try (OutputStream out = new FileOutputStream(cbin)) {
+      assertEquals(3000, new CbinConverter().convert(xml.getPath(), RecordFormat.CBIN, out));
+    }
+    try (OutputStream out = new FileOutputStream(back)) {
+      assertEquals(3000, new CbinConverter().convert(cbin.getPath(), RecordFormat.XML, out));
+    }
+
+    assertTrue(cbin.length() < xml.length() / 2);
+    try (InputStream in = InputSources.open(cbin.getPath())) {
+      assertEquals(RecordFormat.CBIN, RecordFormat.detect(in));
+    }
+    assertArrayEquals(Files.readAllBytes(xml.toPath()), Files.readAllBytes(back.toPath()));
+  }
+}
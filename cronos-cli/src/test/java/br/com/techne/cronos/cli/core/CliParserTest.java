@@ -0,0 +1,80 @@
+package br.com.techne.cronos.cli.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import br.com.techne.cronos.cli.command.CronosCommand;
+
+/**
+ * Execução dos comandos na mesma JVM ({@link CliParser#execute(String[])}): os encerramentos
+ * viram status, sem {@code System.exit}.
+ */
+public class CliParserTest {
+
+  @Test
+  public void executeReturnsTheExitStatus() {
+    assertEquals(0, CronosCommand.parser().execute(new String[] { "--version" }));
+    assertEquals(0, CronosCommand.parser().execute(new String[] { "--help" }));
+
+    // url obrigatória, entrada ausente e opção desconhecida
+    assertEquals(-1, CronosCommand.parser().execute(new String[] { "import", "dados.xml" }));
+    assertEquals(-1, CronosCommand.parser().execute(new String[] { "convert" }));
+    assertEquals(-1, CronosCommand.parser().execute(new String[] { "export", "--no-such-option" }));
+  }
+
+  @Test
+  public void failedExportStopsTheProgressLine() {
+    // --shards exige --output: a falha não pode deixar a thread de andamento ativa no shell
+    assertEquals(-1, CronosCommand.parser().execute(new String[] { "export", "--url", "jdbc:h2:mem:progress", "-t", "T", "--shards", "--progress" }));
+
+    for(Thread thread : Thread.getAllStackTraces().keySet()) {
+      assertFalse(thread.getName(), thread.isAlive() && thread.getName().equals("cronos-progress"));
+    }
+  }
+
+  @Test
+  public void secretFromStandardInputLeavesTheRestOfIt() throws Exception {
+    final boolean[] closed = { false };
+    InputStream in = new ByteArrayInputStream("\nsegredo\r\nhelp\n".getBytes(StandardCharsets.UTF_8)) {
+      @Override
+      public void close() {
+        closed[0] = true;
+      }
+    };
+
+    InputStream stdin = System.in;
+    PrintStream stdout = System.out;
+    System.setIn(in);
+    System.setOut(new PrintStream(new ByteArrayOutputStream()));
+    try {
+      assertEquals("segredo", new String(Util.readSecret("password: ")));
+    }
+    finally {
+      System.setIn(stdin);
+      System.setOut(stdout);
+    }
+
+    assertFalse(closed[0]);
+    assertEquals("help", Util.readLine(in));
+  }
+
+  @Test
+  public void optionsOfEachCommand() {
+    Map<String, List<String>> options = CronosCommand.parser().getOptions();
+    assertEquals(Arrays.asList("--version"), options.get("cronos"));
+    assertTrue(options.get("import").containsAll(Arrays.asList("--url", "-u", "--user", "--validate-only")));
+    assertTrue(options.get("export").contains("--output"));
+  }
+}
@@ -0,0 +1,62 @@
+package br.com.techne.cronos.cli.db;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.sql.Connection;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import br.com.techne.cronos.cli.support.TransactionFixture;
+
+/**
+ * O nome da tabela é procurado literalmente, sem os curingas do padrão de busca do
+ * {@link java.sql.DatabaseMetaData}, e em um único schema.
+ */
+public class TableInfoTest {
+
+  @Test
+  public void matchesWildcardsLiterally() throws Exception {
+    CronosDataSource ds = TransactionFixture.newDatabase();
+    TransactionFixture.execute(ds, "CREATE TABLE T_X (ID BIGINT PRIMARY KEY, A VARCHAR(10))");
+    TransactionFixture.execute(ds, "CREATE TABLE TAX (CODIGO BIGINT PRIMARY KEY, B VARCHAR(10), C VARCHAR(10))");
+
+    try (Connection c = ds.getConnection()) {
+      TableInfo table = TableInfo.load(c, "t_x");
+      assertEquals("T_X", table.getName());
+      assertEquals(Arrays.asList("ID", "A"), table.getColumns());
+      assertEquals(Arrays.asList("ID"), table.getPrimaryKey());
+    }
+  }
+
+  @Test
+  public void requiresTheSchemaWhenTheTableExistsInSeveral() throws Exception {
+    CronosDataSource ds = TransactionFixture.newDatabase();
+    TransactionFixture.execute(ds, "CREATE SCHEMA OUTRO");
+    TransactionFixture.execute(ds, "CREATE TABLE OUTRO.TRANSACAO (CODIGO BIGINT PRIMARY KEY)");
+
+    try (Connection c = ds.getConnection()) {
+      try {
+        TableInfo.load(c, "TRANSACAO");
+        fail();
+      }
+      catch(RuntimeException e) {
+        assertTrue(e.getMessage(), e.getMessage().contains("OUTRO"));
+      }
+
+      TableInfo table = TableInfo.load(c, "OUTRO.TRANSACAO");
+      assertEquals(Arrays.asList("CODIGO"), table.getColumns());
+      assertEquals(Arrays.asList("CODIGO"), table.getPrimaryKey());
+      assertEquals(5, TableInfo.load(c, "PUBLIC.TRANSACAO").getColumns().size());
+    }
+  }
+
+  @Test
+  public void escapesSearchPatterns() {
+    assertEquals("T\\_X\\%\\\\", TableInfo.escape("T_X%\\", "\\"));
+    assertEquals("T_X", TableInfo.escape("T_X", ""));
+    assertEquals(null, TableInfo.escape(null, "\\"));
+  }
+}
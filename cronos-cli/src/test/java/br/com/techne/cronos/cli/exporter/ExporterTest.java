@@ -0,0 +1,141 @@
+package br.com.techne.cronos.cli.exporter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import br.com.techne.cronos.cli.db.CronosDataSource;
+import br.com.techne.cronos.cli.importer.Importer;
+import br.com.techne.cronos.cli.io.RecordFormat;
+import br.com.techne.cronos.cli.support.TransactionFixture;
+
+public class ExporterTest {
+
+  private static final String CHECKSUM = "SELECT SUM(ID * 31 + LENGTH(CONTA) + CAST(VALOR * 100 AS BIGINT) + COALESCE(LENGTH(DESCRICAO), 0)) FROM TRANSACAO";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void roundTripsThroughImport() throws Exception {
+    CronosDataSource source = TransactionFixture.newDatabase();
+    TransactionFixture.insert(source, 1, 2000);
+
+    File xml = folder.newFile("export.xml");
+    try (OutputStream out = new FileOutputStream(xml)) {
+      assertEquals(2000, new Exporter(source).table("transacao").fetchSize(100).run(out));
+    }
+
+    CronosDataSource target = TransactionFixture.newDatabase();
+    new Importer(target).checkpoint(new File(folder.getRoot(), "state")).run(Arrays.asList(xml.getPath()));
+
+    assertEquals(2000, TransactionFixture.queryLong(target, "SELECT COUNT(*) FROM TRANSACAO"));
+    assertEquals(TransactionFixture.queryLong(source, CHECKSUM), TransactionFixture.queryLong(target, CHECKSUM));
+    assertEquals(TransactionFixture.queryLong(source, "SELECT COUNT(*) FROM TRANSACAO WHERE DESCRICAO IS NULL"),
+      TransactionFixture.queryLong(target, "SELECT COUNT(*) FROM TRANSACAO WHERE DESCRICAO IS NULL"));
+  }
+
+  @Test
+  public void compressedPartitionedExportRoundTrips() throws Exception {
+    CronosDataSource source = TransactionFixture.newDatabase();
+    TransactionFixture.insert(source, 1, 3000);
+
+    File gz = folder.newFile("export.xml.gz");
+    try (OutputStream out = new FileOutputStream(gz)) {
+      assertEquals(3000, new Exporter(source).table("TRANSACAO").partitions(3).compress(true).run(out));
+    }
+
+    CronosDataSource target = TransactionFixture.newDatabase();
+    new Importer(target).checkpoint(new File(folder.getRoot(), "state")).run(Arrays.asList(gz.getPath()));
+
+    assertEquals(TransactionFixture.queryLong(source, CHECKSUM), TransactionFixture.queryLong(target, CHECKSUM));
+  }
+
+  @Test
+  public void cbinPartitionedExportRoundTrips() throws Exception {
+    CronosDataSource source = TransactionFixture.newDatabase();
+    TransactionFixture.insert(source, 1, 3000);
+
+    File cbin = folder.newFile("export.cbin");
+    try (OutputStream out = new FileOutputStream(cbin)) {
+      assertEquals(3000, new Exporter(source).table("TRANSACAO").partitions(3).format(RecordFormat.CBIN).run(out));
+    }
+
+    CronosDataSource target = TransactionFixture.newDatabase();
+    new Importer(target).checkpoint(new File(folder.getRoot(), "state")).run(Arrays.asList(cbin.getPath()));
+
+    assertEquals(TransactionFixture.queryLong(source, CHECKSUM), TransactionFixture.queryLong(target, CHECKSUM));
+    assertEquals(TransactionFixture.queryLong(source, "SELECT COUNT(*) FROM TRANSACAO WHERE DESCRICAO IS NULL"),
+      TransactionFixture.queryLong(target, "SELECT COUNT(*) FROM TRANSACAO WHERE DESCRICAO IS NULL"));
+  }
+
+  /**
+   * Mede a memória viva (após GC) no início e no final da exportação: com o cursor e a
+   * escrita em streaming ela não pode crescer com a quantidade de linhas exportadas.
+   */
+  @Test
+  public void exportsInConstantMemory() throws Exception {
+    CronosDataSource ds = TransactionFixture.newFileDatabase(folder.getRoot());
+    int rows = 300000;
+    TransactionFixture.insert(ds, 1, rows);
+
+    HeapProbe out = new HeapProbe(20L * 1024 * 1024, 45L * 1024 * 1024);
+    assertEquals(rows, new Exporter(ds).table("TRANSACAO").fetchSize(500).run(out));
+
+    assertTrue(out.count > 50L * 1024 * 1024);
+    long growth = out.late - out.early;
+    assertTrue("heap cresceu " + (growth >> 20) + " MB durante a exportação", growth < 8L * 1024 * 1024);
+  }
+
+  /**
+   * Descarta a saída e registra a memória viva ao atingir dois volumes escritos.
+   */
+  static class HeapProbe extends OutputStream {
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final long earlyMark;
+    private final long lateMark;
+    long count;
+    long early;
+    long late;
+
+    HeapProbe(long earlyMark, long lateMark) {
+      this.earlyMark = earlyMark;
+      this.lateMark = lateMark;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      write(new byte[] { (byte)b }, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      long before = count;
+      count += len;
+      if(before < earlyMark && count >= earlyMark) {
+        early = liveHeap();
+      }
+      if(before < lateMark && count >= lateMark) {
+        late = liveHeap();
+      }
+    }
+
+    private long liveHeap() {
+      System.gc();
+      System.gc();
+      return memory.getHeapMemoryUsage().getUsed();
+    }
+  }
+}
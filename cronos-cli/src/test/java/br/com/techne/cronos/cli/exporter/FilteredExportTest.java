@@ -0,0 +1,77 @@
+package br.com.techne.cronos.cli.exporter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import br.com.techne.cronos.cli.db.CronosDataSource;
+import br.com.techne.cronos.cli.support.TransactionFixture;
+
+public class FilteredExportTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void filtersByAccountAndDateRange() throws Exception {
+    CronosDataSource ds = TransactionFixture.newDatabase();
+    TransactionFixture.insert(ds, 1, 5000);
+
+    assertEquals(52, new Exporter(ds).table("TRANSACAO").account("ACC-5").run(new ByteArrayOutputStream()));
+
+    // 2016-01-02 inteiro: transações 1440 a 2879, uma por minuto
+    assertEquals(1440, new Exporter(ds).table("TRANSACAO").fromDate("2016-01-02").toDate("2016-01-02").run(new ByteArrayOutputStream()));
+    assertEquals(1440, new Exporter(ds).table("TRANSACAO").partitions(3).fromDate("2016-01-02").toDate("2016-01-02").run(new ByteArrayOutputStream()));
+    assertEquals(61, new Exporter(ds).table("TRANSACAO").fromDate("2016-01-02 00:00:00").toDate("2016-01-02 01:00:00").run(new ByteArrayOutputStream()));
+
+    assertEquals(15, new Exporter(ds).table("TRANSACAO").account("ACC-5").fromDate("2016-01-02").toDate("2016-01-02").run(new ByteArrayOutputStream()));
+  }
+
+  @Test
+  public void exportsOnlyRequestedColumns() throws Exception {
+    CronosDataSource ds = TransactionFixture.newDatabase();
+    TransactionFixture.insert(ds, 1, 10);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new Exporter(ds).table("TRANSACAO").columns(Arrays.asList("id", "CONTA", "ID")).run(out);
+
+    String xml = new String(out.toByteArray(), StandardCharsets.UTF_8);
+    assertTrue(xml, xml.contains("<record><ID>1</ID><CONTA>ACC-1</CONTA></record>"));
+    assertFalse(xml, xml.contains("<VALOR>"));
+  }
+
+  @Test
+  public void bindsValuesAsParameters() throws Exception {
+    CronosDataSource ds = TransactionFixture.newDatabase();
+    TransactionFixture.insert(ds, 1, 100);
+
+    assertEquals(0, new Exporter(ds).table("TRANSACAO").account("ACC-5' OR '1'='1").run(new ByteArrayOutputStream()));
+
+    try {
+      new Exporter(ds).table("TRANSACAO").fromDate("2016-01-02' OR '1'='1").run(new ByteArrayOutputStream());
+      fail();
+    }
+    catch(RuntimeException e) {
+      assertTrue(e.getMessage(), e.getMessage().contains("DATA_TRANSACAO"));
+    }
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void rejectsFiltersWithSinceLast() throws Exception {
+    CronosDataSource ds = TransactionFixture.newDatabase();
+    TransactionFixture.insert(ds, 1, 10);
+
+    Watermarks watermarks = Watermarks.load(new File(folder.getRoot(), "watermarks"));
+    new Exporter(ds).table("TRANSACAO").account("ACC-5").watermarks(watermarks).run(new ByteArrayOutputStream());
+  }
+}
@@ -0,0 +1,71 @@
+package br.com.techne.cronos.cli.exporter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import br.com.techne.cronos.cli.db.CronosDataSource;
+import br.com.techne.cronos.cli.support.TransactionFixture;
+
+public class IncrementalExportTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void exportsOnlyRowsAfterSavedWatermark() throws Exception {
+    CronosDataSource ds = TransactionFixture.newDatabase();
+    File file = new File(folder.getRoot(), "watermarks");
+    TransactionFixture.insert(ds, 1, 500);
+
+    assertEquals(500, export(ds, file, 1));
+    assertEquals("500", Watermarks.load(file).get("TRANSACAO", "ID"));
+
+    assertEquals(0, export(ds, file, 1));
+    assertEquals("500", Watermarks.load(file).get("TRANSACAO", "ID"));
+
+    TransactionFixture.insert(ds, 501, 800);
+    assertEquals(300, export(ds, file, 3));
+    assertEquals("800", Watermarks.load(file).get("TRANSACAO", "ID"));
+  }
+
+  @Test
+  public void sinceOverridesSavedWatermark() throws Exception {
+    CronosDataSource ds = TransactionFixture.newDatabase();
+    TransactionFixture.insert(ds, 1, 100);
+
+    Exporter exporter = new Exporter(ds).table("TRANSACAO").since("90");
+    assertEquals(10, exporter.run(new ByteArrayOutputStream()));
+    assertEquals("100", exporter.getWatermark());
+
+    exporter = new Exporter(ds).table("TRANSACAO").watermarkColumn("DATA_TRANSACAO").since("2999-01-01 00:00:00");
+    assertEquals(0, exporter.run(new ByteArrayOutputStream()));
+    assertNull(exporter.getWatermark());
+  }
+
+  @Test
+  public void watermarkIsNotSavedUntilRequested() throws Exception {
+    CronosDataSource ds = TransactionFixture.newDatabase();
+    File file = new File(folder.getRoot(), "watermarks");
+    TransactionFixture.insert(ds, 1, 50);
+
+    Watermarks watermarks = Watermarks.load(file);
+    new Exporter(ds).table("TRANSACAO").watermarks(watermarks).run(new ByteArrayOutputStream());
+
+    assertNull(Watermarks.load(file).get("TRANSACAO", "ID"));
+    assertEquals("50", watermarks.get("TRANSACAO", "ID"));
+  }
+
+  private static long export(CronosDataSource ds, File file, int partitions) {
+    Watermarks watermarks = Watermarks.load(file);
+    long exported = new Exporter(ds).table("TRANSACAO").partitions(partitions).watermarks(watermarks).run(new ByteArrayOutputStream());
+    watermarks.save();
+    return exported;
+  }
+}
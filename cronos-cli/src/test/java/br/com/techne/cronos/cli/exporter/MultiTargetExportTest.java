@@ -0,0 +1,90 @@
+package br.com.techne.cronos.cli.exporter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import br.com.techne.cronos.cli.db.CronosDataSource;
+import br.com.techne.cronos.cli.importer.Importer;
+import br.com.techne.cronos.cli.io.RecordFormat;
+import br.com.techne.cronos.cli.support.TransactionFixture;
+
+public class MultiTargetExportTest {
+
+  private static final String CHECKSUM = "SELECT SUM(ID * 31 + LENGTH(CONTA) + CAST(VALOR * 100 AS BIGINT) + COALESCE(LENGTH(DESCRICAO), 0)) FROM TRANSACAO";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void writesEveryTargetInOnePass() throws Exception {
+    CronosDataSource source = TransactionFixture.newDatabase();
+    TransactionFixture.insert(source, 1, 3000);
+
+    String dir = folder.getRoot().getPath();
+    Exporter exporter = new Exporter(source).table("TRANSACAO").fetchSize(500);
+    long exported = exporter.run(Arrays.asList(
+      ExportTarget.parse("xml:" + dir + "/a.xml", RecordFormat.XML, false),
+      ExportTarget.parse("xml+gzip:" + dir + "/a.xml.gz", RecordFormat.XML, false),
+      ExportTarget.parse("cbin:" + dir + "/a.cbin", RecordFormat.XML, false)));
+
+    assertEquals(3000, exported);
+    // uma única leitura: a execução do SELECT e os blocos seguintes de 500 linhas
+    assertEquals(6, exporter.getMetrics().getBatches().sum());
+
+    for(String name : new String[] { "a.xml", "a.xml.gz", "a.cbin" }) {
+      CronosDataSource target = TransactionFixture.newDatabase();
+      new Importer(target).checkpoint(new File(dir, name + ".state")).run(Arrays.asList(new File(dir, name).getPath()));
+
+      assertEquals(name, TransactionFixture.queryLong(source, CHECKSUM), TransactionFixture.queryLong(target, CHECKSUM));
+    }
+  }
+
+  @Test
+  public void parsesTargetSpecs() {
+    ExportTarget target = ExportTarget.parse("CBIN+GZIP:copia.cbin.gz", RecordFormat.XML, false);
+    assertEquals(RecordFormat.CBIN, target.getFormat());
+    assertEquals(true, target.isCompress());
+    assertEquals("copia.cbin.gz", target.getFile().getPath());
+
+    target = ExportTarget.parse("C:\\saida.xml", RecordFormat.CBIN, true);
+    assertEquals(RecordFormat.CBIN, target.getFormat());
+    assertEquals(true, target.isCompress());
+    assertEquals("C:\\saida.xml", target.getFile().getPath());
+
+    target = ExportTarget.parse("saida:2026.xml", RecordFormat.XML, false);
+    assertEquals(RecordFormat.XML, target.getFormat());
+    assertEquals("saida:2026.xml", target.getFile().getPath());
+
+    target = ExportTarget.parse("/tmp/a:b.xml", RecordFormat.XML, false);
+    assertEquals("/tmp/a:b.xml", target.getFile().getPath());
+  }
+
+  @Test
+  public void rejectsTheSameTargetTwice() {
+    String dir = folder.getRoot().getPath();
+    for(String[] specs : new String[][] { { "xml:" + dir + "/a.xml", "cbin:" + dir + "/x/../a.xml" }, { "-", "cbin:-" } }) {
+      try {
+        new Exporter(null).table("TRANSACAO").run(Arrays.asList(ExportTarget.parse(specs[0], RecordFormat.XML, false), ExportTarget.parse(specs[1], RecordFormat.XML, false)));
+        fail();
+      }
+      catch(RuntimeException e) {
+        assertTrue(e.getMessage(), e.getMessage().contains("--output"));
+      }
+    }
+    assertFalse(new File(dir, "a.xml").exists());
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void rejectsPartitions() {
+    new Exporter(null).table("TRANSACAO").partitions(2).run(Arrays.asList(new ExportTarget(new File("a.xml"), RecordFormat.XML, false)));
+  }
+}
@@ -0,0 +1,142 @@
+package br.com.techne.cronos.cli.exporter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import br.com.techne.cronos.cli.db.CronosDataSource;
+import br.com.techne.cronos.cli.io.InputSources;
+import br.com.techne.cronos.cli.io.Record;
+import br.com.techne.cronos.cli.support.TransactionFixture;
+import br.com.techne.cronos.cli.xml.XmlRecordReader;
+
+public class PartitionedExportTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void mergesShardsInKeyOrder() throws Exception {
+    CronosDataSource ds = TransactionFixture.newDatabase();
+    TransactionFixture.insert(ds, 1, 5000);
+
+    File xml = folder.newFile("export.xml");
+    try (OutputStream out = new FileOutputStream(xml)) {
+      assertEquals(5000, new Exporter(ds).table("TRANSACAO").partitions(4).run(out));
+    }
+
+    assertEquals(5000, readAscending(xml, "ID"));
+  }
+
+  @Test
+  public void writesTemporaryShardsToTheTempDir() throws Exception {
+    CronosDataSource ds = TransactionFixture.newDatabase();
+    TransactionFixture.insert(ds, 1, 1000);
+
+    final File tempDir = folder.newFolder("tmp");
+    final List<String> shards = new ArrayList<>();
+    ByteArrayOutputStream out = new ByteArrayOutputStream() {
+      @Override
+      public synchronized void write(byte[] b, int off, int len) {
+        if(shards.isEmpty()) {
+          for(File dir : tempDir.listFiles()) {
+            shards.addAll(Arrays.asList(dir.list()));
+          }
+        }
+        super.write(b, off, len);
+      }
+    };
+
+    assertEquals(1000, new Exporter(ds).table("TRANSACAO").partitions(3).tempDir(tempDir).run(out));
+    assertEquals(3, shards.size());
+    assertEquals(0, tempDir.list().length);
+  }
+
+  @Test
+  public void partitionsByDateColumn() throws Exception {
+    CronosDataSource ds = TransactionFixture.newDatabase();
+    TransactionFixture.insert(ds, 1, 3000);
+
+    File xml = folder.newFile("export.xml");
+    try (OutputStream out = new FileOutputStream(xml)) {
+      assertEquals(3000, new Exporter(ds).table("TRANSACAO").partitions(7).partitionBy("data_transacao").run(out));
+    }
+
+    assertEquals(3000, readAscending(xml, "ID"));
+  }
+
+  @Test
+  public void keepsShardsAsSeparateDocuments() throws Exception {
+    CronosDataSource ds = TransactionFixture.newDatabase();
+    TransactionFixture.insert(ds, 1, 1000);
+
+    File output = new File(folder.getRoot(), "transacoes.xml");
+    assertEquals(1000, new Exporter(ds).table("TRANSACAO").partitions(3).runShards(output));
+
+    long total = 0;
+    for(int i = 1; i <= 3; i++) {
+      total += readAscending(new File(folder.getRoot(), String.format("transacoes.%03d.xml", i)), "ID");
+    }
+    assertEquals(1000, total);
+    assertFalse(output.exists());
+  }
+
+  @Test
+  public void compressesEachShard() throws Exception {
+    CronosDataSource ds = TransactionFixture.newDatabase();
+    TransactionFixture.insert(ds, 1, 1000);
+
+    File output = new File(folder.getRoot(), "transacoes.xml.gz");
+    assertEquals(1000, new Exporter(ds).table("TRANSACAO").partitions(2).compress(true).runShards(output));
+
+    long total = 0;
+    for(int i = 1; i <= 2; i++) {
+      total += readAscending(new File(folder.getRoot(), String.format("transacoes.%03d.xml.gz", i)), "ID");
+    }
+    assertEquals(1000, total);
+  }
+
+  @Test
+  public void exportsEmptyTable() throws Exception {
+    CronosDataSource ds = TransactionFixture.newDatabase();
+
+    File xml = folder.newFile("export.xml");
+    try (OutputStream out = new FileOutputStream(xml)) {
+      assertEquals(0, new Exporter(ds).table("TRANSACAO").partitions(4).run(out));
+    }
+
+    assertEquals(0, readAscending(xml, "ID"));
+  }
+
+  /**
+   * Lê o documento verificando que <code>column</code> é estritamente crescente.
+   *
+   * @return quantidade de registros.
+   */
+  private static long readAscending(File xml, String column) throws IOException {
+    try (InputStream in = InputSources.open(xml.getPath()); XmlRecordReader reader = new XmlRecordReader(xml.getName(), in)) {
+      long previous = Long.MIN_VALUE;
+      Record record;
+      while((record = reader.next()) != null) {
+        long id = Long.parseLong((String)record.get(column));
+        assertTrue(id > previous);
+        previous = id;
+      }
+      return reader.getOrdinal();
+    }
+  }
+}
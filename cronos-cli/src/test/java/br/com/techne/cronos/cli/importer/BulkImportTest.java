@@ -0,0 +1,122 @@
+package br.com.techne.cronos.cli.importer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import br.com.techne.cronos.cli.db.CronosDataSource;
+import br.com.techne.cronos.cli.db.TableInfo;
+import br.com.techne.cronos.cli.support.TransactionFixture;
+
+/**
+ * Carga {@literal --bulk}: índices secundários e chaves estrangeiras removidos durante a
+ * importação devem voltar ao final, mesmo quando ela falha ou é interrompida.
+ */
+public class BulkImportTest {
+
+  private static final String INDEXES =
+    "SELECT COUNT(DISTINCT INDEX_NAME) FROM INFORMATION_SCHEMA.INDEXES WHERE INDEX_NAME = 'IX_TRANSACAO_DATA'";
+
+  private static final String FOREIGN_KEYS =
+    "SELECT COUNT(*) FROM INFORMATION_SCHEMA.CONSTRAINTS WHERE CONSTRAINT_NAME = 'FK_TRANSACAO_CONTA'";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void restoresIndexesAndForeignKeysAfterImport() throws Exception {
+    CronosDataSource ds = newDatabase();
+    File xml = TransactionFixture.writeXml(folder.newFile("a.xml"), 1, 25000);
+    File state = new File(folder.getRoot(), "bulk");
+
+    long imported = new Importer(ds).bulk(true).bulkState(state).checkpoint(new File(folder.getRoot(), "cp")).run(Arrays.asList(xml.getPath()));
+
+    assertEquals(25000, imported);
+    assertEquals(25000, TransactionFixture.queryLong(ds, "SELECT COUNT(*) FROM TRANSACAO"));
+    assertRestored(ds, state);
+
+    // ON DELETE CASCADE recriado junto com a chave estrangeira
+    TransactionFixture.execute(ds, "DELETE FROM CONTA WHERE CODIGO = 'ACC-0'");
+    assertEquals(0, TransactionFixture.queryLong(ds, "SELECT COUNT(*) FROM TRANSACAO WHERE CONTA = 'ACC-0'"));
+  }
+
+  @Test
+  public void restoresWhenImportFails() throws Exception {
+    CronosDataSource ds = newDatabase();
+    File good = TransactionFixture.writeXml(folder.newFile("a.xml"), 1, 500);
+    File bad = folder.newFile("b.xml");
+    try (OutputStream out = new FileOutputStream(bad)) {
+      out.write("<cronos table=\"TRANSACAO\"><record><ID>501</ID><CONTA>ACC-1".getBytes(StandardCharsets.UTF_8));
+    }
+    File state = new File(folder.getRoot(), "bulk");
+
+    try {
+      new Importer(ds).bulk(true).bulkState(state).checkpoint(new File(folder.getRoot(), "cp")).run(Arrays.asList(good.getPath(), bad.getPath()));
+      fail();
+    }
+    catch(RuntimeException e) {
+      // esperado: XML truncado
+    }
+
+    assertEquals(500, TransactionFixture.queryLong(ds, "SELECT COUNT(*) FROM TRANSACAO"));
+    assertRestored(ds, state);
+  }
+
+  @Test
+  public void nextImportRestoresInterruptedBulkLoad() throws Exception {
+    CronosDataSource ds = newDatabase();
+    File state = new File(folder.getRoot(), "bulk");
+
+    // simula um processo encerrado sem chance de recriar os objetos
+    try (Connection c = ds.getConnection()) {
+      int[] deferred = DeferredSchema.open(state).defer(c, TableInfo.load(c, TransactionFixture.TABLE));
+      assertEquals(1, deferred[0]);
+      assertEquals(1, deferred[1]);
+    }
+    assertEquals(0, TransactionFixture.queryLong(ds, INDEXES));
+    assertEquals(0, TransactionFixture.queryLong(ds, FOREIGN_KEYS));
+    assertTrue(state.exists());
+
+    File xml = TransactionFixture.writeXml(folder.newFile("a.xml"), 1, 100);
+    new Importer(ds).bulkState(state).checkpoint(new File(folder.getRoot(), "cp")).run(Arrays.asList(xml.getPath()));
+
+    assertEquals(100, TransactionFixture.queryLong(ds, "SELECT COUNT(*) FROM TRANSACAO"));
+    assertRestored(ds, state);
+  }
+
+  private static CronosDataSource newDatabase() throws SQLException {
+    CronosDataSource ds = TransactionFixture.newDatabase();
+    TransactionFixture.execute(ds, "CREATE TABLE CONTA (CODIGO VARCHAR(20) PRIMARY KEY)");
+    TransactionFixture.execute(ds, "INSERT INTO CONTA SELECT 'ACC-' || X FROM SYSTEM_RANGE(0, 96)");
+    TransactionFixture.execute(ds, "ALTER TABLE TRANSACAO ADD CONSTRAINT FK_TRANSACAO_CONTA FOREIGN KEY (CONTA) REFERENCES CONTA (CODIGO) ON DELETE CASCADE");
+    TransactionFixture.execute(ds, "CREATE INDEX IX_TRANSACAO_DATA ON TRANSACAO (DATA_TRANSACAO DESC, CONTA)");
+    return ds;
+  }
+
+  private static void assertRestored(CronosDataSource ds, File state) throws SQLException {
+    assertEquals(1, TransactionFixture.queryLong(ds, INDEXES));
+    assertEquals(1, TransactionFixture.queryLong(ds, FOREIGN_KEYS));
+    assertFalse(state.exists());
+
+    try {
+      TransactionFixture.execute(ds, "INSERT INTO TRANSACAO VALUES (-1, 'INEXISTENTE', CURRENT_TIMESTAMP, 0, NULL)");
+      fail("chave estrangeira não recriada");
+    }
+    catch(SQLException e) {
+      // esperado
+    }
+  }
+}
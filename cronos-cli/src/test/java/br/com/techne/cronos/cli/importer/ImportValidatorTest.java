@@ -0,0 +1,86 @@
+package br.com.techne.cronos.cli.importer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import br.com.techne.cronos.cli.support.TransactionFixture;
+
+/**
+ * Validação das entradas contra o XSD Cronos ({@literal --validate-only}).
+ */
+public class ImportValidatorTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void validatesInputsInParallelKeepingOrder() throws Exception {
+    File a = TransactionFixture.writeXml(folder.newFile("a.xml"), 1, 5000);
+    File b = write("b.xml", "<cronos table=\"TRANSACAO\">\n<record><ID>1</ID></record>\n<linha><ID>2</ID></linha>\n</cronos>");
+    File c = TransactionFixture.writeXml(folder.newFile("c.xml"), 1, 10);
+
+    List<ImportValidator.Result> results = new ImportValidator().threads(3).run(Arrays.asList(a.getPath(), b.getPath(), c.getPath()));
+
+    assertEquals(3, results.size());
+    assertTrue(results.get(0).isValid());
+    assertEquals(5000, results.get(0).getRecords());
+    assertTrue(results.get(2).isValid());
+    assertEquals(10, results.get(2).getRecords());
+
+    ImportValidator.Result invalid = results.get(1);
+    assertEquals(b.getPath(), invalid.getInput());
+    assertFalse(invalid.isValid());
+    assertEquals(1, invalid.getErrors().size());
+    assertTrue(invalid.getErrors().get(0), invalid.getErrors().get(0).startsWith("line 3, column "));
+  }
+
+  @Test
+  public void reportsFirstErrorsOnly() throws Exception {
+    StringBuilder xml = new StringBuilder("<cronos>\n");
+    for(int i = 0; i < 50; i++) {
+      xml.append("<record><ID>").append(i).append("<b>x</b></ID></record>\n");
+    }
+    File file = write("nested.xml", xml.append("</cronos>").toString());
+
+    ImportValidator.Result result = new ImportValidator().maxErrors(5).run(Arrays.asList(file.getPath())).get(0);
+
+    assertFalse(result.isValid());
+    // 5 erros e o aviso de interrupção
+    assertEquals(6, result.getErrors().size());
+    assertTrue(result.getErrors().get(0), result.getErrors().get(0).startsWith("line 2, column "));
+    assertTrue(result.getErrors().get(4), result.getErrors().get(4).startsWith("line 6, column "));
+    assertEquals(5, result.getRecords());
+  }
+
+  @Test
+  public void stopsAtMalformedXml() throws Exception {
+    File file = write("truncated.xml", "<cronos table=\"TRANSACAO\">\n<record><ID>1</ID></record>\n<record><ID>2</I");
+
+    ImportValidator.Result result = new ImportValidator().run(Arrays.asList(file.getPath())).get(0);
+
+    assertFalse(result.isValid());
+    assertEquals(1, result.getErrors().size());
+    assertTrue(result.getErrors().get(0), result.getErrors().get(0).startsWith("line 3, column "));
+  }
+
+  private File write(String name, String content) throws IOException {
+    File file = folder.newFile(name);
+    try (OutputStream out = new FileOutputStream(file)) {
+      out.write(content.getBytes(StandardCharsets.UTF_8));
+    }
+    return file;
+  }
+}
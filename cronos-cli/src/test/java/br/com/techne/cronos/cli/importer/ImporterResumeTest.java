@@ -0,0 +1,341 @@
+package br.com.techne.cronos.cli.importer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import br.com.techne.cronos.cli.db.CronosDataSource;
+import br.com.techne.cronos.cli.support.TransactionFixture;
+
+/**
+ * Interrompe a importação em pontos aleatórios (antes/depois do commit e durante o
+ * executeBatch) e verifica que a retomada resulta em cada registro importado exatamente
+ * uma vez.
+ */
+public class ImporterResumeTest {
+
+  private static final String CHECKSUM = "SELECT SUM(ID * 31 + CAST(VALOR * 100 AS BIGINT)) FROM TRANSACAO";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void importsWithoutInterruption() throws Exception {
+    CronosDataSource ds = TransactionFixture.newDatabase();
+    File xml = TransactionFixture.writeXml(folder.newFile("a.xml"), 1, 250);
+    File checkpoint = new File(folder.getRoot(), "state");
+
+    long imported = new Importer(ds).batchSize(100).checkpoint(checkpoint).run(Arrays.asList(xml.getPath()));
+
+    assertEquals(250, imported);
+    assertEquals(250, TransactionFixture.queryLong(ds, "SELECT COUNT(*) FROM TRANSACAO"));
+    assertEquals(25, TransactionFixture.queryLong(ds, "SELECT COUNT(*) FROM TRANSACAO WHERE DESCRICAO IS NULL"));
+    assertFalse(checkpoint.exists());
+  }
+
+  @Test
+  public void resumesAfterRandomCrashesExactlyOnce() throws Exception {
+    Random random = new Random(20161019L);
+
+    for(int trial = 0; trial < 5; trial++) {
+      CronosDataSource ds = TransactionFixture.newDatabase();
+      List<String> inputs = Arrays.asList(
+        TransactionFixture.writeXml(folder.newFile("t" + trial + "-1.xml"), 1, 700).getPath(),
+        TransactionFixture.writeXml(folder.newFile("t" + trial + "-2.xml"), 701, 1000).getPath()
+      );
+      File checkpoint = new File(folder.getRoot(), "state" + trial);
+
+      int crashes = 0;
+      boolean done = false;
+      for(int attempt = 0; attempt < 1000 && !done; attempt++) {
+        try {
+          new Importer(new CrashingDataSource(ds, random, 0.1)).batchSize(37).checkpoint(checkpoint).resume(true).run(inputs);
+          done = true;
+        }
+        catch(SimulatedCrash e) {
+          crashes++;
+        }
+      }
+
+      assertTrue(done);
+      assertTrue("nenhuma falha simulada", crashes > 0);
+      assertEquals(1000, TransactionFixture.queryLong(ds, "SELECT COUNT(*) FROM TRANSACAO"));
+      assertEquals(1000 * 1001 / 2, TransactionFixture.queryLong(ds, "SELECT SUM(ID) FROM TRANSACAO"));
+      assertFalse(checkpoint.exists());
+    }
+  }
+
+  @Test
+  public void resumesWithoutPrimaryKeyExactlyOnce() throws Exception {
+    Random random = new Random(20261019L);
+
+    for(int trial = 0; trial < 3; trial++) {
+      CronosDataSource ds = TransactionFixture.newDatabase();
+      TransactionFixture.execute(ds, "ALTER TABLE TRANSACAO DROP PRIMARY KEY");
+      List<String> inputs = Arrays.asList(TransactionFixture.writeXml(folder.newFile("nopk" + trial + ".xml"), 1, 500).getPath());
+      File checkpoint = new File(folder.getRoot(), "nopk-state" + trial);
+
+      boolean done = false;
+      for(int attempt = 0; attempt < 1000 && !done; attempt++) {
+        try {
+          new Importer(new CrashingDataSource(ds, random, 0.1)).batchSize(37).checkpoint(checkpoint).resume(true).run(inputs);
+          done = true;
+        }
+        catch(SimulatedCrash e) {
+          // retomada na próxima tentativa
+        }
+      }
+
+      assertTrue(done);
+      assertEquals(500, TransactionFixture.queryLong(ds, "SELECT COUNT(*) FROM TRANSACAO"));
+      assertEquals(500, TransactionFixture.queryLong(ds, "SELECT COUNT(DISTINCT ID) FROM TRANSACAO"));
+    }
+  }
+
+  @Test
+  public void resumesWithoutPrimaryKeyAfterCrashFollowingCommit() throws Exception {
+    CronosDataSource ds = TransactionFixture.newDatabase();
+    TransactionFixture.execute(ds, "ALTER TABLE TRANSACAO DROP PRIMARY KEY");
+    List<String> inputs = Arrays.asList(TransactionFixture.writeXml(folder.newFile("a.xml"), 1, 100).getPath());
+    File checkpoint = new File(folder.getRoot(), "state");
+
+    // executeBatch, antes e após o commit do primeiro batch: a queda vem logo após o commit
+    try {
+      new Importer(new CrashingDataSource(ds, crashAt(3), 0.5)).batchSize(10).checkpoint(checkpoint).run(inputs);
+      fail();
+    }
+    catch(SimulatedCrash e) {
+      assertEquals(10, TransactionFixture.queryLong(ds, "SELECT COUNT(*) FROM TRANSACAO"));
+    }
+
+    assertEquals(90, new Importer(ds).batchSize(10).checkpoint(checkpoint).resume(true).run(inputs));
+    assertEquals(100, TransactionFixture.queryLong(ds, "SELECT COUNT(*) FROM TRANSACAO"));
+
+    // uma escrita externa na tabela torna o batch pendente inverificável: a retomada é recusada
+    TransactionFixture.execute(ds, "DELETE FROM TRANSACAO");
+    try {
+      new Importer(new CrashingDataSource(ds, crashAt(3), 0.5)).batchSize(10).checkpoint(checkpoint).run(inputs);
+      fail();
+    }
+    catch(SimulatedCrash e) {
+      TransactionFixture.execute(ds, "INSERT INTO TRANSACAO SELECT * FROM TRANSACAO");
+    }
+    try {
+      new Importer(ds).batchSize(10).checkpoint(checkpoint).resume(true).run(inputs);
+      fail();
+    }
+    catch(RuntimeException e) {
+      assertTrue(e.getMessage(), e.getMessage().contains(checkpoint.getPath()));
+    }
+    assertEquals(20, TransactionFixture.queryLong(ds, "SELECT COUNT(*) FROM TRANSACAO"));
+  }
+
+  @Test
+  public void resumesUpsertAfterRandomCrashesExactlyOnce() throws Exception {
+    Random random = new Random(20261020L);
+    CronosDataSource expected = TransactionFixture.newDatabase();
+    TransactionFixture.insert(expected, 1, 600);
+
+    for(int trial = 0; trial < 3; trial++) {
+      CronosDataSource ds = TransactionFixture.newDatabase();
+      TransactionFixture.insert(ds, 1, 400);
+      TransactionFixture.execute(ds, "UPDATE TRANSACAO SET VALOR = 0");
+      List<String> inputs = Arrays.asList(TransactionFixture.writeXml(folder.newFile("upsert" + trial + ".xml"), 1, 600).getPath());
+      File checkpoint = new File(folder.getRoot(), "upsert-state" + trial);
+
+      boolean done = false;
+      for(int attempt = 0; attempt < 1000 && !done; attempt++) {
+        try {
+          new Importer(new CrashingDataSource(ds, random, 0.1)).batchSize(37).onConflict(ConflictMode.UPDATE).checkpoint(checkpoint).resume(true).run(inputs);
+          done = true;
+        }
+        catch(SimulatedCrash e) {
+          // retomada na próxima tentativa
+        }
+      }
+
+      assertTrue(done);
+      assertEquals(600, TransactionFixture.queryLong(ds, "SELECT COUNT(*) FROM TRANSACAO"));
+      assertEquals(TransactionFixture.queryLong(expected, CHECKSUM), TransactionFixture.queryLong(ds, CHECKSUM));
+    }
+  }
+
+  @Test
+  public void resumesUpsertAfterCrashBeforeCommit() throws Exception {
+    CronosDataSource ds = TransactionFixture.newDatabase();
+    TransactionFixture.insert(ds, 1, 100);
+    TransactionFixture.execute(ds, "UPDATE TRANSACAO SET VALOR = 0");
+    List<String> inputs = Arrays.asList(TransactionFixture.writeXml(folder.newFile("a.xml"), 1, 150).getPath());
+    File checkpoint = new File(folder.getRoot(), "state");
+
+    // executeBatch dos UPDATEs e antes do commit do primeiro batch, cujas chaves já existiam
+    try {
+      new Importer(new CrashingDataSource(ds, crashAt(2), 0.5)).batchSize(10).onConflict(ConflictMode.UPDATE).checkpoint(checkpoint).run(inputs);
+      fail();
+    }
+    catch(SimulatedCrash e) {
+      assertEquals(100, TransactionFixture.queryLong(ds, "SELECT COUNT(*) FROM TRANSACAO WHERE VALOR = 0"));
+    }
+
+    // a retomada em outro modo não reproduziria o batch: recusada
+    try {
+      new Importer(ds).batchSize(10).checkpoint(checkpoint).resume(true).run(inputs);
+      fail();
+    }
+    catch(RuntimeException e) {
+      assertTrue(e.getMessage(), e.getMessage().contains("--on-conflict update"));
+    }
+
+    new Importer(ds).batchSize(10).onConflict(ConflictMode.UPDATE).checkpoint(checkpoint).resume(true).run(inputs);
+    assertEquals(150, TransactionFixture.queryLong(ds, "SELECT COUNT(*) FROM TRANSACAO"));
+    assertEquals(0, TransactionFixture.queryLong(ds, "SELECT COUNT(*) FROM TRANSACAO WHERE VALOR = 0"));
+    assertFalse(checkpoint.exists());
+  }
+
+  @Test
+  public void refusesToRestartOverAnInterruptedImport() throws Exception {
+    CronosDataSource ds = TransactionFixture.newDatabase();
+    List<String> inputs = Arrays.asList(TransactionFixture.writeXml(folder.newFile("a.xml"), 1, 100).getPath());
+    File checkpoint = new File(folder.getRoot(), "state");
+
+    try {
+      new Importer(new CrashingDataSource(ds, new Random(1), 1.0)).batchSize(10).checkpoint(checkpoint).run(inputs);
+      fail();
+    }
+    catch(SimulatedCrash e) {
+      assertTrue(checkpoint.exists());
+    }
+
+    try {
+      new Importer(ds).batchSize(10).checkpoint(checkpoint).run(inputs);
+      fail();
+    }
+    catch(RuntimeException e) {
+      assertFalse(e instanceof SimulatedCrash);
+    }
+
+    assertEquals(100, new Importer(ds).batchSize(10).checkpoint(checkpoint).resume(true).run(inputs));
+    assertEquals(100, TransactionFixture.queryLong(ds, "SELECT COUNT(*) FROM TRANSACAO"));
+  }
+
+  /**
+   * Sorteio que provoca a falha somente no <code>n</code>-ésimo ponto de interrupção.
+   */
+  private static Random crashAt(final int n) {
+    return new Random() {
+      private static final long serialVersionUID = 1L;
+      private int calls;
+
+      @Override
+      public double nextDouble() {
+        return ++calls == n ? 0 : 1;
+      }
+    };
+  }
+
+  static class SimulatedCrash extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+  }
+
+  /**
+   * Conexões que "morrem" com probabilidade <code>probability</code> a cada executeBatch
+   * e antes ou depois de cada commit. Após a falha a transação corrente é descartada e
+   * a conexão deixa de responder, como em uma queda do processo.
+   */
+  static class CrashingDataSource extends CronosDataSource {
+
+    private final CronosDataSource target;
+    private final Random random;
+    private final double probability;
+
+    CrashingDataSource(CronosDataSource target, Random random, double probability) {
+      super(target.getUrl(), null, null);
+      this.target = target;
+      this.random = random;
+      this.probability = probability;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+      final Connection connection = target.getConnection();
+      final boolean[] dead = { false };
+
+      return (Connection)Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class }, new InvocationHandler() {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+          String name = method.getName();
+
+          if(dead[0]) {
+            if("close".equals(name)) {
+              return null;
+            }
+            throw new SQLException("connection lost");
+          }
+
+          if("commit".equals(name)) {
+            maybeCrash(connection, dead);
+            connection.commit();
+            maybeCrash(connection, dead);
+            return null;
+          }
+
+          Object result = CrashingDataSource.invoke(connection, method, args);
+          if("prepareStatement".equals(name)) {
+            return wrap((PreparedStatement)result, connection, dead);
+          }
+          return result;
+        }
+      });
+    }
+
+    private PreparedStatement wrap(final PreparedStatement statement, final Connection connection, final boolean[] dead) {
+      return (PreparedStatement)Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { PreparedStatement.class }, new InvocationHandler() {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+          if(dead[0] && !"close".equals(method.getName())) {
+            throw new SQLException("connection lost");
+          }
+          if("executeBatch".equals(method.getName())) {
+            maybeCrash(connection, dead);
+          }
+          return CrashingDataSource.invoke(statement, method, args);
+        }
+      });
+    }
+
+    private void maybeCrash(Connection connection, boolean[] dead) throws SQLException {
+      if(random.nextDouble() < probability) {
+        dead[0] = true;
+        connection.rollback();
+        connection.close();
+        throw new SimulatedCrash();
+      }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+      try {
+        return method.invoke(target, args);
+      }
+      catch(InvocationTargetException e) {
+        throw e.getCause();
+      }
+    }
+  }
+}
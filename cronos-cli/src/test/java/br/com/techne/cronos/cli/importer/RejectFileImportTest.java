@@ -0,0 +1,140 @@
+package br.com.techne.cronos.cli.importer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import br.com.techne.cronos.cli.db.CronosDataSource;
+import br.com.techne.cronos.cli.importer.ImporterResumeTest.CrashingDataSource;
+import br.com.techne.cronos.cli.importer.ImporterResumeTest.SimulatedCrash;
+import br.com.techne.cronos.cli.support.TransactionFixture;
+
+/**
+ * Registros recusados pela conversão ou pelas restrições vão para o arquivo de quarentena
+ * sem desfazer o restante do batch, e o arquivo corrigido pode ser importado.
+ */
+public class RejectFileImportTest {
+
+  private static final String TOO_LONG = new String(new char[300]).replace('\0', 'x');
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void quarantinesBadRecordsAndImportsTheRest() throws Exception {
+    CronosDataSource ds = TransactionFixture.newDatabase();
+    File xml = writeWithBadRecords("a.xml", 1, 200);
+    File rejectFile = new File(folder.getRoot(), "rejeitados.xml");
+
+    Importer importer = new Importer(ds).batchSize(17).checkpoint(new File(folder.getRoot(), "cp")).rejectFile(rejectFile);
+    long imported = importer.run(Arrays.asList(xml.getPath()));
+
+    // 20 valores inválidos (id múltiplo de 10) e 20 descrições longas demais (id terminado em 5)
+    assertEquals(160, imported);
+    assertEquals(40, importer.getRejected());
+    assertEquals(Arrays.asList(rejectFile), importer.getRejectFiles());
+    assertEquals(160, TransactionFixture.queryLong(ds, "SELECT COUNT(*) FROM TRANSACAO"));
+    assertEquals(0, TransactionFixture.queryLong(ds, "SELECT COUNT(*) FROM TRANSACAO WHERE MOD(ID, 5) = 0"));
+
+    String rejected = new String(Files.readAllBytes(rejectFile.toPath()), StandardCharsets.UTF_8);
+    assertTrue(rejected, rejected.contains("<!-- " + xml.getPath() + " #10: "));
+
+    // corrige o arquivo de rejeitados e o importa
+    File fixed = folder.newFile("corrigidos.xml");
+    Files.write(fixed.toPath(), rejected.replace("<VALOR>abc</VALOR>", "<VALOR>1.00</VALOR>").replace(TOO_LONG, "x").getBytes(StandardCharsets.UTF_8));
+    assertEquals(40, new Importer(ds).checkpoint(new File(folder.getRoot(), "cp")).run(Arrays.asList(fixed.getPath())));
+    assertEquals(200 * 201 / 2, TransactionFixture.queryLong(ds, "SELECT SUM(ID) FROM TRANSACAO"));
+  }
+
+  @Test
+  public void stopsPastMaxRejects() throws Exception {
+    CronosDataSource ds = TransactionFixture.newDatabase();
+    File xml = writeWithBadRecords("a.xml", 1, 200);
+    File checkpoint = new File(folder.getRoot(), "cp");
+
+    try {
+      new Importer(ds).batchSize(50).checkpoint(checkpoint).rejectFile(new File(folder.getRoot(), "r.xml")).maxRejects(12).run(Arrays.asList(xml.getPath()));
+      fail();
+    }
+    catch(RuntimeException e) {
+      assertTrue(e.getMessage(), e.getMessage().contains("13"));
+    }
+
+    // primeiro batch: ids 1 a 55, 11 recusados; o segundo é desfeito no 13º recusado (id 70)
+    assertEquals(44, TransactionFixture.queryLong(ds, "SELECT COUNT(*) FROM TRANSACAO"));
+    assertTrue(checkpoint.exists());
+  }
+
+  @Test
+  public void resumesTheRejectFileAtTheLastCommittedBatch() throws Exception {
+    Random random = new Random(20261019L);
+    CronosDataSource ds = TransactionFixture.newDatabase();
+    File xml = writeWithBadRecords("a.xml", 1, 200);
+    File checkpoint = new File(folder.getRoot(), "cp");
+    File rejectFile = new File(folder.getRoot(), "rejeitados.xml");
+
+    int crashes = 0;
+    Importer importer = null;
+    for(int attempt = 0; attempt < 1000 && importer == null; attempt++) {
+      Importer current = new Importer(new CrashingDataSource(ds, random, 0.1)).batchSize(17).checkpoint(checkpoint).resume(true).rejectFile(rejectFile);
+      try {
+        current.run(Arrays.asList(xml.getPath()));
+        importer = current;
+      }
+      catch(SimulatedCrash e) {
+        crashes++;
+      }
+    }
+
+    assertTrue(importer != null);
+    assertTrue("nenhuma falha simulada", crashes > 0);
+    assertEquals(160, TransactionFixture.queryLong(ds, "SELECT COUNT(*) FROM TRANSACAO"));
+    assertEquals(Arrays.asList(rejectFile), importer.getRejectFiles());
+    assertFalse(new File(folder.getRoot(), "rejeitados.1.xml").exists());
+
+    // um único documento completo, com cada rejeitado uma única vez
+    String rejected = new String(Files.readAllBytes(rejectFile.toPath()), StandardCharsets.UTF_8);
+    DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(rejectFile);
+    Set<Long> ordinals = new HashSet<>();
+    Matcher matcher = Pattern.compile("<!-- " + Pattern.quote(xml.getPath()) + " #(\\d+): ").matcher(rejected);
+    while(matcher.find()) {
+      assertTrue(rejected, ordinals.add(Long.valueOf(matcher.group(1))));
+    }
+    assertEquals(40, ordinals.size());
+  }
+
+  private File writeWithBadRecords(String name, long firstId, long lastId) throws IOException {
+    File file = folder.newFile(name);
+    try (OutputStream out = new FileOutputStream(file)) {
+      StringBuilder xml = new StringBuilder("<cronos table=\"TRANSACAO\">\n");
+      for(long id = firstId; id <= lastId; id++) {
+        xml.append("<record><ID>").append(id).append("</ID><CONTA>").append(TransactionFixture.account(id)).append("</CONTA>")
+          .append("<DATA_TRANSACAO>").append(TransactionFixture.date(id)).append("</DATA_TRANSACAO>")
+          .append("<VALOR>").append(id % 10 == 0 ? "abc" : TransactionFixture.value(id).toPlainString()).append("</VALOR>")
+          .append("<DESCRICAO>").append(id % 10 == 5 ? TOO_LONG : "ok").append("</DESCRICAO></record>\n");
+      }
+      out.write(xml.append("</cronos>\n").toString().getBytes(StandardCharsets.UTF_8));
+    }
+    return file;
+  }
+}
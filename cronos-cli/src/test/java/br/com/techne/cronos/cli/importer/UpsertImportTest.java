@@ -0,0 +1,99 @@
+package br.com.techne.cronos.cli.importer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import br.com.techne.cronos.cli.db.CronosDataSource;
+import br.com.techne.cronos.cli.support.TransactionFixture;
+
+public class UpsertImportTest {
+
+  private static final String CHECKSUM = "SELECT SUM(ID * 31 + CAST(VALOR * 100 AS BIGINT)) FROM TRANSACAO";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void updatesExistingKeys() throws Exception {
+    CronosDataSource expected = TransactionFixture.newDatabase();
+    TransactionFixture.insert(expected, 1, 1500);
+
+    CronosDataSource ds = TransactionFixture.newDatabase();
+    TransactionFixture.insert(ds, 1, 1000);
+    TransactionFixture.execute(ds, "UPDATE TRANSACAO SET VALOR = 0");
+
+    Importer importer = importer(ds, ConflictMode.UPDATE, Importer.DEFAULT_KEY_INDEX_MEMORY);
+    importer.run(Arrays.asList(xml(1, 1500).getPath()));
+
+    assertEquals(500, importer.getInserted());
+    assertEquals(1000, importer.getUpdated());
+    assertEquals(1500, TransactionFixture.queryLong(ds, "SELECT COUNT(*) FROM TRANSACAO"));
+    assertEquals(TransactionFixture.queryLong(expected, CHECKSUM), TransactionFixture.queryLong(ds, CHECKSUM));
+  }
+
+  @Test
+  public void skipsExistingKeys() throws Exception {
+    CronosDataSource ds = TransactionFixture.newDatabase();
+    TransactionFixture.insert(ds, 1, 1000);
+    TransactionFixture.execute(ds, "UPDATE TRANSACAO SET VALOR = 0");
+
+    Importer importer = importer(ds, ConflictMode.SKIP, Importer.DEFAULT_KEY_INDEX_MEMORY);
+    importer.run(Arrays.asList(xml(501, 1200).getPath()));
+
+    assertEquals(200, importer.getInserted());
+    assertEquals(500, importer.getSkipped());
+    assertEquals(1000, TransactionFixture.queryLong(ds, "SELECT COUNT(*) FROM TRANSACAO WHERE VALOR = 0"));
+    assertEquals(1200, TransactionFixture.queryLong(ds, "SELECT COUNT(*) FROM TRANSACAO"));
+  }
+
+  /**
+   * Com memória insuficiente para o conjunto exato o índice passa a ser um filtro de
+   * Bloom; chaves repetidas entre as entradas continuam resolvidas corretamente.
+   */
+  @Test
+  public void bloomFilterIndexResolvesOverlappingInputs() throws Exception {
+    CronosDataSource expected = TransactionFixture.newDatabase();
+    TransactionFixture.insert(expected, 1, 4000);
+
+    CronosDataSource ds = TransactionFixture.newDatabase();
+    TransactionFixture.insert(ds, 1, 2000);
+
+    Importer importer = importer(ds, ConflictMode.UPDATE, 4096);
+    importer.run(Arrays.asList(xml(1500, 3000).getPath(), xml(2500, 4000).getPath()));
+
+    assertEquals(2000, importer.getInserted());
+    assertEquals(1002, importer.getUpdated());
+    assertEquals(4000, TransactionFixture.queryLong(ds, "SELECT COUNT(*) FROM TRANSACAO"));
+    assertEquals(TransactionFixture.queryLong(expected, CHECKSUM), TransactionFixture.queryLong(ds, CHECKSUM));
+  }
+
+  @Test
+  public void longHashSetSaturatesAtMemoryLimit() {
+    LongHashSet set = new LongHashSet(10, 1024);
+    int added = 0;
+    for(long i = -50; i < 1000 && set.add(i); i++) {
+      added++;
+    }
+
+    assertTrue(set.memory() <= 1024);
+    assertEquals(added, set.size());
+    for(long i = -50; i < -50 + added; i++) {
+      assertTrue(set.contains(i));
+    }
+  }
+
+  private Importer importer(CronosDataSource ds, ConflictMode mode, long memory) throws Exception {
+    return new Importer(ds).onConflict(mode).keyIndexMemory(memory).batchSize(100).checkpoint(new File(folder.getRoot(), "state"));
+  }
+
+  private File xml(long first, long last) throws Exception {
+    return TransactionFixture.writeXml(folder.newFile(first + "-" + last + ".xml"), first, last);
+  }
+}
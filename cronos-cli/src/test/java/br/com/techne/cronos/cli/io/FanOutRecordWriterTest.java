@@ -0,0 +1,149 @@
+package br.com.techne.cronos.cli.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class FanOutRecordWriterTest {
+
+  @Test
+  public void slowTargetHoldsBackTheOthers() throws Exception {
+    final CountDownLatch release = new CountDownLatch(1);
+    CountingWriter fast = new CountingWriter(null);
+    CountingWriter slow = new CountingWriter(release);
+
+    final FanOutRecordWriter fanOut = new FanOutRecordWriter(Arrays.<RecordWriter>asList(fast, slow), 2, 10);
+    final AtomicLong produced = new AtomicLong();
+    Thread producer = new Thread() {
+      @Override
+      public void run() {
+        try {
+          fanOut.begin("T", Collections.singletonList("ID"), new int[] { Types.BIGINT });
+          Object[] values = new Object[1];
+          for(long i = 0; i < 1000; i++) {
+            values[0] = i;
+            fanOut.write(values);
+            produced.incrementAndGet();
+          }
+          fanOut.end();
+        }
+        catch(IOException e) {
+          throw new RuntimeException(e);
+        }
+      }
+    };
+    producer.start();
+
+    Thread.sleep(300);
+    // o bloco retido pela saída lenta, os 2 da sua fila e o bloco que aguarda vaga nela
+    assertTrue(String.valueOf(produced.get()), produced.get() < 40);
+    assertTrue(String.valueOf(fast.count.get()), fast.count.get() <= 40);
+
+    release.countDown();
+    producer.join(TimeUnit.MINUTES.toMillis(1));
+
+    assertEquals(1000, fast.count.get());
+    assertEquals(1000, slow.count.get());
+    assertEquals(999L, slow.last);
+    assertTrue(fast.ended && slow.ended);
+  }
+
+  @Test
+  public void failingTargetStopsTheExport() throws Exception {
+    RecordWriter failing = new CountingWriter(null) {
+      @Override
+      public void write(Object[] values) throws IOException {
+        throw new IOException("disco cheio");
+      }
+    };
+    CountingWriter other = new CountingWriter(null);
+
+    FanOutRecordWriter fanOut = new FanOutRecordWriter(Arrays.<RecordWriter>asList(other, failing), 2, 10);
+    fanOut.begin("T", Collections.singletonList("ID"), new int[] { Types.BIGINT });
+    try {
+      for(long i = 0; i < 100000; i++) {
+        fanOut.write(new Object[] { i });
+      }
+      fanOut.end();
+      fail();
+    }
+    catch(IOException e) {
+      assertEquals("disco cheio", e.getMessage());
+    }
+    finally {
+      fanOut.close();
+    }
+  }
+
+  @Test(timeout = 10000)
+  public void errorInATargetDoesNotBlockTheReader() throws Exception {
+    RecordWriter failing = new CountingWriter(null) {
+      @Override
+      public void write(Object[] values) {
+        throw new StackOverflowError("serializador");
+      }
+    };
+
+    FanOutRecordWriter fanOut = new FanOutRecordWriter(Arrays.<RecordWriter>asList(new CountingWriter(null), failing), 2, 10);
+    fanOut.begin("T", Collections.singletonList("ID"), new int[] { Types.BIGINT });
+    try {
+      for(long i = 0; i < 100000; i++) {
+        fanOut.write(new Object[] { i });
+      }
+      fanOut.end();
+      fail();
+    }
+    catch(IOException e) {
+      assertTrue(e.getCause() instanceof StackOverflowError);
+    }
+    finally {
+      fanOut.close();
+    }
+  }
+
+  private static class CountingWriter implements RecordWriter {
+
+    final AtomicLong count = new AtomicLong();
+    final CountDownLatch release;
+    volatile Object last;
+    volatile boolean ended;
+
+    CountingWriter(CountDownLatch release) {
+      this.release = release;
+    }
+
+    @Override
+    public void begin(String table, List<String> columns, int[] types) {
+    }
+
+    @Override
+    public void write(Object[] values) throws IOException {
+      if(release != null) {
+        try {
+          release.await();
+        }
+        catch(InterruptedException e) {
+          throw new IOException(e);
+        }
+      }
+      last = values[0];
+      count.incrementAndGet();
+    }
+
+    @Override
+    public void end() {
+      ended = true;
+    }
+  }
+}
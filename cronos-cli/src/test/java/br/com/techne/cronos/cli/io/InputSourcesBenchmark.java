@@ -0,0 +1,64 @@
+package br.com.techne.cronos.cli.io;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import br.com.techne.cronos.cli.support.TransactionFixture;
+import br.com.techne.cronos.cli.xml.XmlRecordReader;
+
+/**
+ * Compara a leitura de um XML Cronos via {@link FileInputStream} com a leitura mapeada
+ * de {@link InputSources}, lendo só os bytes e fazendo o parse StAX completo.
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes br.com.techne.cronos.cli.io.InputSourcesBenchmark [registros] [rodadas]
+ * </pre>
+ */
+public class InputSourcesBenchmark {
+
+  public static void main(String[] args) throws IOException {
+    int records = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+    int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+    File xml = File.createTempFile("cronos-bench", ".xml");
+    xml.deleteOnExit();
+    TransactionFixture.writeXml(xml, 1, records);
+    double mb = xml.length() / (1024.0 * 1024.0);
+    System.out.printf("arquivo: %.1f MB, %d registros%n", mb, records);
+
+    for(int round = 0; round < rounds; round++) {
+      report("FileInputStream read   ", mb, bytes(new FileInputStream(xml)));
+      report("InputSources read      ", mb, bytes(InputSources.open(xml.getPath())));
+      report("FileInputStream + StAX ", mb, parse(new FileInputStream(xml)));
+      report("InputSources + StAX    ", mb, parse(InputSources.open(xml.getPath())));
+      System.out.println();
+    }
+  }
+
+  private static long bytes(InputStream in) throws IOException {
+    long start = System.nanoTime();
+    try (InputStream is = in) {
+      byte[] buffer = new byte[8192];
+      while(is.read(buffer) >= 0) {
+        // somente leitura
+      }
+    }
+    return System.nanoTime() - start;
+  }
+
+  private static long parse(InputStream in) throws IOException {
+    long start = System.nanoTime();
+    try (XmlRecordReader reader = new XmlRecordReader("bench", in)) {
+      while(reader.next() != null) {
+        // somente parse
+      }
+    }
+    return System.nanoTime() - start;
+  }
+
+  private static void report(String name, double mb, long nanos) {
+    System.out.printf("%s %8.1f MB/s%n", name, mb / (nanos / 1e9));
+  }
+}
@@ -0,0 +1,127 @@
+package br.com.techne.cronos.cli.io;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import br.com.techne.cronos.cli.support.TransactionFixture;
+
+public class InputSourcesTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void readsPlainFileAcrossMappedWindows() throws Exception {
+    File xml = TransactionFixture.writeXml(folder.newFile("a.xml"), 1, 500);
+
+    try (InputStream in = InputSources.open(xml.getPath(), 4096)) {
+      assertArrayEquals(Files.readAllBytes(xml.toPath()), readAll(in));
+    }
+  }
+
+  @Test
+  public void decompressesGzipTransparently() throws Exception {
+    File xml = TransactionFixture.writeXml(folder.newFile("a.xml"), 1, 500);
+    File gz = folder.newFile("a.xml.gz");
+    try (GZIPOutputStream out = new GZIPOutputStream(new FileOutputStream(gz))) {
+      out.write(Files.readAllBytes(xml.toPath()));
+    }
+
+    try (InputStream in = InputSources.open(gz.getPath())) {
+      assertArrayEquals(Files.readAllBytes(xml.toPath()), readAll(in));
+    }
+  }
+
+  @Test
+  public void streamsZipEntriesWithoutExtracting() throws Exception {
+    File first = TransactionFixture.writeXml(folder.newFile("1.xml"), 1, 10);
+    File second = TransactionFixture.writeXml(folder.newFile("2.xml"), 11, 20);
+    File jar = folder.newFile("dados.jar");
+
+    try (ZipOutputStream zip = new ZipOutputStream(new FileOutputStream(jar))) {
+      zip.putNextEntry(new ZipEntry("META-INF/MANIFEST.MF"));
+      zip.closeEntry();
+      zip.putNextEntry(new ZipEntry("META-INF/maven/br.com.techne/dados/pom.xml"));
+      zip.closeEntry();
+      zip.putNextEntry(new ZipEntry("spring/context.xml"));
+      zip.closeEntry();
+      zip.putNextEntry(new ZipEntry("xml/1.xml"));
+      zip.write(Files.readAllBytes(first.toPath()));
+      zip.closeEntry();
+      zip.putNextEntry(new ZipEntry("xml/2.xml.gz"));
+      ByteArrayOutputStream gz = new ByteArrayOutputStream();
+      try (GZIPOutputStream out = new GZIPOutputStream(gz)) {
+        out.write(Files.readAllBytes(second.toPath()));
+      }
+      zip.write(gz.toByteArray());
+      zip.closeEntry();
+    }
+
+    List<String> inputs = InputSources.expand(Arrays.asList(jar.getPath() + "!/xml/*"));
+    assertEquals(Arrays.asList(jar.getPath() + "!/xml/1.xml", jar.getPath() + "!/xml/2.xml.gz"), inputs);
+    assertEquals(Arrays.asList(jar.getPath() + "!/spring/context.xml", jar.getPath() + "!/xml/1.xml"),
+      InputSources.expand(Arrays.asList(jar.getPath() + "!/**.xml")));
+    assertEquals(Arrays.asList(jar.getPath() + "!/xml/1.xml"), InputSources.expand(Arrays.asList(jar.getPath() + "!/xml/1.xml")));
+
+    try (InputStream in = InputSources.open(inputs.get(1))) {
+      assertArrayEquals(Files.readAllBytes(second.toPath()), readAll(in));
+    }
+  }
+
+  @Test
+  public void requiresAnEntryOrPatternForArchives() throws Exception {
+    File jar = folder.newFile("dados.jar");
+    try (ZipOutputStream zip = new ZipOutputStream(new FileOutputStream(jar))) {
+      zip.putNextEntry(new ZipEntry("META-INF/maven/br.com.techne/dados/pom.xml"));
+      zip.closeEntry();
+    }
+
+    for(String name : Arrays.asList(jar.getPath(), jar.getPath() + "!/**.xml", jar.getPath() + "!/*.cbin")) {
+      try {
+        InputSources.expand(Arrays.asList(name));
+        fail(name);
+      }
+      catch(IOException e) {
+        assertTrue(e.getMessage(), e.getMessage().contains(name));
+      }
+    }
+  }
+
+  @Test
+  public void globsStayWithinDirectories() {
+    assertTrue(InputSources.glob("xml/*.xml").matcher("xml/1.xml").matches());
+    assertFalse(InputSources.glob("xml/*.xml").matcher("xml/a/1.xml").matches());
+    assertTrue(InputSources.glob("xml/**.xml").matcher("xml/a/1.xml").matches());
+    assertTrue(InputSources.glob("t?.cbin").matcher("t1.cbin").matches());
+    assertFalse(InputSources.glob("a.b").matcher("axb").matches());
+  }
+
+  static byte[] readAll(InputStream in) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] buffer = new byte[1000];
+    int n;
+    while((n = in.read(buffer)) > 0) {
+      out.write(buffer, 0, n);
+    }
+    return out.toByteArray();
+  }
+}
@@ -0,0 +1,81 @@
+package br.com.techne.cronos.cli.io;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import br.com.techne.cronos.cli.support.TransactionFixture;
+
+public class ParallelGzipOutputStreamTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void writesStandardMultiMemberGzip() throws Exception {
+    byte[] xml = Files.readAllBytes(TransactionFixture.writeXml(folder.newFile("a.xml"), 1, 3000).toPath());
+
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (ParallelGzipOutputStream out = new ParallelGzipOutputStream(compressed, 4, 16 * 1024)) {
+      out.write(xml, 0, 100);
+      out.write(xml[100]);
+      out.write(xml, 101, xml.length - 101);
+    }
+
+    assertTrue(members(compressed.toByteArray()) > 4);
+    assertTrue(compressed.size() < xml.length / 3);
+    try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+      assertArrayEquals(xml, InputSourcesTest.readAll(in));
+    }
+  }
+
+  @Test
+  public void importSideStreamsMembersAcrossMappedWindows() throws Exception {
+    byte[] xml = Files.readAllBytes(TransactionFixture.writeXml(folder.newFile("a.xml"), 1, 2000).toPath());
+
+    File gz = folder.newFile("a.xml.gz");
+    try (ParallelGzipOutputStream out = new ParallelGzipOutputStream(new FileOutputStream(gz), 3, 8 * 1024)) {
+      out.write(xml);
+    }
+
+    try (InputStream in = InputSources.open(gz.getPath(), 4096)) {
+      assertArrayEquals(xml, InputSourcesTest.readAll(in));
+    }
+  }
+
+  @Test
+  public void emptyOutputIsValidGzip() throws Exception {
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    new ParallelGzipOutputStream(compressed).close();
+
+    assertEquals(1, members(compressed.toByteArray()));
+    try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+      assertEquals(-1, in.read());
+    }
+  }
+
+  /**
+   * Conta os cabeçalhos de "member" (sem flags, como os gravados pelo stream).
+   */
+  private static int members(byte[] gzip) {
+    int count = 0;
+    for(int i = 0; i + 3 < gzip.length; i++) {
+      if(gzip[i] == 0x1f && gzip[i + 1] == (byte)0x8b && gzip[i + 2] == 8 && gzip[i + 3] == 0) {
+        count++;
+      }
+    }
+    return count;
+  }
+}
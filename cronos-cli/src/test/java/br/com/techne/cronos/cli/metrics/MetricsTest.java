@@ -0,0 +1,104 @@
+package br.com.techne.cronos.cli.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import br.com.techne.cronos.cli.db.CronosDataSource;
+import br.com.techne.cronos.cli.exporter.Exporter;
+import br.com.techne.cronos.cli.importer.Importer;
+import br.com.techne.cronos.cli.support.TransactionFixture;
+
+/**
+ * Contadores, histogramas e as métricas coletadas pela importação e exportação.
+ */
+public class MetricsTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void counterSumsConcurrentUpdates() throws Exception {
+    final Counter counter = new Counter();
+    ExecutorService pool = Executors.newFixedThreadPool(8);
+    for(int t = 0; t < 8; t++) {
+      pool.execute(new Runnable() {
+        @Override
+        public void run() {
+          for(int i = 0; i < 100000; i++) {
+            counter.increment();
+          }
+        }
+      });
+    }
+    pool.shutdown();
+    assertTrue(pool.awaitTermination(1, TimeUnit.MINUTES));
+
+    assertEquals(800000, counter.sum());
+  }
+
+  @Test
+  public void histogramPercentilesWithinBucketPrecision() {
+    Histogram histogram = new Histogram();
+    for(long i = 1; i <= 10000; i++) {
+      histogram.record(i * 1000);
+    }
+
+    assertEquals(10000, histogram.getCount());
+    assertEquals(10000000, histogram.getMax());
+    assertEquals(5000500, histogram.getMean());
+    assertWithin(5000000, histogram.getPercentile(50));
+    assertWithin(9900000, histogram.getPercentile(99));
+    assertEquals(10000000, histogram.getPercentile(100));
+  }
+
+  @Test
+  public void measuresImportAndExport() throws Exception {
+    CronosDataSource ds = TransactionFixture.newDatabase();
+    File xml = TransactionFixture.writeXml(folder.newFile("a.xml"), 1, 2500);
+
+    Importer importer = new Importer(ds).batchSize(1000).checkpoint(new File(folder.getRoot(), "cp"));
+    importer.run(Arrays.asList(xml.getPath()));
+
+    Metrics imported = importer.getMetrics();
+    assertEquals(xml.length(), imported.getBytesRead().sum());
+    assertEquals(2500, imported.getRecordsRead().sum());
+    assertEquals(2500, imported.getRecordsWritten().sum());
+    assertEquals(3, imported.getBatches().sum());
+    assertEquals(3, imported.getBatchLatency().getCount());
+
+    Exporter exporter = new Exporter(ds).table(TransactionFixture.TABLE).fetchSize(1000).compress(true);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    exporter.run(out);
+
+    Metrics exported = exporter.getMetrics();
+    assertEquals(out.size(), exported.getBytesWritten().sum());
+    assertEquals(2500, exported.getRecordsWritten().sum());
+    // execução do SELECT e os blocos que começam nas linhas 1001 e 2001
+    assertEquals(3, exported.getBatches().sum());
+    assertTrue(exported.getQueueWait().getCount() > 0);
+
+    File json = new File(folder.getRoot(), "stats.json");
+    exported.finish();
+    exported.writeJson(json, "export");
+    String text = new String(Files.readAllBytes(json.toPath()), StandardCharsets.UTF_8);
+    assertTrue(text, text.contains("\"recordsWritten\": 2500,"));
+    assertTrue(text, text.contains("\"batchLatency\": { \"count\": 3,"));
+  }
+
+  private static void assertWithin(long expected, long actual) {
+    assertTrue(expected + " ~ " + actual, Math.abs(actual - expected) <= expected / 8);
+  }
+}
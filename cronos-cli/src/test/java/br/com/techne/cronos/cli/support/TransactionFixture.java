@@ -0,0 +1,127 @@
+package br.com.techne.cronos.cli.support;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import br.com.techne.cronos.cli.db.CronosDataSource;
+
+/**
+ * Banco H2 em memória com a tabela de transações e gerador de dados sintéticos,
+ * utilizados como "stand-in" do banco Cronos nos testes.
+ */
+public final class TransactionFixture {
+
+  public static final String TABLE = "TRANSACAO";
+
+  private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+  private static final long BASE_DATE = Timestamp.valueOf("2016-01-01 00:00:00").getTime();
+
+  private TransactionFixture() {
+  }
+
+  /**
+   * Cria um banco H2 em memória novo, com a tabela {@link #TABLE}.
+   */
+  public static CronosDataSource newDatabase() throws SQLException {
+    return createTable(new CronosDataSource("jdbc:h2:mem:cronos" + SEQUENCE.incrementAndGet() + ";DB_CLOSE_DELAY=-1", "sa", "".toCharArray()));
+  }
+
+  /**
+   * Cria um banco H2 em disco no diretório <code>dir</code>, com cache pequeno e execução
+   * "lazy" de consultas, de forma que nem o banco mantém as linhas em memória.
+   */
+  public static CronosDataSource newFileDatabase(File dir) throws SQLException {
+    String url = "jdbc:h2:" + new File(dir, "cronos").getAbsolutePath() + ";LAZY_QUERY_EXECUTION=1;CACHE_SIZE=2048";
+    return createTable(new CronosDataSource(url, "sa", "".toCharArray()));
+  }
+
+  private static CronosDataSource createTable(CronosDataSource dataSource) throws SQLException {
+    try (Connection c = dataSource.getConnection(); Statement st = c.createStatement()) {
+      st.execute("CREATE TABLE " + TABLE + " ("
+        + "ID BIGINT PRIMARY KEY, "
+        + "CONTA VARCHAR(20) NOT NULL, "
+        + "DATA_TRANSACAO TIMESTAMP NOT NULL, "
+        + "VALOR DECIMAL(15,2) NOT NULL, "
+        + "DESCRICAO VARCHAR(200))");
+    }
+
+    return dataSource;
+  }
+
+  public static String account(long id) {
+    return "ACC-" + (id % 97);
+  }
+
+  public static Timestamp date(long id) {
+    return new Timestamp(BASE_DATE + id * 60000L);
+  }
+
+  public static BigDecimal value(long id) {
+    return BigDecimal.valueOf(id * 7 % 100000, 2);
+  }
+
+  public static String description(long id) {
+    return id % 10 == 0 ? null : "transacao <" + id + "> & cia";
+  }
+
+  /**
+   * Grava um XML Cronos com as transações de <code>firstId</code> a <code>lastId</code>.
+   */
+  public static File writeXml(File file, long firstId, long lastId) throws IOException {
+    try (Writer w = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+      w.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<cronos table=\"" + TABLE + "\">\n");
+      for(long id = firstId; id <= lastId; id++) {
+        w.write("  <record>");
+        w.write("<ID>" + id + "</ID>");
+        w.write("<CONTA>" + account(id) + "</CONTA>");
+        w.write("<DATA_TRANSACAO>" + date(id) + "</DATA_TRANSACAO>");
+        w.write("<VALOR>" + value(id).toPlainString() + "</VALOR>");
+        if(description(id) != null) {
+          w.write("<DESCRICAO>" + description(id).replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;") + "</DESCRICAO>");
+        }
+        w.write("</record>\n");
+      }
+      w.write("</cronos>\n");
+    }
+    return file;
+  }
+
+  /**
+   * Insere as transações de <code>firstId</code> a <code>lastId</code> diretamente no banco.
+   */
+  public static void insert(CronosDataSource dataSource, long firstId, long lastId) throws SQLException {
+    try (Connection c = dataSource.getConnection(); Statement st = c.createStatement()) {
+      st.execute("INSERT INTO " + TABLE + " SELECT X, 'ACC-' || MOD(X, 97), "
+        + "DATEADD('MINUTE', X, TIMESTAMP '2016-01-01 00:00:00'), "
+        + "CAST(MOD(X * 7, 100000) AS DECIMAL(15,2)) / 100, "
+        + "CASE WHEN MOD(X, 10) = 0 THEN NULL ELSE 'transacao <' || X || '> & cia' END "
+        + "FROM SYSTEM_RANGE(" + firstId + ", " + lastId + ")");
+    }
+  }
+
+  public static void execute(CronosDataSource dataSource, String sql) throws SQLException {
+    try (Connection c = dataSource.getConnection(); Statement st = c.createStatement()) {
+      st.execute(sql);
+    }
+  }
+
+  public static long queryLong(CronosDataSource dataSource, String sql) throws SQLException {
+    try (Connection c = dataSource.getConnection(); Statement st = c.createStatement(); ResultSet rs = st.executeQuery(sql)) {
+      rs.next();
+      return rs.getLong(1);
+    }
+  }
+}
@@ -28,7 +28,7 @@ public class Main {
       argsArray = argsList.toArray(argsArray);
     }
 
-    Bootstrap.main(args);
+    Bootstrap.main(argsArray);
   }
 
 }
@@ -0,0 +1,83 @@
+package br.com.techne.cronos.shell.command;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Linha de comando do {@literal cronos-cli} informada ao comando {@literal cronos} do shell,
+ * separada em argumentos como pelo terminal: espaços separam e aspas simples ou duplas
+ * agrupam. Fora de aspas simples, a barra invertida antes de aspas, de outra barra ou de um
+ * espaço inclui o caractere literalmente; nos demais casos é mantida, p.ex. em
+ * {@literal C:\dados\a.xml}. Aspas vazias ({@literal ''}) formam um argumento vazio.
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class CronosArgs {
+
+  private final String text;
+  private final String[] args;
+
+  public CronosArgs(String text) {
+    this.text = text;
+    this.args = split(text);
+  }
+
+  public String[] getArgs() {
+    return args.clone();
+  }
+
+  static String[] split(String text) {
+    List<String> args = new ArrayList<>();
+    StringBuilder arg = null;
+    char quote = 0;
+
+    for(int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if(c == '\\' && quote != '\'' && i + 1 < text.length() && escapes(text.charAt(i + 1))) {
+        arg = arg != null ? arg : new StringBuilder();
+        arg.append(text.charAt(++i));
+      }
+      else if(quote != 0) {
+        if(c == quote) {
+          quote = 0;
+        }
+        else {
+          arg.append(c);
+        }
+      }
+      else if(c == '"' || c == '\'') {
+        quote = c;
+        arg = arg != null ? arg : new StringBuilder();
+      }
+      else if(Character.isWhitespace(c)) {
+        if(arg != null) {
+          args.add(arg.toString());
+          arg = null;
+        }
+      }
+      else {
+        arg = arg != null ? arg : new StringBuilder();
+        arg.append(c);
+      }
+    }
+
+    if(quote != 0) {
+      throw new IllegalArgumentException("Aspas sem fechamento em: " + text);
+    }
+    if(arg != null) {
+      args.add(arg.toString());
+    }
+    return args.toArray(new String[args.size()]);
+  }
+
+  private static boolean escapes(char c) {
+    return c == '\\' || c == '"' || c == '\'' || Character.isWhitespace(c);
+  }
+
+  @Override
+  public String toString() {
+    return text;
+  }
+}
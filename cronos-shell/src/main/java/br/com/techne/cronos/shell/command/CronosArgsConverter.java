@@ -0,0 +1,83 @@
+package br.com.techne.cronos.shell.command;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.shell.core.Completion;
+import org.springframework.shell.core.Converter;
+import org.springframework.shell.core.MethodTarget;
+import org.springframework.stereotype.Component;
+
+import br.com.techne.cronos.cli.command.CronosCommand;
+import br.com.techne.cronos.cli.core.annotation.CliCommand;
+
+/**
+ * Converte o texto em {@link CronosArgs} e completa, com a tecla TAB, os nomes dos comandos do
+ * {@literal cronos-cli} e as opções de cada um, a partir dos seus
+ * {@link br.com.techne.cronos.cli.core.annotation.CliParameter}.
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Component
+public class CronosArgsConverter implements Converter<CronosArgs> {
+
+  private volatile Map<String, List<String>> options;
+
+  @Override
+  public boolean supports(Class<?> type, String optionContext) {
+    return CronosArgs.class.isAssignableFrom(type);
+  }
+
+  @Override
+  public CronosArgs convertFromText(String value, Class<?> targetType, String optionContext) {
+    return new CronosArgs(value);
+  }
+
+  @Override
+  public boolean getAllPossibleValues(List<Completion> completions, Class<?> targetType, String existingData, String optionContext, MethodTarget target) {
+    String text = existingData != null ? existingData : "";
+    int start = Math.max(text.lastIndexOf(' '), text.lastIndexOf('\t')) + 1;
+    String prefix = text.substring(0, start);
+    String word = text.substring(start);
+
+    String[] args;
+    try {
+      args = CronosArgs.split(prefix);
+    }
+    catch(IllegalArgumentException e) {
+      return false;
+    }
+    Map<String, List<String>> options = options();
+    String main = CronosCommand.class.getAnnotation(CliCommand.class).name();
+
+    if(args.length == 0) {
+      for(String name : options.keySet()) {
+        if(!name.equals(main) && name.startsWith(word)) {
+          completions.add(new Completion(prefix + name));
+        }
+      }
+    }
+
+    if(word.isEmpty() || word.startsWith("-")) {
+      List<String> list = args.length > 0 && options.containsKey(args[0]) ? options.get(args[0]) : options.get(main);
+      for(String option : list) {
+        if(option.startsWith(word)) {
+          completions.add(new Completion(prefix + option));
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Opções de cada comando, lidas uma vez das anotações.
+   */
+  private Map<String, List<String>> options() {
+    if(options == null) {
+      options = CronosCommand.parser().getOptions();
+    }
+    return options;
+  }
+}
@@ -0,0 +1,173 @@
+package br.com.techne.cronos.shell.command;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.shell.core.annotation.CliCommand;
+import org.springframework.shell.core.annotation.CliOption;
+import org.springframework.stereotype.Component;
+
+import br.com.techne.cronos.cli.command.CronosCommand;
+
+/**
+ * Executa os comandos do {@literal cronos-cli} ({@literal import}, {@literal export},
+ * {@literal convert} e os demais registrados em {@link CronosCommand#parser()}) na JVM do
+ * shell, sem iniciar outra: as classes, o driver JDBC e o JIT já estão aquecidos.
+ *
+ * <p>
+ * A linha é a mesma do terminal, entre aspas: {@literal cronos "import --url jdbc:... dados.xml"}.
+ * As opções de cada comando são completadas com TAB ({@link CronosArgsConverter}) e
+ * {@literal cronos help} exibe o help do {@literal cronos-cli}. A saída dos comandos vai
+ * diretamente para o console.
+ * </p>
+ *
+ * <p>
+ * Os comandos {@literal cronos-import}, {@literal cronos-export} e {@literal cronos-convert}
+ * expõem as opções mais usadas de cada comando como opções do shell, com o help e a
+ * validação do próprio shell; as demais são informadas em {@literal --options}, como no
+ * terminal. A senha ({@literal --password}) é solicitada no console, como no terminal.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Component
+public class CronosCliCommands extends TimedCommands {
+
+  @CliCommand(value = "cronos", help = "Executa um comando do cronos-cli (import, export, convert) no próprio shell; ex.: cronos \"export --url jdbc:... -t TABELA -o dados.xml\".")
+  public String cronos(
+    @CliOption(key = {"", "args"}, help = "linha de comando do cronos-cli, entre aspas; 'help' lista os comandos e opções") CronosArgs cronosArgs)
+  {
+    String[] args = cronosArgs != null ? cronosArgs.getArgs() : new String[0];
+    if(args.length == 0 || (args.length == 1 && args[0].equals("help"))) {
+      args = new String[] { "--help" };
+    }
+    return execute(args);
+  }
+
+  @CliCommand(value = "cronos-import", help = "Importa arquivos do cronos-cli no banco de dados, no próprio shell (cronos import).")
+  public String importFiles(
+    @CliOption(key = {"", "inputs"}, mandatory = true, help = "arquivos a importar, separados por espaço") String inputs,
+    @CliOption(key = "url", help = "URL JDBC do banco de dados") String url,
+    @CliOption(key = "user", help = "usuário do banco de dados") String user,
+    @CliOption(key = "password", specifiedDefaultValue = "true", unspecifiedDefaultValue = "false", help = "solicita a senha do banco de dados no console") boolean password,
+    @CliOption(key = "table", help = "tabela de destino") String table,
+    @CliOption(key = "batch-size", help = "registros por batch JDBC, cada um em uma transação") Integer batchSize,
+    @CliOption(key = "on-conflict", help = "registros com chave primária existente: update (atualiza) ou skip (ignora)") String onConflict,
+    @CliOption(key = "resume", specifiedDefaultValue = "true", unspecifiedDefaultValue = "false", help = "retoma a importação interrompida a partir do checkpoint") boolean resume,
+    @CliOption(key = "threads", help = "entradas validadas em paralelo em --validate-only") Integer threads,
+    @CliOption(key = "validate-only", specifiedDefaultValue = "true", unspecifiedDefaultValue = "false", help = "somente valida os arquivos, sem importar") boolean validateOnly,
+    @CliOption(key = "stats", specifiedDefaultValue = "true", unspecifiedDefaultValue = "false", help = "exibe as estatísticas ao final") boolean stats,
+    @CliOption(key = "progress", specifiedDefaultValue = "true", unspecifiedDefaultValue = "false", help = "exibe o andamento durante a importação") boolean progress,
+    @CliOption(key = "options", help = "demais opções do cronos import, entre aspas") String options)
+  {
+    List<String> args = new ArrayList<>();
+    args.add("import");
+    option(args, "--url", url);
+    option(args, "--user", user);
+    flag(args, "--password", password);
+    option(args, "--table", table);
+    option(args, "--batch-size", batchSize);
+    option(args, "--on-conflict", onConflict);
+    flag(args, "--resume", resume);
+    option(args, "--threads", threads);
+    flag(args, "--validate-only", validateOnly);
+    flag(args, "--stats", stats);
+    flag(args, "--progress", progress);
+    split(args, options);
+    split(args, inputs);
+    return execute(args.toArray(new String[args.size()]));
+  }
+
+  @CliCommand(value = "cronos-export", help = "Exporta uma tabela do banco de dados para arquivos do cronos-cli, no próprio shell (cronos export).")
+  public String exportTable(
+    @CliOption(key = "url", mandatory = true, help = "URL JDBC do banco de dados") String url,
+    @CliOption(key = "user", help = "usuário do banco de dados") String user,
+    @CliOption(key = "password", specifiedDefaultValue = "true", unspecifiedDefaultValue = "false", help = "solicita a senha do banco de dados no console") boolean password,
+    @CliOption(key = {"", "table"}, mandatory = true, help = "tabela a exportar") String table,
+    @CliOption(key = "output", help = "arquivos de saída, separados por espaço, cada um como formato[+gzip]:arquivo (padrão: a saída padrão)") String output,
+    @CliOption(key = "format", help = "formato de saída: xml ou cbin (padrão: xml)") String format,
+    @CliOption(key = "partitions", help = "exporta N faixas da tabela em paralelo, cada uma em sua conexão") Integer partitions,
+    @CliOption(key = "compress", help = "comprime a saída durante a exportação; formatos: gzip") String compress,
+    @CliOption(key = "since-last", specifiedDefaultValue = "true", unspecifiedDefaultValue = "false", help = "somente os registros alterados desde a última exportação") boolean sinceLast,
+    @CliOption(key = "columns", help = "colunas a exportar, separadas por vírgula") String columns,
+    @CliOption(key = "stats", specifiedDefaultValue = "true", unspecifiedDefaultValue = "false", help = "exibe as estatísticas ao final") boolean stats,
+    @CliOption(key = "progress", specifiedDefaultValue = "true", unspecifiedDefaultValue = "false", help = "exibe o andamento durante a exportação") boolean progress,
+    @CliOption(key = "options", help = "demais opções do cronos export, entre aspas") String options)
+  {
+    List<String> args = new ArrayList<>();
+    args.add("export");
+    option(args, "--url", url);
+    option(args, "--user", user);
+    flag(args, "--password", password);
+    option(args, "--table", table);
+    if(output != null) {
+      for(String target : CronosArgs.split(output)) {
+        option(args, "--output", target);
+      }
+    }
+    option(args, "--format", format);
+    option(args, "--partitions", partitions);
+    option(args, "--compress", compress);
+    flag(args, "--since-last", sinceLast);
+    option(args, "--columns", columns);
+    flag(args, "--stats", stats);
+    flag(args, "--progress", progress);
+    split(args, options);
+    return execute(args.toArray(new String[args.size()]));
+  }
+
+  @CliCommand(value = "cronos-convert", help = "Converte um arquivo do cronos-cli para outro formato, no próprio shell (cronos convert).")
+  public String convert(
+    @CliOption(key = {"", "input"}, mandatory = true, help = "arquivo a converter") String input,
+    @CliOption(key = "to", mandatory = true, help = "formato de saída: xml ou cbin") String to,
+    @CliOption(key = "output", help = "arquivo de saída (padrão: a saída padrão)") String output,
+    @CliOption(key = "url", help = "URL JDBC do banco de dados com a tabela de origem") String url,
+    @CliOption(key = "user", help = "usuário do banco de dados") String user,
+    @CliOption(key = "password", specifiedDefaultValue = "true", unspecifiedDefaultValue = "false", help = "solicita a senha do banco de dados no console") boolean password,
+    @CliOption(key = "table", help = "tabela cujos tipos são utilizados (exige --url)") String table)
+  {
+    List<String> args = new ArrayList<>();
+    args.add("convert");
+    option(args, "--to", to);
+    option(args, "--output", output);
+    option(args, "--url", url);
+    option(args, "--user", user);
+    flag(args, "--password", password);
+    option(args, "--table", table);
+    args.add(input);
+    return execute(args.toArray(new String[args.size()]));
+  }
+
+  private static String execute(String[] args) {
+    long started = System.nanoTime();
+    int status = CronosCommand.parser().execute(args);
+    long millis = (System.nanoTime() - started) / 1000000;
+
+    if(status != 0) {
+      throw new RuntimeException(String.format("cronos %s terminou com status %d (%d ms).", String.join(" ", Arrays.asList(args)), status, millis));
+    }
+    return String.format("cronos %s concluído em %d ms.", args[0], millis);
+  }
+
+  private static void option(List<String> args, String name, Object value) {
+    if(value != null) {
+      args.add(name);
+      args.add(value.toString());
+    }
+  }
+
+  private static void flag(List<String> args, String name, boolean value) {
+    if(value) {
+      args.add(name);
+    }
+  }
+
+  private static void split(List<String> args, String text) {
+    if(text != null) {
+      args.addAll(Arrays.asList(CronosArgs.split(text)));
+    }
+  }
+}
@@ -1,13 +1,14 @@
 package br.com.techne.cronos.shell.command;
 
-import org.springframework.shell.core.CommandMarker;
 import org.springframework.shell.core.annotation.CliAvailabilityIndicator;
 import org.springframework.shell.core.annotation.CliCommand;
 import org.springframework.shell.core.annotation.CliOption;
 import org.springframework.stereotype.Component;
 
+import br.com.techne.cronos.shell.script.ParallelSafe;
+
 @Component
-public class HelloWorldCommands implements CommandMarker {
+public class HelloWorldCommands extends TimedCommands {
 
 	private boolean simpleCommandExecuted = false;
 
@@ -26,6 +27,7 @@ public class HelloWorldCommands implements CommandMarker {
 		}
 	}
 
+	@ParallelSafe
 	@CliCommand(value = "hw simple", help = "Print a simple hello world message")
 	public String simple(
 		@CliOption(key = { "message" }, mandatory = true, help = "The hello world message") final String message,
@@ -34,6 +36,7 @@ public class HelloWorldCommands implements CommandMarker {
 		return "Message = [" + message + "] Location = [" + location + "]";
 	}
 
+	@ParallelSafe
 	@CliCommand(value = "hw complex", help = "Print a complex hello world message (run 'hw simple' once first)")
 	public String hello(
 		@CliOption(key = { "message" }, mandatory = true, help = "The hello world message") final String message,
@@ -44,6 +47,7 @@ public class HelloWorldCommands implements CommandMarker {
 		return "Hello " + name1 + " and " + name2 + ". Your special message is "  + message + ". time=[" + time + "] location=[" + location + "]";
 	}
 
+	@ParallelSafe
 	@CliCommand(value = "hw enum", help = "Print a simple hello world message from an enumerated value (run 'hw simple' once first)")
 	public String eenum(
 		@CliOption(key = { "message" }, mandatory = true, help = "The hello world message") final MessageType message){
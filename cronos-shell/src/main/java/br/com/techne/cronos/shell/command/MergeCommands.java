@@ -1,31 +1,225 @@
 package br.com.techne.cronos.shell.command;
 
-import org.springframework.shell.core.CommandMarker;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.shell.core.annotation.CliCommand;
 import org.springframework.shell.core.annotation.CliOption;
 import org.springframework.stereotype.Component;
 
-import br.com.techne.cronos.entities.CroClasses;
-import br.com.techne.cronos.main.merge.MergeClassesMain;
+import br.com.techne.cronos.shell.merge.ClassIndexCache;
+import br.com.techne.cronos.shell.merge.ClassMerger;
+import br.com.techne.cronos.shell.merge.IncrementalMerge;
+import br.com.techne.cronos.shell.merge.MergeJob;
+import br.com.techne.cronos.shell.merge.MergePlan;
+import br.com.techne.cronos.shell.merge.MergeReport;
+import br.com.techne.cronos.shell.merge.MergeProgress;
+import br.com.techne.cronos.shell.merge.PartitionedClassMerger;
+import br.com.techne.cronos.shell.script.ParallelSafe;
 
 @Component
-public class MergeCommands implements CommandMarker {
+public class MergeCommands extends TimedCommands {
+
+  @Lazy
+  @Autowired
+  private MergeEngine engine;
 
-  @CliCommand(value = "merge", help = "Carrega versão mais atual do classes.xml no banco de dados.")
+  @ParallelSafe
+  @CliCommand(value = "merge", help = "Carrega versão mais atual do classes.xml no banco de dados; com --incremental, somente se houver classes alteradas desde o último merge.")
   public String merge(
-    @CliOption(key = {"", "text"}) String text,
-    @CliOption(key = "from", unspecifiedDefaultValue = "all") double doubleN,
-    @CliOption(key = "to") long longN)
+    @CliOption(key = {"", "file"}, unspecifiedDefaultValue = IncrementalMerge.DEFAULT_CLASSES_FILE, help = "classes.xml a comparar com o último merge") String file,
+    @CliOption(key = "state", unspecifiedDefaultValue = IncrementalMerge.DEFAULT_STATE_FILE, help = "arquivo com as impressões digitais do último merge") String state,
+    @CliOption(key = "target", help = "URL JDBC ou esquema do banco de dados do executer; mantém um estado por banco") String target,
+    @CliOption(key = "incremental", specifiedDefaultValue = "true", unspecifiedDefaultValue = "false", help = "compara com o último merge registrado em --state e não acessa o banco se nenhuma classe mudou; o estado é local e não reflete alterações feitas no banco por outros meios") boolean incremental,
+    @CliOption(key = "async", specifiedDefaultValue = "true", unspecifiedDefaultValue = "false", help = "executa em segundo plano e libera o shell; acompanhe com merge-status") boolean async,
+    @CliOption(key = "threads", unspecifiedDefaultValue = "1", help = "aplica em paralelo, em até N conexões, os grupos de classes sem referências entre si; exige um merge por classe, recusado com o executer, que recarrega o arquivo inteiro") int threads)
+  {
+    IncrementalMerge merge = new IncrementalMerge()
+      .classes(new File(file))
+      .state(new File(state))
+      .target(target)
+      .full(!incremental)
+      .cache(engine.getCache());
+
+    ClassMerger merger = threads > 1 ? new PartitionedClassMerger(engine.getMerger(), threads) : engine.getMerger();
+    merge.check(merger);
+
+    MergeJob job = engine.getJobs().submit(merge, merger);
+    if(async) {
+      return String.format("Merge %d iniciado em segundo plano (merge-status, merge-wait ou merge-cancel --job %d).", job.getId(), job.getId());
+    }
+
+    try {
+      job.await(0);
+    }
+    catch(InterruptedException e) {
+      job.cancel();
+      Thread.currentThread().interrupt();
+    }
+
+    if(job.getStatus() == MergeJob.Status.FAILED) {
+      throw new RuntimeException("Falha no merge de '" + file + "': " + job.getError().getMessage(), job.getError());
+    }
+    if(job.getStatus() == MergeJob.Status.DONE && !job.getPlan().isEmpty()) {
+      return describe(job) + String.format(" Classes aplicadas: merge-report --job %d.", job.getId());
+    }
+    return describe(job);
+  }
+
+  @ParallelSafe
+  @CliCommand(value = "merge-status", help = "Exibe o andamento dos merges: fase, classes lidas e resultado.")
+  public String status(
+    @CliOption(key = {"", "job"}, help = "número do merge (padrão: todos os recentes)") Integer id)
+  {
+    if(id != null) {
+      return describe(job(id));
+    }
+
+    List<MergeJob> list = engine.getJobs().list();
+    if(list.isEmpty()) {
+      return "Nenhum merge executado.";
+    }
+
+    StringBuilder status = new StringBuilder();
+    for(MergeJob job : list) {
+      status.append(status.length() > 0 ? "\n" : "").append(describe(job));
+    }
+    return status.toString();
+  }
+
+  @ParallelSafe
+  @CliCommand(value = "merge-wait", help = "Aguarda o término de um merge em segundo plano.")
+  public String await(
+    @CliOption(key = {"", "job"}, help = "número do merge (padrão: o mais recente)") Integer id,
+    @CliOption(key = "timeout", unspecifiedDefaultValue = "0", help = "segundos de espera (padrão: sem limite)") long timeout)
+  {
+    MergeJob job = job(id);
+    try {
+      job.await(TimeUnit.SECONDS.toMillis(timeout));
+    }
+    catch(InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return describe(job);
+  }
+
+  @CliCommand(value = "merge-cancel", help = "Cancela um merge em segundo plano; o banco de dados e o estado permanecem como estavam.")
+  public String cancel(
+    @CliOption(key = {"", "job"}, help = "número do merge (padrão: o mais recente)") Integer id)
+  {
+    MergeJob job = job(id);
+    if(job.isFinished()) {
+      return describe(job);
+    }
+
+    job.cancel();
+    if(job.getProgress().getPhase() == MergeProgress.Phase.APPLYING) {
+      return String.format("Merge %d: a aplicação já foi iniciada e será concluída ou desfeita por inteiro; acompanhe com merge-status.", job.getId());
+    }
+    return String.format("Merge %d: cancelamento solicitado.", job.getId());
+  }
+
+  @ParallelSafe
+  @CliCommand(value = "merge-report", help = "Lista as classes aplicadas por um merge concluído, uma página por vez ou em um arquivo.")
+  public String report(
+    @CliOption(key = {"", "job"}, help = "número do merge (padrão: o mais recente)") Integer id,
+    @CliOption(key = "page", unspecifiedDefaultValue = "1", help = "página a exibir, a partir de 1") int page,
+    @CliOption(key = "page-size", unspecifiedDefaultValue = "50", help = "classes por página") int pageSize,
+    @CliOption(key = "file", help = "grava o relatório completo no arquivo em vez de exibir uma página") String file)
   {
+    MergeJob job = job(id);
+    if(job.getStatus() != MergeJob.Status.DONE) {
+      return describe(job);
+    }
+    if(page < 1 || pageSize < 1) {
+      throw new IllegalArgumentException("Página inválida: " + page + " com " + pageSize + " classes.");
+    }
 
-    System.out.println(text);
+    MergeReport report = new MergeReport(job.getPlan());
+    try {
+      if(file != null) {
+        try (Writer out = Files.newBufferedWriter(Paths.get(file), StandardCharsets.UTF_8)) {
+          return String.format("Merge %d: %d classes gravadas em '%s'.", job.getId(), report.write(out), file);
+        }
+      }
 
-    System.out.println(doubleN);
+      long pages = Math.max(1, (report.getLines() + pageSize - 1) / pageSize);
+      StringWriter out = new StringWriter();
+      report.write(out, (long)(page - 1) * pageSize, pageSize);
+      out.write(String.format("Merge %d: página %d de %d, %d classes.", job.getId(), page, pages, report.getLines()));
+      return out.toString();
+    }
+    catch(IOException e) {
+      throw new RuntimeException("Falha no relatório do merge " + job.getId() + ": " + e.getMessage(), e);
+    }
+  }
 
-    System.out.println(longN);
+  @CliCommand(value = "merge-cache", help = "Configura e exibe o cache dos classes.xml já processados, pelo hash do conteúdo.")
+  public String cache(
+    @CliOption(key = "size", help = "tamanho máximo em MB, em memória e em disco (padrão: 64)") Long size,
+    @CliOption(key = "dir", help = "diretório em que os índices também são gravados, reaproveitados entre sessões") String dir,
+    @CliOption(key = "memory-only", specifiedDefaultValue = "true", unspecifiedDefaultValue = "false", help = "deixa de gravar os índices em disco") boolean memoryOnly)
+  {
+    ClassIndexCache cache = engine.getCache();
+    if(size != null) {
+      cache.maxSize(size << 20);
+    }
+    if(dir != null || memoryOnly) {
+      cache.dir(memoryOnly ? null : new File(dir));
+    }
 
-    CroClasses croClasses = MergeClassesMain.merge();
+    return String.format("Cache de classes.xml: %d índices, %.1f de %d MB em memória, %d acertos e %d faltas; disco: %s.",
+      cache.getEntries(), cache.getSize() / (double)(1 << 20), cache.getMaxSize() >> 20, cache.getHits(), cache.getMisses(),
+      cache.getDir() != null ? cache.getDir().getPath() : "não utilizado");
+  }
+
+  @CliCommand(value = "merge-invalidate", help = "Descarta o cache dos classes.xml processados, em memória e em disco.")
+  public String invalidate() {
+    return String.format("%d índices descartados do cache.", engine.getCache().invalidate());
+  }
+
+  private MergeJob job(Integer id) {
+    MergeJob job = engine.getJobs().get(id);
+    if(job == null) {
+      throw new IllegalArgumentException(id != null ? "Merge " + id + " não encontrado." : "Nenhum merge executado.");
+    }
+    return job;
+  }
+
+  private static String describe(MergeJob job) {
+    switch(job.getStatus()) {
+      case QUEUED:
+        return String.format("Merge %d: %s.", job.getId(), MergeProgress.Phase.QUEUED.getDescription());
+      case RUNNING:
+        MergeProgress progress = job.getProgress();
+        return String.format("Merge %d: %s, %d classes lidas (%d ms)%s.", job.getId(), progress.getPhase().getDescription(),
+          progress.getClasses(), job.getElapsedMillis(), progress.isCancelled() ? ", cancelamento solicitado" : "");
+      case CANCELLED:
+        return String.format("Merge %d cancelado; o banco de dados e o estado não foram alterados.", job.getId());
+      case FAILED:
+        return String.format("Merge %d falhou: %s", job.getId(), job.getError().getMessage());
+      default:
+        return String.format("Merge %d: %s", job.getId(), summary(job.getPlan(), job.getElapsedMillis()));
+    }
+  }
 
-    return croClasses.toString();
+  private static String summary(MergePlan plan, long millis) {
+    if(plan.isFull()) {
+      return String.format("recarga completa, %d classes (%d ms).", plan.getClasses(), millis);
+    }
+    if(plan.isEmpty()) {
+      return String.format("nenhuma classe alterada desde o último merge, %d classes (%d ms).", plan.getClasses(), millis);
+    }
+    return String.format("%d incluídas, %d alteradas e %d removidas de %d classes (%d ms).",
+      plan.getInserted().size(), plan.getUpdated().size(), plan.getDeleted().size(), plan.getClasses(), millis);
   }
 }
@@ -0,0 +1,46 @@
+package br.com.techne.cronos.shell.command;
+
+import java.io.File;
+
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import br.com.techne.cronos.shell.merge.ClassIndexCache;
+import br.com.techne.cronos.shell.merge.ClassMerger;
+import br.com.techne.cronos.shell.merge.ExecuterClassMerger;
+import br.com.techne.cronos.shell.merge.IncrementalMerge;
+import br.com.techne.cronos.shell.merge.MergeJobs;
+
+/**
+ * Dependências dos comandos de merge: o {@link ClassMerger} do executer, e com ele o acesso ao
+ * banco de dados, a fila dos merges e o cache dos {@literal classes.xml} processados.
+ *
+ * <p>
+ * Injetado com {@link Lazy} em {@link MergeCommands}: o shell recebe um "proxy" e a instância
+ * é criada no primeiro comando de merge, não na inicialização.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Lazy
+@Component
+public class MergeEngine {
+
+  private final ClassMerger merger = new ExecuterClassMerger(new File(IncrementalMerge.DEFAULT_CLASSES_FILE));
+  private final MergeJobs jobs = new MergeJobs();
+  private final ClassIndexCache cache = new ClassIndexCache();
+
+  public ClassMerger getMerger() {
+    return merger;
+  }
+
+  public MergeJobs getJobs() {
+    return jobs;
+  }
+
+  public ClassIndexCache getCache() {
+    return cache;
+  }
+}
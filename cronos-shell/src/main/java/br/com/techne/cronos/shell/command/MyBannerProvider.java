@@ -15,6 +15,8 @@
  */
 package br.com.techne.cronos.shell.command;
 
+import java.lang.management.ManagementFactory;
+
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.shell.plugin.support.DefaultBannerProvider;
@@ -44,8 +46,11 @@ public class MyBannerProvider extends DefaultBannerProvider  {
 		return "1.2.3";
 	}
 
+	/**
+	 * Inclui o tempo desde o início da JVM, o tempo até o prompt.
+	 */
 	public String getWelcomeMessage() {
-		return "Welcome to HelloWorld CLI";
+		return "Welcome to HelloWorld CLI (" + ManagementFactory.getRuntimeMXBean().getUptime() + " ms)";
 	}
 
 	@Override
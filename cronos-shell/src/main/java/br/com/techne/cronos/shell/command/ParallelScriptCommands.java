@@ -0,0 +1,120 @@
+package br.com.techne.cronos.shell.command;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.shell.core.ExecutionProcessor;
+import org.springframework.shell.core.JLineShellComponent;
+import org.springframework.shell.core.annotation.CliCommand;
+import org.springframework.shell.core.annotation.CliOption;
+import org.springframework.shell.event.ParseResult;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+
+import br.com.techne.cronos.shell.script.ParallelSafe;
+import br.com.techne.cronos.shell.script.Script;
+import br.com.techne.cronos.shell.script.ScriptRunner;
+
+/**
+ * Comando {@literal run-script}: executa um {@link Script} com blocos {@literal parallel}.
+ *
+ * <p>
+ * O {@literal script} do Spring Shell executa cada linha pelo {@link JLineShellComponent},
+ * que serializa todos os comandos; aqui a linha é interpretada pelo "parser" do shell e o
+ * método do comando é chamado diretamente, com o mesmo {@link ExecutionProcessor} (as
+ * estatísticas de {@link TimedCommands}).
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Component
+public class ParallelScriptCommands extends TimedCommands {
+
+  @Lazy
+  @Autowired
+  private JLineShellComponent shell;
+
+  @CliCommand(value = "run-script", help = "Executa os comandos de um arquivo, um por linha; os de um bloco 'parallel { ... }' marcados como seguros são executados ao mesmo tempo.")
+  public String run(
+    @CliOption(key = {"", "file"}, mandatory = true, help = "arquivo com os comandos") String file,
+    @CliOption(key = "parallel", unspecifiedDefaultValue = "4", help = "máximo de comandos simultâneos em um bloco parallel") int threads)
+  {
+    ScriptRunner.Result result;
+    try {
+      Script script = Script.read(new File(file));
+      Writer out = new OutputStreamWriter(System.out);
+      result = new ScriptRunner(new ShellInterpreter(), threads, out).run(script);
+    }
+    catch(IOException e) {
+      throw new RuntimeException("Falha no script '" + file + "': " + e.getMessage(), e);
+    }
+
+    if(!result.isSuccess()) {
+      List<Integer> lines = new ArrayList<>();
+      for(Script.Line line : result.getFailures().keySet()) {
+        lines.add(line.getNumber());
+      }
+      throw new RuntimeException(String.format("Script '%s' interrompido: %d comandos executados, falha nas linhas %s.", file, result.getExecuted(), lines));
+    }
+    return String.format("Script '%s': %d comandos executados.", file, result.getExecuted());
+  }
+
+  /**
+   * Interpreta as linhas com o "parser" do shell; o comando é seguro em paralelo se o seu
+   * método tem {@link ParallelSafe}.
+   */
+  private class ShellInterpreter implements ScriptRunner.Interpreter {
+
+    @Override
+    public ScriptRunner.Command parse(String line) {
+      final ParseResult parsed = shell.getSimpleParser().parse(line);
+      if(parsed == null) {
+        throw new IllegalArgumentException("comando ou opções inválidos.");
+      }
+
+      return new ScriptRunner.Command() {
+        @Override
+        public boolean isParallelSafe() {
+          return AnnotationUtils.findAnnotation(parsed.getMethod(), ParallelSafe.class) != null;
+        }
+
+        @Override
+        public Object execute() {
+          return invoke(parsed);
+        }
+      };
+    }
+  }
+
+  /**
+   * Chama o método do comando como a estratégia de execução do Spring Shell, sem a
+   * serialização.
+   */
+  private static Object invoke(ParseResult parsed) {
+    ExecutionProcessor processor = parsed.getInstance() instanceof ExecutionProcessor ? (ExecutionProcessor)parsed.getInstance() : null;
+    ParseResult effective = processor != null ? processor.beforeInvocation(parsed) : parsed;
+
+    try {
+      Object result = ReflectionUtils.invokeMethod(effective.getMethod(), effective.getInstance(), effective.getArguments());
+      if(processor != null) {
+        processor.afterReturningInvocation(effective, result);
+      }
+      return result;
+    }
+    catch(RuntimeException | Error e) {
+      if(processor != null) {
+        processor.afterThrowingInvocation(effective, e);
+      }
+      throw e;
+    }
+  }
+}
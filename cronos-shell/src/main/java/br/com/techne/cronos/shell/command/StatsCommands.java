@@ -0,0 +1,45 @@
+package br.com.techne.cronos.shell.command;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.springframework.shell.core.annotation.CliCommand;
+import org.springframework.shell.core.annotation.CliOption;
+import org.springframework.shell.support.util.OsUtils;
+import org.springframework.stereotype.Component;
+
+import br.com.techne.cronos.shell.stats.CommandStats;
+
+@Component
+public class StatsCommands extends TimedCommands {
+
+  @CliCommand(value = "stats", help = "Exibe execuções, erros e latências (média e percentis) de cada comando desde o início do shell.")
+  public String stats(
+    @CliOption(key = "json", help = "grava as estatísticas em JSON no arquivo informado") String json,
+    @CliOption(key = "reset", specifiedDefaultValue = "true", unspecifiedDefaultValue = "false", help = "descarta as estatísticas após exibi-las") boolean reset)
+  {
+    CommandStats stats = getStats();
+    String result;
+
+    if(json != null) {
+      try {
+        stats.writeJson(new File(json));
+      }
+      catch(IOException e) {
+        throw new RuntimeException("Falha ao gravar '" + json + "': " + e.getMessage(), e);
+      }
+      result = String.format("Estatísticas gravadas em '%s'.", json);
+    }
+    else if(stats.isEmpty()) {
+      result = "Nenhum comando executado.";
+    }
+    else {
+      result = String.join(OsUtils.LINE_SEPARATOR, stats.summary());
+    }
+
+    if(reset) {
+      stats.reset();
+    }
+    return result;
+  }
+}
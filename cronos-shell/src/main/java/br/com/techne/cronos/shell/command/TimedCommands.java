@@ -0,0 +1,65 @@
+package br.com.techne.cronos.shell.command;
+
+import java.lang.reflect.Method;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.shell.core.ExecutionProcessor;
+import org.springframework.shell.core.annotation.CliCommand;
+import org.springframework.shell.event.ParseResult;
+
+import br.com.techne.cronos.shell.stats.CommandStats;
+
+/**
+ * Base dos comandos do shell: registra em {@link CommandStats} a duração e o resultado de
+ * cada execução, chamada pelo Spring Shell antes e depois do comando
+ * ({@link ExecutionProcessor}); consulte com o comando {@literal stats}.
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public abstract class TimedCommands implements ExecutionProcessor {
+
+  private static final ThreadLocal<long[]> STARTED = new ThreadLocal<long[]>() {
+    @Override
+    protected long[] initialValue() {
+      return new long[1];
+    }
+  };
+
+  @Autowired
+  private CommandStats stats;
+
+  @Override
+  public ParseResult beforeInvocation(ParseResult invocationContext) {
+    STARTED.get()[0] = System.nanoTime();
+    return invocationContext;
+  }
+
+  @Override
+  public void afterReturningInvocation(ParseResult invocationContext, Object result) {
+    record(invocationContext, false);
+  }
+
+  @Override
+  public void afterThrowingInvocation(ParseResult invocationContext, Throwable thrown) {
+    record(invocationContext, true);
+  }
+
+  protected CommandStats getStats() {
+    return stats;
+  }
+
+  private void record(ParseResult invocationContext, boolean failed) {
+    long nanos = System.nanoTime() - STARTED.get()[0];
+    stats.record(command(invocationContext.getMethod()), nanos, failed);
+  }
+
+  /**
+   * Nome do comando (o primeiro de {@link CliCommand#value()}), como digitado no shell.
+   */
+  static String command(Method method) {
+    CliCommand command = method.getAnnotation(CliCommand.class);
+    return command != null && command.value().length > 0 ? command.value()[0] : method.getName();
+  }
+}
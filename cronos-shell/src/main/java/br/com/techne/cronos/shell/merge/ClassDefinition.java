@@ -0,0 +1,59 @@
+package br.com.techne.cronos.shell.merge;
+
+/**
+ * Definição de uma classe do {@literal classes.xml}: o elemento da classe na forma canônica
+ * e a sua impressão digital.
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class ClassDefinition {
+
+  private final String id;
+  private final int position;
+  private final String fingerprint;
+  private final String xml;
+
+  ClassDefinition(String id, int position, String fingerprint, String xml) {
+    this.id = id;
+    this.position = position;
+    this.fingerprint = fingerprint;
+    this.xml = xml;
+  }
+
+  /**
+   * Atributo {@literal id} (ou {@literal name}) do elemento da classe; na ausência de ambos,
+   * a posição no arquivo precedida de {@literal #}.
+   */
+  public String getId() {
+    return id;
+  }
+
+  /**
+   * Posição da classe no arquivo, a partir de 1.
+   */
+  public int getPosition() {
+    return position;
+  }
+
+  /**
+   * SHA-1 da forma canônica: atributos ordenados e sem os espaços de formatação, de forma
+   * que somente alterações de conteúdo alteram a impressão digital.
+   */
+  public String getFingerprint() {
+    return fingerprint;
+  }
+
+  /**
+   * Elemento da classe na forma canônica.
+   */
+  public String getXml() {
+    return xml;
+  }
+
+  @Override
+  public String toString() {
+    return id;
+  }
+}
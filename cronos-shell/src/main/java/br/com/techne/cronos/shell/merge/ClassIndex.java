@@ -0,0 +1,120 @@
+package br.com.techne.cronos.shell.merge;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Índice compacto de um {@literal classes.xml}: o identificador e a impressão digital de cada
+ * classe, na ordem do arquivo, sem as definições. Basta para calcular um {@link MergePlan}
+ * sem reprocessar o XML (veja {@link ClassIndexCache}).
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class ClassIndex {
+
+  static final int FINGERPRINT_LENGTH = 20;
+
+  private static final int MAGIC = 0x43524958; // CRIX
+  private static final int VERSION = 1;
+
+  private final String[] ids;
+  private final byte[] fingerprints;
+
+  private ClassIndex(String[] ids, byte[] fingerprints) {
+    this.ids = ids;
+    this.fingerprints = fingerprints;
+  }
+
+  public int size() {
+    return ids.length;
+  }
+
+  /**
+   * Classe da posição <code>position</code>, a partir de 1, sem a definição
+   * ({@link ClassDefinition#getXml()} nulo).
+   */
+  public ClassDefinition get(int position) {
+    int i = position - 1;
+    return new ClassDefinition(ids[i], position, hex(Arrays.copyOfRange(fingerprints, i * FINGERPRINT_LENGTH, (i + 1) * FINGERPRINT_LENGTH)), null);
+  }
+
+  /**
+   * Memória aproximada ocupada pelo índice, em bytes.
+   */
+  public long getSize() {
+    long size = 64 + fingerprints.length;
+    for(String id : ids) {
+      size += 56 + 2L * id.length();
+    }
+    return size;
+  }
+
+  void write(DataOutputStream out) throws IOException {
+    out.writeInt(MAGIC);
+    out.writeInt(VERSION);
+    out.writeInt(ids.length);
+    for(String id : ids) {
+      out.writeUTF(id);
+    }
+    out.write(fingerprints);
+  }
+
+  static ClassIndex read(DataInputStream in) throws IOException {
+    if(in.readInt() != MAGIC || in.readInt() != VERSION) {
+      throw new IOException("Índice de classes em formato desconhecido.");
+    }
+
+    String[] ids = new String[in.readInt()];
+    for(int i = 0; i < ids.length; i++) {
+      ids[i] = in.readUTF();
+    }
+    byte[] fingerprints = new byte[ids.length * FINGERPRINT_LENGTH];
+    in.readFully(fingerprints);
+
+    return new ClassIndex(ids, fingerprints);
+  }
+
+  static String hex(byte[] bytes) {
+    StringBuilder hex = new StringBuilder(bytes.length * 2);
+    for(byte b : bytes) {
+      hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+    }
+    return hex.toString();
+  }
+
+  private static byte[] unhex(String hex) {
+    byte[] bytes = new byte[hex.length() / 2];
+    for(int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte)((Character.digit(hex.charAt(2 * i), 16) << 4) | Character.digit(hex.charAt(2 * i + 1), 16));
+    }
+    return bytes;
+  }
+
+  /**
+   * Monta o índice à medida que as classes são lidas.
+   */
+  static class Builder {
+
+    private final List<String> ids = new ArrayList<>();
+    private final List<byte[]> fingerprints = new ArrayList<>();
+
+    void add(ClassDefinition definition) {
+      ids.add(definition.getId());
+      fingerprints.add(unhex(definition.getFingerprint()));
+    }
+
+    ClassIndex build() {
+      byte[] packed = new byte[fingerprints.size() * FINGERPRINT_LENGTH];
+      for(int i = 0; i < fingerprints.size(); i++) {
+        System.arraycopy(fingerprints.get(i), 0, packed, i * FINGERPRINT_LENGTH, FINGERPRINT_LENGTH);
+      }
+      return new ClassIndex(ids.toArray(new String[ids.size()]), packed);
+    }
+  }
+}
@@ -0,0 +1,233 @@
+package br.com.techne.cronos.shell.merge;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileFilter;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache dos {@link ClassIndex} de {@literal classes.xml} já processados, pela SHA-256 do
+ * conteúdo do arquivo: enquanto o arquivo não muda, o merge calcula o plano sem reprocessar
+ * o XML.
+ *
+ * <p>
+ * Os índices ficam em memória, descartando os menos usados acima de {@link #maxSize(long)}
+ * bytes, e opcionalmente em {@link #dir(File)}, um arquivo {@literal <sha256>.idx} compactado
+ * por índice, limitado ao mesmo tamanho. Instâncias são thread-safe.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class ClassIndexCache {
+
+  public static final long DEFAULT_MAX_SIZE = 64L << 20;
+
+  private static final String SUFFIX = ".idx";
+
+  private final LinkedHashMap<String, ClassIndex> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long size;
+  private long maxSize = DEFAULT_MAX_SIZE;
+  private File dir;
+  private long hits;
+  private long misses;
+
+  /**
+   * Tamanho máximo, em bytes, dos índices em memória e dos arquivos em {@link #dir(File)}.
+   */
+  public synchronized ClassIndexCache maxSize(long maxSize) {
+    this.maxSize = maxSize;
+    evict();
+    return this;
+  }
+
+  /**
+   * Diretório dos índices gravados em disco, reaproveitados entre sessões do shell;
+   * {@code null} mantém os índices somente em memória.
+   */
+  public synchronized ClassIndexCache dir(File dir) {
+    this.dir = dir;
+    return this;
+  }
+
+  /**
+   * SHA-256 do conteúdo de <code>file</code>, em hexadecimal.
+   */
+  public static String hash(File file) throws IOException {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    }
+    catch(NoSuchAlgorithmException e) {
+      throw new IOException(e.getMessage(), e);
+    }
+
+    byte[] buffer = new byte[64 * 1024];
+    try (InputStream in = new FileInputStream(file)) {
+      int n;
+      while((n = in.read(buffer)) > 0) {
+        digest.update(buffer, 0, n);
+      }
+    }
+    return ClassIndex.hex(digest.digest());
+  }
+
+  /**
+   * @return o índice do conteúdo <code>hash</code>, em memória ou em disco, ou {@code null}.
+   */
+  public synchronized ClassIndex get(String hash) throws IOException {
+    ClassIndex index = entries.get(hash);
+
+    if(index == null && dir != null) {
+      File file = new File(dir, hash + SUFFIX);
+      if(file.isFile()) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(new FileInputStream(file))))) {
+          index = ClassIndex.read(in);
+        }
+        file.setLastModified(System.currentTimeMillis());
+        remember(hash, index);
+      }
+    }
+
+    if(index != null) {
+      hits++;
+    }
+    else {
+      misses++;
+    }
+    return index;
+  }
+
+  public synchronized void put(String hash, ClassIndex index) throws IOException {
+    remember(hash, index);
+
+    if(dir != null) {
+      Files.createDirectories(dir.toPath());
+      File temp = File.createTempFile(hash, ".tmp", dir);
+      try {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(new FileOutputStream(temp))))) {
+          index.write(out);
+        }
+        Files.move(temp.toPath(), new File(dir, hash + SUFFIX).toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      }
+      finally {
+        Files.deleteIfExists(temp.toPath());
+      }
+      trim();
+    }
+  }
+
+  /**
+   * Descarta todos os índices, em memória e em disco.
+   *
+   * @return quantidade de índices descartados, somando memória e disco.
+   */
+  public synchronized int invalidate() {
+    int count = entries.size();
+    entries.clear();
+    size = 0;
+
+    for(File file : files()) {
+      if(file.delete()) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  public synchronized int getEntries() {
+    return entries.size();
+  }
+
+  /**
+   * Memória ocupada pelos índices, em bytes.
+   */
+  public synchronized long getSize() {
+    return size;
+  }
+
+  public synchronized long getMaxSize() {
+    return maxSize;
+  }
+
+  public synchronized File getDir() {
+    return dir;
+  }
+
+  public synchronized long getHits() {
+    return hits;
+  }
+
+  public synchronized long getMisses() {
+    return misses;
+  }
+
+  private void remember(String hash, ClassIndex index) {
+    if(index.getSize() > maxSize) {
+      return;
+    }
+
+    ClassIndex previous = entries.put(hash, index);
+    if(previous != null) {
+      size -= previous.getSize();
+    }
+    size += index.getSize();
+    evict();
+  }
+
+  private void evict() {
+    Iterator<ClassIndex> eldest = entries.values().iterator();
+    while(size > maxSize && eldest.hasNext()) {
+      size -= eldest.next().getSize();
+      eldest.remove();
+    }
+  }
+
+  /**
+   * Remove os arquivos menos usados acima de {@link #maxSize}.
+   */
+  private void trim() {
+    File[] files = files();
+    Arrays.sort(files, new Comparator<File>() {
+      @Override
+      public int compare(File a, File b) {
+        return Long.compare(b.lastModified(), a.lastModified());
+      }
+    });
+
+    long total = 0;
+    for(File file : files) {
+      total += file.length();
+      if(total > maxSize) {
+        file.delete();
+      }
+    }
+  }
+
+  private File[] files() {
+    File[] files = dir != null ? dir.listFiles(new FileFilter() {
+      @Override
+      public boolean accept(File file) {
+        return file.isFile() && file.getName().endsWith(SUFFIX);
+      }
+    }) : null;
+    return files != null ? files : new File[0];
+  }
+}
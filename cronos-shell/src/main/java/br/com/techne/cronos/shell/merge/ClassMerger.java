@@ -0,0 +1,39 @@
+package br.com.techne.cronos.shell.merge;
+
+import java.io.File;
+
+/**
+ * Aplica um {@link MergePlan} no banco de dados.
+ *
+ * <p>
+ * A aplicação deve ser atômica: todas as inclusões, alterações e exclusões em uma única
+ * transação, desfeita por completo em caso de falha. O estado do merge só é gravado
+ * após {@link #apply(MergePlan)} concluir sem exceção.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public interface ClassMerger {
+
+  void apply(MergePlan plan) throws Exception;
+
+  /**
+   * Indica se o plano é aplicado classe a classe, a partir das listas de diferenças, e pode
+   * ser dividido em partes por {@link PartitionedClassMerger}; {@code false} para quem
+   * recarrega o arquivo inteiro a cada aplicação.
+   */
+  default boolean isPerClass() {
+    return true;
+  }
+
+  /**
+   * O {@literal classes.xml} aplicado por este merger independentemente do plano, ou
+   * {@code null} se aplica o arquivo do plano ({@link MergePlan#getFile()}); o merge de outro
+   * arquivo é recusado por {@link IncrementalMerge#check(ClassMerger)}.
+   */
+  default File getSource() {
+    return null;
+  }
+}
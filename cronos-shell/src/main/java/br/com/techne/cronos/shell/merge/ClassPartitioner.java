@@ -0,0 +1,200 @@
+package br.com.techne.cronos.shell.merge;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Divide as classes incluídas e alteradas de um {@link MergePlan} em partes sem referências
+ * entre si, aplicáveis em paralelo (veja {@link PartitionedClassMerger}).
+ *
+ * <p>
+ * Uma classe referencia outra quando um valor de atributo ou um texto da sua definição (ou um
+ * dos termos separados por espaço, vírgula ou ponto e vírgula) é o identificador da outra.
+ * Classes ligadas por referências, direta ou indiretamente, formam um componente, que fica
+ * inteiro em uma mesma parte e é aplicado na ordem do plano. Os componentes são distribuídos
+ * entre as partes pela quantidade de classes, sempre da mesma forma para o mesmo plano.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+final class ClassPartitioner {
+
+  private static final String SEPARATORS = "[\\s,;]+";
+
+  private ClassPartitioner() {
+  }
+
+  /**
+   * Divide as inclusões e alterações de <code>plan</code> em até <code>parts</code> planos;
+   * as exclusões ficam em {@link #deletions(MergePlan)}.
+   */
+  static List<MergePlan> partition(MergePlan plan, int parts) throws IOException {
+    List<ClassDefinition> changed = new ArrayList<>(plan.getInserted());
+    changed.addAll(plan.getUpdated());
+
+    Map<String, Integer> indexes = new HashMap<>();
+    for(int i = 0; i < changed.size(); i++) {
+      indexes.put(changed.get(i).getId(), i);
+    }
+
+    int[] parent = new int[changed.size()];
+    for(int i = 0; i < parent.length; i++) {
+      parent[i] = i;
+    }
+    for(int i = 0; i < changed.size(); i++) {
+      for(String reference : references(changed.get(i))) {
+        Integer j = indexes.get(reference);
+        if(j != null) {
+          union(parent, i, j);
+        }
+      }
+    }
+
+    Map<Integer, List<Integer>> components = new LinkedHashMap<>();
+    for(int i = 0; i < changed.size(); i++) {
+      int root = find(parent, i);
+      List<Integer> component = components.get(root);
+      if(component == null) {
+        component = new ArrayList<>();
+        components.put(root, component);
+      }
+      component.add(i);
+    }
+
+    // maiores primeiro, cada um na parte com menos classes; a ordenação é estável
+    List<List<Integer>> sorted = new ArrayList<>(components.values());
+    Collections.sort(sorted, new Comparator<List<Integer>>() {
+      @Override
+      public int compare(List<Integer> a, List<Integer> b) {
+        return Integer.compare(b.size(), a.size());
+      }
+    });
+
+    int count = Math.max(1, Math.min(parts, sorted.size()));
+    int[] sizes = new int[count];
+    int[] partOf = new int[changed.size()];
+    for(List<Integer> component : sorted) {
+      int lightest = 0;
+      for(int p = 1; p < count; p++) {
+        if(sizes[p] < sizes[lightest]) {
+          lightest = p;
+        }
+      }
+      sizes[lightest] += component.size();
+      for(int i : component) {
+        partOf[i] = lightest;
+      }
+    }
+
+    List<MergePlan> result = new ArrayList<>(count);
+    for(int p = 0; p < count; p++) {
+      result.add(new MergePlan(plan.getFile(), false, plan.getFrom(), plan.getTo()));
+    }
+    int inserted = plan.getInserted().size();
+    for(int i = 0; i < changed.size(); i++) {
+      MergePlan part = result.get(partOf[i]);
+      part.read(changed.get(i));
+      if(i < inserted) {
+        part.insert(changed.get(i));
+      }
+      else {
+        part.update(changed.get(i));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Plano somente com as exclusões de <code>plan</code>, aplicado após as demais partes: a
+   * versão anterior de uma classe alterada pode referenciar uma classe removida.
+   */
+  static MergePlan deletions(MergePlan plan) {
+    MergePlan deletions = new MergePlan(plan.getFile(), false, plan.getFrom(), plan.getTo());
+    for(String id : plan.getDeleted()) {
+      deletions.delete(id);
+    }
+    return deletions;
+  }
+
+  /**
+   * Valores de atributos e textos da definição, candidatos a identificadores de outras classes.
+   */
+  static Set<String> references(ClassDefinition definition) throws IOException {
+    Set<String> references = new LinkedHashSet<>();
+
+    try {
+      XMLStreamReader reader = ClassesXmlReader.INPUT_FACTORY.createXMLStreamReader(new StringReader(definition.getXml()));
+      try {
+        while(reader.hasNext()) {
+          switch(reader.next()) {
+            case XMLStreamConstants.START_ELEMENT:
+              for(int i = 0; i < reader.getAttributeCount(); i++) {
+                add(references, reader.getAttributeValue(i));
+              }
+              break;
+            case XMLStreamConstants.CHARACTERS:
+            case XMLStreamConstants.CDATA:
+              add(references, reader.getText());
+              break;
+            default:
+              break;
+          }
+        }
+      }
+      finally {
+        reader.close();
+      }
+    }
+    catch(XMLStreamException e) {
+      throw new IOException("Classe '" + definition.getId() + "': " + e.getMessage(), e);
+    }
+
+    references.remove(definition.getId());
+    return references;
+  }
+
+  private static void add(Set<String> references, String value) {
+    String trimmed = value.trim();
+    if(trimmed.isEmpty()) {
+      return;
+    }
+
+    references.add(trimmed);
+    for(String term : trimmed.split(SEPARATORS)) {
+      if(!term.isEmpty()) {
+        references.add(term);
+      }
+    }
+  }
+
+  private static int find(int[] parent, int i) {
+    while(parent[i] != i) {
+      parent[i] = parent[parent[i]];
+      i = parent[i];
+    }
+    return i;
+  }
+
+  private static void union(int[] parent, int i, int j) {
+    int a = find(parent, i);
+    int b = find(parent, j);
+    if(a != b) {
+      parent[Math.max(a, b)] = Math.min(a, b);
+    }
+  }
+}
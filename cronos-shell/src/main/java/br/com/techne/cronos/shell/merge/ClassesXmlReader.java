@@ -0,0 +1,205 @@
+package br.com.techne.cronos.shell.merge;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeMap;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * Leitura em "streaming" (StAX) do {@literal classes.xml}: cada filho do elemento raiz é
+ * uma classe, lida por {@link #next()} sem carregar o arquivo em memória.
+ *
+ * <p>
+ * Com {@link #window(int, int)} as classes fora da faixa de posições são descartadas evento a
+ * evento, sem montar a sua forma canônica, e a leitura termina após a última posição da faixa.
+ * Com {@link #select(SortedSet)}, o mesmo para as posições não selecionadas.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class ClassesXmlReader implements Closeable {
+
+  static final XMLInputFactory INPUT_FACTORY = XMLInputFactory.newInstance();
+  private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
+  static {
+    INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    INPUT_FACTORY.setProperty(XMLInputFactory.IS_COALESCING, true);
+  }
+
+  private final File file;
+  private final InputStream in;
+  private final XMLStreamReader reader;
+  private final MessageDigest digest;
+
+  private int depth;
+  private int position;
+  private int from = 1;
+  private int to = Integer.MAX_VALUE;
+  private SortedSet<Integer> selected;
+
+  public ClassesXmlReader(File file) throws IOException {
+    this.file = file;
+    this.in = new BufferedInputStream(new FileInputStream(file), 64 * 1024);
+
+    try {
+      this.reader = INPUT_FACTORY.createXMLStreamReader(in);
+      this.digest = MessageDigest.getInstance("SHA-1");
+    }
+    catch(XMLStreamException | NoSuchAlgorithmException e) {
+      in.close();
+      throw new IOException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Lê somente as classes das posições <code>from</code> a <code>to</code>, inclusive,
+   * contadas a partir de 1.
+   */
+  public ClassesXmlReader window(int from, int to) {
+    this.from = from;
+    this.to = to;
+    return this;
+  }
+
+  /**
+   * Lê somente as classes das posições <code>positions</code>.
+   */
+  public ClassesXmlReader select(SortedSet<Integer> positions) {
+    this.selected = positions;
+    return positions.isEmpty() ? window(1, 0) : window(positions.first(), positions.last());
+  }
+
+  /**
+   * @return a próxima classe ou {@code null} ao final do arquivo (ou da faixa).
+   */
+  public ClassDefinition next() throws IOException {
+    try {
+      while(reader.hasNext()) {
+        int event = reader.next();
+
+        if(event == XMLStreamConstants.START_ELEMENT) {
+          depth++;
+          if(depth == 2) {
+            position++;
+            if(position > to) {
+              return null;
+            }
+            if(position < from || (selected != null && !selected.contains(position))) {
+              skipClass();
+              continue;
+            }
+            return readClass();
+          }
+        }
+        else if(event == XMLStreamConstants.END_ELEMENT) {
+          depth--;
+        }
+      }
+      return null;
+    }
+    catch(XMLStreamException e) {
+      throw new IOException(file + ": " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Copia o elemento corrente na forma canônica: atributos ordenados, sem comentários e
+   * sem os textos formados somente por espaços.
+   */
+  private ClassDefinition readClass() throws XMLStreamException {
+    String id = reader.getAttributeValue(null, "id");
+    if(id == null) {
+      id = reader.getAttributeValue(null, "name");
+    }
+    if(id == null) {
+      id = "#" + position;
+    }
+
+    StringWriter xml = new StringWriter();
+    XMLStreamWriter writer = OUTPUT_FACTORY.createXMLStreamWriter(xml);
+    writeStart(writer);
+
+    int level = 1;
+    while(level > 0) {
+      int event = reader.next();
+
+      if(event == XMLStreamConstants.START_ELEMENT) {
+        writeStart(writer);
+        level++;
+      }
+      else if(event == XMLStreamConstants.END_ELEMENT) {
+        writer.writeEndElement();
+        level--;
+      }
+      else if((event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA) && !reader.isWhiteSpace()) {
+        writer.writeCharacters(reader.getText());
+      }
+    }
+
+    writer.close();
+    depth--;
+
+    String text = xml.toString();
+    return new ClassDefinition(id, position, ClassIndex.hex(digest.digest(text.getBytes(StandardCharsets.UTF_8))), text);
+  }
+
+  private void skipClass() throws XMLStreamException {
+    int level = 1;
+    while(level > 0) {
+      int event = reader.next();
+
+      if(event == XMLStreamConstants.START_ELEMENT) {
+        level++;
+      }
+      else if(event == XMLStreamConstants.END_ELEMENT) {
+        level--;
+      }
+    }
+    depth--;
+  }
+
+  private void writeStart(XMLStreamWriter writer) throws XMLStreamException {
+    writer.writeStartElement(reader.getLocalName());
+
+    Map<String, String> attributes = new TreeMap<>();
+    for(int i = 0; i < reader.getAttributeCount(); i++) {
+      attributes.put(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+    }
+    for(Map.Entry<String, String> attribute : attributes.entrySet()) {
+      writer.writeAttribute(attribute.getKey(), attribute.getValue());
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      reader.close();
+    }
+    catch(XMLStreamException e) {
+      // somente libera o parser
+    }
+    finally {
+      in.close();
+    }
+  }
+}
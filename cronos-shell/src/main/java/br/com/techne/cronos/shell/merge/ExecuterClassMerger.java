@@ -0,0 +1,61 @@
+package br.com.techne.cronos.shell.merge;
+
+import java.io.File;
+
+import br.com.techne.cronos.entities.CroClasses;
+import br.com.techne.cronos.main.merge.MergeClassesMain;
+
+/**
+ * {@link ClassMerger} do {@literal cronos-merge-executer}, que aplica o {@literal classes.xml}
+ * completo em uma única chamada de {@link MergeClassesMain#merge()}.
+ *
+ * <p>
+ * O executer não expõe a aplicação por classe nem a leitura das classes aplicadas no banco:
+ * qualquer plano não vazio recarrega o arquivo inteiro. Por isso o comando {@literal merge}
+ * recarrega sempre, e somente com {@literal --incremental} deixa de acessar o banco quando
+ * nenhuma classe mudou desde o último merge registrado no estado local. O executer carrega sempre o mesmo arquivo ({@link #getSource()}), e o merge de
+ * outro é recusado. Também não aceita faixas ({@link IncrementalMerge#check(ClassMerger)}), que
+ * aplicariam o arquivo inteiro e registrariam somente a faixa. Um {@link ClassMerger} que
+ * aplique somente as diferenças do plano pode substituí-lo em
+ * {@link br.com.techne.cronos.shell.command.MergeCommands}.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class ExecuterClassMerger implements ClassMerger {
+
+  private final File source;
+  private CroClasses result;
+
+  /**
+   * @param source
+   *          o {@literal classes.xml} carregado pelo executer, o único que este merger aplica.
+   */
+  public ExecuterClassMerger(File source) {
+    this.source = source;
+  }
+
+  @Override
+  public void apply(MergePlan plan) {
+    result = MergeClassesMain.merge();
+  }
+
+  @Override
+  public boolean isPerClass() {
+    return false;
+  }
+
+  @Override
+  public File getSource() {
+    return source;
+  }
+
+  /**
+   * Classes carregadas pelo último {@link #apply(MergePlan)}.
+   */
+  public CroClasses getResult() {
+    return result;
+  }
+}
@@ -0,0 +1,307 @@
+package br.com.techne.cronos.shell.merge;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Merge incremental do {@literal classes.xml}: compara a impressão digital de cada classe
+ * com a registrada no último merge ({@link MergeState}) e entrega ao {@link ClassMerger}
+ * somente as classes novas, alteradas e removidas.
+ *
+ * <p>
+ * O arquivo é lido em "streaming" ({@link ClassesXmlReader}) e somente as classes alteradas
+ * são mantidas em memória. Sem alterações o banco de dados não é acessado. Sem estado
+ * anterior, ou com {@link #full(boolean)}, o plano é de recarga completa do arquivo
+ * ({@link MergePlan#isFull()}), sem manter as classes em memória.
+ * </p>
+ *
+ * <p>
+ * Com {@link #window(int, int)} somente as classes de uma faixa de posições são comparadas e
+ * aplicadas, e o estado das demais é preservado; um {@literal classes.xml} grande pode ser
+ * aplicado em partes, inclusive em paralelo. Classes removidas do arquivo só são detectadas
+ * no merge do arquivo inteiro, pois as posições mudam com as inclusões e exclusões. A faixa
+ * exige um {@link ClassMerger#isPerClass()}: quem recarrega o arquivo inteiro aplicaria
+ * também as classes de fora dela. Por isso o comando {@literal merge} não expõe a faixa: o
+ * {@link ExecuterClassMerger} recarrega sempre o arquivo inteiro.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class IncrementalMerge {
+
+  public static final String DEFAULT_CLASSES_FILE = "classes.xml";
+  public static final String DEFAULT_STATE_FILE = ".cronos-merge.state";
+
+  private File classes = new File(DEFAULT_CLASSES_FILE);
+  private File state = new File(DEFAULT_STATE_FILE);
+  private String target;
+  private boolean full;
+  private int from = 1;
+  private int to = Integer.MAX_VALUE;
+  private MergeProgress progress = new MergeProgress();
+  private ClassIndexCache cache;
+
+  public IncrementalMerge classes(File classes) {
+    this.classes = classes;
+    return this;
+  }
+
+  public IncrementalMerge state(File state) {
+    this.state = state;
+    return this;
+  }
+
+  /**
+   * Banco de dados do merge (URL JDBC ou esquema): cada banco tem o seu estado
+   * ({@link MergeState#load(File, String)}); {@code null} usa o arquivo de estado informado.
+   */
+  public IncrementalMerge target(String target) {
+    this.target = target;
+    return this;
+  }
+
+  /**
+   * Ignora o estado anterior e recarrega todas as classes.
+   */
+  public IncrementalMerge full(boolean full) {
+    this.full = full;
+    return this;
+  }
+
+  /**
+   * Restringe o merge às classes das posições <code>from</code> a <code>to</code>, inclusive,
+   * contadas a partir de 1; {@code null} não limita.
+   */
+  public IncrementalMerge window(Integer from, Integer to) {
+    this.from = from != null ? from : 1;
+    this.to = to != null ? to : Integer.MAX_VALUE;
+
+    if(this.from < 1 || this.to < this.from) {
+      throw new IllegalArgumentException("Faixa de classes inválida: " + from + " a " + to + ".");
+    }
+    return this;
+  }
+
+  /**
+   * Reaproveita o índice do {@literal classes.xml} enquanto o seu conteúdo não muda; somente
+   * as classes incluídas ou alteradas são lidas do arquivo.
+   */
+  public IncrementalMerge cache(ClassIndexCache cache) {
+    this.cache = cache;
+    return this;
+  }
+
+  /**
+   * Andamento do merge, que também recebe o pedido de cancelamento.
+   */
+  public IncrementalMerge progress(MergeProgress progress) {
+    this.progress = progress;
+    return this;
+  }
+
+  public MergeProgress getProgress() {
+    return progress;
+  }
+
+  /**
+   * Verifica, antes da leitura do arquivo, se <code>merger</code> pode aplicar este merge.
+   *
+   * @throws IllegalArgumentException
+   *           com um arquivo diferente do {@link ClassMerger#getSource()} de <code>merger</code>,
+   *           ou com uma faixa ({@link #window(Integer, Integer)}) e um <code>merger</code>
+   *           que não aplica por classe.
+   */
+  public void check(ClassMerger merger) {
+    File source = merger.getSource();
+    if(source != null && !sameFile(source, classes)) {
+      throw new IllegalArgumentException("O merge aplica sempre '" + source + "', não '" + classes + "'.");
+    }
+    if((from > 1 || to < Integer.MAX_VALUE) && !merger.isPerClass()) {
+      throw new IllegalArgumentException("A faixa de classes " + from + " a " + (to < Integer.MAX_VALUE ? String.valueOf(to) : "última")
+        + " exige a aplicação por classe; este merge recarrega o classes.xml inteiro.");
+    }
+  }
+
+  /**
+   * Calcula a diferença sem aplicá-la.
+   */
+  public MergePlan plan() throws IOException {
+    return plan(MergeState.load(state, target));
+  }
+
+  /**
+   * Calcula a diferença, a aplica com <code>merger</code> e grava o novo estado.
+   *
+   * @throws java.util.concurrent.CancellationException
+   *           se cancelado antes da aplicação; o banco e o estado não são alterados.
+   * @throws PartialMergeException
+   *           se somente parte do plano foi efetivada; o estado registra essa parte.
+   * @see #check(ClassMerger)
+   */
+  public MergePlan run(ClassMerger merger) throws Exception {
+    check(merger);
+    MergeState mergeState = MergeState.load(state, target);
+    MergePlan plan = plan(mergeState);
+    progress.checkCancelled();
+
+    if(!plan.isEmpty()) {
+      progress.phase(MergeProgress.Phase.APPLYING);
+      try {
+        merger.apply(plan);
+      }
+      catch(PartialMergeException e) {
+        progress.phase(MergeProgress.Phase.SAVING);
+        saveApplied(mergeState, e.getApplied());
+        throw e;
+      }
+      progress.phase(MergeProgress.Phase.SAVING);
+      mergeState.save(plan.getFingerprints(), !plan.isWindowed());
+    }
+
+    progress.phase(MergeProgress.Phase.DONE);
+    return plan;
+  }
+
+  private static boolean sameFile(File a, File b) {
+    try {
+      return a.getCanonicalFile().equals(b.getCanonicalFile());
+    }
+    catch(IOException e) {
+      return a.getAbsoluteFile().equals(b.getAbsoluteFile());
+    }
+  }
+
+  /**
+   * Registra no estado somente as partes efetivadas de um merge que falhou.
+   */
+  private static void saveApplied(MergeState mergeState, List<MergePlan> parts) throws IOException {
+    Map<String, String> fingerprints = new HashMap<>();
+    List<String> removed = new ArrayList<>();
+    for(MergePlan part : parts) {
+      fingerprints.putAll(part.getFingerprints());
+      removed.addAll(part.getDeleted());
+    }
+    mergeState.save(fingerprints, removed, false);
+  }
+
+  private MergePlan plan(MergeState mergeState) throws IOException {
+    boolean windowed = from > 1 || to < Integer.MAX_VALUE;
+    MergePlan plan = new MergePlan(classes, !windowed && (full || mergeState.isEmpty()), from, to);
+    Map<String, String> applied = mergeState.getFingerprints();
+    progress.phase(MergeProgress.Phase.READING);
+
+    String hash = cache != null ? ClassIndexCache.hash(classes) : null;
+    ClassIndex index = hash != null ? cache.get(hash) : null;
+
+    if(index != null) {
+      planFromIndex(plan, applied, index);
+    }
+    else {
+      ClassIndex.Builder builder = hash != null && !windowed ? new ClassIndex.Builder() : null;
+      planFromFile(plan, applied, builder);
+      if(builder != null) {
+        cache.put(hash, builder.build());
+      }
+    }
+
+    if(!plan.isFull() && !windowed) {
+      for(String id : applied.keySet()) {
+        if(!plan.getFingerprints().containsKey(id)) {
+          plan.delete(id);
+        }
+      }
+    }
+
+    return plan;
+  }
+
+  private void planFromFile(MergePlan plan, Map<String, String> applied, ClassIndex.Builder builder) throws IOException {
+    try (ClassesXmlReader reader = new ClassesXmlReader(classes).window(from, to)) {
+      ClassDefinition definition;
+      while((definition = reader.next()) != null) {
+        read(plan, definition);
+        if(builder != null) {
+          builder.add(definition);
+        }
+
+        Boolean insert = classify(plan, applied, definition);
+        if(insert != null) {
+          add(plan, definition, insert);
+        }
+      }
+    }
+  }
+
+  /**
+   * Calcula o plano pelo índice e lê do arquivo somente as classes incluídas ou alteradas.
+   */
+  private void planFromIndex(MergePlan plan, Map<String, String> applied, ClassIndex index) throws IOException {
+    SortedMap<Integer, Boolean> changed = new TreeMap<>();
+
+    for(int position = from; position <= Math.min(to, index.size()); position++) {
+      ClassDefinition definition = index.get(position);
+      read(plan, definition);
+
+      Boolean insert = classify(plan, applied, definition);
+      if(insert != null) {
+        changed.put(position, insert);
+      }
+    }
+
+    if(changed.isEmpty()) {
+      return;
+    }
+
+    try (ClassesXmlReader reader = new ClassesXmlReader(classes).select(new TreeSet<>(changed.keySet()))) {
+      ClassDefinition definition;
+      while((definition = reader.next()) != null) {
+        add(plan, definition, changed.get(definition.getPosition()));
+      }
+    }
+  }
+
+  private void read(MergePlan plan, ClassDefinition definition) throws IOException {
+    progress.read();
+    progress.checkCancelled();
+    if(!plan.read(definition)) {
+      throw new IOException(classes + ": classe '" + definition.getId() + "' duplicada (posição " + definition.getPosition() + ").");
+    }
+  }
+
+  /**
+   * @return {@code true} para incluir, {@code false} para alterar ou {@code null} se a classe
+   *         não mudou (ou em uma recarga completa).
+   */
+  private Boolean classify(MergePlan plan, Map<String, String> applied, ClassDefinition definition) {
+    if(plan.isFull()) {
+      return null;
+    }
+
+    String fingerprint = applied.get(definition.getId());
+    if(fingerprint == null) {
+      return true;
+    }
+    if(full || !fingerprint.equals(definition.getFingerprint())) {
+      return false;
+    }
+    return null;
+  }
+
+  private static void add(MergePlan plan, ClassDefinition definition, boolean insert) {
+    if(insert) {
+      plan.insert(definition);
+    }
+    else {
+      plan.update(definition);
+    }
+  }
+}
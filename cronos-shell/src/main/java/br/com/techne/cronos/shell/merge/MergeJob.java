@@ -0,0 +1,118 @@
+package br.com.techne.cronos.shell.merge;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Um merge executado em segundo plano por {@link MergeJobs}.
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class MergeJob implements Runnable {
+
+  public enum Status {
+    QUEUED, RUNNING, DONE, FAILED, CANCELLED
+  }
+
+  private final int id;
+  private final IncrementalMerge merge;
+  private final ClassMerger merger;
+  private final CountDownLatch done = new CountDownLatch(1);
+
+  private volatile Status status = Status.QUEUED;
+  private volatile MergePlan plan;
+  private volatile Exception error;
+  private volatile long started;
+  private volatile long finished;
+
+  MergeJob(int id, IncrementalMerge merge, ClassMerger merger) {
+    this.id = id;
+    this.merge = merge;
+    this.merger = merger;
+  }
+
+  @Override
+  public void run() {
+    started = System.nanoTime();
+    status = Status.RUNNING;
+    try {
+      plan = merge.run(merger).compact();
+      status = Status.DONE;
+    }
+    catch(CancellationException e) {
+      status = Status.CANCELLED;
+    }
+    catch(Exception e) {
+      error = e;
+      status = Status.FAILED;
+    }
+    finally {
+      finished = System.nanoTime();
+      done.countDown();
+    }
+  }
+
+  public int getId() {
+    return id;
+  }
+
+  public Status getStatus() {
+    return status;
+  }
+
+  public MergeProgress getProgress() {
+    return merge.getProgress();
+  }
+
+  /**
+   * Plano aplicado, quando {@link Status#DONE}, sem o conteúdo das classes (veja
+   * {@link MergePlan#compact()}).
+   */
+  public MergePlan getPlan() {
+    return plan;
+  }
+
+  /**
+   * Causa da falha, quando {@link Status#FAILED}.
+   */
+  public Exception getError() {
+    return error;
+  }
+
+  /**
+   * Tempo de execução até o momento ou até o término, em milissegundos.
+   */
+  public long getElapsedMillis() {
+    if(started == 0) {
+      return 0;
+    }
+    return TimeUnit.NANOSECONDS.toMillis((isFinished() ? finished : System.nanoTime()) - started);
+  }
+
+  public boolean isFinished() {
+    return done.getCount() == 0;
+  }
+
+  /**
+   * Solicita o cancelamento (veja {@link MergeProgress}).
+   */
+  public void cancel() {
+    merge.getProgress().cancel();
+  }
+
+  /**
+   * Aguarda o término por até <code>timeout</code> milissegundos; 0 aguarda sem limite.
+   *
+   * @return {@code true} se o merge terminou.
+   */
+  public boolean await(long timeout) throws InterruptedException {
+    if(timeout <= 0) {
+      done.await();
+      return true;
+    }
+    return done.await(timeout, TimeUnit.MILLISECONDS);
+  }
+}
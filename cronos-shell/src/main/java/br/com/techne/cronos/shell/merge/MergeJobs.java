@@ -0,0 +1,83 @@
+package br.com.techne.cronos.shell.merge;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executa os merges em segundo plano, um de cada vez, na ordem em que foram submetidos: dois
+ * merges simultâneos disputariam o mesmo banco e o mesmo estado.
+ *
+ * <p>
+ * Somente os {@link #DEFAULT_HISTORY} merges mais recentes ficam registrados, cada um com o
+ * plano compactado, sem o conteúdo das classes.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class MergeJobs {
+
+  public static final int DEFAULT_HISTORY = 20;
+
+  private final AtomicInteger sequence = new AtomicInteger();
+  private final Map<Integer, MergeJob> jobs = new LinkedHashMap<>();
+
+  private final ExecutorService executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+    @Override
+    public Thread newThread(Runnable r) {
+      Thread thread = new Thread(r, "cronos-merge");
+      thread.setDaemon(true);
+      return thread;
+    }
+  });
+
+  public MergeJob submit(IncrementalMerge merge, ClassMerger merger) {
+    MergeJob job = new MergeJob(sequence.incrementAndGet(), merge, merger);
+
+    synchronized(jobs) {
+      jobs.put(job.getId(), job);
+
+      Iterator<MergeJob> oldest = jobs.values().iterator();
+      while(jobs.size() > DEFAULT_HISTORY && oldest.hasNext()) {
+        if(oldest.next().isFinished()) {
+          oldest.remove();
+        }
+      }
+    }
+
+    executor.execute(job);
+    return job;
+  }
+
+  /**
+   * @return o merge <code>id</code> ou, com <code>id</code> nulo, o mais recente; {@code null}
+   *         se não houver.
+   */
+  public MergeJob get(Integer id) {
+    synchronized(jobs) {
+      if(id != null) {
+        return jobs.get(id);
+      }
+
+      MergeJob last = null;
+      for(MergeJob job : jobs.values()) {
+        last = job;
+      }
+      return last;
+    }
+  }
+
+  public List<MergeJob> list() {
+    synchronized(jobs) {
+      return new ArrayList<>(jobs.values());
+    }
+  }
+}
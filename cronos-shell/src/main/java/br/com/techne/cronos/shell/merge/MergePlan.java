@@ -0,0 +1,143 @@
+package br.com.techne.cronos.shell.merge;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Diferença entre o {@literal classes.xml} e o estado do último merge: as classes novas,
+ * as alteradas e as removidas, a aplicar por um {@link ClassMerger}.
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class MergePlan {
+
+  private final File file;
+  private final boolean full;
+  private final int from;
+  private final int to;
+  private final List<ClassDefinition> inserted = new ArrayList<>();
+  private final List<ClassDefinition> updated = new ArrayList<>();
+  private final List<String> deleted = new ArrayList<>();
+  private final Map<String, String> fingerprints = new HashMap<>();
+  private int classes;
+
+  MergePlan(File file, boolean full, int from, int to) {
+    this.file = file;
+    this.full = full;
+    this.from = from;
+    this.to = to;
+  }
+
+  void insert(ClassDefinition definition) {
+    inserted.add(definition);
+  }
+
+  void update(ClassDefinition definition) {
+    updated.add(definition);
+  }
+
+  void delete(String id) {
+    deleted.add(id);
+  }
+
+  /**
+   * Registra uma classe lida, alterada ou não.
+   *
+   * @return {@code false} se a classe já foi registrada.
+   */
+  boolean read(ClassDefinition definition) {
+    classes++;
+    return fingerprints.put(definition.getId(), definition.getFingerprint()) == null;
+  }
+
+  /**
+   * O {@literal classes.xml} comparado.
+   */
+  public File getFile() {
+    return file;
+  }
+
+  public List<ClassDefinition> getInserted() {
+    return Collections.unmodifiableList(inserted);
+  }
+
+  public List<ClassDefinition> getUpdated() {
+    return Collections.unmodifiableList(updated);
+  }
+
+  public List<String> getDeleted() {
+    return Collections.unmodifiableList(deleted);
+  }
+
+  /**
+   * Impressões digitais de todas as classes do arquivo (ou da faixa), o novo estado após o merge.
+   */
+  public Map<String, String> getFingerprints() {
+    return Collections.unmodifiableMap(fingerprints);
+  }
+
+  /**
+   * Primeira posição da faixa comparada, a partir de 1.
+   */
+  public int getFrom() {
+    return from;
+  }
+
+  /**
+   * Última posição da faixa comparada ({@link Integer#MAX_VALUE} para o arquivo inteiro).
+   */
+  public int getTo() {
+    return to;
+  }
+
+  /**
+   * Merge de uma faixa de classes: as classes fora da faixa, incluindo as removidas do
+   * arquivo, não são comparadas.
+   */
+  public boolean isWindowed() {
+    return from > 1 || to < Integer.MAX_VALUE;
+  }
+
+  /**
+   * Quantidade de classes no arquivo (ou na faixa).
+   */
+  public int getClasses() {
+    return classes;
+  }
+
+  /**
+   * Recarga completa, sem estado anterior ou solicitada com {@link IncrementalMerge#full(boolean)}:
+   * todas as classes de {@link #getFile()} devem ser aplicadas e as listas de diferenças ficam
+   * vazias.
+   */
+  public boolean isFull() {
+    return full;
+  }
+
+  public boolean isEmpty() {
+    return !full && inserted.isEmpty() && updated.isEmpty() && deleted.isEmpty();
+  }
+
+  /**
+   * Cópia do plano sem a forma canônica das classes e sem as impressões digitais: somente o
+   * que o resumo e o {@link MergeReport} utilizam, mantido pelo {@link MergeJob} concluído.
+   */
+  public MergePlan compact() {
+    MergePlan compact = new MergePlan(file, full, from, to);
+    for(ClassDefinition definition : inserted) {
+      compact.inserted.add(new ClassDefinition(definition.getId(), definition.getPosition(), null, null));
+    }
+    for(ClassDefinition definition : updated) {
+      compact.updated.add(new ClassDefinition(definition.getId(), definition.getPosition(), null, null));
+    }
+    compact.deleted.addAll(deleted);
+    compact.classes = classes;
+    return compact;
+  }
+}
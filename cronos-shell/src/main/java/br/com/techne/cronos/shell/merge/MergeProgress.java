@@ -0,0 +1,81 @@
+package br.com.techne.cronos.shell.merge;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Andamento de um {@link IncrementalMerge}, atualizado pela thread do merge e consultado por
+ * outras threads, e o pedido de cancelamento.
+ *
+ * <p>
+ * O cancelamento é atendido entre as classes lidas e antes da aplicação do plano. Iniciada a
+ * aplicação, o {@link ClassMerger} conclui ou desfaz a sua transação por inteiro; o estado do
+ * merge só muda se a aplicação concluir.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class MergeProgress {
+
+  public enum Phase {
+
+    QUEUED("na fila"),
+    READING("lendo o classes.xml"),
+    APPLYING("aplicando as alterações"),
+    SAVING("gravando o estado"),
+    DONE("concluído");
+
+    private final String description;
+
+    private Phase(String description) {
+      this.description = description;
+    }
+
+    public String getDescription() {
+      return description;
+    }
+  }
+
+  private final AtomicInteger classes = new AtomicInteger();
+  private volatile Phase phase = Phase.QUEUED;
+  private volatile boolean cancelled;
+
+  public Phase getPhase() {
+    return phase;
+  }
+
+  /**
+   * Classes lidas do {@literal classes.xml} até o momento.
+   */
+  public int getClasses() {
+    return classes.get();
+  }
+
+  public void cancel() {
+    cancelled = true;
+  }
+
+  public boolean isCancelled() {
+    return cancelled;
+  }
+
+  void phase(Phase phase) {
+    this.phase = phase;
+  }
+
+  void read() {
+    classes.incrementAndGet();
+  }
+
+  /**
+   * @throws CancellationException
+   *           se o cancelamento foi solicitado.
+   */
+  void checkCancelled() {
+    if(cancelled) {
+      throw new CancellationException("Merge cancelado.");
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package br.com.techne.cronos.shell.merge;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Relatório das classes aplicadas por um merge, uma linha por classe: {@literal +} incluída,
+ * {@literal ~} alterada, {@literal -} removida e {@literal *} recarregada (recarga completa).
+ *
+ * <p>
+ * As linhas são escritas diretamente no {@link Writer}, por faixa ({@link #write(Writer, long, long)}),
+ * sem montar o relatório inteiro em memória. Na recarga completa as classes são lidas do
+ * {@literal classes.xml} e as anteriores à faixa são descartadas sem montar a forma canônica.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class MergeReport {
+
+  private final MergePlan plan;
+
+  public MergeReport(MergePlan plan) {
+    this.plan = plan;
+  }
+
+  /**
+   * Quantidade de linhas do relatório.
+   */
+  public long getLines() {
+    if(plan.isFull()) {
+      return plan.getClasses();
+    }
+    return (long)plan.getInserted().size() + plan.getUpdated().size() + plan.getDeleted().size();
+  }
+
+  /**
+   * Escreve todas as linhas.
+   *
+   * @return quantidade de linhas escritas.
+   */
+  public long write(Writer out) throws IOException {
+    return write(out, 0, Long.MAX_VALUE);
+  }
+
+  /**
+   * Escreve até <code>limit</code> linhas a partir da linha <code>offset</code>, contada a
+   * partir de 0.
+   *
+   * @return quantidade de linhas escritas.
+   */
+  public long write(Writer out, long offset, long limit) throws IOException {
+    if(offset < 0 || limit < 0) {
+      throw new IllegalArgumentException("Faixa de linhas inválida: " + offset + ", " + limit + ".");
+    }
+    if(plan.isFull()) {
+      return writeFile(out, offset, limit);
+    }
+
+    long[] range = { offset, limit };
+    long written = writeDefinitions(out, '+', plan.getInserted(), range);
+    written += writeDefinitions(out, '~', plan.getUpdated(), range);
+
+    List<String> deleted = plan.getDeleted();
+    for(int i = (int)Math.min(range[0], deleted.size()); i < deleted.size() && range[1] > 0; i++, range[1]--) {
+      out.write("- ");
+      out.write(deleted.get(i));
+      out.write('\n');
+      written++;
+    }
+    return written;
+  }
+
+  /**
+   * Escreve a parte de <code>definitions</code> em <code>range</code> (início e quantidade
+   * restantes), descontando dele as linhas consumidas.
+   */
+  private static long writeDefinitions(Writer out, char mark, List<ClassDefinition> definitions, long[] range) throws IOException {
+    long written = 0;
+    int i = (int)Math.min(range[0], definitions.size());
+    range[0] -= i;
+
+    for(; i < definitions.size() && range[1] > 0; i++, range[1]--) {
+      line(out, mark, definitions.get(i));
+      written++;
+    }
+    return written;
+  }
+
+  private long writeFile(Writer out, long offset, long limit) throws IOException {
+    if(limit == 0 || offset >= plan.getClasses()) {
+      return 0;
+    }
+
+    int from = (int)offset + 1;
+    int to = (int)Math.min(Integer.MAX_VALUE, offset + limit);
+    long written = 0;
+    try (ClassesXmlReader reader = new ClassesXmlReader(plan.getFile()).window(from, to)) {
+      ClassDefinition definition;
+      while((definition = reader.next()) != null) {
+        line(out, '*', definition);
+        written++;
+      }
+    }
+    return written;
+  }
+
+  private static void line(Writer out, char mark, ClassDefinition definition) throws IOException {
+    out.write(mark);
+    out.write(' ');
+    out.write(definition.getId());
+    out.write(" (posição ");
+    out.write(String.valueOf(definition.getPosition()));
+    out.write(")\n");
+  }
+}
@@ -0,0 +1,158 @@
+package br.com.techne.cronos.shell.merge;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Impressões digitais das classes aplicadas no banco de dados pelo último merge, gravadas
+ * em um arquivo de propriedades ({@literal id=sha1}).
+ *
+ * <p>
+ * O arquivo é substituído atomicamente e somente após um merge concluído, de forma que
+ * reflete sempre o conteúdo efetivado no banco. A gravação é serializada por um "lock" no
+ * arquivo {@literal .lock} ao lado, permitindo merges de faixas distintas em paralelo, em
+ * shells diferentes, sobre o mesmo estado.
+ * </p>
+ *
+ * <p>
+ * O estado reflete um banco de dados: com o banco informado ({@link #load(File, String)}),
+ * cada banco tem o seu arquivo, e um merge em outro banco não reaproveita as impressões
+ * digitais deste.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class MergeState {
+
+  private final File file;
+  private final String target;
+  private final Map<String, String> fingerprints;
+
+  private MergeState(File file, String target, Map<String, String> fingerprints) {
+    this.file = file;
+    this.target = target;
+    this.fingerprints = fingerprints;
+  }
+
+  /**
+   * Carrega o estado de <code>file</code>; vazio quando o arquivo não existe (primeiro merge).
+   */
+  public static MergeState load(File file) throws IOException {
+    return load(file, null);
+  }
+
+  /**
+   * Carrega o estado do banco de dados <code>target</code> (URL JDBC ou esquema), gravado em
+   * {@link #file(File, String)}; sem <code>target</code>, o próprio <code>file</code>.
+   */
+  public static MergeState load(File file, String target) throws IOException {
+    File keyed = file(file, target);
+    return new MergeState(keyed, target, read(keyed));
+  }
+
+  /**
+   * Arquivo do estado do banco <code>target</code>: <code>file</code> seguido do início do
+   * SHA-1 de <code>target</code>, p.ex. {@literal .cronos-merge.state.3f2a9c01b7de}.
+   */
+  public static File file(File file, String target) {
+    if(target == null) {
+      return file;
+    }
+
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-1").digest(target.getBytes(StandardCharsets.UTF_8));
+      return new File(file.getPath() + "." + ClassIndex.hex(digest).substring(0, 12));
+    }
+    catch(NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static Map<String, String> read(File file) throws IOException {
+    Map<String, String> fingerprints = new HashMap<>();
+
+    if(file.isFile()) {
+      Properties properties = new Properties();
+      try (InputStream in = new FileInputStream(file)) {
+        properties.load(in);
+      }
+      for(String id : properties.stringPropertyNames()) {
+        fingerprints.put(id, properties.getProperty(id));
+      }
+    }
+
+    return fingerprints;
+  }
+
+  public boolean isEmpty() {
+    return fingerprints.isEmpty();
+  }
+
+  public Map<String, String> getFingerprints() {
+    return fingerprints;
+  }
+
+  /**
+   * Grava <code>fingerprints</code> como o novo estado ou, sem <code>replace</code>,
+   * acrescenta-as ao estado gravado no momento (um merge de faixa).
+   */
+  public void save(Map<String, String> fingerprints, boolean replace) throws IOException {
+    save(fingerprints, Collections.<String>emptySet(), replace);
+  }
+
+  /**
+   * Como {@link #save(Map, boolean)}, retirando do estado as classes <code>removed</code>.
+   */
+  public void save(Map<String, String> fingerprints, Collection<String> removed, boolean replace) throws IOException {
+    File lockFile = new File(file.getAbsolutePath() + ".lock");
+
+    try (FileChannel channel = FileChannel.open(lockFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+      FileLock lock = channel.lock();
+      try {
+        Map<String, String> saved = replace ? new HashMap<String, String>() : read(file);
+        saved.keySet().removeAll(removed);
+        saved.putAll(fingerprints);
+
+        Properties properties = new Properties();
+        properties.putAll(saved);
+
+        File parent = file.getAbsoluteFile().getParentFile();
+        File temp = File.createTempFile(file.getName(), ".tmp", parent);
+        try {
+          try (OutputStream out = new FileOutputStream(temp)) {
+            properties.store(out, target != null ? "cronos merge: " + target : "cronos merge");
+          }
+          Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        finally {
+          Files.deleteIfExists(temp.toPath());
+        }
+
+        this.fingerprints.clear();
+        this.fingerprints.putAll(saved);
+      }
+      finally {
+        lock.release();
+      }
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package br.com.techne.cronos.shell.merge;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Falha de um merge em partes ({@link PartitionedClassMerger}) em que algumas partes já foram
+ * efetivadas no banco de dados; o estado do merge registra somente essas partes.
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class PartialMergeException extends Exception {
+
+  private static final long serialVersionUID = 1L;
+
+  private final List<MergePlan> applied;
+
+  public PartialMergeException(List<MergePlan> applied, int parts, Exception cause) {
+    super(String.format("%d de %d partes aplicadas: %s", applied.size(), parts, cause.getMessage()), cause);
+    this.applied = applied;
+  }
+
+  /**
+   * Partes efetivadas no banco de dados.
+   */
+  public List<MergePlan> getApplied() {
+    return Collections.unmodifiableList(applied);
+  }
+}
@@ -0,0 +1,158 @@
+package br.com.techne.cronos.shell.merge;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link ClassMerger} que divide o plano em partes sem referências entre si
+ * ({@link ClassPartitioner}) e as aplica em paralelo, cada uma por uma chamada do
+ * <code>delegate</code> em uma thread própria.
+ *
+ * <p>
+ * O <code>delegate</code> deve ser thread-safe e aplicar cada parte em uma conexão e uma
+ * transação próprias; <code>threads</code> limita as partes e, com isso, as conexões em
+ * uso. Classes ligadas por referências ficam na mesma parte, na ordem do plano, e as
+ * exclusões são aplicadas por último em uma parte separada; o resultado no banco é o mesmo
+ * da aplicação sequencial do plano.
+ * </p>
+ *
+ * <p>
+ * A atomicidade passa a ser por parte: se uma parte falhar, as concluídas permanecem
+ * efetivadas e a falha é uma {@link PartialMergeException} com as partes aplicadas, que
+ * {@link IncrementalMerge} registra no estado. Recargas completas e planos de uma só parte são
+ * aplicados diretamente. Um <code>delegate</code> que não aplica por classe
+ * ({@link ClassMerger#isPerClass()}) recarrega o arquivo inteiro a cada chamada e é recusado
+ * com mais de uma thread.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class PartitionedClassMerger implements ClassMerger {
+
+  private static final AtomicInteger THREADS = new AtomicInteger();
+
+  private final ClassMerger delegate;
+  private final int threads;
+
+  public PartitionedClassMerger(ClassMerger delegate, int threads) {
+    if(threads < 1) {
+      throw new IllegalArgumentException("Quantidade de threads inválida: " + threads + ".");
+    }
+    if(threads > 1 && !delegate.isPerClass()) {
+      throw new IllegalArgumentException("A aplicação em " + threads + " threads exige a aplicação por classe; este merge recarrega o classes.xml inteiro.");
+    }
+    this.delegate = delegate;
+    this.threads = threads;
+  }
+
+  @Override
+  public void apply(MergePlan plan) throws Exception {
+    List<MergePlan> parts = threads > 1 && !plan.isFull() ? ClassPartitioner.partition(plan, threads) : null;
+    if(parts == null || parts.size() < 2) {
+      delegate.apply(plan);
+      return;
+    }
+
+    MergePlan deletions = ClassPartitioner.deletions(plan);
+    int total = parts.size() + (deletions.isEmpty() ? 0 : 1);
+    List<MergePlan> applied = new ArrayList<>();
+    Exception error = null;
+
+    ExecutorService executor = Executors.newFixedThreadPool(parts.size(), new ThreadFactory() {
+      @Override
+      public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "cronos-merge-part-" + THREADS.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+    try {
+      List<Future<?>> futures = new ArrayList<>(parts.size());
+      for(final MergePlan part : parts) {
+        futures.add(executor.submit(new Callable<Void>() {
+          @Override
+          public Void call() throws Exception {
+            delegate.apply(part);
+            return null;
+          }
+        }));
+      }
+
+      for(int i = 0; i < parts.size(); i++) {
+        Throwable failure = await(futures.get(i));
+        if(failure == null) {
+          applied.add(parts.get(i));
+        }
+        else if(error == null) {
+          error = failure instanceof Exception ? (Exception)failure : new ExecutionException(failure);
+        }
+      }
+    }
+    finally {
+      executor.shutdown();
+    }
+
+    if(error == null && !deletions.isEmpty()) {
+      try {
+        delegate.apply(deletions);
+        applied.add(deletions);
+      }
+      catch(Exception e) {
+        error = e;
+      }
+    }
+
+    if(error != null) {
+      throw new PartialMergeException(applied, total, error);
+    }
+  }
+
+  @Override
+  public boolean isPerClass() {
+    return delegate.isPerClass();
+  }
+
+  @Override
+  public File getSource() {
+    return delegate.getSource();
+  }
+
+  /**
+   * Aguarda a parte até o fim, mesmo se interrompido: uma parte em andamento ainda pode ser
+   * efetivada e precisa constar do estado.
+   *
+   * @return a falha da parte ou {@code null}.
+   */
+  private static Throwable await(Future<?> future) {
+    boolean interrupted = false;
+    try {
+      while(true) {
+        try {
+          future.get();
+          return null;
+        }
+        catch(InterruptedException e) {
+          interrupted = true;
+        }
+        catch(ExecutionException e) {
+          return e.getCause();
+        }
+      }
+    }
+    finally {
+      if(interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
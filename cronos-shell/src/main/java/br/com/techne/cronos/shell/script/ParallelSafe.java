@@ -0,0 +1,22 @@
+package br.com.techne.cronos.shell.script;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca um comando do shell que pode ser executado ao mesmo tempo que outros, em um bloco
+ * {@literal parallel} de script ({@link Script}). Comandos sem a marcação são executados
+ * sozinhos, aguardando os anteriores do bloco.
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ParallelSafe {
+}
@@ -0,0 +1,162 @@
+package br.com.techne.cronos.shell.script;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Script de comandos do shell, um por linha, em blocos executados em sequência.
+ *
+ * <pre>
+ * // comentário (também # no início da linha)
+ * merge-cache --dir cache
+ * merge --file classes.xml
+ * parallel {
+ *   merge-report --file classes-aplicadas.txt
+ *   merge-report --page 1 --page-size 20
+ *   merge-status
+ * }
+ * stats
+ * </pre>
+ *
+ * <p>
+ * Os comandos fora de blocos são executados um de cada vez; os de um bloco
+ * {@literal parallel} podem ser executados ao mesmo tempo (veja {@link ScriptRunner}).
+ * Blocos não podem ser aninhados. Os merges entram em uma fila única e são aplicados um
+ * de cada vez mesmo em um bloco {@literal parallel}.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class Script {
+
+  private static final String PARALLEL = "parallel";
+
+  private final List<Block> blocks;
+
+  private Script(List<Block> blocks) {
+    this.blocks = blocks;
+  }
+
+  public static Script read(File file) throws IOException {
+    try (Reader in = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+      return read(in, file.getPath());
+    }
+  }
+
+  /**
+   * @param name
+   *          nome do script nas mensagens de erro.
+   */
+  public static Script read(Reader in, String name) throws IOException {
+    List<Block> blocks = new ArrayList<>();
+    BufferedReader reader = new BufferedReader(in);
+    Block block = null;
+    int opened = 0;
+    int number = 0;
+
+    String text;
+    while((text = reader.readLine()) != null) {
+      number++;
+      String line = text.trim();
+      if(line.isEmpty() || line.startsWith("//") || line.startsWith("#")) {
+        continue;
+      }
+
+      if(isOpening(line)) {
+        if(opened > 0) {
+          throw new IOException(name + ", linha " + number + ": blocos parallel não podem ser aninhados (aberto na linha " + opened + ").");
+        }
+        opened = number;
+        block = new Block(true);
+        blocks.add(block);
+      }
+      else if(line.equals("}")) {
+        if(opened == 0) {
+          throw new IOException(name + ", linha " + number + ": '}' sem bloco parallel aberto.");
+        }
+        opened = 0;
+        block = null;
+      }
+      else {
+        if(block == null) {
+          block = new Block(false);
+          blocks.add(block);
+        }
+        block.lines.add(new Line(number, line));
+        if(!block.parallel) {
+          block = null;
+        }
+      }
+    }
+
+    if(opened > 0) {
+      throw new IOException(name + ", linha " + opened + ": bloco parallel sem '}'.");
+    }
+    return new Script(blocks);
+  }
+
+  private static boolean isOpening(String line) {
+    return line.startsWith(PARALLEL) && line.substring(PARALLEL.length()).trim().equals("{");
+  }
+
+  public List<Block> getBlocks() {
+    return Collections.unmodifiableList(blocks);
+  }
+
+  /**
+   * Comandos de um bloco {@literal parallel} ou um comando isolado.
+   */
+  public static class Block {
+
+    private final boolean parallel;
+    private final List<Line> lines = new ArrayList<>();
+
+    Block(boolean parallel) {
+      this.parallel = parallel;
+    }
+
+    public boolean isParallel() {
+      return parallel;
+    }
+
+    public List<Line> getLines() {
+      return Collections.unmodifiableList(lines);
+    }
+  }
+
+  /**
+   * Comando e a sua linha no script.
+   */
+  public static class Line {
+
+    private final int number;
+    private final String command;
+
+    Line(int number, String command) {
+      this.number = number;
+      this.command = command;
+    }
+
+    public int getNumber() {
+      return number;
+    }
+
+    public String getCommand() {
+      return command;
+    }
+
+    @Override
+    public String toString() {
+      return number + ": " + command;
+    }
+  }
+}
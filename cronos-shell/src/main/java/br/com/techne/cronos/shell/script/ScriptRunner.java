@@ -0,0 +1,202 @@
+package br.com.techne.cronos.shell.script;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executa um {@link Script}: os blocos em sequência e, em um bloco {@literal parallel}, os
+ * comandos {@link Command#isParallelSafe()} ao mesmo tempo, em até <code>threads</code>
+ * threads. Um comando que não é seguro aguarda os anteriores do bloco e é executado sozinho.
+ *
+ * <p>
+ * Todas as linhas são interpretadas antes da execução: um comando inválido não executa
+ * nenhum. A saída de cada comando é escrita na ordem do script, à medida que os comandos
+ * anteriores terminam. Após uma falha, os comandos já iniciados terminam e o script para;
+ * todas as falhas são registradas no {@link Result}.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class ScriptRunner {
+
+  private static final AtomicInteger THREADS = new AtomicInteger();
+
+  private final Interpreter interpreter;
+  private final int threads;
+  private final Writer out;
+
+  public ScriptRunner(Interpreter interpreter, int threads, Writer out) {
+    if(threads < 1) {
+      throw new IllegalArgumentException("Quantidade de threads inválida: " + threads + ".");
+    }
+    this.interpreter = interpreter;
+    this.threads = threads;
+    this.out = out;
+  }
+
+  public Result run(Script script) throws IOException {
+    Map<Script.Line, Command> commands = new HashMap<>();
+    for(Script.Block block : script.getBlocks()) {
+      for(Script.Line line : block.getLines()) {
+        try {
+          commands.put(line, interpreter.parse(line.getCommand()));
+        }
+        catch(Exception e) {
+          throw new IllegalArgumentException("Linha " + line.getNumber() + ", '" + line.getCommand() + "': " + e.getMessage(), e);
+        }
+      }
+    }
+
+    Result result = new Result();
+    ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+      @Override
+      public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "cronos-script-" + THREADS.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+    try {
+      for(Script.Block block : script.getBlocks()) {
+        List<Script.Line> batch = new ArrayList<>();
+
+        for(Script.Line line : block.getLines()) {
+          if(block.isParallel() && commands.get(line).isParallelSafe()) {
+            batch.add(line);
+            continue;
+          }
+          run(executor, batch, commands, result);
+          batch.clear();
+          if(!result.isSuccess()) {
+            return result;
+          }
+          run(executor, Collections.singletonList(line), commands, result);
+          if(!result.isSuccess()) {
+            return result;
+          }
+        }
+
+        run(executor, batch, commands, result);
+        if(!result.isSuccess()) {
+          return result;
+        }
+      }
+    }
+    finally {
+      executor.shutdown();
+    }
+    return result;
+  }
+
+  /**
+   * Executa <code>lines</code> ao mesmo tempo e escreve a saída de cada uma na ordem.
+   */
+  private void run(ExecutorService executor, List<Script.Line> lines, Map<Script.Line, Command> commands, Result result) throws IOException {
+    List<Future<Object>> futures = new ArrayList<>(lines.size());
+    for(Script.Line line : lines) {
+      final Command command = commands.get(line);
+      futures.add(executor.submit(new Callable<Object>() {
+        @Override
+        public Object call() throws Exception {
+          return command.execute();
+        }
+      }));
+    }
+
+    for(int i = 0; i < lines.size(); i++) {
+      Script.Line line = lines.get(i);
+      out.write("> " + line.getCommand() + System.lineSeparator());
+
+      try {
+        Object output = futures.get(i).get();
+        if(output != null) {
+          out.write(output + System.lineSeparator());
+        }
+      }
+      catch(ExecutionException e) {
+        fail(result, line, e.getCause());
+      }
+      catch(InterruptedException e) {
+        for(Future<Object> future : futures) {
+          future.cancel(true);
+        }
+        Thread.currentThread().interrupt();
+        fail(result, line, e);
+        return;
+      }
+      finally {
+        result.executed++;
+        out.flush();
+      }
+    }
+  }
+
+  private void fail(Result result, Script.Line line, Throwable error) throws IOException {
+    result.failures.put(line, error);
+    out.write("! Falha na linha " + line.getNumber() + ": " + error.getMessage() + System.lineSeparator());
+  }
+
+  /**
+   * Interpreta uma linha do script.
+   */
+  public interface Interpreter {
+
+    /**
+     * @throws Exception
+     *           se a linha não é um comando válido.
+     */
+    Command parse(String line) throws Exception;
+  }
+
+  /**
+   * Comando interpretado, pronto para execução.
+   */
+  public interface Command {
+
+    /**
+     * Pode ser executado ao mesmo tempo que outros comandos (veja {@link ParallelSafe}).
+     */
+    boolean isParallelSafe();
+
+    /**
+     * @return a saída do comando ou {@code null}.
+     */
+    Object execute() throws Exception;
+  }
+
+  /**
+   * Comandos executados e falhas, na ordem do script.
+   */
+  public static class Result {
+
+    private final Map<Script.Line, Throwable> failures = new LinkedHashMap<>();
+    private int executed;
+
+    public int getExecuted() {
+      return executed;
+    }
+
+    public Map<Script.Line, Throwable> getFailures() {
+      return Collections.unmodifiableMap(failures);
+    }
+
+    public boolean isSuccess() {
+      return failures.isEmpty();
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package br.com.techne.cronos.shell.stats;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import br.com.techne.cronos.cli.metrics.Histogram;
+
+/**
+ * Execuções, falhas e latências de cada comando do shell, pelo nome do comando.
+ *
+ * <p>
+ * O registro ({@link #record(String, long, boolean)}) é uma consulta ao mapa e alguns
+ * incrementos atômicos; o resumo ({@link #summary()}) e o JSON ({@link #writeJson(File)})
+ * só são montados quando solicitados. Instâncias são thread-safe.
+ * </p>
+ *
+ * @author Techne
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class CommandStats {
+
+  private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+  /**
+   * Registra uma execução de <code>command</code> que levou <code>nanos</code>.
+   */
+  public void record(String command, long nanos, boolean failed) {
+    Entry entry = entries.get(command);
+    if(entry == null) {
+      entry = entries.computeIfAbsent(command, name -> new Entry());
+    }
+
+    entry.latency.record(nanos);
+    if(failed) {
+      entry.errors.increment();
+    }
+  }
+
+  /**
+   * Execuções registradas de <code>command</code>, ou {@code null}.
+   */
+  public Entry get(String command) {
+    return entries.get(command);
+  }
+
+  public void reset() {
+    entries.clear();
+  }
+
+  public boolean isEmpty() {
+    return entries.isEmpty();
+  }
+
+  /**
+   * Uma linha por comando, em ordem alfabética, com os tempos em milissegundos.
+   */
+  public List<String> summary() {
+    List<String> lines = new ArrayList<>();
+    lines.add(String.format("%-24s %9s %6s %10s %10s %10s %10s %10s", "comando", "execuções", "erros", "média", "p50", "p95", "p99", "máx (ms)"));
+
+    for(Map.Entry<String, Entry> entry : sorted().entrySet()) {
+      Histogram latency = entry.getValue().latency;
+      lines.add(String.format("%-24s %9d %6d %10s %10s %10s %10s %10s", entry.getKey(), latency.getCount(), entry.getValue().getErrors(),
+        millis(latency.getMean()), millis(latency.getPercentile(50)), millis(latency.getPercentile(95)), millis(latency.getPercentile(99)),
+        millis(latency.getMax())));
+    }
+    return lines;
+  }
+
+  /**
+   * Grava as estatísticas em JSON; tempos em milissegundos.
+   */
+  public void writeJson(File file) throws IOException {
+    StringBuilder json = new StringBuilder("{\n  \"commands\": [");
+    String separator = "\n";
+
+    for(Map.Entry<String, Entry> entry : sorted().entrySet()) {
+      Histogram latency = entry.getValue().latency;
+      json.append(separator).append("    { \"command\": \"").append(escape(entry.getKey())).append('"')
+        .append(", \"count\": ").append(latency.getCount())
+        .append(", \"errors\": ").append(entry.getValue().getErrors())
+        .append(", \"totalMillis\": ").append(number(latency.getTotal()))
+        .append(", \"meanMillis\": ").append(number(latency.getMean()))
+        .append(", \"p50Millis\": ").append(number(latency.getPercentile(50)))
+        .append(", \"p95Millis\": ").append(number(latency.getPercentile(95)))
+        .append(", \"p99Millis\": ").append(number(latency.getPercentile(99)))
+        .append(", \"maxMillis\": ").append(number(latency.getMax()))
+        .append(" }");
+      separator = ",\n";
+    }
+    json.append("\n  ]\n}\n");
+
+    try (Writer out = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+      out.write(json.toString());
+    }
+  }
+
+  private Map<String, Entry> sorted() {
+    return new TreeMap<>(entries);
+  }
+
+  private static String escape(String value) {
+    return value.replace("\\", "\\\\").replace("\"", "\\\"");
+  }
+
+  private static String number(long nanos) {
+    return String.format(Locale.ROOT, "%.3f", Histogram.toMillis(nanos));
+  }
+
+  private static String millis(long nanos) {
+    return String.format("%.2f", Histogram.toMillis(nanos));
+  }
+
+  /**
+   * Estatísticas de um comando.
+   */
+  public static class Entry {
+
+    private final Histogram latency = new Histogram();
+    private final LongAdder errors = new LongAdder();
+
+    /**
+     * Latência de todas as execuções, inclusive as que falharam.
+     */
+    public Histogram getLatency() {
+      return latency;
+    }
+
+    public long getErrors() {
+      return errors.sum();
+    }
+  }
+}
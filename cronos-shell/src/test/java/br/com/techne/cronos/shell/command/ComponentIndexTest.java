@@ -0,0 +1,63 @@
+package br.com.techne.cronos.shell.command;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.junit.Test;
+import org.springframework.stereotype.Component;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+/**
+ * O índice de componentes do {@literal spring-shell-plugin.xml} deve listar exatamente os
+ * {@link Component} do pacote command, que a busca no classpath encontraria.
+ */
+public class ComponentIndexTest {
+
+  private static final String CONTEXT = "META-INF/resources/spring/spring-shell-plugin.xml";
+
+  private static final String PACKAGE = ComponentIndexTest.class.getPackage().getName();
+
+  @Test
+  public void indexListsEveryComponent() throws Exception {
+    assertEquals(components(), indexed());
+  }
+
+  private static Set<String> indexed() throws Exception {
+    Set<String> classes = new TreeSet<>();
+    try (InputStream in = ComponentIndexTest.class.getClassLoader().getResourceAsStream(CONTEXT)) {
+      NodeList beans = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(in).getElementsByTagName("bean");
+      for(int i = 0; i < beans.getLength(); i++) {
+        String name = ((Element)beans.item(i)).getAttribute("class");
+        if(name.startsWith(PACKAGE + ".")) {
+          classes.add(name);
+        }
+      }
+    }
+    return classes;
+  }
+
+  private static Set<String> components() throws Exception {
+    URL dir = MergeCommands.class.getResource(MergeCommands.class.getSimpleName() + ".class");
+    File[] files = new File(dir.toURI()).getParentFile().listFiles();
+
+    Set<String> classes = new TreeSet<>();
+    for(File file : files) {
+      String name = file.getName();
+      if(name.endsWith(".class") && name.indexOf('$') < 0) {
+        Class<?> type = Class.forName(PACKAGE + "." + name.substring(0, name.length() - ".class".length()), false, ComponentIndexTest.class.getClassLoader());
+        if(type.isAnnotationPresent(Component.class)) {
+          classes.add(type.getName());
+        }
+      }
+    }
+    return classes;
+  }
+}
@@ -0,0 +1,64 @@
+package br.com.techne.cronos.shell.command;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.shell.core.Completion;
+
+public class CronosArgsConverterTest {
+
+  private final CronosArgsConverter converter = new CronosArgsConverter();
+
+  @Test
+  public void convertsText() {
+    assertTrue(converter.supports(CronosArgs.class, null));
+    assertArrayEquals(new String[] { "export", "-o", "a b.xml" }, converter.convertFromText("export -o 'a b.xml'", CronosArgs.class, null).getArgs());
+  }
+
+  @Test
+  public void completesCommandNames() {
+    List<String> values = complete("ex");
+    assertEquals(1, values.size());
+    assertEquals("export", values.get(0));
+
+    values = complete("");
+    assertTrue(values.contains("import"));
+    assertTrue(values.contains("convert"));
+    assertTrue(values.contains("--version"));
+  }
+
+  @Test
+  public void completesOptionsOfTheCommand() {
+    List<String> values = complete("import --url x --bu");
+    assertTrue(values.contains("import --url x --bulk"));
+    assertTrue(values.contains("import --url x --bulk-state"));
+    for(String value : values) {
+      assertTrue(value, value.startsWith("import --url x --bu"));
+    }
+
+    assertTrue(complete("convert -").contains("convert --to"));
+    assertTrue(complete("export 'a b' --sin").contains("export 'a b' --since-last"));
+  }
+
+  @Test
+  public void doesNotCompleteValuesOrUnclosedQuotes() {
+    assertTrue(complete("export --url jd").isEmpty());
+    assertTrue(complete("export -o 'a --").isEmpty());
+  }
+
+  private List<String> complete(String text) {
+    List<Completion> completions = new ArrayList<>();
+    converter.getAllPossibleValues(completions, CronosArgs.class, text, null, null);
+
+    List<String> values = new ArrayList<>();
+    for(Completion completion : completions) {
+      values.add(completion.getValue());
+    }
+    return values;
+  }
+}
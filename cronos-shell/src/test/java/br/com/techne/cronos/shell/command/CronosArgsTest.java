@@ -0,0 +1,49 @@
+package br.com.techne.cronos.shell.command;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import org.junit.Test;
+
+public class CronosArgsTest {
+
+  @Test
+  public void splitsOnWhitespace() {
+    assertArrayEquals(new String[] { "import", "--url", "jdbc:h2:mem:a", "dados.xml" }, CronosArgs.split("  import --url\tjdbc:h2:mem:a   dados.xml "));
+    assertArrayEquals(new String[0], CronosArgs.split(""));
+    assertArrayEquals(new String[0], CronosArgs.split("   "));
+  }
+
+  @Test
+  public void quotesGroupAndJoin() {
+    assertArrayEquals(new String[] { "-o", "meus dados.xml" }, CronosArgs.split("-o \"meus dados.xml\""));
+    assertArrayEquals(new String[] { "--columns", "A, B" }, CronosArgs.split("--columns 'A, B'"));
+    assertArrayEquals(new String[] { "--url=jdbc:x y" }, CronosArgs.split("--url='jdbc:x y'"));
+    assertArrayEquals(new String[] { "diz \"oi\"" }, CronosArgs.split("'diz \"oi\"'"));
+  }
+
+  @Test
+  public void emptyQuotesAreEmptyArguments() {
+    assertArrayEquals(new String[] { "--user", "", "x" }, CronosArgs.split("--user '' x"));
+    assertArrayEquals(new String[] { "" }, CronosArgs.split("\"\""));
+  }
+
+  @Test
+  public void backslashEscapes() {
+    assertArrayEquals(new String[] { "meus dados.xml" }, CronosArgs.split("meus\\ dados.xml"));
+    assertArrayEquals(new String[] { "diz \"oi\"" }, CronosArgs.split("\"diz \\\"oi\\\"\""));
+    assertArrayEquals(new String[] { "it's" }, CronosArgs.split("it\\'s"));
+    assertArrayEquals(new String[] { "a\\b" }, CronosArgs.split("a\\\\b"));
+  }
+
+  @Test
+  public void backslashIsLiteralOtherwise() {
+    assertArrayEquals(new String[] { "C:\\dados\\a.xml" }, CronosArgs.split("C:\\dados\\a.xml"));
+    assertArrayEquals(new String[] { "a\\ b" }, CronosArgs.split("'a\\ b'"));
+    assertArrayEquals(new String[] { "fim\\" }, CronosArgs.split("fim\\"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsUnclosedQuote() {
+    CronosArgs.split("-o \"dados.xml");
+  }
+}
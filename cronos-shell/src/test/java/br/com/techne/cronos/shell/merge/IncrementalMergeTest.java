@@ -0,0 +1,207 @@
+package br.com.techne.cronos.shell.merge;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class IncrementalMergeTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void appliesOnlyChangedClasses() throws Exception {
+    File classes = folder.newFile("classes.xml");
+    IncrementalMerge merge = new IncrementalMerge().classes(classes).state(new File(folder.getRoot(), "state"));
+    RecordingMerger merger = new RecordingMerger();
+
+    write(classes, "<class id='A'><f>1</f></class>", "<class id='B'><f>2</f></class>", "<class id='C'><f>3</f></class>");
+    assertTrue(merge.run(merger).isFull());
+
+    // somente formatação e ordem de atributos: nada a aplicar
+    write(classes, "<class   id='A'>\n  <f>1</f>\n</class>", "<class id='B'><f>2</f></class>", "<class id='C'><f>3</f></class>");
+    assertTrue(merge.run(merger).isEmpty());
+    assertEquals(1, merger.plans.size());
+
+    write(classes, "<class id='A'><f>1</f></class>", "<class id='C'><f>30</f></class>", "<class id='D'/>");
+    MergePlan plan = merge.run(merger);
+    assertEquals(2, merger.plans.size());
+    assertEquals("[D]", plan.getInserted().toString());
+    assertEquals("[C]", plan.getUpdated().toString());
+    assertEquals("[B]", plan.getDeleted().toString());
+    assertEquals(3, plan.getClasses());
+
+    assertTrue(merge.run(merger).isEmpty());
+  }
+
+  @Test
+  public void failedMergeKeepsPreviousState() throws Exception {
+    File classes = folder.newFile("classes.xml");
+    IncrementalMerge merge = new IncrementalMerge().classes(classes).state(new File(folder.getRoot(), "state"));
+
+    write(classes, "<class id='A'/>");
+    merge.run(new RecordingMerger());
+
+    write(classes, "<class id='A' v='2'/>");
+    try {
+      merge.run(new ClassMerger() {
+        @Override
+        public void apply(MergePlan plan) throws Exception {
+          throw new IllegalStateException("banco indisponível");
+        }
+      });
+    }
+    catch(IllegalStateException e) {
+      // esperado
+    }
+
+    assertEquals(1, merge.plan().getUpdated().size());
+    assertFalse(merge.plan().isFull());
+  }
+
+  @Test
+  public void windowComparesOnlyItsClasses() throws Exception {
+    File classes = folder.newFile("classes.xml");
+    File state = new File(folder.getRoot(), "state");
+    RecordingMerger merger = new RecordingMerger();
+
+    write(classes, "<class id='A'/>", "<class id='B'/>", "<class id='C'/>", "<class id='D'/>");
+    MergePlan plan = new IncrementalMerge().classes(classes).state(state).window(2, 3).run(merger);
+    assertFalse(plan.isFull());
+    assertEquals("[B, C]", plan.getInserted().toString());
+
+    plan = new IncrementalMerge().classes(classes).state(state).window(3, null).run(merger);
+    assertEquals("[D]", plan.getInserted().toString());
+    assertEquals(2, plan.getClasses());
+
+    // A nunca foi aplicada; B, C e D vêm das duas faixas gravadas no mesmo estado
+    write(classes, "<class id='A'/>", "<class id='B' v='2'/>", "<class id='C'/>");
+    plan = new IncrementalMerge().classes(classes).state(state).run(merger);
+    assertEquals("[A]", plan.getInserted().toString());
+    assertEquals("[B]", plan.getUpdated().toString());
+    assertEquals("[D]", plan.getDeleted().toString());
+  }
+
+  @Test
+  public void windowRequiresPerClassMerger() throws Exception {
+    File classes = folder.newFile("classes.xml");
+    File state = new File(folder.getRoot(), "state");
+    write(classes, "<class id='A'/>", "<class id='B'/>");
+
+    ClassMerger wholeFile = new RecordingMerger() {
+      @Override
+      public boolean isPerClass() {
+        return false;
+      }
+    };
+    try {
+      new IncrementalMerge().classes(classes).state(state).window(2, null).run(wholeFile);
+      fail();
+    }
+    catch(IllegalArgumentException e) {
+      // esperado: aplicaria A e B e registraria somente B
+    }
+    assertFalse(state.exists());
+    assertTrue(new IncrementalMerge().classes(classes).state(state).run(wholeFile).isFull());
+  }
+
+  @Test
+  public void stateIsKeptPerTarget() throws Exception {
+    File classes = folder.newFile("classes.xml");
+    File state = new File(folder.getRoot(), "state");
+    write(classes, "<class id='A'/>");
+
+    assertTrue(new IncrementalMerge().classes(classes).state(state).target("jdbc:h2:mem:a").run(new RecordingMerger()).isFull());
+    assertTrue(new IncrementalMerge().classes(classes).state(state).target("jdbc:h2:mem:a").run(new RecordingMerger()).isEmpty());
+
+    // o mesmo arquivo em outro banco é aplicado por inteiro, sem afetar o estado do primeiro
+    assertTrue(new IncrementalMerge().classes(classes).state(state).target("jdbc:h2:mem:b").run(new RecordingMerger()).isFull());
+    assertTrue(MergeState.file(state, "jdbc:h2:mem:a").isFile());
+    assertTrue(MergeState.file(state, "jdbc:h2:mem:b").isFile());
+    assertFalse(state.exists());
+  }
+
+  @Test
+  public void rejectsFileTheMergerDoesNotApply() throws Exception {
+    File classes = folder.newFile("classes.xml");
+    File other = folder.newFile("other.xml");
+    write(other, "<class id='A'/>");
+
+    ClassMerger executer = new RecordingMerger() {
+      @Override
+      public File getSource() {
+        return classes;
+      }
+    };
+    try {
+      new IncrementalMerge().classes(other).state(new File(folder.getRoot(), "state")).run(executer);
+      fail();
+    }
+    catch(IllegalArgumentException e) {
+      // esperado: o banco receberia classes.xml e o estado, as classes de other.xml
+    }
+    new IncrementalMerge().classes(new File(folder.getRoot(), "./classes.xml")).check(executer);
+  }
+
+  @Test
+  public void cachedIndexGivesTheSamePlan() throws Exception {
+    File classes = folder.newFile("classes.xml");
+    File state = new File(folder.getRoot(), "state");
+    ClassIndexCache cache = new ClassIndexCache().dir(new File(folder.getRoot(), "cache"));
+
+    write(classes, "<class id='A'/>", "<class id='B'><f>1</f></class>", "<class id='C'/>");
+    new IncrementalMerge().classes(classes).state(state).cache(cache).run(new RecordingMerger());
+    assertEquals(0, cache.getHits());
+
+    write(classes, "<class id='A'/>", "<class id='B'><f>2</f></class>", "<class id='C'/>", "<class id='D'/>");
+    MergePlan parsed = new IncrementalMerge().classes(classes).state(state).cache(cache).plan();
+    assertEquals(0, cache.getHits());
+
+    // da memória e, em um cache novo, do disco
+    MergePlan cached = new IncrementalMerge().classes(classes).state(state).cache(cache).plan();
+    MergePlan fromDisk = new IncrementalMerge().classes(classes).state(state).cache(new ClassIndexCache().dir(cache.getDir())).plan();
+    assertEquals(1, cache.getHits());
+
+    for(MergePlan plan : new MergePlan[] { cached, fromDisk }) {
+      assertEquals(parsed.getFingerprints(), plan.getFingerprints());
+      assertEquals("[D]", plan.getInserted().toString());
+      assertEquals("[B]", plan.getUpdated().toString());
+      assertEquals(parsed.getUpdated().get(0).getXml(), plan.getUpdated().get(0).getXml());
+    }
+
+    // as duas versões do arquivo, em memória e em disco
+    assertEquals(4, cache.invalidate());
+    assertEquals(0, cache.getEntries());
+  }
+
+  private static void write(File file, String ... classes) throws IOException {
+    StringBuilder xml = new StringBuilder("<?xml version='1.0'?>\n<classes>\n");
+    for(String definition : classes) {
+      xml.append("  ").append(definition).append('\n');
+    }
+    xml.append("</classes>\n");
+    Files.write(file.toPath(), xml.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static class RecordingMerger implements ClassMerger {
+
+    final List<MergePlan> plans = new ArrayList<>();
+
+    @Override
+    public void apply(MergePlan plan) {
+      plans.add(plan);
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package br.com.techne.cronos.shell.merge;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MergeJobsTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void cancelledJobLeavesStateUntouched() throws Exception {
+    File classes = folder.newFile("classes.xml");
+    Files.write(classes.toPath(), "<classes><class id='A'/><class id='B'/></classes>".getBytes(StandardCharsets.UTF_8));
+    File state = new File(folder.getRoot(), "state");
+
+    final CountDownLatch applying = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    ClassMerger blocking = new ClassMerger() {
+      @Override
+      public void apply(MergePlan plan) throws Exception {
+        applying.countDown();
+        release.await();
+      }
+    };
+
+    MergeJobs jobs = new MergeJobs();
+    MergeJob first = jobs.submit(new IncrementalMerge().classes(classes).state(new File(folder.getRoot(), "other")), blocking);
+    MergeJob second = jobs.submit(new IncrementalMerge().classes(classes).state(state), blocking);
+
+    applying.await();
+    assertEquals(MergeJob.Status.RUNNING, first.getStatus());
+    assertEquals(MergeProgress.Phase.APPLYING, first.getProgress().getPhase());
+    assertEquals(MergeJob.Status.QUEUED, second.getStatus());
+
+    second.cancel();
+    first.cancel();
+    release.countDown();
+
+    assertTrue(second.await(60000));
+    // o primeiro já aplicava o plano e conclui; o segundo nem chega a ler o arquivo
+    assertEquals(MergeJob.Status.DONE, first.getStatus());
+    assertEquals(2, first.getPlan().getClasses());
+    assertEquals(MergeJob.Status.CANCELLED, second.getStatus());
+    assertFalse(state.exists());
+    assertEquals(second, jobs.get(null));
+  }
+}
@@ -0,0 +1,67 @@
+package br.com.techne.cronos.shell.merge;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MergeReportTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void pagesThroughChangedClasses() throws Exception {
+    File classes = folder.newFile("classes.xml");
+    File state = new File(folder.getRoot(), "state");
+    write(classes, "<class id='A'/>", "<class id='B'/>", "<class id='C'/>");
+    MergePlan full = new IncrementalMerge().classes(classes).state(state).run(new NoopMerger());
+
+    MergeReport report = new MergeReport(full);
+    assertEquals(3, report.getLines());
+    assertEquals("* B (posição 2)\n* C (posição 3)\n", page(report, 1, 5));
+
+    write(classes, "<class id='A' v='2'/>", "<class id='D'/>", "<class id='E'/>");
+    MergePlan plan = new IncrementalMerge().classes(classes).state(state).run(new NoopMerger()).compact();
+    assertNull(plan.getInserted().get(0).getXml());
+    assertTrue(plan.getFingerprints().isEmpty());
+
+    report = new MergeReport(plan);
+    assertEquals(5, report.getLines());
+    assertEquals("+ D (posição 2)\n+ E (posição 3)\n", page(report, 0, 2));
+    assertEquals("~ A (posição 1)\n- B\n", page(report, 2, 2));
+    assertEquals("- C\n", page(report, 4, 2));
+    assertEquals("", page(report, 6, 2));
+  }
+
+  private static String page(MergeReport report, long offset, long limit) throws IOException {
+    StringWriter out = new StringWriter();
+    report.write(out, offset, limit);
+    return out.toString();
+  }
+
+  private static void write(File file, String ... classes) throws IOException {
+    StringBuilder xml = new StringBuilder("<?xml version='1.0'?>\n<classes>\n");
+    for(String definition : classes) {
+      xml.append("  ").append(definition).append('\n');
+    }
+    xml.append("</classes>\n");
+    Files.write(file.toPath(), xml.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static class NoopMerger implements ClassMerger {
+
+    @Override
+    public void apply(MergePlan plan) {
+    }
+  }
+}
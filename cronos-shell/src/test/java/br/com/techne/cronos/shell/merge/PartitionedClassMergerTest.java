@@ -0,0 +1,189 @@
+package br.com.techne.cronos.shell.merge;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class PartitionedClassMergerTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void referencedClassesStayInTheSamePart() throws Exception {
+    File classes = folder.newFile("classes.xml");
+    write(classes, "<class id='A'><parent>B</parent></class>", "<class id='B'/>", "<class id='C'/>",
+      "<class id='D' uses='E, F'/>", "<class id='E'/>", "<class id='F'/>", "<class id='G'><f type='C'/></class>");
+
+    MergePlan plan = planOf(classes);
+
+    List<MergePlan> parts = ClassPartitioner.partition(plan, 4);
+    assertEquals(3, parts.size());
+    assertEquals("[D, E, F]", parts.get(0).getInserted().toString());
+    assertEquals("[A, B]", parts.get(1).getInserted().toString());
+    assertEquals("[C, G]", parts.get(2).getInserted().toString());
+
+    assertEquals(1, ClassPartitioner.partition(plan, 1).size());
+  }
+
+  @Test
+  public void parallelMergeMatchesSequentialMerge() throws Exception {
+    File classes = folder.newFile("classes.xml");
+    Database sequential = new Database();
+    Database parallel = new Database();
+    File sequentialState = new File(folder.getRoot(), "sequential");
+    File parallelState = new File(folder.getRoot(), "parallel");
+
+    for(int version = 0; version < 3; version++) {
+      write(classes, model(300, version));
+      // a primeira aplicação é completa; as seguintes, em partes
+      new IncrementalMerge().classes(classes).state(sequentialState).run(sequential);
+      new IncrementalMerge().classes(classes).state(parallelState).run(new PartitionedClassMerger(parallel, 4));
+
+      assertEquals(sequential.rows, parallel.rows);
+      assertEquals(MergeState.load(sequentialState).getFingerprints(), MergeState.load(parallelState).getFingerprints());
+    }
+    assertTrue(parallel.parts > sequential.parts);
+  }
+
+  @Test
+  public void threadsRequirePerClassMerger() {
+    ClassMerger reload = new ClassMerger() {
+      @Override
+      public void apply(MergePlan plan) {
+      }
+
+      @Override
+      public boolean isPerClass() {
+        return false;
+      }
+    };
+
+    new PartitionedClassMerger(reload, 1);
+    try {
+      new PartitionedClassMerger(reload, 4);
+      fail();
+    }
+    catch(IllegalArgumentException e) {
+      assertTrue(e.getMessage(), e.getMessage().contains("4 threads"));
+    }
+  }
+
+  @Test
+  public void failedPartKeepsTheAppliedOnesInTheState() throws Exception {
+    File classes = folder.newFile("classes.xml");
+    File state = new File(folder.getRoot(), "state");
+    write(classes, "<class id='A'/>", "<class id='B'/>");
+    new IncrementalMerge().classes(classes).state(state).run(new Database());
+
+    write(classes, "<class id='A' v='2'/>", "<class id='B' v='2'/>", "<class id='C'/>");
+    Database database = new Database();
+    database.failing = "B";
+    try {
+      new IncrementalMerge().classes(classes).state(state).run(new PartitionedClassMerger(database, 4));
+      fail();
+    }
+    catch(PartialMergeException e) {
+      assertEquals(2, e.getApplied().size());
+    }
+
+    MergePlan plan = planOf(classes, state);
+    assertEquals("[B]", plan.getUpdated().toString());
+    assertTrue(plan.getInserted().isEmpty());
+  }
+
+  /**
+   * Plano com todas as classes de <code>classes</code> incluídas, sobre um estado não vazio.
+   */
+  private MergePlan planOf(File classes) throws IOException {
+    File state = folder.newFile();
+    MergeState.load(state).save(Collections.singletonMap("Z", "0"), true);
+    return planOf(classes, state);
+  }
+
+  private static MergePlan planOf(File classes, File state) throws IOException {
+    return new IncrementalMerge().classes(classes).state(state).plan();
+  }
+
+  /**
+   * Classes em cadeias de referências de tamanhos variados, parte delas alterada, removida ou
+   * incluída a cada versão.
+   */
+  private static String[] model(int count, int version) {
+    List<String> classes = new ArrayList<>();
+    for(int i = 0; i < count; i++) {
+      if(version > 0 && i % 17 == version) {
+        continue;
+      }
+      String parent = i % 5 != 0 ? " parent='C" + (i - 1) + "'" : "";
+      String value = i % (3 + version) == 0 ? String.valueOf(version) : "0";
+      classes.add("<class id='C" + i + "'" + parent + "><v>" + value + "</v></class>");
+    }
+    for(int i = 0; i < version * 7; i++) {
+      classes.add("<class id='N" + i + "'><ref>C" + (i * 11 % count) + "</ref></class>");
+    }
+    return classes.toArray(new String[classes.size()]);
+  }
+
+  private static void write(File file, String ... classes) throws IOException {
+    StringBuilder xml = new StringBuilder("<?xml version='1.0'?>\n<classes>\n");
+    for(String definition : classes) {
+      xml.append("  ").append(definition).append('\n');
+    }
+    xml.append("</classes>\n");
+    Files.write(file.toPath(), xml.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Banco em memória: a definição de cada classe pelo identificador.
+   */
+  private static class Database implements ClassMerger {
+
+    final Map<String, String> rows = new TreeMap<>();
+    int parts;
+    String failing;
+
+    @Override
+    public void apply(MergePlan plan) throws Exception {
+      Map<String, String> transaction = new TreeMap<>();
+      for(ClassDefinition definition : plan.getInserted()) {
+        transaction.put(definition.getId(), definition.getXml());
+      }
+      for(ClassDefinition definition : plan.getUpdated()) {
+        if(definition.getId().equals(failing)) {
+          throw new IllegalStateException("classe " + failing + " bloqueada");
+        }
+        transaction.put(definition.getId(), definition.getXml());
+      }
+
+      synchronized(this) {
+        if(plan.isFull()) {
+          try (ClassesXmlReader reader = new ClassesXmlReader(plan.getFile())) {
+            ClassDefinition definition;
+            while((definition = reader.next()) != null) {
+              transaction.put(definition.getId(), definition.getXml());
+            }
+          }
+          rows.clear();
+        }
+        rows.putAll(transaction);
+        rows.keySet().removeAll(plan.getDeleted());
+        parts++;
+      }
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package br.com.techne.cronos.shell.script;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class ScriptRunnerTest {
+
+  @Test
+  public void runsSafeCommandsOfAParallelBlockTogether() throws Exception {
+    // "await N" só termina quando N comandos chegaram ao mesmo tempo
+    final CountDownLatch together = new CountDownLatch(3);
+    Script script = script(
+      "echo antes",
+      "parallel {",
+      "  await 3",
+      "  await 3",
+      "  await 3",
+      "  unsafe barreira",
+      "  echo depois",
+      "}");
+
+    StringWriter out = new StringWriter();
+    ScriptRunner.Result result = new ScriptRunner(new ScriptRunner.Interpreter() {
+      @Override
+      public ScriptRunner.Command parse(final String line) {
+        final String[] words = line.split(" ");
+        return new ScriptRunner.Command() {
+          @Override
+          public boolean isParallelSafe() {
+            return !words[0].equals("unsafe");
+          }
+
+          @Override
+          public Object execute() throws Exception {
+            if(words[0].equals("await")) {
+              together.countDown();
+              return together.await(5, TimeUnit.SECONDS) ? "ok" : "sozinho";
+            }
+            return words[1];
+          }
+        };
+      }
+    }, 3, out).run(script);
+
+    assertTrue(result.isSuccess());
+    assertEquals(6, result.getExecuted());
+    String n = System.lineSeparator();
+    assertEquals("> echo antes" + n + "antes" + n + "> await 3" + n + "ok" + n + "> await 3" + n + "ok" + n + "> await 3" + n + "ok" + n
+      + "> unsafe barreira" + n + "barreira" + n + "> echo depois" + n + "depois" + n, out.toString());
+  }
+
+  @Test
+  public void failureStopsTheScriptAfterItsBlock() throws Exception {
+    Script script = script("parallel {", "ok 1", "fail 2", "ok 3", "}", "ok 4");
+
+    StringWriter out = new StringWriter();
+    ScriptRunner.Result result = new ScriptRunner(new ScriptRunner.Interpreter() {
+      @Override
+      public ScriptRunner.Command parse(final String line) {
+        return new ScriptRunner.Command() {
+          @Override
+          public boolean isParallelSafe() {
+            return true;
+          }
+
+          @Override
+          public Object execute() {
+            if(line.startsWith("fail")) {
+              throw new IllegalStateException("falhou");
+            }
+            return null;
+          }
+        };
+      }
+    }, 2, out).run(script);
+
+    assertFalse(result.isSuccess());
+    assertEquals(3, result.getExecuted());
+    assertEquals("[3: fail 2]", result.getFailures().keySet().toString());
+    assertTrue(out.toString().contains("! Falha na linha 3: falhou"));
+    assertFalse(out.toString().contains("ok 4"));
+  }
+
+  @Test
+  public void rejectsMalformedBlocks() throws Exception {
+    for(String[] lines : new String[][] { { "parallel {", "parallel {", "}", "}" }, { "}" }, { "parallel {", "a" } }) {
+      try {
+        script(lines);
+        fail();
+      }
+      catch(IOException e) {
+        assertTrue(e.getMessage(), e.getMessage().startsWith("teste, linha "));
+      }
+    }
+
+    Script script = script("# comentário", "", "a", "// outro", "parallel {", "}", "b");
+    assertEquals(3, script.getBlocks().size());
+    assertEquals("[7: b]", script.getBlocks().get(2).getLines().toString());
+  }
+
+  private static Script script(String ... lines) throws IOException {
+    return Script.read(new StringReader(String.join("\n", lines)), "teste");
+  }
+}
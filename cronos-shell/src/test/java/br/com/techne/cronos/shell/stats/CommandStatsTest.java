@@ -0,0 +1,53 @@
+package br.com.techne.cronos.shell.stats;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import br.com.techne.cronos.cli.metrics.Histogram;
+
+public class CommandStatsTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void recordsCountErrorsAndPercentiles() throws Exception {
+    CommandStats stats = new CommandStats();
+    for(int i = 1; i <= 100; i++) {
+      stats.record("merge", TimeUnit.MILLISECONDS.toNanos(i), i % 10 == 0);
+    }
+    stats.record("hw simple", 1000, false);
+
+    Histogram latency = stats.get("merge").getLatency();
+    assertEquals(100, latency.getCount());
+    assertEquals(10, stats.get("merge").getErrors());
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(100), latency.getMax());
+    // erro máximo de 12,5% dos buckets
+    long p50 = latency.getPercentile(50);
+    assertTrue(p50 >= TimeUnit.MILLISECONDS.toNanos(50) && p50 <= TimeUnit.MILLISECONDS.toNanos(57));
+
+    List<String> summary = stats.summary();
+    assertEquals(3, summary.size());
+    assertTrue(summary.get(1).startsWith("hw simple "));
+    assertTrue(summary.get(2).startsWith("merge "));
+
+    File json = folder.newFile("stats.json");
+    stats.writeJson(json);
+    String content = new String(Files.readAllBytes(json.toPath()), StandardCharsets.UTF_8);
+    assertTrue(content.contains("{ \"command\": \"merge\", \"count\": 100, \"errors\": 10,"));
+    assertTrue(content.contains("\"maxMillis\": 100.000 }"));
+
+    stats.reset();
+    assertTrue(stats.isEmpty());
+  }
+}